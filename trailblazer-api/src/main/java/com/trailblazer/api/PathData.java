@@ -24,6 +24,9 @@ public class PathData implements Serializable {
     private UUID originOwnerUUID;
     private String originOwnerName;
     private int colorArgb; 
+    // Bumped by the server on every save; 0 means the path was never saved with versioning.
+    private long version;
+    private String folder;
 
     public PathData(UUID pathId, String pathName, UUID ownerUUID, String ownerName, long creationTimestamp, String dimension, List<Vector3d> points) {
         Objects.requireNonNull(pathId, "Path ID cannot be null");
@@ -120,6 +123,25 @@ public class PathData implements Serializable {
         this.colorArgb = colorArgb;
     }
 
+    /** Server-assigned revision, increasing with every change. Used for delta sync. */
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /** Folder (or tag) the owner filed this path under, or null if unfiled. */
+    public String getFolder() {
+        return folder;
+    }
+
+    public void setFolder(String folder) {
+        // Folder names follow the path name rules
+        this.folder = folder == null || folder.isBlank() ? null : PathNameSanitizer.sanitize(folder);
+    }
+
     public void setPathName(String pathName) {
         // Accept null / blank and map to default via sanitizer
         this.pathName = PathNameSanitizer.sanitize(pathName);
@@ -0,0 +1,297 @@
+package com.trailblazer.api;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Shared JSON binding for {@link PathData} and {@link Vector3d}, used for files and payloads on both sides.
+ * <p>
+ * The adapters are hand-written streaming code, so no reflection and no intermediate tree is involved.
+ * A single point is written as {@code [x,y,z]} and a point list as one flat array
+ * {@code [x0,y0,z0,x1,y1,z1,...]}. Readers also accept the older object form {@code {"x":..,"y":..,"z":..}}
+ * and arrays of {@code [x,y,z]}, so existing files keep working.
+ * <p>
+ * Older peers parse points reflectively and only understand the object form. Payloads therefore use
+ * {@link #gson(boolean)} with the flat form only when {@link Protocol.Capability#FLAT_POINTS} was negotiated;
+ * {@link #legacyGson()} writes points as objects.
+ * <p>
+ * Gson is provided by the server and by Minecraft at runtime; this module only compiles against it.
+ */
+public final class PathJson {
+
+    private PathJson() {}
+
+    /** Type of a point list, for {@code fromJson} calls. */
+    public static final Type POINT_LIST_TYPE = new TypeToken<List<Vector3d>>(){}.getType();
+    /** Type of a path list, for {@code fromJson} calls. */
+    public static final Type PATH_LIST_TYPE = new TypeToken<List<PathData>>(){}.getType();
+
+    public static final TypeAdapter<Vector3d> POINT = new PointAdapter().nullSafe();
+    public static final TypeAdapter<List<Vector3d>> POINTS = new PointListAdapter().nullSafe();
+    public static final TypeAdapter<PathData> PATH = new PathDataAdapter(POINTS).nullSafe();
+
+    /** Object-form writers for peers without {@link Protocol.Capability#FLAT_POINTS}; they read both forms. */
+    public static final TypeAdapter<Vector3d> LEGACY_POINT = new LegacyPointAdapter().nullSafe();
+    public static final TypeAdapter<List<Vector3d>> LEGACY_POINTS = new LegacyPointListAdapter().nullSafe();
+    public static final TypeAdapter<PathData> LEGACY_PATH = new PathDataAdapter(LEGACY_POINTS).nullSafe();
+
+    private static final Gson GSON = builder().create();
+    private static final Gson LEGACY_GSON = new GsonBuilder()
+            .registerTypeAdapter(Vector3d.class, LEGACY_POINT)
+            .registerTypeAdapter(POINT_LIST_TYPE, LEGACY_POINTS)
+            .registerTypeAdapter(PathData.class, LEGACY_PATH)
+            .create();
+
+    /** A builder with the path adapters registered, for callers that need extra settings. */
+    public static GsonBuilder builder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(Vector3d.class, POINT)
+                .registerTypeAdapter(POINT_LIST_TYPE, POINTS)
+                .registerTypeAdapter(PathData.class, PATH);
+    }
+
+    /** The shared compact instance. Thread-safe. */
+    public static Gson gson() {
+        return GSON;
+    }
+
+    /** Writes points in the object form every protocol version reads. Thread-safe. */
+    public static Gson legacyGson() {
+        return LEGACY_GSON;
+    }
+
+    /** {@link #gson()} if the peer negotiated {@link Protocol.Capability#FLAT_POINTS}, else {@link #legacyGson()}. */
+    public static Gson gson(boolean flatPoints) {
+        return flatPoints ? GSON : LEGACY_GSON;
+    }
+
+    /**
+     * Writes the fields of {@code path} into an object the caller has already begun, so callers can add
+     * fields of their own (e.g. a reference to points stored elsewhere) without building a tree.
+     */
+    public static void writeFields(JsonWriter out, PathData path, boolean withPoints) throws IOException {
+        writeFields(out, path, withPoints ? POINTS : null);
+    }
+
+    private static void writeFields(JsonWriter out, PathData path, TypeAdapter<List<Vector3d>> points) throws IOException {
+        out.name("pathId").value(path.getPathId().toString());
+        out.name("pathName").value(path.getPathName());
+        out.name("ownerUUID").value(path.getOwnerUUID().toString());
+        out.name("ownerName").value(path.getOwnerName());
+        out.name("creationTimestamp").value(path.getCreationTimestamp());
+        out.name("dimension").value(path.getDimension());
+        if (points != null) {
+            out.name("points");
+            points.write(out, path.getPoints());
+        }
+        out.name("colorArgb").value(path.getColorArgb());
+        out.name("sharedWith").beginArray();
+        for (UUID id : path.getSharedWith()) {
+            out.value(id.toString());
+        }
+        out.endArray();
+        if (path.getOriginPathId() != null) {
+            out.name("originPathId").value(path.getOriginPathId().toString());
+        }
+        if (path.getOriginOwnerUUID() != null) {
+            out.name("originOwnerUUID").value(path.getOriginOwnerUUID().toString());
+        }
+        if (path.getOriginOwnerName() != null) {
+            out.name("originOwnerName").value(path.getOriginOwnerName());
+        }
+        out.name("version").value(path.getVersion());
+        if (path.getFolder() != null) {
+            out.name("folder").value(path.getFolder());
+        }
+    }
+
+    private static final class PointAdapter extends TypeAdapter<Vector3d> {
+        @Override
+        public void write(JsonWriter out, Vector3d value) throws IOException {
+            out.beginArray().value(value.getX()).value(value.getY()).value(value.getZ()).endArray();
+        }
+
+        @Override
+        public Vector3d read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.BEGIN_ARRAY) {
+                in.beginArray();
+                Vector3d point = new Vector3d(in.nextDouble(), in.nextDouble(), in.nextDouble());
+                in.endArray();
+                return point;
+            }
+            // Legacy object form
+            double x = 0.0;
+            double y = 0.0;
+            double z = 0.0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "x" -> x = in.nextDouble();
+                    case "y" -> y = in.nextDouble();
+                    case "z" -> z = in.nextDouble();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Vector3d(x, y, z);
+        }
+    }
+
+    private static final class PointListAdapter extends TypeAdapter<List<Vector3d>> {
+        @Override
+        public void write(JsonWriter out, List<Vector3d> points) throws IOException {
+            out.beginArray();
+            for (Vector3d p : points) {
+                out.value(p.getX()).value(p.getY()).value(p.getZ());
+            }
+            out.endArray();
+        }
+
+        @Override
+        public List<Vector3d> read(JsonReader in) throws IOException {
+            List<Vector3d> points = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                JsonToken token = in.peek();
+                if (token == JsonToken.NUMBER) {
+                    points.add(new Vector3d(in.nextDouble(), in.nextDouble(), in.nextDouble()));
+                } else if (token == JsonToken.NULL) {
+                    in.nextNull();
+                } else {
+                    points.add(POINT.read(in));
+                }
+            }
+            in.endArray();
+            return points;
+        }
+    }
+
+    private static final class LegacyPointAdapter extends TypeAdapter<Vector3d> {
+        @Override
+        public void write(JsonWriter out, Vector3d value) throws IOException {
+            out.beginObject();
+            out.name("x").value(value.getX());
+            out.name("y").value(value.getY());
+            out.name("z").value(value.getZ());
+            out.endObject();
+        }
+
+        @Override
+        public Vector3d read(JsonReader in) throws IOException {
+            return POINT.read(in);
+        }
+    }
+
+    private static final class LegacyPointListAdapter extends TypeAdapter<List<Vector3d>> {
+        @Override
+        public void write(JsonWriter out, List<Vector3d> points) throws IOException {
+            out.beginArray();
+            for (Vector3d p : points) {
+                LEGACY_POINT.write(out, p);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public List<Vector3d> read(JsonReader in) throws IOException {
+            return POINTS.read(in);
+        }
+    }
+
+    private static final class PathDataAdapter extends TypeAdapter<PathData> {
+        private final TypeAdapter<List<Vector3d>> pointsAdapter;
+
+        private PathDataAdapter(TypeAdapter<List<Vector3d>> pointsAdapter) {
+            this.pointsAdapter = pointsAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, PathData path) throws IOException {
+            out.beginObject();
+            writeFields(out, path, pointsAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PathData read(JsonReader in) throws IOException {
+            UUID pathId = null;
+            String pathName = null;
+            UUID ownerUUID = null;
+            String ownerName = null;
+            long creationTimestamp = 0L;
+            String dimension = null;
+            List<Vector3d> points = null;
+            int colorArgb = 0;
+            List<UUID> sharedWith = new ArrayList<>();
+            UUID originPathId = null;
+            UUID originOwnerUUID = null;
+            String originOwnerName = null;
+            long version = 0L;
+            String folder = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "pathId" -> pathId = UUID.fromString(in.nextString());
+                    case "pathName" -> pathName = in.nextString();
+                    case "ownerUUID" -> ownerUUID = UUID.fromString(in.nextString());
+                    case "ownerName" -> ownerName = in.nextString();
+                    case "creationTimestamp" -> creationTimestamp = in.nextLong();
+                    case "dimension" -> dimension = in.nextString();
+                    case "points" -> points = POINTS.read(in);
+                    case "colorArgb" -> colorArgb = in.nextInt();
+                    case "sharedWith" -> {
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            sharedWith.add(UUID.fromString(in.nextString()));
+                        }
+                        in.endArray();
+                    }
+                    case "originPathId" -> originPathId = UUID.fromString(in.nextString());
+                    case "originOwnerUUID" -> originOwnerUUID = UUID.fromString(in.nextString());
+                    case "originOwnerName" -> originOwnerName = in.nextString();
+                    case "version" -> version = in.nextLong();
+                    case "folder" -> folder = in.nextString();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (pathId == null || ownerUUID == null) {
+                throw new JsonParseException("Path record without pathId or ownerUUID");
+            }
+            // Same fallbacks the server applies when repairing older records
+            if (ownerName == null || ownerName.isBlank()) {
+                ownerName = "Player";
+            }
+            if (dimension == null || dimension.isBlank()) {
+                dimension = "minecraft:overworld";
+            }
+            PathData path = new PathData(pathId, pathName, ownerUUID, ownerName, creationTimestamp, dimension,
+                    points != null ? points : new ArrayList<>(), colorArgb, sharedWith);
+            if (originPathId != null && originOwnerUUID != null && originOwnerName != null && !originOwnerName.isBlank()) {
+                path.setOrigin(originPathId, originOwnerUUID, originOwnerName);
+            }
+            path.setVersion(version);
+            path.setFolder(folder);
+            return path;
+        }
+    }
+}
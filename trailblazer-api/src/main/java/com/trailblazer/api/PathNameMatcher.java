@@ -36,10 +36,16 @@ public final class PathNameMatcher {
      */
     public static List<String> getSuggestions(Stream<PathData> paths, String prefix, int limit) {
         if (paths == null) return List.of();
+        return getNameSuggestions(paths.filter(Objects::nonNull).map(PathData::getPathName), prefix, limit);
+    }
+
+    /**
+     * Same as {@link #getSuggestions} for callers that only hold path names.
+     */
+    public static List<String> getNameSuggestions(Stream<String> names, String prefix, int limit) {
+        if (names == null) return List.of();
         String p = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
-        return paths
-            .filter(Objects::nonNull)
-            .map(PathData::getPathName)
+        return names
             .filter(Objects::nonNull)
             .filter(name -> name.toLowerCase(Locale.ROOT).startsWith(p))
             .distinct()
@@ -7,8 +7,13 @@ public final class Protocol {
 
     private Protocol() {}
 
-    /** Protocol version for compatibility checks. */
-    public static final int PROTOCOL_VERSION = 1;
+    /**
+     * Protocol version for compatibility checks.
+     * Version 2 adds the handshake body and the server hello; version 1 peers send neither.
+     * Version 3 adds {@link Capability#FLAT_POINTS}: points as flat numeric arrays (see {@link PathJson}) between
+     * peers that negotiated it. Everyone still reads the older object form.
+     */
+    public static final int PROTOCOL_VERSION = 3;
 
     /** Server capability flags. */
     public static final class Capability {
@@ -25,8 +30,32 @@ public final class Protocol {
         public static final int SERVER_THINNING = 1 << 4;
         /** Multi-dimension support. */
         public static final int MULTI_DIMENSION_FILTER = 1 << 5;
+        /** Batched, selectively acknowledged action results. */
+        public static final int ACTION_BATCH = 1 << 6;
+        /** Version-stamped paths; syncs send only added, changed and removed entries. */
+        public static final int DELTA_SYNC = 1 << 7;
+        /** Delete, recolor or refile many paths with one message. */
+        public static final int BULK_ACTIONS = 1 << 8;
+        /** Point lists as flat {@code [x0,y0,z0,...]} arrays; without it points are written as objects. */
+        public static final int FLAT_POINTS = 1 << 9;
     }
 
+    /** Action codes carried by the bulk path action message. */
+    public static final class BulkAction {
+        private BulkAction() {}
+        /** Delete the listed paths. */
+        public static final int DELETE = 0;
+        /** Set one color on all listed paths. */
+        public static final int RECOLOR = 1;
+        /** File the listed paths under one folder; an empty folder name unfiles them. */
+        public static final int SET_FOLDER = 2;
+        /** Upper bound on path ids per message; keeps it well inside the serverbound payload limit. */
+        public static final int MAX_PATHS = 1024;
+    }
+
+    /** Features both peers advertise; anything outside it must use the version 1 behavior. */
+    public static int negotiate(int localMask, int remoteMask) { return localMask & remoteMask; }
+
     /** Tests if a capability flag is set. */
     public static boolean has(int mask, int flag) { return (mask & flag) != 0; }
 }
@@ -0,0 +1,101 @@
+package com.trailblazer.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+public class PathJsonTest {
+
+    @Test
+    void roundTrip_shouldPreserveAllFields() {
+        UUID ownerId = UUID.randomUUID();
+        UUID viewerId = UUID.randomUUID();
+        List<Vector3d> points = new ArrayList<>(List.of(new Vector3d(1.5, 64, -3), new Vector3d(2, 65.25, -4)));
+        PathData path = new PathData(UUID.randomUUID(), "Trail", ownerId, "Owner", 1234L, "minecraft:the_nether",
+                points, 0xFF112233, new ArrayList<>(List.of(viewerId)));
+        UUID originId = UUID.randomUUID();
+        UUID originOwnerId = UUID.randomUUID();
+        path.setOrigin(originId, originOwnerId, "Origin");
+        path.setVersion(7L);
+        path.setFolder("Mines");
+
+        PathData read = PathJson.gson().fromJson(PathJson.gson().toJson(path), PathData.class);
+
+        assertEquals(path.getPathId(), read.getPathId());
+        assertEquals("Trail", read.getPathName());
+        assertEquals(ownerId, read.getOwnerUUID());
+        assertEquals("Owner", read.getOwnerName());
+        assertEquals(1234L, read.getCreationTimestamp());
+        assertEquals("minecraft:the_nether", read.getDimension());
+        assertEquals(points, read.getPoints());
+        assertEquals(0xFF112233, read.getColorArgb());
+        assertEquals(List.of(viewerId), read.getSharedWith());
+        assertEquals(originId, read.getOriginPathId());
+        assertEquals(originOwnerId, read.getOriginOwnerUUID());
+        assertEquals("Origin", read.getOriginOwnerName());
+        assertEquals(7L, read.getVersion());
+        assertEquals("Mines", read.getFolder());
+    }
+
+    @Test
+    void points_shouldBeWrittenAsFlatArray() {
+        List<Vector3d> points = List.of(new Vector3d(1, 2, 3), new Vector3d(4, 5, 6));
+
+        assertEquals("[1.0,2.0,3.0,4.0,5.0,6.0]", PathJson.gson().toJson(points, PathJson.POINT_LIST_TYPE));
+    }
+
+    @Test
+    void points_shouldReadLegacyObjectForm() {
+        String json = "[{\"x\":1.0,\"y\":2.0,\"z\":3.0},{\"x\":4.0,\"y\":5.0,\"z\":6.0}]";
+
+        List<Vector3d> points = PathJson.gson().fromJson(json, PathJson.POINT_LIST_TYPE);
+
+        assertEquals(List.of(new Vector3d(1, 2, 3), new Vector3d(4, 5, 6)), points);
+    }
+
+    @Test
+    void legacyGson_shouldWriteObjectFormForPeersWithoutFlatPoints() {
+        List<Vector3d> points = List.of(new Vector3d(1, 2, 3));
+
+        assertEquals("[{\"x\":1.0,\"y\":2.0,\"z\":3.0}]", PathJson.gson(false).toJson(points, PathJson.POINT_LIST_TYPE));
+        assertEquals("[1.0,2.0,3.0]", PathJson.gson(true).toJson(points, PathJson.POINT_LIST_TYPE));
+    }
+
+    @Test
+    void legacyGson_shouldBeReadableByVersion2Peer() {
+        List<Vector3d> points = new ArrayList<>(List.of(new Vector3d(1.5, 64, -3), new Vector3d(2, 65.25, -4)));
+        PathData path = new PathData(UUID.randomUUID(), "Trail", UUID.randomUUID(), "Owner", 1234L, "minecraft:overworld",
+                points, 0xFF112233, new ArrayList<>());
+
+        // Version 2 peers parse with plain reflective Gson
+        PathData read = new Gson().fromJson(PathJson.legacyGson().toJson(path), PathData.class);
+
+        assertEquals(path.getPathId(), read.getPathId());
+        assertEquals(points, read.getPoints());
+        assertEquals(0xFF112233, read.getColorArgb());
+    }
+
+    @Test
+    void read_shouldApplyDefaultsForMissingOwnerNameAndDimension() {
+        String json = "{\"pathId\":\"" + UUID.randomUUID() + "\",\"pathName\":\"Old\",\"ownerUUID\":\""
+                + UUID.randomUUID() + "\",\"points\":[[0,0,0]]}";
+
+        PathData read = PathJson.gson().fromJson(json, PathData.class);
+
+        assertEquals("Player", read.getOwnerName());
+        assertEquals("minecraft:overworld", read.getDimension());
+        assertEquals(1, read.getPoints().size());
+    }
+
+    @Test
+    void read_shouldRejectRecordWithoutIds() {
+        assertThrows(JsonParseException.class, () -> PathJson.gson().fromJson("{\"pathName\":\"x\"}", PathData.class));
+    }
+}
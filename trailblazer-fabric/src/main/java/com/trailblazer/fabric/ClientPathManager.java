@@ -11,9 +11,14 @@ import java.util.Set;
 import java.util.UUID;
 
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.Protocol;
 import com.trailblazer.api.Vector3d;
+import com.trailblazer.fabric.config.TrailblazerClientConfig;
+import com.trailblazer.fabric.networking.payload.c2s.BulkPathActionPayload;
+import com.trailblazer.fabric.networking.payload.c2s.DeletePathPayload;
 import com.trailblazer.fabric.networking.payload.c2s.StartRecordingPayload;
 import com.trailblazer.fabric.networking.payload.c2s.StopRecordingPayload;
+import com.trailblazer.fabric.networking.payload.c2s.UpdatePathMetadataPayload;
 import com.trailblazer.fabric.persistence.PathPersistenceManager;
 
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -43,13 +48,13 @@ public class ClientPathManager {
     private String serverRecordingPathName = null;
     private Vector3d lastCapturedPoint = null;
     private PathPersistenceManager persistence;
-    private int maxPointsPerPath = 5000;
+    private TrailblazerClientConfig config = new TrailblazerClientConfig();
     private UUID localPlayerUuid;
     private int nextPathIndex = 1;
 
-    public void attachPersistence(PathPersistenceManager persistence, int maxPointsPerPath) {
+    public void attachPersistence(PathPersistenceManager persistence, TrailblazerClientConfig config) {
         this.persistence = persistence;
-        this.maxPointsPerPath = maxPointsPerPath;
+        this.config = config;
         recalculateNextPathIndex();
     }
 
@@ -115,6 +120,119 @@ public class ClientPathManager {
         pathOrigins.remove(pathId);
     }
 
+    /**
+     * Deletes several paths at once. Local paths are removed from disk, server-owned paths are deleted on
+     * the server with a single bulk message when the server supports it (one message per path otherwise),
+     * and shared paths are only dropped from this client's list.
+     *
+     * @return the number of paths removed from the list
+     */
+    public int deletePaths(Collection<UUID> pathIds) {
+        List<UUID> serverOwned = new ArrayList<>();
+        int removed = 0;
+        for (UUID id : new ArrayList<>(pathIds)) {
+            PathOrigin origin = pathOrigins.get(id);
+            if (origin == null) {
+                continue;
+            }
+            switch (origin) {
+                case LOCAL -> deletePath(id);
+                case SERVER_OWNED -> {
+                    serverOwned.add(id);
+                    removeServerPath(id);
+                }
+                case SERVER_SHARED -> removeSharedPath(id);
+            }
+            removed++;
+        }
+        if (!serverOwned.isEmpty()) {
+            if (ClientPlayNetworking.canSend(BulkPathActionPayload.ID)) {
+                sendBulk(Protocol.BulkAction.DELETE, serverOwned, 0, null);
+            } else if (ClientPlayNetworking.canSend(DeletePathPayload.ID)) {
+                serverOwned.forEach(id -> ClientPlayNetworking.send(new DeletePathPayload(id)));
+            }
+        }
+        return removed;
+    }
+
+    public void setPathsVisible(Collection<UUID> pathIds, boolean visible) {
+        for (UUID id : pathIds) {
+            if (visible) {
+                setPathVisible(id);
+            } else {
+                setPathHidden(id);
+            }
+        }
+    }
+
+    /**
+     * Sets one color on all of the player's own paths among {@code pathIds}; shared paths are skipped.
+     *
+     * @return the number of paths recolored
+     */
+    public int recolorPaths(Collection<UUID> pathIds, int colorArgb) {
+        List<PathData> serverOwned = new ArrayList<>();
+        int changed = 0;
+        for (UUID id : pathIds) {
+            PathData path = myPaths.get(id);
+            if (path == null) {
+                continue;
+            }
+            path.setColorArgb(colorArgb);
+            onPathUpdated(path);
+            if (getPathOrigin(id) == PathOrigin.SERVER_OWNED) {
+                serverOwned.add(path);
+            }
+            changed++;
+        }
+        if (!serverOwned.isEmpty()) {
+            if (ClientPlayNetworking.canSend(BulkPathActionPayload.ID)) {
+                sendBulk(Protocol.BulkAction.RECOLOR, serverOwned.stream().map(PathData::getPathId).toList(), colorArgb, null);
+            } else if (ClientPlayNetworking.canSend(UpdatePathMetadataPayload.ID)) {
+                serverOwned.forEach(path -> ClientPlayNetworking.send(
+                        new UpdatePathMetadataPayload(path.getPathId(), path.getPathName(), colorArgb)));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Files the player's own paths among {@code pathIds} under {@code folder}; null or blank unfiles them.
+     * Servers without bulk support have no per-path folder message, so the change then stays on this client
+     * until the next sync.
+     *
+     * @return the number of paths moved
+     */
+    public int setPathsFolder(Collection<UUID> pathIds, String folder) {
+        List<UUID> serverOwned = new ArrayList<>();
+        int changed = 0;
+        for (UUID id : pathIds) {
+            PathData path = myPaths.get(id);
+            if (path == null) {
+                continue;
+            }
+            path.setFolder(folder);
+            onPathUpdated(path);
+            if (getPathOrigin(id) == PathOrigin.SERVER_OWNED) {
+                serverOwned.add(id);
+            }
+            changed++;
+        }
+        if (!serverOwned.isEmpty() && ClientPlayNetworking.canSend(BulkPathActionPayload.ID)) {
+            PathData sample = myPaths.get(serverOwned.get(0));
+            sendBulk(Protocol.BulkAction.SET_FOLDER, serverOwned, 0, sample != null ? sample.getFolder() : null);
+        }
+        return changed;
+    }
+
+    private static void sendBulk(int action, List<UUID> ids, int colorArgb, String folder) {
+        // The server caps the ids per message, so large selections go out in chunks
+        for (int from = 0; from < ids.size(); from += Protocol.BulkAction.MAX_PATHS) {
+            List<UUID> chunk = List.copyOf(ids.subList(from, Math.min(ids.size(), from + Protocol.BulkAction.MAX_PATHS)));
+            ClientPlayNetworking.send(new BulkPathActionPayload(action, chunk, colorArgb, folder));
+        }
+    }
+
     public boolean isPathVisible(UUID pathId) {
         return visiblePaths.contains(pathId);
     }
@@ -141,9 +259,15 @@ public class ClientPathManager {
             UUID livePathId = UUID.fromString("00000000-0000-0000-0000-000000000001");
             livePath = new PathData(livePathId, "LiveRecording", UUID.randomUUID(), "Me", 0L, "", points);
         } else {
-            // Otherwise, just update the points.
-            livePath.getPoints().clear();
-            livePath.getPoints().addAll(points);
+            List<Vector3d> current = livePath.getPoints();
+            int known = current.size();
+            if (points.size() >= known && known > 0 && points.get(known - 1).equals(current.get(known - 1))) {
+                // The server resends the whole recording; keep the prefix so only the new tail is processed
+                current.addAll(points.subList(known, points.size()));
+            } else {
+                current.clear();
+                current.addAll(points);
+            }
         }
         // Receiving live updates implies we are in a recording session.
         recording = true;
@@ -178,7 +302,7 @@ public class ClientPathManager {
         addMyPath(localRecording);
         setPathVisible(localRecording.getPathId());
         lastCapturedPoint = null;
-        if (persistence != null) persistence.markDirty(localRecording.getPathId());
+        if (persistence != null) persistence.startJournal(localRecording);
         nextPathIndex++;
     }
 
@@ -186,7 +310,8 @@ public class ClientPathManager {
         if (!recording) return;
         recording = false;
         if (localRecording != null && persistence != null) {
-            persistence.markDirty(localRecording.getPathId());
+            persistence.flushJournal();
+            persistence.finishJournal(true);
         }
         localRecording = null;
         lastCapturedPoint = null;
@@ -198,6 +323,7 @@ public class ClientPathManager {
         if (localRecording != null) {
             // Remove the partially recorded path (do not persist)
             UUID id = localRecording.getPathId();
+            if (persistence != null) persistence.finishJournal(false);
             myPaths.remove(id);
             visiblePaths.remove(id);
             pathOrigins.remove(id);
@@ -344,7 +470,6 @@ public class ClientPathManager {
         if (pts.isEmpty()) {
             pts.add(current);
             lastCapturedPoint = current;
-            if (persistence != null) persistence.markDirty(localRecording.getPathId());
             return;
         }
         if (lastCapturedPoint == null) {
@@ -354,13 +479,16 @@ public class ClientPathManager {
         double dy = current.getY() - lastCapturedPoint.getY();
         double dz = current.getZ() - lastCapturedPoint.getZ();
         double distSq = dx*dx + dy*dy + dz*dz;
-        if (distSq >= 0.04) { // moved >= ~0.2 blocks
+        // Read per tick so a profile change applies to the recording in progress
+        double sampleDistance = config.profile().sampleDistance();
+        if (distSq >= sampleDistance * sampleDistance) {
             pts.add(current);
             lastCapturedPoint = current;
-            if (pts.size() > maxPointsPerPath && persistence != null) {
+            int maxPointsPerPath = config.effectiveMaxPointsPerPath();
+            if (maxPointsPerPath > 0 && pts.size() > maxPointsPerPath && persistence != null) {
                 persistence.enforcePointLimit(localRecording);
             }
-            if (persistence != null) persistence.markDirty(localRecording.getPathId());
+            // Points reach disk through the recording journal, see PathPersistenceManager.flushJournal
         }
     }
 
@@ -386,6 +514,11 @@ public class ClientPathManager {
         return new ArrayList<>(sharedPaths.values());
     }
 
+    /** Cheap alternative to {@code getSharedPaths().size()}, which copies the collection. */
+    public int getSharedPathCount() {
+        return sharedPaths.size();
+    }
+
     public PathOrigin getPathOrigin(UUID pathId) {
         return pathOrigins.getOrDefault(pathId, PathOrigin.LOCAL);
     }
@@ -466,6 +599,68 @@ public class ClientPathManager {
         recalculateNextPathIndex();
     }
 
+    /**
+     * Applies an incremental sync: drops {@code removed} and upserts {@code changed}, leaving every other
+     * server-backed path (and its visibility) untouched.
+     */
+    public void applyServerDelta(Collection<PathData> changed, Collection<UUID> removed) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        boolean isMultiplayer = client == null || client.getServer() == null;
+        if (isMultiplayer && ServerIntegrationBridge.SERVER_INTEGRATION != null
+            && ServerIntegrationBridge.SERVER_INTEGRATION.isServerSupported()) {
+            clearLocalPaths();
+        }
+
+        for (UUID id : removed) {
+            if (isServerBacked(id)) {
+                removeServerPath(id);
+            }
+        }
+        for (PathData path : changed) {
+            UUID id = path.getPathId();
+            boolean known = isServerBacked(id);
+            // The origin may have changed (e.g. owned -> shared), so drop the old entry before re-inserting
+            myPaths.remove(id);
+            sharedPaths.remove(id);
+            putPath(path, determineServerOrigin(path));
+            if (!known) {
+                visiblePaths.add(id);
+            }
+        }
+        recalculateNextPathIndex();
+    }
+
+    /** All server-backed paths currently held, owned and shared. */
+    public List<PathData> getServerPaths() {
+        List<PathData> paths = new ArrayList<>();
+        for (PathData path : myPaths.values()) {
+            if (isServerBacked(path.getPathId())) {
+                paths.add(path);
+            }
+        }
+        for (PathData path : sharedPaths.values()) {
+            if (isServerBacked(path.getPathId())) {
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+
+    /** Versions of the server-backed paths currently held, for delta sync requests. */
+    public Map<UUID, Long> getServerPathVersions() {
+        Map<UUID, Long> versions = new HashMap<>();
+        for (UUID id : pathOrigins.keySet()) {
+            if (!isServerBacked(id)) {
+                continue;
+            }
+            PathData path = myPaths.containsKey(id) ? myPaths.get(id) : sharedPaths.get(id);
+            if (path != null) {
+                versions.put(id, path.getVersion());
+            }
+        }
+        return versions;
+    }
+
     public void applyServerShare(PathData path) {
         if (path == null) {
             return;
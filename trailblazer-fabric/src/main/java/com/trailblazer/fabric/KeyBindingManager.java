@@ -4,6 +4,8 @@ import org.lwjgl.glfw.GLFW;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.trailblazer.fabric.config.TrailblazerClientConfig;
+
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.minecraft.client.option.KeyBinding;
@@ -21,7 +23,7 @@ public class KeyBindingManager {
     private static KeyBinding cycleRenderModeKey;
     private static KeyBinding openMenuKey;
 
-    public static void initialize(RenderSettingsManager renderSettingsManager, ClientPathManager clientPathManager) {
+    public static void initialize(RenderSettingsManager renderSettingsManager, ClientPathManager clientPathManager, TrailblazerClientConfig config) {
         toggleRecordingKey = KeyBindingHelper.registerKeyBinding(new KeyBinding(
                 "key.trailblazer.toggle_recording",
                 InputUtil.Type.KEYSYM,
@@ -40,10 +42,10 @@ public class KeyBindingManager {
                 GLFW.GLFW_KEY_M,
                 KEY_CATEGORY));
 
-        registerKeyListeners(renderSettingsManager, clientPathManager);
+        registerKeyListeners(renderSettingsManager, clientPathManager, config);
     }
 
-    private static void registerKeyListeners(RenderSettingsManager renderSettingsManager, ClientPathManager clientPathManager) {
+    private static void registerKeyListeners(RenderSettingsManager renderSettingsManager, ClientPathManager clientPathManager, TrailblazerClientConfig config) {
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             while (toggleRecordingKey.wasPressed()) {
                 if (client.player != null) {
@@ -83,7 +85,7 @@ public class KeyBindingManager {
 
             while (openMenuKey.wasPressed()) {
                 if (client.player != null) {
-                    client.setScreen(new com.trailblazer.fabric.ui.MainMenuScreen(clientPathManager, renderSettingsManager));
+                    client.setScreen(new com.trailblazer.fabric.ui.MainMenuScreen(clientPathManager, renderSettingsManager, config));
                 }
             }
         });
@@ -10,8 +10,10 @@ import com.trailblazer.fabric.networking.ServerIntegrationManager;
 import com.trailblazer.fabric.networking.TrailblazerNetworking;
 import com.trailblazer.fabric.networking.payload.c2s.HandshakePayload;
 import com.trailblazer.fabric.persistence.PathPersistenceManager;
+import com.trailblazer.fabric.persistence.ServerPathCache;
 import com.trailblazer.fabric.rendering.PathRenderer;
 import com.trailblazer.fabric.ui.RecordingOverlay;
+import com.trailblazer.fabric.ui.RenderBudgetOverlay;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
@@ -31,8 +33,12 @@ public class TrailblazerFabricClient implements ClientModInitializer {
     private RenderSettingsManager renderSettingsManager;
     private TrailblazerClientConfig config;
     private PathPersistenceManager persistence;
+    private ServerPathCache serverCache;
     private ServerIntegrationManager serverIntegration;
     private long lastAutosaveMs = 0L;
+    private long lastJournalFlushMs = 0L;
+    // A crash during a local recording loses at most this much of it
+    private static final long JOURNAL_FLUSH_INTERVAL_MS = 2000L;
 
     @Override
     public void onInitializeClient() {
@@ -41,26 +47,28 @@ public class TrailblazerFabricClient implements ClientModInitializer {
 
         this.clientPathManager = new ClientPathManager();
         this.renderSettingsManager = new RenderSettingsManager();
-        this.pathRenderer = new PathRenderer(clientPathManager, renderSettingsManager);
         this.config = TrailblazerClientConfig.load(net.fabricmc.loader.api.FabricLoader.getInstance().getConfigDir());
+        this.pathRenderer = new PathRenderer(clientPathManager, renderSettingsManager, config);
         this.persistence = new PathPersistenceManager(clientPathManager, config);
+        this.serverCache = new ServerPathCache(clientPathManager);
         this.serverIntegration = new ServerIntegrationManager();
         ServerIntegrationBridge.SERVER_INTEGRATION = serverIntegration;
         serverIntegration.registerLifecycle();
-        clientPathManager.attachPersistence(persistence, config.maxPointsPerPath);
+        clientPathManager.attachPersistence(persistence, config);
 
         pathRenderer.initialize();
-        KeyBindingManager.initialize(renderSettingsManager, clientPathManager);
+        KeyBindingManager.initialize(renderSettingsManager, clientPathManager, config);
         TrailblazerCommand.register(clientPathManager, renderSettingsManager);
         ClientLifecycleEvents.CLIENT_STARTED.register(mc -> {
             TrailblazerCommand.register(clientPathManager, renderSettingsManager);
         });
         TrailblazerNetworking.registerPayloadTypes();
         LOGGER.info("Registered Trailblazer networking payload types (including recording payloads)");
-        ClientPacketHandler.registerS2CPackets(clientPathManager);
+        ClientPacketHandler.registerS2CPackets(clientPathManager, serverCache);
         if (config.recordingOverlayEnabled) {
             net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback.EVENT.register(new RecordingOverlay(clientPathManager));
         }
+        net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback.EVENT.register(new RenderBudgetOverlay(pathRenderer));
 
         registerWorldLifecycle();
         registerClientTick();
@@ -75,7 +83,8 @@ public class TrailblazerFabricClient implements ClientModInitializer {
             client.execute(() -> {
                 if (ClientPlayNetworking.canSend(HandshakePayload.ID)) {
                     LOGGER.info("Sending Trailblazer handshake to server...");
-                    ClientPlayNetworking.send(new HandshakePayload());
+                    // Versions of any cached server paths let the server reply with a delta
+                    ClientPlayNetworking.send(new HandshakePayload(clientPathManager.getServerPathVersions()));
                 }
             });
         });
@@ -104,12 +113,17 @@ public class TrailblazerFabricClient implements ClientModInitializer {
                     // Multiplayer: avoid auto-showing local paths from previous sessions/other worlds
                     persistence.setDefaultVisibleOnLoad(false);
                     persistence.loadAll();
+                    if (ClientPlayNetworking.canSend(HandshakePayload.ID)) {
+                        // Plugin server: render last session's paths right away; the handshake syncs the differences
+                        serverCache.open(dir);
+                    }
                 }
             });
         });
         ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
             client.execute(() -> {
                 ClientPacketHandler.resetReliableActionState();
+                serverCache.close();
                 clientPathManager.applyServerSync(java.util.Collections.emptyList());
                 clientPathManager.setLocalPlayerUuid(null);
                 persistence.saveAll();
@@ -124,13 +138,22 @@ public class TrailblazerFabricClient implements ClientModInitializer {
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             if (clientPathManager != null) {
                 clientPathManager.tickRecording(client);
+                if (clientPathManager.getLocalRecordingPath() != null) {
+                    long now = System.currentTimeMillis();
+                    if (now - lastJournalFlushMs >= JOURNAL_FLUSH_INTERVAL_MS) {
+                        lastJournalFlushMs = now;
+                        persistence.flushJournal();
+                    }
+                }
             }
-            // periodic autosave
-            if (config.autosaveIntervalSeconds > 0) {
+            // periodic autosave; the interval follows the performance profile
+            int autosaveIntervalSeconds = config.effectiveAutosaveIntervalSeconds();
+            if (autosaveIntervalSeconds > 0) {
                 long now = System.currentTimeMillis();
-                if (now - lastAutosaveMs >= config.autosaveIntervalSeconds * 1000L) {
+                if (now - lastAutosaveMs >= autosaveIntervalSeconds * 1000L) {
                     lastAutosaveMs = now;
                     persistence.saveDirty();
+                    serverCache.save();
                 }
             }
         });
@@ -2,6 +2,7 @@ package com.trailblazer.fabric.commands;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -115,7 +116,7 @@ public final class TrailblazerCommand {
         source.sendFeedback(Text.literal("/trailblazer hide [name]").formatted(Formatting.YELLOW).append(Text.literal(" - Hide path(s)" ).formatted(Formatting.WHITE)));
         source.sendFeedback(Text.literal("/trailblazer info <name>").formatted(Formatting.YELLOW).append(Text.literal(" - Get path coordinates" ).formatted(Formatting.WHITE)));
         source.sendFeedback(Text.literal("/trailblazer rename <old> <new>").formatted(Formatting.YELLOW).append(Text.literal(" - Rename a path" ).formatted(Formatting.WHITE)));
-        source.sendFeedback(Text.literal("/trailblazer delete <name>").formatted(Formatting.YELLOW).append(Text.literal(" - Delete a path" ).formatted(Formatting.WHITE)));
+        source.sendFeedback(Text.literal("/trailblazer delete <name>[,<name>...]").formatted(Formatting.YELLOW).append(Text.literal(" - Delete one or more paths" ).formatted(Formatting.WHITE)));
         source.sendFeedback(Text.literal("/trailblazer color <name> <color>").formatted(Formatting.YELLOW).append(Text.literal(" - Change path color" ).formatted(Formatting.WHITE)));
         source.sendFeedback(Text.literal("/trailblazer share <name> <players>").formatted(Formatting.YELLOW).append(Text.literal(" - Share path with players" ).formatted(Formatting.WHITE)));
         source.sendFeedback(Text.literal("/trailblazer rendermode <trail|markers|arrows>").formatted(Formatting.YELLOW).append(Text.literal(" - Change render mode" ).formatted(Formatting.WHITE)));
@@ -515,6 +516,9 @@ public final class TrailblazerCommand {
     }
 
     private static int deletePath(FabricClientCommandSource source, String name) {
+        if (name.contains(",")) {
+            return deletePaths(source, name.split(","));
+        }
         Optional<PathData> pathOpt = pathManager.getMyPaths().stream()
             .filter(p -> p.getPathName().equalsIgnoreCase(name))
             .findFirst();
@@ -554,6 +558,36 @@ public final class TrailblazerCommand {
         return 1;
     }
 
+    /** Deletes several comma-separated paths; server-owned ones go to the server as one bulk request. */
+    private static int deletePaths(FabricClientCommandSource source, String[] names) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        List<String> found = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String raw : names) {
+            String name = raw.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Optional<PathData> pathOpt = pathManager.getMyPaths().stream()
+                .filter(p -> p.getPathName().equalsIgnoreCase(name))
+                .findFirst();
+            if (pathOpt.isPresent() && ids.add(pathOpt.get().getPathId())) {
+                found.add(name);
+            } else if (pathOpt.isEmpty()) {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            source.sendError(Text.literal("Path(s) not found: " + String.join(", ", missing)));
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int removed = pathManager.deletePaths(ids);
+        source.sendFeedback(Text.literal("Deleted " + removed + " path(s): " + String.join(", ", found)).formatted(Formatting.GREEN));
+        return removed;
+    }
+
     private static int renamePath(FabricClientCommandSource source, String oldName, String newName) {
         Optional<PathData> pathOpt = pathManager.getMyPaths().stream()
             .filter(p -> p.getPathName().equalsIgnoreCase(oldName))
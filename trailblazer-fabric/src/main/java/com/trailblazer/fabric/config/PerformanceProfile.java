@@ -0,0 +1,108 @@
+package com.trailblazer.fabric.config;
+
+import java.util.Locale;
+
+/**
+ * Named tuning presets selected by {@link TrailblazerClientConfig#performanceProfile}.
+ * <p>
+ * Every value is read when it is used (per frame, per tick or per recorded point), so switching the profile
+ * takes effect immediately without a restart.
+ */
+public enum PerformanceProfile {
+    POTATO(60_000, 128.0, 48.0, 0.012, 0.25, 120, 2_000, 0.5),
+    BALANCED(250_000, 256.0, 128.0, 0.004, 0.02, 30, 5_000, 0.2),
+    QUALITY(1_000_000, 384.0, 256.0, 0.001, 0.0, 15, 20_000, 0.1);
+
+    /** Upper bound on path vertices submitted per frame; nearer geometry is drawn first. */
+    private final int vertexBudget;
+    /** Paths farther than this from the camera are not drawn. */
+    private final double renderDistance;
+    /** Beyond this distance lines merge every two segments, beyond twice this every four. */
+    private final double lodDistance;
+    /** Sections smaller than this fraction of their distance are drawn after everything else. */
+    private final double minAngularSize;
+    /** Dash fragments shorter than this are dropped. */
+    private final double minDashLength;
+    private final int autosaveIntervalSeconds;
+    /** Points kept per local path before it is thinned, i.e. the resident memory per path. */
+    private final int maxPointsPerPath;
+    /** Minimum distance the player must move before a new point is recorded. */
+    private final double sampleDistance;
+
+    PerformanceProfile(
+            int vertexBudget,
+            double renderDistance,
+            double lodDistance,
+            double minAngularSize,
+            double minDashLength,
+            int autosaveIntervalSeconds,
+            int maxPointsPerPath,
+            double sampleDistance
+    ) {
+        this.vertexBudget = vertexBudget;
+        this.renderDistance = renderDistance;
+        this.lodDistance = lodDistance;
+        this.minAngularSize = minAngularSize;
+        this.minDashLength = minDashLength;
+        this.autosaveIntervalSeconds = autosaveIntervalSeconds;
+        this.maxPointsPerPath = maxPointsPerPath;
+        this.sampleDistance = sampleDistance;
+    }
+
+    public int vertexBudget() {
+        return vertexBudget;
+    }
+
+    public double renderDistance() {
+        return renderDistance;
+    }
+
+    public double lodDistance() {
+        return lodDistance;
+    }
+
+    public double minAngularSize() {
+        return minAngularSize;
+    }
+
+    public double minDashLength() {
+        return minDashLength;
+    }
+
+    public int autosaveIntervalSeconds() {
+        return autosaveIntervalSeconds;
+    }
+
+    public int maxPointsPerPath() {
+        return maxPointsPerPath;
+    }
+
+    public double sampleDistance() {
+        return sampleDistance;
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public String displayName() {
+        return name().charAt(0) + id().substring(1);
+    }
+
+    public PerformanceProfile next() {
+        PerformanceProfile[] profiles = values();
+        return profiles[(ordinal() + 1) % profiles.length];
+    }
+
+    /** Resolves a config value such as {@code "balanced"}; unknown or missing values fall back to balanced. */
+    public static PerformanceProfile fromId(String id) {
+        if (id != null) {
+            for (PerformanceProfile profile : values()) {
+                if (profile.id().equalsIgnoreCase(id.trim())) {
+                    return profile;
+                }
+            }
+        }
+        return BALANCED;
+    }
+}
@@ -20,12 +20,47 @@ public class TrailblazerClientConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger("trailblazer-config");
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static final String FILE_NAME = "trailblazer-client.json";
+    /** Version 1 made the point limit and autosave interval optional overrides of the performance profile. */
+    private static final int CURRENT_VERSION = 1;
+    /** Fixed values every pre-profile config was saved with; they were defaults, not choices. */
+    private static final int LEGACY_DEFAULT_MAX_POINTS = 5000;
+    private static final int LEGACY_DEFAULT_AUTOSAVE_SECONDS = 30;
 
-    public int maxPointsPerPath = 5000;
-    public int autosaveIntervalSeconds = 30;
+    /**
+     * Format version of the saved file. Files written before versioning lack it and read as 0, so it has no
+     * initializer; {@link #load} sets it for a new config.
+     */
+    public int configVersion;
+    /** Overrides the profile's point limit when set; 0 disables thinning. */
+    public Integer maxPointsPerPath;
+    /** Overrides the profile's autosave interval when set; 0 disables autosave. */
+    public Integer autosaveIntervalSeconds;
     public boolean recordingOverlayEnabled = true;
+    /** One of {@code potato}, {@code balanced} or {@code quality}, see {@link PerformanceProfile}. */
     public String performanceProfile = "balanced";
     public boolean autoRequestShareSync = true;
+    /** Path vertices drawn per frame; 0 uses the budget of {@link #performanceProfile}. */
+    public int vertexBudget = 0;
+
+    public PerformanceProfile profile() {
+        return PerformanceProfile.fromId(performanceProfile);
+    }
+
+    public void setProfile(PerformanceProfile profile) {
+        this.performanceProfile = profile.id();
+    }
+
+    public int effectiveVertexBudget() {
+        return vertexBudget > 0 ? vertexBudget : profile().vertexBudget();
+    }
+
+    public int effectiveMaxPointsPerPath() {
+        return maxPointsPerPath != null ? maxPointsPerPath : profile().maxPointsPerPath();
+    }
+
+    public int effectiveAutosaveIntervalSeconds() {
+        return autosaveIntervalSeconds != null ? autosaveIntervalSeconds : profile().autosaveIntervalSeconds();
+    }
 
     public static TrailblazerClientConfig load(Path configDir) {
         try {
@@ -34,13 +69,37 @@ public class TrailblazerClientConfig {
             if (Files.isRegularFile(file)) {
                 try (Reader r = Files.newBufferedReader(file)) {
                     TrailblazerClientConfig cfg = GSON.fromJson(r, TrailblazerClientConfig.class);
-                    if (cfg != null) return cfg;
+                    if (cfg != null) {
+                        if (cfg.migrate()) {
+                            cfg.save(configDir);
+                        }
+                        return cfg;
+                    }
                 }
             }
         } catch (Exception e) {
             LOGGER.error("Failed to load Trailblazer client config, using defaults", e);
         }
-        return new TrailblazerClientConfig();
+        TrailblazerClientConfig cfg = new TrailblazerClientConfig();
+        cfg.configVersion = CURRENT_VERSION;
+        return cfg;
+    }
+
+    /** Upgrades a config read from an older file; returns whether anything changed. */
+    boolean migrate() {
+        if (configVersion >= CURRENT_VERSION) {
+            return false;
+        }
+        // Older versions always wrote these defaults, which would otherwise now pin every profile to them
+        if (maxPointsPerPath != null && maxPointsPerPath == LEGACY_DEFAULT_MAX_POINTS) {
+            maxPointsPerPath = null;
+        }
+        if (autosaveIntervalSeconds != null && autosaveIntervalSeconds == LEGACY_DEFAULT_AUTOSAVE_SECONDS) {
+            autosaveIntervalSeconds = null;
+        }
+        LOGGER.info("Migrated Trailblazer client config from version {} to {}", configVersion, CURRENT_VERSION);
+        configVersion = CURRENT_VERSION;
+        return true;
     }
 
     public void save(Path configDir) {
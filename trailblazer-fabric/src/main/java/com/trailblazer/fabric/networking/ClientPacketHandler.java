@@ -1,24 +1,32 @@
 package com.trailblazer.fabric.networking;
 
-import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.TreeSet;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 import com.trailblazer.api.Vector3d;
 import com.trailblazer.fabric.ClientPathManager;
+import com.trailblazer.fabric.ServerIntegrationBridge;
 import com.trailblazer.fabric.TrailblazerFabricClient;
 import com.trailblazer.fabric.networking.payload.c2s.PathActionAckPayload;
+import com.trailblazer.fabric.networking.payload.c2s.PathVersionsPayload;
 import com.trailblazer.fabric.networking.payload.s2c.HideAllPathsPayload;
 import com.trailblazer.fabric.networking.payload.s2c.LivePathUpdatePayload;
 import com.trailblazer.fabric.networking.payload.s2c.PathDataSyncPayload;
 import com.trailblazer.fabric.networking.payload.s2c.PathDeletedPayload;
+import com.trailblazer.fabric.networking.payload.s2c.PathDeltaPayload;
+import com.trailblazer.fabric.networking.payload.s2c.RequestPathVersionsPayload;
 import com.trailblazer.fabric.networking.payload.s2c.SharedPathPayload;
 import com.trailblazer.fabric.networking.payload.s2c.StopLivePathPayload;
+import com.trailblazer.fabric.networking.payload.s2c.PathActionBatchPayload;
 import com.trailblazer.fabric.networking.payload.s2c.PathActionResultPayload;
+import com.trailblazer.fabric.networking.payload.s2c.ServerHelloPayload;
 import com.trailblazer.fabric.networking.payload.s2c.StartRecordingPayload;
+import com.trailblazer.fabric.persistence.ServerPathCache;
 
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 
@@ -27,21 +35,33 @@ import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
  */
 public class ClientPacketHandler {
 
-    private static final Gson GSON = new Gson();
-    private static long highestActionResultSequence = 0L;
+    private static final Gson GSON = PathJson.gson();
+    // Reliable action results: everything up to cumulativeAck has been processed; receivedAbove holds
+    // sequences that arrived ahead of a gap. Only touched on the client thread.
+    private static long cumulativeAck = 0L;
+    private static final TreeSet<Long> receivedAbove = new TreeSet<>();
 
     public static void resetReliableActionState() {
-        highestActionResultSequence = 0L;
+        cumulativeAck = 0L;
+        receivedAbove.clear();
     }
 
-    public static void registerS2CPackets(ClientPathManager pathManager) {
+    public static void registerS2CPackets(ClientPathManager pathManager, ServerPathCache serverCache) {
+        ClientPlayNetworking.registerGlobalReceiver(ServerHelloPayload.ID, (payload, context) ->
+            context.client().execute(() -> {
+                if (ServerIntegrationBridge.SERVER_INTEGRATION != null) {
+                    ServerIntegrationBridge.SERVER_INTEGRATION.applyServerHello(payload);
+                }
+                serverCache.switchWorld(payload.worldUid());
+            })
+        );
+
         ClientPlayNetworking.registerGlobalReceiver(PathDataSyncPayload.ID, (payload, context) -> {
             String json = payload.json();
 
             final List<PathData> receivedPaths;
             try {
-                Type listType = new TypeToken<List<PathData>>() {}.getType();
-                List<PathData> parsed = GSON.fromJson(json, listType);
+                List<PathData> parsed = GSON.fromJson(json, PathJson.PATH_LIST_TYPE);
                 if (parsed == null) {
                     parsed = Collections.emptyList();
                 }
@@ -54,6 +74,29 @@ public class ClientPacketHandler {
             context.client().execute(() -> pathManager.applyServerSync(receivedPaths));
         });
 
+        ClientPlayNetworking.registerGlobalReceiver(PathDeltaPayload.ID, (payload, context) -> {
+            final List<PathData> changed;
+            try {
+                List<PathData> parsed = GSON.fromJson(payload.changedJson(), PathJson.PATH_LIST_TYPE);
+                changed = parsed != null ? parsed : Collections.emptyList();
+            } catch (Exception e) {
+                TrailblazerFabricClient.LOGGER.error("Failed to parse path delta JSON from server:", e);
+                return;
+            }
+            List<java.util.UUID> removed = payload.removed();
+            context.client().execute(() -> pathManager.applyServerDelta(changed, removed));
+        });
+
+        ClientPlayNetworking.registerGlobalReceiver(RequestPathVersionsPayload.ID, (payload, context) ->
+            context.client().execute(() -> {
+                // Show the cached paths of the new world first, so only their differences are fetched
+                serverCache.switchWorld(payload.worldUid());
+                if (ClientPlayNetworking.canSend(PathVersionsPayload.ID)) {
+                    ClientPlayNetworking.send(new PathVersionsPayload(pathManager.getServerPathVersions()));
+                }
+            })
+        );
+
         ClientPlayNetworking.registerGlobalReceiver(HideAllPathsPayload.ID, (payload, context) -> {
             context.client().execute(pathManager::hideAllPaths);
         });
@@ -62,8 +105,7 @@ public class ClientPacketHandler {
             String json = payload.json();
             final List<Vector3d> points;
             try {
-                Type listType = new TypeToken<List<Vector3d>>() {}.getType();
-                points = GSON.fromJson(json, listType);
+                points = GSON.fromJson(json, PathJson.POINT_LIST_TYPE);
             } catch (Exception e) {
                 TrailblazerFabricClient.LOGGER.error("Failed to parse live path points from server:", e);
                 return;
@@ -81,8 +123,9 @@ public class ClientPacketHandler {
                 try {
                     if (net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking.canSend(
                             com.trailblazer.fabric.networking.payload.c2s.HandshakePayload.ID)) {
+                        // Report what we hold so a delta-sync server only sends the newly recorded path
                         net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking.send(
-                                new com.trailblazer.fabric.networking.payload.c2s.HandshakePayload());
+                                new com.trailblazer.fabric.networking.payload.c2s.HandshakePayload(pathManager.getServerPathVersions()));
                     }
                 } catch (Exception e) {
                     TrailblazerFabricClient.LOGGER.error("Failed to request path resync after recording stop", e);
@@ -104,52 +147,84 @@ public class ClientPacketHandler {
             context.client().execute(() -> pathManager.removeServerPath(payload.pathId()))
         );
 
-        ClientPlayNetworking.registerGlobalReceiver(PathActionResultPayload.ID, (payload, context) -> {
-            long sequence = payload.sequenceNumber();
+        ClientPlayNetworking.registerGlobalReceiver(PathActionResultPayload.ID, (payload, context) ->
             context.client().execute(() -> {
-                var client = context.client();
-                boolean requiresAck = sequence > 0;
-                boolean isDuplicate = requiresAck && sequence <= highestActionResultSequence;
-
-                if (!isDuplicate) {
-                    if (requiresAck) {
-                        highestActionResultSequence = sequence;
-                    }
-
-                    try {
-                        // Handle the special case for a successful "save" action
-                        if ("save".equals(payload.action()) && payload.success() && payload.updatedPath() != null) {
-                            pathManager.replaceLocalWithServerCopy(payload.updatedPath());
-                        } else if (payload.updatedPath() != null) {
-                            // Handle generic updates for other actions like rename, color, etc.
-                            pathManager.onPathUpdated(payload.updatedPath());
-                        }
-
-                        if (client.player != null && payload.message() != null && !payload.message().isEmpty()) {
-                            net.minecraft.text.Style style = payload.success() ? net.minecraft.text.Style.EMPTY.withColor(net.minecraft.util.Formatting.GREEN) : net.minecraft.text.Style.EMPTY.withColor(net.minecraft.util.Formatting.RED);
-                            client.player.sendMessage(net.minecraft.text.Text.literal(payload.message()).setStyle(style), false);
-                        }
-                    } catch (Exception ex) {
-                        TrailblazerFabricClient.LOGGER.error("Failed to handle path action result payload", ex);
-                    }
+                receiveActionResult(pathManager, payload);
+                if (payload.sequenceNumber() > 0) {
+                    sendActionAck();
                 }
+            })
+        );
 
-                if (requiresAck) {
-                    sendActionAck(highestActionResultSequence);
+        ClientPlayNetworking.registerGlobalReceiver(PathActionBatchPayload.ID, (payload, context) ->
+            context.client().execute(() -> {
+                // Sequences below the base were acked or abandoned by the server; never wait for them.
+                advanceCumulativeAck(payload.baseSequence() - 1);
+                for (PathActionResultPayload result : payload.results()) {
+                    receiveActionResult(pathManager, result);
                 }
-            });
-        });
+                // One ack per frame, however many results it carried
+                sendActionAck();
+            })
+        );
     }
 
-    private static void sendActionAck(long ackSequence) {
-        if (ackSequence <= 0) {
+    private static void receiveActionResult(ClientPathManager pathManager, PathActionResultPayload payload) {
+        long sequence = payload.sequenceNumber();
+        if (sequence > 0) {
+            boolean isDuplicate = sequence <= cumulativeAck || !receivedAbove.add(sequence);
+            if (isDuplicate) {
+                return;
+            }
+            advanceCumulativeAck(cumulativeAck);
+        }
+
+        var client = net.minecraft.client.MinecraftClient.getInstance();
+        try {
+            // Handle the special case for a successful "save" action
+            if ("save".equals(payload.action()) && payload.success() && payload.updatedPath() != null) {
+                pathManager.replaceLocalWithServerCopy(payload.updatedPath());
+            } else if (payload.updatedPath() != null) {
+                // Handle generic updates for other actions like rename, color, etc.
+                pathManager.onPathUpdated(payload.updatedPath());
+            }
+
+            if (client.player != null && payload.message() != null && !payload.message().isEmpty()) {
+                net.minecraft.text.Style style = payload.success() ? net.minecraft.text.Style.EMPTY.withColor(net.minecraft.util.Formatting.GREEN) : net.minecraft.text.Style.EMPTY.withColor(net.minecraft.util.Formatting.RED);
+                client.player.sendMessage(net.minecraft.text.Text.literal(payload.message()).setStyle(style), false);
+            }
+        } catch (Exception ex) {
+            TrailblazerFabricClient.LOGGER.error("Failed to handle path action result payload", ex);
+        }
+    }
+
+    /** Raises the cumulative ack to at least {@code floor}, then absorbs any contiguous out-of-order sequences. */
+    private static void advanceCumulativeAck(long floor) {
+        if (floor > cumulativeAck) {
+            cumulativeAck = floor;
+        }
+        receivedAbove.headSet(cumulativeAck, true).clear();
+        while (!receivedAbove.isEmpty() && receivedAbove.first() == cumulativeAck + 1) {
+            cumulativeAck = receivedAbove.pollFirst();
+        }
+    }
+
+    private static void sendActionAck() {
+        if (cumulativeAck <= 0 && receivedAbove.isEmpty()) {
             return;
         }
 
         if (ClientPlayNetworking.canSend(PathActionAckPayload.ID)) {
-            ClientPlayNetworking.send(new PathActionAckPayload(ackSequence));
+            List<Long> selective = new ArrayList<>(Math.min(receivedAbove.size(), PathActionAckPayload.MAX_SELECTIVE_ACKS));
+            for (Long sequence : receivedAbove) {
+                if (selective.size() >= PathActionAckPayload.MAX_SELECTIVE_ACKS) {
+                    break;
+                }
+                selective.add(sequence);
+            }
+            ClientPlayNetworking.send(new PathActionAckPayload(cumulativeAck, selective));
         } else {
             TrailblazerFabricClient.LOGGER.debug("Server does not accept Trailblazer action acknowledgments yet.");
         }
     }
-}
\ No newline at end of file
+}
@@ -5,31 +5,75 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.trailblazer.api.Protocol;
+import com.trailblazer.fabric.networking.payload.s2c.ServerHelloPayload;
+
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 
 /**
- * Lightweight detection of whether the connected server supports Trailblazer.
- * Currently heuristic: if we can send the handshake payload after join, mark supported.
- * Future: read a dedicated S2C capability advertisement.
+ * Tracks whether the connected server supports Trailblazer and which features were negotiated.
+ * Support is first inferred from the handshake channel being open; protocol version 2 servers then
+ * answer the handshake with a {@link ServerHelloPayload}. Until (or unless) a hello arrives the
+ * negotiated mask stays 0 and every feature uses its protocol version 1 form.
  */
 public class ServerIntegrationManager {
     private static final Logger LOGGER = LoggerFactory.getLogger("trailblazer-serverint");
+
+    /** Capabilities this client implements; advertised in the handshake. */
+    public static final int CLIENT_CAPABILITIES = Protocol.Capability.LIVE_UPDATES
+            | Protocol.Capability.SHARED_STORAGE
+            | Protocol.Capability.COLOR_CANONICAL
+            | Protocol.Capability.ACTION_BATCH
+            | Protocol.Capability.DELTA_SYNC
+            | Protocol.Capability.BULK_ACTIONS
+            | Protocol.Capability.FLAT_POINTS;
+
     private final AtomicBoolean serverSupported = new AtomicBoolean(false);
     private volatile int capabilityMask = 0;
+    private volatile int serverProtocolVersion = 0;
+    // 0 means the server did not advertise a limit
+    private volatile int maxPointsPerPath = 0;
+    private volatile int maxPayloadBytes = 0;
+    private volatile int maxShareTargets = 0;
 
     public void registerLifecycle() {
         ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> {
             serverSupported.set(ClientPlayNetworking.canSend(com.trailblazer.fabric.networking.payload.c2s.HandshakePayload.ID));
             LOGGER.info("Trailblazer server support detected? {}", serverSupported.get());
         });
-        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
-            serverSupported.set(false);
-            capabilityMask = 0;
-        });
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> reset());
+    }
+
+    /** Applies the server's advertisement. Called on the client thread. */
+    public void applyServerHello(ServerHelloPayload hello) {
+        serverSupported.set(true);
+        serverProtocolVersion = hello.protocolVersion();
+        capabilityMask = Protocol.negotiate(CLIENT_CAPABILITIES, hello.capabilities());
+        maxPointsPerPath = Math.max(0, hello.maxPointsPerPath());
+        maxPayloadBytes = Math.max(0, hello.maxPayloadBytes());
+        maxShareTargets = Math.max(0, hello.maxShareTargets());
+        LOGGER.info("Trailblazer server protocol {} negotiated capabilities 0x{} (max points {}, max payload {} bytes)",
+                serverProtocolVersion, Integer.toHexString(capabilityMask), maxPointsPerPath, maxPayloadBytes);
+    }
+
+    private void reset() {
+        serverSupported.set(false);
+        capabilityMask = 0;
+        serverProtocolVersion = 0;
+        maxPointsPerPath = 0;
+        maxPayloadBytes = 0;
+        maxShareTargets = 0;
     }
 
     public boolean isServerSupported() { return serverSupported.get(); }
     public int getCapabilityMask() { return capabilityMask; }
     public void setCapabilityMask(int mask) { this.capabilityMask = mask; }
+    /** True if the feature was negotiated with the current server. */
+    public boolean has(int flag) { return Protocol.has(capabilityMask, flag); }
+    /** Protocol version advertised by the server, or 0 if it never sent a hello. */
+    public int getServerProtocolVersion() { return serverProtocolVersion; }
+    public int getMaxPointsPerPath() { return maxPointsPerPath; }
+    public int getMaxPayloadBytes() { return maxPayloadBytes; }
+    public int getMaxShareTargets() { return maxShareTargets; }
 }
@@ -1,5 +1,6 @@
 package com.trailblazer.fabric.networking;
 
+import com.trailblazer.fabric.networking.payload.c2s.BulkPathActionPayload;
 import com.trailblazer.fabric.networking.payload.c2s.DeletePathPayload;
 import com.trailblazer.fabric.networking.payload.c2s.HandshakePayload;
 import com.trailblazer.fabric.networking.payload.c2s.PathActionAckPayload;
@@ -12,6 +13,11 @@ import com.trailblazer.fabric.networking.payload.s2c.PathDeletedPayload;
 import com.trailblazer.fabric.networking.payload.s2c.SharedPathPayload;
 import com.trailblazer.fabric.networking.payload.s2c.StopLivePathPayload;
 import com.trailblazer.fabric.networking.payload.s2c.PathActionResultPayload;
+import com.trailblazer.fabric.networking.payload.s2c.PathActionBatchPayload;
+import com.trailblazer.fabric.networking.payload.s2c.ServerHelloPayload;
+import com.trailblazer.fabric.networking.payload.s2c.PathDeltaPayload;
+import com.trailblazer.fabric.networking.payload.s2c.RequestPathVersionsPayload;
+import com.trailblazer.fabric.networking.payload.c2s.PathVersionsPayload;
 import com.trailblazer.fabric.networking.payload.c2s.StartRecordingPayload;
 import com.trailblazer.fabric.networking.payload.c2s.StopRecordingPayload;
 
@@ -30,10 +36,16 @@ public class TrailblazerNetworking {
         PayloadTypeRegistry.playS2C().register(SharedPathPayload.ID, SharedPathPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(PathDeletedPayload.ID, PathDeletedPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(PathActionResultPayload.ID, PathActionResultPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(PathActionBatchPayload.ID, PathActionBatchPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(ServerHelloPayload.ID, ServerHelloPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(PathDeltaPayload.ID, PathDeltaPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(RequestPathVersionsPayload.ID, RequestPathVersionsPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(com.trailblazer.fabric.networking.payload.s2c.StartRecordingPayload.ID, com.trailblazer.fabric.networking.payload.s2c.StartRecordingPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(DeletePathPayload.ID, DeletePathPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(BulkPathActionPayload.ID, BulkPathActionPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(HandshakePayload.ID, HandshakePayload.CODEC);
         PayloadTypeRegistry.playC2S().register(PathActionAckPayload.ID, PathActionAckPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(PathVersionsPayload.ID, PathVersionsPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(SharePathRequestPayload.ID, SharePathRequestPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(UpdatePathMetadataPayload.ID, UpdatePathMetadataPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(StartRecordingPayload.ID, StartRecordingPayload.CODEC);
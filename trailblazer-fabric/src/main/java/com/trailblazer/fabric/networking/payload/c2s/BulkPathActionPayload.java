@@ -0,0 +1,66 @@
+package com.trailblazer.fabric.networking.payload.c2s;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.trailblazer.api.Protocol;
+import com.trailblazer.fabric.TrailblazerFabricClient;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Applies one {@link Protocol.BulkAction} to many server paths at once. {@code colorArgb} is only sent for
+ * {@code RECOLOR} and {@code folder} only for {@code SET_FOLDER}, where null or empty unfiles the paths.
+ */
+public record BulkPathActionPayload(int action, List<UUID> pathIds, int colorArgb, String folder) implements CustomPayload {
+    public static final Id<BulkPathActionPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "bulk_path_action"));
+
+    public static final PacketCodec<RegistryByteBuf, BulkPathActionPayload> CODEC = PacketCodec.of(
+            BulkPathActionPayload::write,
+            BulkPathActionPayload::read
+    );
+
+    private static void write(BulkPathActionPayload value, RegistryByteBuf buf) {
+        buf.writeByte(value.action());
+        buf.writeInt(value.pathIds().size());
+        for (UUID id : value.pathIds()) {
+            buf.writeUuid(id);
+        }
+        if (value.action() == Protocol.BulkAction.RECOLOR) {
+            buf.writeInt(value.colorArgb());
+        } else if (value.action() == Protocol.BulkAction.SET_FOLDER) {
+            byte[] folderBytes = value.folder() == null ? new byte[0] : value.folder().getBytes(StandardCharsets.UTF_8);
+            buf.writeInt(folderBytes.length);
+            buf.writeBytes(folderBytes);
+        }
+    }
+
+    private static BulkPathActionPayload read(RegistryByteBuf buf) {
+        int action = buf.readUnsignedByte();
+        int count = buf.readInt();
+        List<UUID> ids = new ArrayList<>(Math.min(count, Protocol.BulkAction.MAX_PATHS));
+        for (int i = 0; i < count; i++) {
+            ids.add(buf.readUuid());
+        }
+        int color = 0;
+        String folder = null;
+        if (action == Protocol.BulkAction.RECOLOR) {
+            color = buf.readInt();
+        } else if (action == Protocol.BulkAction.SET_FOLDER) {
+            byte[] folderBytes = new byte[buf.readInt()];
+            buf.readBytes(folderBytes);
+            folder = folderBytes.length == 0 ? null : new String(folderBytes, StandardCharsets.UTF_8);
+        }
+        return new BulkPathActionPayload(action, ids, color, folder);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
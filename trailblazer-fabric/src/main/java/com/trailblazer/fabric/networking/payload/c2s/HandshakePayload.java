@@ -1,6 +1,11 @@
 package com.trailblazer.fabric.networking.payload.c2s;
 
+import java.util.Map;
+import java.util.UUID;
+
+import com.trailblazer.api.Protocol;
 import com.trailblazer.fabric.TrailblazerFabricClient;
+import com.trailblazer.fabric.networking.ServerIntegrationManager;
 
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
@@ -8,18 +13,35 @@ import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
 
 /**
- * A simple signal payload sent once by the client upon joining a server
- * to announce that it has the Trailblazer mod installed.
+ * Sent by the client upon joining a server to announce that it has the Trailblazer mod installed,
+ * along with its protocol version, the capabilities it supports and the versions of the server paths
+ * it already holds (null for none known). Servers that predate protocol version 2 ignore the body.
  */
-public record HandshakePayload() implements CustomPayload {
+public record HandshakePayload(int protocolVersion, int capabilities, Map<UUID, Long> knownVersions) implements CustomPayload {
 
     public static final Id<HandshakePayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "handshake"));
 
-    public static final PacketCodec<RegistryByteBuf, HandshakePayload> CODEC = PacketCodec.unit(new HandshakePayload());
+    public static final PacketCodec<RegistryByteBuf, HandshakePayload> CODEC = PacketCodec.of(
+        (value, buf) -> {
+            buf.writeInt(value.protocolVersion);
+            buf.writeInt(value.capabilities);
+            PathVersionsPayload.writeVersions(buf, value.knownVersions);
+        },
+        buf -> buf.readableBytes() >= Integer.BYTES * 2
+            ? new HandshakePayload(buf.readInt(), buf.readInt(), PathVersionsPayload.readVersions(buf))
+            : new HandshakePayload(1, 0, null)
+    );
+
+    public HandshakePayload() {
+        this(null);
+    }
+
+    public HandshakePayload(Map<UUID, Long> knownVersions) {
+        this(Protocol.PROTOCOL_VERSION, ServerIntegrationManager.CLIENT_CAPABILITIES, knownVersions);
+    }
 
     @Override
     public Id<? extends CustomPayload> getId() {
         return ID;
     }
 }
-
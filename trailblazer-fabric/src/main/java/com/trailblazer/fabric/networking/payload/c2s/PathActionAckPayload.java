@@ -1,5 +1,8 @@
 package com.trailblazer.fabric.networking.payload.c2s;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.trailblazer.fabric.TrailblazerFabricClient;
 
 import net.minecraft.network.RegistryByteBuf;
@@ -9,23 +12,47 @@ import net.minecraft.util.Identifier;
 
 /**
  * Client-to-server acknowledgement for {@code PathActionResultPayload} messages.
- * Carries the highest sequence number the client has fully processed so the server
- * can stop retrying older messages.
+ * Carries the highest sequence number below which the client has processed everything (cumulative ack),
+ * plus any sequences above it that already arrived out of order (selective acks) so the server can stop
+ * retrying them. Older servers only read the cumulative part.
  */
-public record PathActionAckPayload(long acknowledgedSequence) implements CustomPayload {
+public record PathActionAckPayload(long acknowledgedSequence, List<Long> selectiveAcks) implements CustomPayload {
 
     public static final Id<PathActionAckPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "path_action_ack"));
+    /** Matches the server's limit on selective acks per frame. */
+    public static final int MAX_SELECTIVE_ACKS = 64;
     public static final PacketCodec<RegistryByteBuf, PathActionAckPayload> CODEC = PacketCodec.of(
             PathActionAckPayload::write,
             PathActionAckPayload::read
     );
 
+    public PathActionAckPayload(long acknowledgedSequence) {
+        this(acknowledgedSequence, List.of());
+    }
+
     private static void write(PathActionAckPayload payload, RegistryByteBuf buf) {
         buf.writeLong(payload.acknowledgedSequence());
+        List<Long> selective = payload.selectiveAcks();
+        if (selective.isEmpty()) {
+            return;
+        }
+        int count = Math.min(selective.size(), MAX_SELECTIVE_ACKS);
+        buf.writeVarInt(count);
+        for (int i = 0; i < count; i++) {
+            buf.writeLong(selective.get(i));
+        }
     }
 
     private static PathActionAckPayload read(RegistryByteBuf buf) {
-        return new PathActionAckPayload(buf.readLong());
+        long cumulative = buf.readLong();
+        List<Long> selective = new ArrayList<>();
+        if (buf.isReadable()) {
+            int count = Math.min(buf.readVarInt(), MAX_SELECTIVE_ACKS);
+            for (int i = 0; i < count; i++) {
+                selective.add(buf.readLong());
+            }
+        }
+        return new PathActionAckPayload(cumulative, selective);
     }
 
     @Override
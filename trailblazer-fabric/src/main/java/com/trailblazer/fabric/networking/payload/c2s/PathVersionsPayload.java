@@ -0,0 +1,63 @@
+package com.trailblazer.fabric.networking.payload.c2s;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.trailblazer.fabric.TrailblazerFabricClient;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Reports the server paths the client holds and their versions so the server can reply with a delta.
+ * A null map asks for a full sync instead.
+ */
+public record PathVersionsPayload(Map<UUID, Long> knownVersions) implements CustomPayload {
+
+    public static final Id<PathVersionsPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "path_versions"));
+
+    /** Keeps the list inside the 32 KiB serverbound custom payload limit; larger views fall back to a full sync. */
+    public static final int MAX_ENTRIES = 1024;
+
+    public static final PacketCodec<RegistryByteBuf, PathVersionsPayload> CODEC = PacketCodec.of(
+        (value, buf) -> writeVersions(buf, value.knownVersions),
+        buf -> new PathVersionsPayload(readVersions(buf))
+    );
+
+    /** Writes the count (-1 for a full-sync request) followed by UUID and version of each entry. */
+    static void writeVersions(RegistryByteBuf buf, Map<UUID, Long> versions) {
+        if (versions == null || versions.size() > MAX_ENTRIES) {
+            buf.writeInt(-1);
+            return;
+        }
+        buf.writeInt(versions.size());
+        for (Map.Entry<UUID, Long> entry : versions.entrySet()) {
+            buf.writeLong(entry.getKey().getMostSignificantBits());
+            buf.writeLong(entry.getKey().getLeastSignificantBits());
+            buf.writeLong(entry.getValue());
+        }
+    }
+
+    static Map<UUID, Long> readVersions(RegistryByteBuf buf) {
+        if (buf.readableBytes() < Integer.BYTES) {
+            return null;
+        }
+        int count = buf.readInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            return null;
+        }
+        Map<UUID, Long> versions = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            versions.put(new UUID(buf.readLong(), buf.readLong()), buf.readLong());
+        }
+        return versions;
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,57 @@
+package com.trailblazer.fabric.networking.payload.s2c;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.trailblazer.fabric.TrailblazerFabricClient;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Several {@link PathActionResultPayload} entries delivered in one frame.
+ * {@code baseSequence} is the lowest sequence the server may still (re)send; everything below it is
+ * acknowledged or abandoned. {@code acknowledgedSequence} echoes the highest cumulative ack the server has seen.
+ */
+public record PathActionBatchPayload(long baseSequence, Long acknowledgedSequence, List<PathActionResultPayload> results) implements CustomPayload {
+    public static final Id<PathActionBatchPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "path_action_batch"));
+
+    /** Defensive cap; the server never packs more than its in-flight window into one frame. */
+    private static final int MAX_ENTRIES = 256;
+
+    public static final PacketCodec<RegistryByteBuf, PathActionBatchPayload> CODEC = PacketCodec.of(
+            PathActionBatchPayload::write,
+            PathActionBatchPayload::read
+    );
+
+    private static void write(PathActionBatchPayload value, RegistryByteBuf buf) {
+        buf.writeLong(value.baseSequence);
+        buf.writeBoolean(value.acknowledgedSequence != null);
+        if (value.acknowledgedSequence != null) {
+            buf.writeLong(value.acknowledgedSequence);
+        }
+        buf.writeVarInt(value.results.size());
+        for (PathActionResultPayload result : value.results) {
+            PathActionResultPayload.CODEC.encode(buf, result);
+        }
+    }
+
+    private static PathActionBatchPayload read(RegistryByteBuf buf) {
+        long base = buf.readLong();
+        Long ack = buf.readBoolean() ? buf.readLong() : null;
+        int count = buf.readVarInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Invalid action batch size: " + count);
+        }
+        List<PathActionResultPayload> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(PathActionResultPayload.CODEC.decode(buf));
+        }
+        return new PathActionBatchPayload(base, ack, results);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() { return ID; }
+}
@@ -2,6 +2,7 @@ package com.trailblazer.fabric.networking.payload.s2c;
 
 import com.google.gson.Gson;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 import com.trailblazer.fabric.TrailblazerFabricClient;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
@@ -19,7 +20,7 @@ import java.util.UUID;
 public record PathActionResultPayload(String action, UUID pathId, boolean success, String message, PathData updatedPath,
                                      long sequenceNumber, Long acknowledgedSequence) implements CustomPayload {
     public static final Id<PathActionResultPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "path_action_result"));
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = PathJson.gson();
 
     public static final PacketCodec<RegistryByteBuf, PathActionResultPayload> CODEC = PacketCodec.of(
             PathActionResultPayload::write,
@@ -0,0 +1,58 @@
+package com.trailblazer.fabric.networking.payload.s2c;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.trailblazer.fabric.TrailblazerFabricClient;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Incremental sync from the server: ids of paths to drop, plus a JSON array of added or changed paths.
+ * Paths not mentioned are unchanged.
+ */
+public record PathDeltaPayload(List<UUID> removed, String changedJson) implements CustomPayload {
+
+    public static final Id<PathDeltaPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "path_delta"));
+
+    /** Upper bound on removals per delta; a server never holds more paths than this per player. */
+    private static final int MAX_REMOVED = 65_536;
+
+    public static final PacketCodec<RegistryByteBuf, PathDeltaPayload> CODEC = PacketCodec.of(
+        PathDeltaPayload::write,
+        PathDeltaPayload::read
+    );
+
+    private static void write(PathDeltaPayload value, RegistryByteBuf buf) {
+        buf.writeInt(value.removed.size());
+        for (UUID id : value.removed) {
+            buf.writeLong(id.getMostSignificantBits());
+            buf.writeLong(id.getLeastSignificantBits());
+        }
+        buf.writeBytes(value.changedJson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PathDeltaPayload read(RegistryByteBuf buf) {
+        int count = buf.readInt();
+        if (count < 0 || count > MAX_REMOVED || count > buf.readableBytes() / 16) {
+            throw new IllegalStateException("Invalid removed path count: " + count);
+        }
+        List<UUID> removed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            removed.add(new UUID(buf.readLong(), buf.readLong()));
+        }
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return new PathDeltaPayload(removed, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,41 @@
+package com.trailblazer.fabric.networking.payload.s2c;
+
+import java.util.UUID;
+
+import com.trailblazer.fabric.TrailblazerFabricClient;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Signal from a delta-sync server asking the client to report the versions of the server paths it holds.
+ * Carries the UID of the world the player moved to, or null if the server did not send one.
+ */
+public record RequestPathVersionsPayload(UUID worldUid) implements CustomPayload {
+
+    public static final Id<RequestPathVersionsPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "request_path_versions"));
+
+    public static final PacketCodec<RegistryByteBuf, RequestPathVersionsPayload> CODEC = new PacketCodec<RegistryByteBuf, RequestPathVersionsPayload>() {
+        @Override
+        public RequestPathVersionsPayload decode(RegistryByteBuf buf) {
+            UUID worldUid = buf.readableBytes() >= 16 ? new UUID(buf.readLong(), buf.readLong()) : null;
+            buf.skipBytes(buf.readableBytes());
+            return new RequestPathVersionsPayload(worldUid);
+        }
+
+        @Override
+        public void encode(RegistryByteBuf buf, RequestPathVersionsPayload value) {
+            if (value.worldUid() != null) {
+                buf.writeLong(value.worldUid().getMostSignificantBits());
+                buf.writeLong(value.worldUid().getLeastSignificantBits());
+            }
+        }
+    };
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
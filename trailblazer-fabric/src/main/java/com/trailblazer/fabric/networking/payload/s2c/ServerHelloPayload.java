@@ -0,0 +1,53 @@
+package com.trailblazer.fabric.networking.payload.s2c;
+
+import java.util.UUID;
+
+import com.trailblazer.fabric.TrailblazerFabricClient;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Server reply to the handshake: protocol version, capability mask, the limits the server enforces and
+ * the UID of the player's current world (null if not sent). Trailing bytes added by newer servers are skipped.
+ */
+public record ServerHelloPayload(int protocolVersion, int capabilities, int maxPointsPerPath, int maxPayloadBytes, int maxShareTargets, UUID worldUid) implements CustomPayload {
+
+    public static final Id<ServerHelloPayload> ID = new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "server_hello"));
+
+    public static final PacketCodec<RegistryByteBuf, ServerHelloPayload> CODEC = PacketCodec.of(
+        ServerHelloPayload::write,
+        ServerHelloPayload::read
+    );
+
+    private static void write(ServerHelloPayload value, RegistryByteBuf buf) {
+        buf.writeInt(value.protocolVersion);
+        buf.writeInt(value.capabilities);
+        buf.writeInt(value.maxPointsPerPath);
+        buf.writeInt(value.maxPayloadBytes);
+        buf.writeInt(value.maxShareTargets);
+        if (value.worldUid != null) {
+            buf.writeLong(value.worldUid.getMostSignificantBits());
+            buf.writeLong(value.worldUid.getLeastSignificantBits());
+        }
+    }
+
+    private static ServerHelloPayload read(RegistryByteBuf buf) {
+        int protocolVersion = buf.readInt();
+        int capabilities = buf.readInt();
+        int maxPointsPerPath = buf.readInt();
+        int maxPayloadBytes = buf.readInt();
+        int maxShareTargets = buf.readInt();
+        UUID worldUid = buf.readableBytes() >= 16 ? new UUID(buf.readLong(), buf.readLong()) : null;
+        ServerHelloPayload payload = new ServerHelloPayload(protocolVersion, capabilities, maxPointsPerPath, maxPayloadBytes, maxShareTargets, worldUid);
+        buf.skipBytes(buf.readableBytes());
+        return payload;
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
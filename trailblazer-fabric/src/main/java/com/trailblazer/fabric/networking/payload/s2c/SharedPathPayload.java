@@ -3,8 +3,8 @@ package com.trailblazer.fabric.networking.payload.s2c;
 import java.nio.charset.StandardCharsets;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 import com.trailblazer.fabric.TrailblazerFabricClient;
 
 import net.minecraft.network.RegistryByteBuf;
@@ -15,7 +15,7 @@ import net.minecraft.util.Identifier;
 public record SharedPathPayload(PathData path) implements CustomPayload {
     public static final Id<SharedPathPayload> ID =
             new Id<>(Identifier.of(TrailblazerFabricClient.MOD_ID, "share_path"));
-    private static final Gson GSON = new GsonBuilder().create();
+    private static final Gson GSON = PathJson.gson();
 
     // Defensive cap: shared paths can be large, but should never be unbounded.
     private static final int MAX_JSON_BYTES = 1_048_576;
@@ -1,9 +1,9 @@
 package com.trailblazer.fabric.persistence;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 import com.trailblazer.api.Vector3d;
 import com.trailblazer.fabric.ClientPathManager;
 import com.trailblazer.fabric.config.TrailblazerClientConfig;
@@ -20,10 +20,13 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles local path persistence for singleplayer and plugin-less servers.
+ * <p>
+ * Finished paths are stored as one JSON file each. A local recording in progress is persisted through a
+ * {@link RecordingJournal} instead and compacted into its JSON file when the recording stops.
  */
 public class PathPersistenceManager {
     private static final Logger LOGGER = LoggerFactory.getLogger("trailblazer-persist");
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson GSON = PathJson.gson();
 
     private final ClientPathManager pathManager;
     private final TrailblazerClientConfig config;
@@ -32,7 +35,13 @@ public class PathPersistenceManager {
     private final Map<UUID, Boolean> dirty = new ConcurrentHashMap<>();
     private boolean defaultVisibleOnLoad = true;
 
+    // Local recording in progress; its points go to the journal instead of rewriting the JSON file
+    private PathData journaledPath;
+    private RecordingJournal journal;
+    private boolean journalNeedsRewrite = false;
+
     private static final String INDEX_FILE = "index.json";
+    private static final String JOURNAL_SUFFIX = ".journal";
 
     public PathPersistenceManager(ClientPathManager pathManager, TrailblazerClientConfig config) {
         this.pathManager = pathManager;
@@ -40,6 +49,8 @@ public class PathPersistenceManager {
     }
 
     public void setWorldDirectory(Path worldSaveRoot) {
+        // A recording interrupted by leaving the world is kept as it was at that moment
+        finishJournal(true);
         if (worldSaveRoot == null) {
             this.worldDir = null;
             return;
@@ -60,6 +71,7 @@ public class PathPersistenceManager {
     /** Called on world join after worldDir set */
     public void loadAll() {
         if (worldDir == null) return;
+        recoverJournals();
         Path index = worldDir.resolve(INDEX_FILE);
         Set<UUID> listed = new HashSet<>();
         if (Files.isRegularFile(index)) {
@@ -114,6 +126,7 @@ public class PathPersistenceManager {
                 String originOwnerName = rec.originOwnerName != null ? rec.originOwnerName : data.getOwnerName();
                 data.setOrigin(originPath, originOwnerUuid, originOwnerName);
             }
+            data.setFolder(rec.folder);
             // All paths loaded from local storage are treated as LOCAL
             pathManager.addMyPath(data);
             if (defaultVisibleOnLoad) {
@@ -128,6 +141,11 @@ public class PathPersistenceManager {
         if (pathManager != null && !pathManager.isLocalPath(pathId)) {
             return;
         }
+        if (journal != null && journaledPath != null && journaledPath.getPathId().equals(pathId)) {
+            // Renamed or recolored while recording: the journal header carries the metadata, so rewrite it
+            journalNeedsRewrite = true;
+            return;
+        }
         dirty.put(pathId, Boolean.TRUE);
     }
 
@@ -157,20 +175,9 @@ public class PathPersistenceManager {
                 processed.add(id);
                 continue;
             }
-            Path file = worldDir.resolve(id.toString() + ".json");
-            Path tmp = worldDir.resolve(id.toString() + ".json.tmp");
-            try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
-                PathFileRecord rec = PathFileRecord.from(data);
-                GSON.toJson(rec, w);
-            } catch (IOException e) {
-                LOGGER.error("Failed to write temp path file {}", tmp, e);
+            if (!writePathFile(data)) {
                 continue;
             }
-            try {
-                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-            } catch (IOException e) {
-                LOGGER.error("Failed atomic move for path file {}", file, e);
-            }
             processed.add(id);
         }
         if (!processed.isEmpty()) {
@@ -179,6 +186,148 @@ public class PathPersistenceManager {
         writeIndex();
     }
 
+    /** Writes one path file atomically; returns false if the temp file could not be written. */
+    private boolean writePathFile(PathData data) {
+        UUID id = data.getPathId();
+        Path file = worldDir.resolve(id.toString() + ".json");
+        Path tmp = worldDir.resolve(id.toString() + ".json.tmp");
+        try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            PathFileRecord rec = PathFileRecord.from(data);
+            GSON.toJson(rec, w);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write temp path file {}", tmp, e);
+            return false;
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Failed atomic move for path file {}", file, e);
+        }
+        return true;
+    }
+
+    /**
+     * Starts journaling a new local recording. Until {@link #finishJournal} its points are persisted by
+     * {@link #flushJournal}, which appends only the points added since the previous flush.
+     */
+    public void startJournal(PathData recording) {
+        finishJournal(true);
+        if (worldDir == null || recording == null) return;
+        try {
+            journal = RecordingJournal.create(worldDir.resolve(recording.getPathId() + JOURNAL_SUFFIX), journalHeader(recording));
+            journaledPath = recording;
+            journalNeedsRewrite = false;
+        } catch (IOException e) {
+            LOGGER.error("Failed to create recording journal, falling back to full saves", e);
+            journal = null;
+            markDirty(recording.getPathId());
+        }
+    }
+
+    /** Appends the recording's new points to its journal. Cheap enough to call every few seconds. */
+    public void flushJournal() {
+        if (journal == null || journaledPath == null) return;
+        try {
+            if (journalNeedsRewrite) {
+                journal.rewrite(journalHeader(journaledPath), journaledPath.getPoints());
+                journalNeedsRewrite = false;
+            } else {
+                journal.append(journaledPath.getPoints());
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to append to recording journal {}", journal.file(), e);
+            // The next flush starts over with a complete copy
+            journalNeedsRewrite = true;
+        }
+    }
+
+    /**
+     * Ends the journal of the current recording. With {@code keep} the recording is compacted into its
+     * regular path file first; otherwise it is discarded. The journal file is deleted either way.
+     */
+    public void finishJournal(boolean keep) {
+        if (journal == null) return;
+        PathData recording = journaledPath;
+        RecordingJournal finished = journal;
+        journal = null;
+        journaledPath = null;
+        journalNeedsRewrite = false;
+        try {
+            finished.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close recording journal {}", finished.file(), e);
+        }
+        if (keep && recording != null && worldDir != null) {
+            if (!writePathFile(recording)) {
+                // Keep the journal so the points are recovered on the next load
+                return;
+            }
+            dirty.remove(recording.getPathId());
+            writeIndex();
+        }
+        try {
+            Files.deleteIfExists(finished.file());
+        } catch (IOException e) {
+            LOGGER.error("Failed to delete recording journal {}", finished.file(), e);
+        }
+    }
+
+    /** Turns journals left behind by a crash into regular path files. */
+    private void recoverJournals() {
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(worldDir, "*" + JOURNAL_SUFFIX)) {
+            for (Path journalFile : ds) {
+                recoverJournal(worldDir, journalFile);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error scanning for recording journals", e);
+        }
+    }
+
+    /**
+     * Writes the recording in {@code journalFile} to its path file in {@code worldDir}, unless that file already
+     * holds at least as many points, and deletes the journal.
+     */
+    static void recoverJournal(Path worldDir, Path journalFile) {
+        try {
+            RecordingJournal.Contents contents = RecordingJournal.read(journalFile);
+            PathFileRecord rec = GSON.fromJson(contents.headerJson(), PathFileRecord.class);
+            if (rec == null || rec.pathId == null) {
+                LOGGER.warn("Ignoring recording journal without a path id: {}", journalFile);
+                return;
+            }
+            Path file = worldDir.resolve(rec.pathId + ".json");
+            if (Files.isRegularFile(file)) {
+                try (BufferedReader r = Files.newBufferedReader(file)) {
+                    PathFileRecord saved = GSON.fromJson(r, PathFileRecord.class);
+                    // A full save made after the last flush (e.g. on disconnect) is the more complete copy
+                    if (saved != null && saved.points != null && saved.points.size() >= contents.points().size()) {
+                        Files.deleteIfExists(journalFile);
+                        return;
+                    }
+                    if (saved != null) {
+                        rec = saved;
+                    }
+                }
+            }
+            rec.points = new ArrayList<>(contents.points());
+            Path tmp = worldDir.resolve(rec.pathId + ".json.tmp");
+            try (BufferedWriter w = Files.newBufferedWriter(tmp)) {
+                GSON.toJson(rec, w);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(journalFile);
+            LOGGER.info("Recovered interrupted recording {} with {} point(s)", rec.pathId, rec.points.size());
+        } catch (Exception e) {
+            LOGGER.error("Failed to recover recording journal {}", journalFile, e);
+        }
+    }
+
+    private static String journalHeader(PathData data) {
+        PathFileRecord rec = PathFileRecord.from(data);
+        rec.points = null;
+        return GSON.toJson(rec);
+    }
+
     private void writeIndex() {
         if (worldDir == null) return;
         List<IndexEntry> entries = new ArrayList<>();
@@ -217,7 +366,7 @@ public class PathPersistenceManager {
 
     /** Thin path points if exceeding limit; returns true if modified. */
     public boolean enforcePointLimit(PathData data) {
-        int limit = config.maxPointsPerPath;
+        int limit = config.effectiveMaxPointsPerPath();
         if (limit <= 0) return false;
         List<Vector3d> pts = data.getPoints();
         if (pts.size() <= limit) return false;
@@ -234,7 +383,12 @@ public class PathPersistenceManager {
         }
         pts.clear();
         pts.addAll(thinned);
-        markDirty(data.getPathId());
+        if (journal != null && data == journaledPath) {
+            // The journal only appends, so the thinned points replace it on the next flush
+            journalNeedsRewrite = true;
+        } else {
+            markDirty(data.getPathId());
+        }
         return true;
     }
 
@@ -258,6 +412,7 @@ public class PathPersistenceManager {
         UUID originPathId;
         UUID originOwnerUUID;
         String originOwnerName;
+        String folder;
 
         static PathFileRecord from(PathData d) {
             PathFileRecord r = new PathFileRecord();
@@ -272,6 +427,7 @@ public class PathPersistenceManager {
             r.originPathId = d.getOriginPathId();
             r.originOwnerUUID = d.getOriginOwnerUUID();
             r.originOwnerName = d.getOriginOwnerName();
+            r.folder = d.getFolder();
             return r;
         }
     }
@@ -0,0 +1,120 @@
+package com.trailblazer.fabric.persistence;
+
+import com.trailblazer.api.Vector3d;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only point journal of a local recording in progress, stored as {@code <pathId>.journal} next to
+ * the path files.
+ * <p>
+ * Layout: magic (int), header length (int), header (UTF-8 JSON of the path metadata without points), then
+ * one fixed-size record of three doubles per point. Each flush appends only the points recorded since the
+ * previous one. A crash can leave a partial record at the end; {@link #read} ignores it.
+ */
+final class RecordingJournal implements AutoCloseable {
+    private static final int MAGIC = 0x54424A31; // "TBJ1"
+    private static final int POINT_BYTES = 3 * Double.BYTES;
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+
+    private final Path file;
+    private FileChannel channel;
+    private int flushedPoints = 0;
+
+    private RecordingJournal(Path file) {
+        this.file = file;
+    }
+
+    /** Creates (or truncates) a journal and writes its header. */
+    static RecordingJournal create(Path file, String headerJson) throws IOException {
+        RecordingJournal journal = new RecordingJournal(file);
+        journal.rewrite(headerJson, List.of());
+        return journal;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /** Appends {@code points[flushed..]} and forces it to disk. */
+    void append(List<Vector3d> points) throws IOException {
+        int count = points.size() - flushedPoints;
+        if (count <= 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(count * POINT_BYTES);
+        for (int i = flushedPoints; i < points.size(); i++) {
+            Vector3d p = points.get(i);
+            buffer.putDouble(p.getX()).putDouble(p.getY()).putDouble(p.getZ());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        flushedPoints = points.size();
+    }
+
+    /** Replaces the whole journal, e.g. after the recording was thinned or renamed. */
+    void rewrite(String headerJson, List<Vector3d> points) throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        byte[] header = headerJson.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + header.length);
+        buffer.putInt(MAGIC).putInt(header.length).put(header).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        flushedPoints = 0;
+        append(points);
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /** Contents of a journal left behind by a crash. */
+    record Contents(String headerJson, List<Vector3d> points) {}
+
+    static Contents read(Path file) throws IOException {
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new java.io.BufferedInputStream(raw))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a Trailblazer recording journal: " + file);
+            }
+            int headerLength = in.readInt();
+            if (headerLength < 0 || headerLength > MAX_HEADER_BYTES) {
+                throw new IOException("Corrupt journal header in " + file);
+            }
+            byte[] header = new byte[headerLength];
+            in.readFully(header);
+            List<Vector3d> points = new ArrayList<>();
+            while (true) {
+                try {
+                    points.add(new Vector3d(in.readDouble(), in.readDouble(), in.readDouble()));
+                } catch (EOFException e) {
+                    break; // End of file, possibly inside a record torn by a crash
+                }
+            }
+            return new Contents(new String(header, StandardCharsets.UTF_8), points);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.trailblazer.fabric.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
+import com.trailblazer.fabric.ClientPathManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * On-disk cache of the server-backed paths received from a Trailblazer server, one file per world UID
+ * under {@code trailblazer_client_servers/<server>/server_cache}.
+ * <p>
+ * On join the paths of the last world seen on that server are shown immediately, and their versions go
+ * into the handshake so the server only sends what changed. The cache is written back on world change,
+ * disconnect and autosave.
+ */
+public class ServerPathCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger("trailblazer-cache");
+    private static final Gson GSON = PathJson.gson();
+    private static final Type PATH_LIST_TYPE = new TypeToken<List<PathData>>(){}.getType();
+    private static final String LAST_WORLD_FILE = "last_world";
+
+    private final ClientPathManager pathManager;
+
+    private Path cacheDir;
+    private UUID worldUid;
+    // Versions as of the last write, so autosave can skip unchanged caches
+    private Map<UUID, Long> savedVersions = Map.of();
+
+    public ServerPathCache(ClientPathManager pathManager) {
+        this.pathManager = pathManager;
+    }
+
+    /**
+     * Opens the cache for a server and shows the paths cached for the last world seen there.
+     *
+     * @param serverDir per-server directory, or null to close the cache
+     */
+    public void open(Path serverDir) {
+        this.worldUid = null;
+        this.savedVersions = Map.of();
+        if (serverDir == null) {
+            this.cacheDir = null;
+            return;
+        }
+        this.cacheDir = serverDir.resolve("server_cache");
+        try {
+            Files.createDirectories(cacheDir);
+        } catch (IOException e) {
+            LOGGER.error("Failed to create server path cache directory", e);
+            this.cacheDir = null;
+            return;
+        }
+        UUID lastWorld = readLastWorld();
+        if (lastWorld != null) {
+            showWorld(lastWorld);
+        }
+    }
+
+    /** Writes the current world's server paths and closes the cache. */
+    public void close() {
+        save();
+        open(null);
+    }
+
+    /**
+     * Records the world the server says the player is in. If it differs from the cached view, the current
+     * view is saved under its own world and the cached paths of the new world are shown instead.
+     */
+    public void switchWorld(UUID newWorldUid) {
+        if (cacheDir == null || newWorldUid == null || newWorldUid.equals(worldUid)) {
+            return;
+        }
+        save();
+        showWorld(newWorldUid);
+        writeLastWorld(newWorldUid);
+    }
+
+    /** Writes the current server paths if any version changed since the last write. */
+    public void save() {
+        if (cacheDir == null || worldUid == null) {
+            return;
+        }
+        Map<UUID, Long> versions = pathManager.getServerPathVersions();
+        if (versions.equals(savedVersions)) {
+            return;
+        }
+        Path file = cacheDir.resolve(worldUid + ".json");
+        Path tmp = cacheDir.resolve(worldUid + ".json.tmp");
+        try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            GSON.toJson(pathManager.getServerPaths(), PATH_LIST_TYPE, w);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write server path cache {}", tmp, e);
+            return;
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedVersions = versions;
+        } catch (IOException e) {
+            LOGGER.error("Failed to move server path cache {}", file, e);
+        }
+    }
+
+    private void showWorld(UUID uid) {
+        this.worldUid = uid;
+        List<PathData> cached = read(uid);
+        pathManager.applyServerSync(cached);
+        savedVersions = pathManager.getServerPathVersions();
+        if (!cached.isEmpty()) {
+            LOGGER.info("Showing {} cached server path(s) for world {}", cached.size(), uid);
+        }
+    }
+
+    private List<PathData> read(UUID uid) {
+        Path file = cacheDir.resolve(uid + ".json");
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<PathData> paths = GSON.fromJson(r, PATH_LIST_TYPE);
+            if (paths == null) {
+                return List.of();
+            }
+            // Entries with missing required fields would break rendering; the server resends them anyway
+            paths.removeIf(p -> p == null || p.getPathId() == null || p.getOwnerUUID() == null || p.getPoints() == null);
+            return paths;
+        } catch (Exception e) {
+            LOGGER.error("Failed to read server path cache {}", file, e);
+            return List.of();
+        }
+    }
+
+    private UUID readLastWorld() {
+        Path file = cacheDir.resolve(LAST_WORLD_FILE);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(Files.readString(file, StandardCharsets.UTF_8).trim());
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeLastWorld(UUID uid) {
+        try {
+            Files.writeString(cacheDir.resolve(LAST_WORLD_FILE), uid.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.error("Failed to record last server world", e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.trailblazer.fabric.rendering;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.trailblazer.api.Vector3d;
+
+/**
+ * Render-ready polyline of one path, built once and reused every frame.
+ * <p>
+ * Points closer than {@link #MIN_SEGMENT_LENGTH} to the previous kept vertex are merged, and every kept vertex
+ * carries the cumulative arc length from the start of the path. Dash phase, marker spacing and arrow placement
+ * are derived from the arc length while drawing, so switching the render mode or the marker spacing changes
+ * parameters only, never this geometry. Segments are grouped into chunks of {@link #CHUNK_SEGMENTS} with an
+ * axis-aligned bounding box each, so far-away parts of long paths are culled without visiting their segments.
+ * <p>
+ * {@link #sync} extends the arrays in place when the source list only grew, which is the common case while
+ * recording: a live or local recording costs O(new points) per update, and since dashes and markers are
+ * placed from the cumulative arc length, their phase carries across appends without any extra state.
+ */
+final class PathGeometry {
+
+    static final double MIN_SEGMENT_LENGTH = 0.05;
+    static final int CHUNK_SEGMENTS = 64;
+
+    private double[] xyz = new double[3 * 16];
+    private double[] arc = new double[16];
+    private int count;
+    // minX, minY, minZ, maxX, maxY, maxZ per chunk
+    private double[] chunkBounds = new double[6 * 4];
+    private int chunkCount;
+
+    private List<Vector3d> source;
+    private int consumed;
+    private Vector3d lastConsumed;
+
+    /**
+     * Brings the geometry up to date with {@code points}. Only points appended since the last call are
+     * processed unless the list was replaced, shortened (e.g. thinned) or edited.
+     */
+    void sync(List<Vector3d> points) {
+        int size = points.size();
+        boolean extendsPrevious = points == source
+                && size >= consumed
+                && (consumed == 0 || points.get(consumed - 1).equals(lastConsumed));
+        if (!extendsPrevious) {
+            reset();
+            source = points;
+        }
+        if (size == consumed) {
+            return;
+        }
+        for (int i = consumed; i < size; i++) {
+            add(points.get(i));
+        }
+        consumed = size;
+        lastConsumed = points.get(size - 1);
+    }
+
+    /** Drops everything, e.g. when the source list was replaced. */
+    void reset() {
+        count = 0;
+        chunkCount = 0;
+        consumed = 0;
+        lastConsumed = null;
+        source = null;
+    }
+
+    private void add(Vector3d p) {
+        double x = p.getX();
+        double y = p.getY();
+        double z = p.getZ();
+        if (count == 0) {
+            ensureCapacity(1);
+            xyz[0] = x;
+            xyz[1] = y;
+            xyz[2] = z;
+            arc[0] = 0.0;
+            count = 1;
+            return;
+        }
+        int last = count - 1;
+        double dx = x - xyz[3 * last];
+        double dy = y - xyz[3 * last + 1];
+        double dz = z - xyz[3 * last + 2];
+        double lenSq = dx * dx + dy * dy + dz * dz;
+        if (lenSq < MIN_SEGMENT_LENGTH * MIN_SEGMENT_LENGTH) {
+            return;
+        }
+        ensureCapacity(count + 1);
+        int i = count;
+        xyz[3 * i] = x;
+        xyz[3 * i + 1] = y;
+        xyz[3 * i + 2] = z;
+        arc[i] = arc[last] + Math.sqrt(lenSq);
+        count++;
+        includeInChunk(last / CHUNK_SEGMENTS, last, i);
+    }
+
+    private void includeInChunk(int chunk, int a, int b) {
+        if (chunk >= chunkCount) {
+            if (6 * (chunk + 1) > chunkBounds.length) {
+                chunkBounds = Arrays.copyOf(chunkBounds, chunkBounds.length * 2);
+            }
+            int o = 6 * chunk;
+            chunkBounds[o] = chunkBounds[o + 3] = xyz[3 * a];
+            chunkBounds[o + 1] = chunkBounds[o + 4] = xyz[3 * a + 1];
+            chunkBounds[o + 2] = chunkBounds[o + 5] = xyz[3 * a + 2];
+            chunkCount = chunk + 1;
+        }
+        int o = 6 * chunk;
+        for (int axis = 0; axis < 3; axis++) {
+            double v = xyz[3 * b + axis];
+            if (v < chunkBounds[o + axis]) {
+                chunkBounds[o + axis] = v;
+            }
+            if (v > chunkBounds[o + 3 + axis]) {
+                chunkBounds[o + 3 + axis] = v;
+            }
+        }
+    }
+
+    private void ensureCapacity(int vertices) {
+        if (vertices > arc.length) {
+            int capacity = Math.max(vertices, arc.length * 2);
+            arc = Arrays.copyOf(arc, capacity);
+            xyz = Arrays.copyOf(xyz, 3 * capacity);
+        }
+    }
+
+    int vertexCount() {
+        return count;
+    }
+
+    int segmentCount() {
+        return Math.max(0, count - 1);
+    }
+
+    double x(int i) {
+        return xyz[3 * i];
+    }
+
+    double y(int i) {
+        return xyz[3 * i + 1];
+    }
+
+    double z(int i) {
+        return xyz[3 * i + 2];
+    }
+
+    /** Distance along the path from its first vertex to vertex {@code i}. */
+    double arc(int i) {
+        return arc[i];
+    }
+
+    double length() {
+        return count == 0 ? 0.0 : arc[count - 1];
+    }
+
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    /** First segment of a chunk; the chunk ends before {@link #chunkEnd}. */
+    int chunkStart(int chunk) {
+        return chunk * CHUNK_SEGMENTS;
+    }
+
+    int chunkEnd(int chunk) {
+        return Math.min(segmentCount(), (chunk + 1) * CHUNK_SEGMENTS);
+    }
+
+    /** Length of the chunk's bounding box diagonal. */
+    double chunkExtent(int chunk) {
+        int o = 6 * chunk;
+        double dx = chunkBounds[o + 3] - chunkBounds[o];
+        double dy = chunkBounds[o + 4] - chunkBounds[o + 1];
+        double dz = chunkBounds[o + 5] - chunkBounds[o + 2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+     * Largest projection of the chunk's bounding box onto direction {@code (dx, dy, dz)} relative to a point;
+     * negative when the whole box lies behind that point.
+     */
+    double chunkMaxAlong(int chunk, double px, double py, double pz, double dx, double dy, double dz) {
+        int o = 6 * chunk;
+        return Math.max(dx * (chunkBounds[o] - px), dx * (chunkBounds[o + 3] - px))
+                + Math.max(dy * (chunkBounds[o + 1] - py), dy * (chunkBounds[o + 4] - py))
+                + Math.max(dz * (chunkBounds[o + 2] - pz), dz * (chunkBounds[o + 5] - pz));
+    }
+
+    /** Squared distance from a point to the chunk's bounding box; 0 when inside. */
+    double chunkDistanceSq(int chunk, double px, double py, double pz) {
+        int o = 6 * chunk;
+        double dx = Math.max(0.0, Math.max(chunkBounds[o] - px, px - chunkBounds[o + 3]));
+        double dy = Math.max(0.0, Math.max(chunkBounds[o + 1] - py, py - chunkBounds[o + 4]));
+        double dz = Math.max(0.0, Math.max(chunkBounds[o + 2] - pz, pz - chunkBounds[o + 5]));
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
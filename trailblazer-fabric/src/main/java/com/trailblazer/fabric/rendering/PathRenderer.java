@@ -1,12 +1,18 @@
 package com.trailblazer.fabric.rendering;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import com.mojang.blaze3d.vertex.VertexFormat;
 import com.trailblazer.api.PathData;
-import com.trailblazer.api.Vector3d;
 import com.trailblazer.fabric.ClientPathManager;
 import com.trailblazer.fabric.RenderSettingsManager;
+import com.trailblazer.fabric.config.PerformanceProfile;
+import com.trailblazer.fabric.config.TrailblazerClientConfig;
 
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderContext;
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents;
@@ -21,11 +27,21 @@ import net.minecraft.util.math.Vec3d;
 
 /**
  * Handles the client-side rendering of paths in the world.
+ * <p>
+ * Each path's polyline and cumulative arc length are kept in a {@link PathGeometry} that is rebuilt only when
+ * the path's points change. Every frame only expands the cached polyline towards the camera; dashes, markers
+ * and arrows are placed from the arc length, so render mode and marker spacing are plain parameters.
+ * <p>
+ * At most {@link TrailblazerClientConfig#effectiveVertexBudget()} vertices are submitted per frame. Paths are
+ * split into sections of {@link PathGeometry#CHUNK_SEGMENTS} segments, and sections are drawn nearest first,
+ * with the ones behind the camera or too small to see ranked last. When the budget runs out, the remaining
+ * (most distant) sections are left out and the HUD says so.
+ * <p>
+ * Render distance, level of detail and dash resolution come from the {@link PerformanceProfile}, read once
+ * per frame so a profile change shows up on the next frame.
  */
 public class PathRenderer {
 
-    private static final double MIN_SEGMENT_LENGTH = 0.05;
-
     private static final double DASH_LENGTH = 2.0;
     private static final double GAP_LENGTH = 1.0;
     private static final double DASH_PATTERN_LENGTH = DASH_LENGTH + GAP_LENGTH;
@@ -34,21 +50,29 @@ public class PathRenderer {
 
     private static final double MARKER_HALF_SIZE = 0.14;
 
+    private static final double ARROW_SPACING = 3.0;
     private static final double ARROW_LENGTH = 0.75;
     private static final double ARROW_HEAD_LENGTH = 0.25;
     private static final double ARROW_SHAFT_HALF_WIDTH = 0.04;
     private static final double ARROW_HEAD_HALF_WIDTH = 0.16;
     private static final double ARROW_TIP_HALF_WIDTH = 0.02;
 
-    private static final double MAX_RENDER_DISTANCE = 256.0;
-    private static final double MAX_RENDER_DISTANCE_SQ = MAX_RENDER_DISTANCE * MAX_RENDER_DISTANCE;
+    /** Section index used for paths consisting of a single point. */
+    private static final int SINGLE_POINT = -1;
 
     private final ClientPathManager clientPathManager;
     private final RenderSettingsManager renderSettingsManager;
-
-    public PathRenderer(ClientPathManager clientPathManager, RenderSettingsManager renderSettingsManager) {
+    private final Map<UUID, PathGeometry> geometries = new HashMap<>();
+    private final Set<UUID> drawnThisFrame = new HashSet<>();
+    private final TrailblazerClientConfig config;
+    private final SectionQueue queue = new SectionQueue();
+    private int lastSkippedSections = 0;
+    private int lastVertexBudget = 0;
+
+    public PathRenderer(ClientPathManager clientPathManager, RenderSettingsManager renderSettingsManager, TrailblazerClientConfig config) {
         this.clientPathManager = clientPathManager;
         this.renderSettingsManager = renderSettingsManager;
+        this.config = config;
     }
 
     public void initialize() {
@@ -56,10 +80,21 @@ public class PathRenderer {
         WorldRenderEvents.END_MAIN.register(this::renderActivePaths);
     }
 
+    /** Path sections (chunks of segments) left out of the last frame because the vertex budget was spent. */
+    public int getLastSkippedSections() {
+        return lastSkippedSections;
+    }
+
+    public int getLastVertexBudget() {
+        return lastVertexBudget;
+    }
+
     private void renderActivePaths(WorldRenderContext context) {
         MinecraftClient client = MinecraftClient.getInstance();
         ClientWorld world = client.world;
         if (world == null) {
+            geometries.clear();
+            lastSkippedSections = 0;
             return;
         }
         String currentDimension = world.getRegistryKey().getValue().toString();
@@ -69,113 +104,52 @@ public class PathRenderer {
 
         PathData livePath = clientPathManager.getLivePath();
         Iterable<PathData> visiblePaths = clientPathManager.getVisiblePaths();
-
-        switch (renderSettingsManager.getRenderMode()) {
-            case SOLID_LINE -> renderSolidLines(currentDimension, livePath, visiblePaths, cameraPos, cameraForward);
-            case DASHED_LINE -> renderDashedLines(currentDimension, livePath, visiblePaths, cameraPos, cameraForward);
-            case SPACED_MARKERS -> renderSpacedMarkers(currentDimension, livePath, visiblePaths, cameraPos, cameraForward);
-            case DIRECTIONAL_ARROWS -> renderDirectionalArrows(currentDimension, livePath, visiblePaths, cameraPos, cameraForward);
-        }
-    }
-
-    private void renderDashedLines(
-            String currentDimension,
-            PathData livePath,
-            Iterable<PathData> visiblePaths,
-            Vec3d cameraPos,
-            Vec3d cameraForward
-    ) {
-        Tessellator tess = Tessellator.getInstance();
-        BufferBuilder buffer = tess.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
-
-        if (livePath != null) {
-            appendDashedPath(livePath, true, currentDimension, cameraPos, cameraForward, buffer);
-        }
-        for (PathData path : visiblePaths) {
-            appendDashedPath(path, false, currentDimension, cameraPos, cameraForward, buffer);
-        }
-
-        BuiltBuffer built = buffer.endNullable();
-        if (built == null) {
-            return;
-        }
-        RenderLayers.debugQuads().draw(built);
-        built.close();
-    }
-
-    private void renderSolidLines(
-            String currentDimension,
-            PathData livePath,
-            Iterable<PathData> visiblePaths,
-            Vec3d cameraPos,
-            Vec3d cameraForward
-    ) {
-        Tessellator tess = Tessellator.getInstance();
-        BufferBuilder buffer = tess.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
-
-        if (livePath != null) {
-            appendSolidPath(livePath, true, currentDimension, cameraPos, cameraForward, buffer);
-        }
-        for (PathData path : visiblePaths) {
-            appendSolidPath(path, false, currentDimension, cameraPos, cameraForward, buffer);
-        }
-
-        BuiltBuffer built = buffer.endNullable();
-        if (built == null) {
-            return;
-        }
-        RenderLayers.debugQuads().draw(built);
-        built.close();
-    }
-
-    private void renderSpacedMarkers(
-            String currentDimension,
-            PathData livePath,
-            Iterable<PathData> visiblePaths,
-            Vec3d cameraPos,
-            Vec3d cameraForward
-    ) {
-        double spacing = Math.max(0.25, renderSettingsManager.getMarkerSpacing());
-
+        RenderMode mode = renderSettingsManager.getRenderMode();
+        double markerSpacing = Math.max(0.25, renderSettingsManager.getMarkerSpacing());
         Vec3d billboardRight = getBillboardRight(cameraForward);
         Vec3d billboardUp = getBillboardUp(cameraForward, billboardRight);
+        PerformanceProfile profile = config.profile();
 
-        Tessellator tess = Tessellator.getInstance();
-        BufferBuilder buffer = tess.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
-
+        // Gather every section in range, then draw nearest first until the budget is spent
+        queue.clear();
         if (livePath != null) {
-            appendMarkerPath(livePath, true, currentDimension, cameraPos, billboardRight, billboardUp, spacing, buffer);
+            collectSections(livePath, true, currentDimension, cameraPos, cameraForward, profile);
         }
         for (PathData path : visiblePaths) {
-            appendMarkerPath(path, false, currentDimension, cameraPos, billboardRight, billboardUp, spacing, buffer);
-        }
-
-        BuiltBuffer built = buffer.endNullable();
-        if (built == null) {
-            return;
+            collectSections(path, false, currentDimension, cameraPos, cameraForward, profile);
         }
-        RenderLayers.debugQuads().draw(built);
-        built.close();
-    }
-
-    private void renderDirectionalArrows(
-            String currentDimension,
-            PathData livePath,
-            Iterable<PathData> visiblePaths,
-            Vec3d cameraPos,
-            Vec3d cameraForward
-    ) {
-        double spacing = 3.0;
+        // Forget geometry of paths that were hidden, deleted or left behind in another dimension
+        geometries.keySet().retainAll(drawnThisFrame);
+        drawnThisFrame.clear();
+        queue.sort();
 
+        int budget = config.effectiveVertexBudget();
+        int vertices = 0;
+        int skipped = 0;
         Tessellator tess = Tessellator.getInstance();
         BufferBuilder buffer = tess.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
-
-        if (livePath != null) {
-            appendArrowPath(livePath, true, currentDimension, cameraPos, cameraForward, spacing, buffer);
-        }
-        for (PathData path : visiblePaths) {
-            appendArrowPath(path, false, currentDimension, cameraPos, cameraForward, spacing, buffer);
-        }
+        for (int k = 0; k < queue.size(); k++) {
+            if (vertices >= budget) {
+                skipped = queue.size() - k;
+                break;
+            }
+            int entry = queue.entryAt(k);
+            PathGeometry geometry = queue.geometry[entry];
+            int color = queue.color[entry];
+            float r = ((color >> 16) & 0xFF) / 255f;
+            float g = ((color >> 8) & 0xFF) / 255f;
+            float b = (color & 0xFF) / 255f;
+            float a = queue.live[entry] ? 1.0f : 0.9f;
+            int chunk = queue.chunk[entry];
+            vertices += switch (mode) {
+                case SOLID_LINE -> appendLine(geometry, chunk, false, profile, cameraPos, cameraForward, r, g, b, a, buffer);
+                case DASHED_LINE -> appendLine(geometry, chunk, true, profile, cameraPos, cameraForward, r, g, b, a, buffer);
+                case SPACED_MARKERS -> appendMarkers(geometry, chunk, profile, cameraPos, billboardRight, billboardUp, markerSpacing, r, g, b, a, buffer);
+                case DIRECTIONAL_ARROWS -> appendArrows(geometry, chunk, profile, cameraPos, cameraForward, ARROW_SPACING, r, g, b, a, buffer);
+            };
+        }
+        lastSkippedSections = skipped;
+        lastVertexBudget = budget;
 
         BuiltBuffer built = buffer.endNullable();
         if (built == null) {
@@ -185,378 +159,299 @@ public class PathRenderer {
         built.close();
     }
 
-    private boolean appendDashedPath(
+    private void collectSections(
             PathData path,
             boolean isLive,
             String currentDimension,
             Vec3d cameraPos,
             Vec3d cameraForward,
-            BufferBuilder buffer
+            PerformanceProfile profile
     ) {
-        List<Vector3d> points = path.getPoints();
-        if (points.size() < 2) {
-            return false;
-        }
-
         String dim = path.getDimension();
         if (dim != null && !dim.isBlank() && !currentDimension.equals(dim)) {
-            return false;
+            return;
         }
 
-        final int color = path.getColorArgb();
-        float r = ((color >> 16) & 0xFF) / 255f;
-        float g = ((color >> 8) & 0xFF) / 255f;
-        float b = (color & 0xFF) / 255f;
-        float a = isLive ? 1.0f : 0.9f;
+        PathGeometry geometry = geometries.computeIfAbsent(path.getPathId(), id -> new PathGeometry());
+        geometry.sync(path.getPoints());
+        drawnThisFrame.add(path.getPathId());
 
         double camX = cameraPos.x;
         double camY = cameraPos.y;
         double camZ = cameraPos.z;
-
-        boolean any = false;
-        double patternOffset = 0.0;
-        double[] right = new double[3];
-
-        Vector3d prev = points.getFirst();
-        double x0 = prev.getX();
-        double y0 = prev.getY();
-        double z0 = prev.getZ();
-
-        for (int i = 1; i < points.size(); i++) {
-            Vector3d next = points.get(i);
-
-            double x1 = next.getX();
-            double y1 = next.getY();
-            double z1 = next.getZ();
-
-            double dx = x1 - x0;
-            double dy = y1 - y0;
-            double dz = z1 - z0;
-            double segLenSq = dx * dx + dy * dy + dz * dz;
-            if (segLenSq < MIN_SEGMENT_LENGTH * MIN_SEGMENT_LENGTH) {
-                continue;
+        double renderDistance = profile.renderDistance();
+        double maxDistanceSq = renderDistance * renderDistance;
+        if (geometry.vertexCount() == 1) {
+            // A single point only shows up as a marker
+            if (distanceSqToCamera(geometry.x(0), geometry.y(0), geometry.z(0), camX, camY, camZ) <= maxDistanceSq) {
+                queue.add(geometry, SINGLE_POINT, path.getColorArgb(), isLive, 0f);
             }
-
-            double d0x = x0 - camX;
-            double d0y = y0 - camY;
-            double d0z = z0 - camZ;
-            double d1x = x1 - camX;
-            double d1y = y1 - camY;
-            double d1z = z1 - camZ;
-            if ((d0x * d0x + d0y * d0y + d0z * d0z) > MAX_RENDER_DISTANCE_SQ
-                    && (d1x * d1x + d1y * d1y + d1z * d1z) > MAX_RENDER_DISTANCE_SQ) {
-                x0 = x1;
-                y0 = y1;
-                z0 = z1;
+            return;
+        }
+        for (int chunk = 0; chunk < geometry.chunkCount(); chunk++) {
+            double distSq = geometry.chunkDistanceSq(chunk, camX, camY, camZ);
+            if (distSq > maxDistanceSq) {
                 continue;
             }
-
-            double segLen = Math.sqrt(segLenSq);
-            double invLen = 1.0 / segLen;
-            double dirX = dx * invLen;
-            double dirY = dy * invLen;
-            double dirZ = dz * invLen;
-
-            stableRightVector(cameraForward, dirX, dirY, dirZ, LINE_HALF_WIDTH, right);
-            double rightX = right[0];
-            double rightY = right[1];
-            double rightZ = right[2];
-
-            double t = 0.0;
-            while (t < segLen) {
-                boolean inDash = patternOffset < DASH_LENGTH;
-                double maxStep = (inDash ? DASH_LENGTH : DASH_PATTERN_LENGTH) - patternOffset;
-                double step = Math.min(maxStep, segLen - t);
-
-                if (inDash && step >= 0.02) {
-                    double s = t;
-                    double e = t + step;
-
-                    double sx = x0 + dirX * s;
-                    double sy = y0 + dirY * s;
-                    double sz = z0 + dirZ * s;
-
-                    double ex = x0 + dirX * e;
-                    double ey = y0 + dirY * e;
-                    double ez = z0 + dirZ * e;
-
-                    addRibbonQuad(buffer, sx, sy, sz, ex, ey, ez, camX, camY, camZ, rightX, rightY, rightZ, r, g, b, a);
-                    any = true;
-                }
-
-                t += step;
-                patternOffset += step;
-                if (patternOffset >= DASH_PATTERN_LENGTH) {
-                    patternOffset %= DASH_PATTERN_LENGTH;
+            float priority;
+            if (isLive) {
+                // The recording the player is making right now always draws
+                priority = 0f;
+            } else {
+                double dist = Math.sqrt(distSq);
+                priority = (float) dist;
+                // Sections behind the camera or too small to see come after everything on screen
+                boolean behind = geometry.chunkMaxAlong(chunk, camX, camY, camZ, cameraForward.x, cameraForward.y, cameraForward.z) < 0.0;
+                boolean tiny = geometry.chunkExtent(chunk) < dist * profile.minAngularSize();
+                if (behind || tiny) {
+                    priority += (float) renderDistance;
                 }
             }
-
-            x0 = x1;
-            y0 = y1;
-            z0 = z1;
+            queue.add(geometry, chunk, path.getColorArgb(), isLive, priority);
         }
-
-        return any;
     }
 
-    private boolean appendSolidPath(
-            PathData path,
-            boolean isLive,
-            String currentDimension,
+    /**
+     * Solid or dashed ribbon over one section; dashes repeat every {@link #DASH_PATTERN_LENGTH} of arc length
+     * from the path start. Sections past the profile's LOD distance join two or four segments per quad.
+     *
+     * @return vertices written
+     */
+    private static int appendLine(
+            PathGeometry geometry,
+            int chunk,
+            boolean dashed,
+            PerformanceProfile profile,
             Vec3d cameraPos,
             Vec3d cameraForward,
+            float r,
+            float g,
+            float b,
+            float a,
             BufferBuilder buffer
     ) {
-        List<Vector3d> points = path.getPoints();
-        if (points.size() < 2) {
-            return false;
-        }
-
-        String dim = path.getDimension();
-        if (dim != null && !dim.isBlank() && !currentDimension.equals(dim)) {
-            return false;
+        if (chunk == SINGLE_POINT) {
+            return 0;
         }
-
-        final int color = path.getColorArgb();
-        float r = ((color >> 16) & 0xFF) / 255f;
-        float g = ((color >> 8) & 0xFF) / 255f;
-        float b = (color & 0xFF) / 255f;
-        float a = isLive ? 1.0f : 0.9f;
-
         double camX = cameraPos.x;
         double camY = cameraPos.y;
         double camZ = cameraPos.z;
-
-        boolean any = false;
+        double maxDistanceSq = profile.renderDistance() * profile.renderDistance();
+        double minDashLength = profile.minDashLength();
+        double lodDistance = profile.lodDistance();
+        double chunkDistanceSq = geometry.chunkDistanceSq(chunk, camX, camY, camZ);
+        int stride = chunkDistanceSq > 4 * lodDistance * lodDistance ? 4 : chunkDistanceSq > lodDistance * lodDistance ? 2 : 1;
         double[] right = new double[3];
+        int vertices = 0;
+
+        int end = geometry.chunkEnd(chunk);
+        for (int i = geometry.chunkStart(chunk); i < end; i += stride) {
+            int j = Math.min(i + stride, end);
+            double x0 = geometry.x(i);
+            double y0 = geometry.y(i);
+            double z0 = geometry.z(i);
+            double x1 = geometry.x(j);
+            double y1 = geometry.y(j);
+            double z1 = geometry.z(j);
+            if (distanceSqToCamera(x0, y0, z0, camX, camY, camZ) > maxDistanceSq
+                    && distanceSqToCamera(x1, y1, z1, camX, camY, camZ) > maxDistanceSq) {
+                continue;
+            }
 
-        Vector3d prev = points.getFirst();
-        double x0 = prev.getX();
-        double y0 = prev.getY();
-        double z0 = prev.getZ();
-
-        for (int i = 1; i < points.size(); i++) {
-            Vector3d next = points.get(i);
-
-            double x1 = next.getX();
-            double y1 = next.getY();
-            double z1 = next.getZ();
-
+            double a0 = geometry.arc(i);
+            double a1 = geometry.arc(j);
             double dx = x1 - x0;
             double dy = y1 - y0;
             double dz = z1 - z0;
-            double segLenSq = dx * dx + dy * dy + dz * dz;
-            if (segLenSq < MIN_SEGMENT_LENGTH * MIN_SEGMENT_LENGTH) {
-                x0 = x1;
-                y0 = y1;
-                z0 = z1;
-                continue;
-            }
-
-            double d0x = x0 - camX;
-            double d0y = y0 - camY;
-            double d0z = z0 - camZ;
-            double d1x = x1 - camX;
-            double d1y = y1 - camY;
-            double d1z = z1 - camZ;
-            if ((d0x * d0x + d0y * d0y + d0z * d0z) > MAX_RENDER_DISTANCE_SQ
-                    && (d1x * d1x + d1y * d1y + d1z * d1z) > MAX_RENDER_DISTANCE_SQ) {
-                x0 = x1;
-                y0 = y1;
-                z0 = z1;
+            double chord = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (chord < PathGeometry.MIN_SEGMENT_LENGTH) {
                 continue;
             }
-
-            double segLen = Math.sqrt(segLenSq);
-            double invLen = 1.0 / segLen;
-            double dirX = dx * invLen;
-            double dirY = dy * invLen;
-            double dirZ = dz * invLen;
+            double dirX = dx / chord;
+            double dirY = dy / chord;
+            double dirZ = dz / chord;
 
             stableRightVector(cameraForward, dirX, dirY, dirZ, LINE_HALF_WIDTH, right);
-            double rightX = right[0];
-            double rightY = right[1];
-            double rightZ = right[2];
-
-            addRibbonQuad(buffer, x0, y0, z0, x1, y1, z1, camX, camY, camZ, rightX, rightY, rightZ, r, g, b, a);
-            any = true;
 
-            x0 = x1;
-            y0 = y1;
-            z0 = z1;
+            if (!dashed) {
+                addRibbonQuad(buffer, x0, y0, z0, x1, y1, z1, camX, camY, camZ, right[0], right[1], right[2], r, g, b, a);
+                vertices += 4;
+                continue;
+            }
+            // Arc length maps onto the chord; the two are equal unless segments were joined for LOD
+            double scale = chord / (a1 - a0);
+            for (double dashStart = Math.floor(a0 / DASH_PATTERN_LENGTH) * DASH_PATTERN_LENGTH;
+                 dashStart < a1;
+                 dashStart += DASH_PATTERN_LENGTH) {
+                double s = (Math.max(a0, dashStart) - a0) * scale;
+                double e = (Math.min(a1, dashStart + DASH_LENGTH) - a0) * scale;
+                if (e - s < minDashLength) {
+                    continue;
+                }
+                addRibbonQuad(buffer,
+                        x0 + dirX * s, y0 + dirY * s, z0 + dirZ * s,
+                        x0 + dirX * e, y0 + dirY * e, z0 + dirZ * e,
+                        camX, camY, camZ, right[0], right[1], right[2], r, g, b, a);
+                vertices += 4;
+            }
         }
-
-        return any;
+        return vertices;
     }
 
-    private boolean appendMarkerPath(
-            PathData path,
-            boolean isLive,
-            String currentDimension,
+    /**
+     * Camera-facing squares at the first vertex and every {@code spacing} of arc length after it.
+     *
+     * @return vertices written
+     */
+    private static int appendMarkers(
+            PathGeometry geometry,
+            int chunk,
+            PerformanceProfile profile,
             Vec3d cameraPos,
             Vec3d billboardRight,
             Vec3d billboardUp,
             double spacing,
+            float r,
+            float g,
+            float b,
+            float a,
             BufferBuilder buffer
     ) {
-        List<Vector3d> points = path.getPoints();
-        if (points.size() < 1) {
-            return false;
-        }
-
-        String dim = path.getDimension();
-        if (dim != null && !dim.isBlank() && !currentDimension.equals(dim)) {
-            return false;
-        }
-
-        final int color = path.getColorArgb();
-        float r = ((color >> 16) & 0xFF) / 255f;
-        float g = ((color >> 8) & 0xFF) / 255f;
-        float b = (color & 0xFF) / 255f;
-        float a = isLive ? 1.0f : 0.9f;
-
         double camX = cameraPos.x;
         double camY = cameraPos.y;
         double camZ = cameraPos.z;
+        double maxDistanceSq = profile.renderDistance() * profile.renderDistance();
+        int vertices = 0;
 
-        boolean any = false;
-
-        Vector3d p0 = points.getFirst();
-        double x0 = p0.getX();
-        double y0 = p0.getY();
-        double z0 = p0.getZ();
-
-        any |= addBillboardSquare(buffer, x0, y0, z0, camX, camY, camZ, billboardRight, billboardUp, MARKER_HALF_SIZE, r, g, b, a);
-
-        double distanceToNext = spacing;
-
-        for (int i = 1; i < points.size(); i++) {
-            Vector3d p1 = points.get(i);
-            double x1 = p1.getX();
-            double y1 = p1.getY();
-            double z1 = p1.getZ();
-
-            double dx = x1 - x0;
-            double dy = y1 - y0;
-            double dz = z1 - z0;
-            double segLenSq = dx * dx + dy * dy + dz * dz;
-            if (segLenSq < MIN_SEGMENT_LENGTH * MIN_SEGMENT_LENGTH) {
-                continue;
+        if (chunk == SINGLE_POINT || chunk == 0) {
+            if (distanceSqToCamera(geometry.x(0), geometry.y(0), geometry.z(0), camX, camY, camZ) <= maxDistanceSq) {
+                addBillboardSquare(buffer, geometry.x(0), geometry.y(0), geometry.z(0), camX, camY, camZ, billboardRight, billboardUp, MARKER_HALF_SIZE, r, g, b, a);
+                vertices += 4;
             }
+            if (chunk == SINGLE_POINT) {
+                return vertices;
+            }
+        }
 
-            double segLen = Math.sqrt(segLenSq);
-            double invLen = 1.0 / segLen;
-            double dirX = dx * invLen;
-            double dirY = dy * invLen;
-            double dirZ = dz * invLen;
-
-            double travelled = 0.0;
-            while (travelled + distanceToNext <= segLen) {
-                travelled += distanceToNext;
-
-                double px = x0 + dirX * travelled;
-                double py = y0 + dirY * travelled;
-                double pz = z0 + dirZ * travelled;
-
-                if (distanceSqToCamera(px, py, pz, camX, camY, camZ) <= MAX_RENDER_DISTANCE_SQ) {
-                    any |= addBillboardSquare(buffer, px, py, pz, camX, camY, camZ, billboardRight, billboardUp, MARKER_HALF_SIZE, r, g, b, a);
+        for (int i = geometry.chunkStart(chunk); i < geometry.chunkEnd(chunk); i++) {
+            double a0 = geometry.arc(i);
+            double a1 = geometry.arc(i + 1);
+            double invLen = 1.0 / (a1 - a0);
+            // Markers sit in (a0, a1]; the one at a0 belongs to the previous segment
+            for (long m = (long) Math.floor(a0 / spacing) + 1; m * spacing <= a1; m++) {
+                double t = (m * spacing - a0) * invLen;
+                double px = geometry.x(i) + (geometry.x(i + 1) - geometry.x(i)) * t;
+                double py = geometry.y(i) + (geometry.y(i + 1) - geometry.y(i)) * t;
+                double pz = geometry.z(i) + (geometry.z(i + 1) - geometry.z(i)) * t;
+                if (distanceSqToCamera(px, py, pz, camX, camY, camZ) <= maxDistanceSq) {
+                    addBillboardSquare(buffer, px, py, pz, camX, camY, camZ, billboardRight, billboardUp, MARKER_HALF_SIZE, r, g, b, a);
+                    vertices += 4;
                 }
-
-                distanceToNext = spacing;
             }
-
-            distanceToNext -= (segLen - travelled);
-
-            x0 = x1;
-            y0 = y1;
-            z0 = z1;
         }
-
-        return any;
+        return vertices;
     }
 
-    private boolean appendArrowPath(
-            PathData path,
-            boolean isLive,
-            String currentDimension,
+    /**
+     * Arrows pointing along the path at its start and every {@code spacing} of arc length after it.
+     *
+     * @return vertices written
+     */
+    private static int appendArrows(
+            PathGeometry geometry,
+            int chunk,
+            PerformanceProfile profile,
             Vec3d cameraPos,
             Vec3d cameraForward,
             double spacing,
+            float r,
+            float g,
+            float b,
+            float a,
             BufferBuilder buffer
     ) {
-        List<Vector3d> points = path.getPoints();
-        if (points.size() < 2) {
-            return false;
+        if (chunk == SINGLE_POINT) {
+            return 0;
         }
-
-        String dim = path.getDimension();
-        if (dim != null && !dim.isBlank() && !currentDimension.equals(dim)) {
-            return false;
-        }
-
-        final int color = path.getColorArgb();
-        float r = ((color >> 16) & 0xFF) / 255f;
-        float g = ((color >> 8) & 0xFF) / 255f;
-        float b = (color & 0xFF) / 255f;
-        float a = isLive ? 1.0f : 0.9f;
-
         double camX = cameraPos.x;
         double camY = cameraPos.y;
         double camZ = cameraPos.z;
-
-        boolean any = false;
+        double maxDistanceSq = profile.renderDistance() * profile.renderDistance();
         double[] right = new double[3];
-
-        Vector3d p0 = points.getFirst();
-        double x0 = p0.getX();
-        double y0 = p0.getY();
-        double z0 = p0.getZ();
-
-        double distanceToNext = 0.0;
-
-        for (int i = 1; i < points.size(); i++) {
-            Vector3d p1 = points.get(i);
-            double x1 = p1.getX();
-            double y1 = p1.getY();
-            double z1 = p1.getZ();
-
-            double dx = x1 - x0;
-            double dy = y1 - y0;
-            double dz = z1 - z0;
-            double segLenSq = dx * dx + dy * dy + dz * dz;
-            if (segLenSq < MIN_SEGMENT_LENGTH * MIN_SEGMENT_LENGTH) {
-                continue;
-            }
-
-            double segLen = Math.sqrt(segLenSq);
-            double invLen = 1.0 / segLen;
-            double dirX = dx * invLen;
-            double dirY = dy * invLen;
-            double dirZ = dz * invLen;
-
-            double travelled = 0.0;
-            while (travelled + distanceToNext <= segLen) {
-                travelled += distanceToNext;
-
-                double px = x0 + dirX * travelled;
-                double py = y0 + dirY * travelled;
-                double pz = z0 + dirZ * travelled;
-
-                if (distanceSqToCamera(px, py, pz, camX, camY, camZ) <= MAX_RENDER_DISTANCE_SQ) {
-                    any |= addArrow(buffer, px, py, pz, dirX, dirY, dirZ, camX, camY, camZ, cameraForward, right, r, g, b, a);
+        int vertices = 0;
+
+        for (int i = geometry.chunkStart(chunk); i < geometry.chunkEnd(chunk); i++) {
+            double x0 = geometry.x(i);
+            double y0 = geometry.y(i);
+            double z0 = geometry.z(i);
+            double a0 = geometry.arc(i);
+            double a1 = geometry.arc(i + 1);
+            double invLen = 1.0 / (a1 - a0);
+            double dirX = (geometry.x(i + 1) - x0) * invLen;
+            double dirY = (geometry.y(i + 1) - y0) * invLen;
+            double dirZ = (geometry.z(i + 1) - z0) * invLen;
+
+            for (long m = i == 0 ? 0 : (long) Math.floor(a0 / spacing) + 1; m * spacing <= a1; m++) {
+                double t = m * spacing - a0;
+                double px = x0 + dirX * t;
+                double py = y0 + dirY * t;
+                double pz = z0 + dirZ * t;
+                if (distanceSqToCamera(px, py, pz, camX, camY, camZ) <= maxDistanceSq) {
+                    addArrow(buffer, px, py, pz, dirX, dirY, dirZ, camX, camY, camZ, cameraForward, right, r, g, b, a);
+                    vertices += 8;
                 }
-
-                distanceToNext = spacing;
             }
+        }
+        return vertices;
+    }
 
-            distanceToNext -= (segLen - travelled);
+    /**
+     * Sections to draw this frame, ordered by priority. Backing arrays are reused across frames; sorting packs
+     * the priority and the entry index into one long so no objects are created per section.
+     */
+    private static final class SectionQueue {
+        private PathGeometry[] geometry = new PathGeometry[256];
+        private int[] chunk = new int[256];
+        private int[] color = new int[256];
+        private boolean[] live = new boolean[256];
+        private long[] order = new long[256];
+        private int size;
+
+        void clear() {
+            // Drop geometry references so removed paths can be collected
+            Arrays.fill(geometry, 0, size, null);
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(PathGeometry g, int c, int argb, boolean isLive, float priority) {
+            if (size == order.length) {
+                int capacity = size * 2;
+                geometry = Arrays.copyOf(geometry, capacity);
+                chunk = Arrays.copyOf(chunk, capacity);
+                color = Arrays.copyOf(color, capacity);
+                live = Arrays.copyOf(live, capacity);
+                order = Arrays.copyOf(order, capacity);
+            }
+            geometry[size] = g;
+            chunk[size] = c;
+            color[size] = argb;
+            live[size] = isLive;
+            // Non-negative floats sort like their raw bits
+            order[size] = ((long) Float.floatToIntBits(priority) << 32) | size;
+            size++;
+        }
 
-            x0 = x1;
-            y0 = y1;
-            z0 = z1;
+        void sort() {
+            Arrays.sort(order, 0, size);
         }
 
-        return any;
+        int entryAt(int k) {
+            return (int) order[k];
+        }
     }
 
     private static void addRibbonQuad(
@@ -592,7 +487,7 @@ public class PathRenderer {
         buffer.vertex((float) (exr + rx), (float) (eyr + ry), (float) (ezr + rz)).color(r, g, b, a);
     }
 
-    private static boolean addBillboardSquare(
+    private static void addBillboardSquare(
             BufferBuilder buffer,
             double x,
             double y,
@@ -608,10 +503,6 @@ public class PathRenderer {
             float b,
             float a
     ) {
-        if (distanceSqToCamera(x, y, z, camX, camY, camZ) > MAX_RENDER_DISTANCE_SQ) {
-            return false;
-        }
-
         double rx = right.x * halfSize;
         double ry = right.y * halfSize;
         double rz = right.z * halfSize;
@@ -628,8 +519,6 @@ public class PathRenderer {
         buffer.vertex((float) (xr - rx + ux), (float) (yr - ry + uy), (float) (zr - rz + uz)).color(r, g, b, a);
         buffer.vertex((float) (xr + rx + ux), (float) (yr + ry + uy), (float) (zr + rz + uz)).color(r, g, b, a);
         buffer.vertex((float) (xr + rx - ux), (float) (yr + ry - uy), (float) (zr + rz - uz)).color(r, g, b, a);
-
-        return true;
     }
 
     private static boolean addArrow(
@@ -6,9 +6,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-import com.google.gson.Gson;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
+import com.trailblazer.api.Protocol;
+import com.trailblazer.api.Vector3d;
+import com.trailblazer.fabric.ServerIntegrationBridge;
 import com.trailblazer.fabric.TrailblazerFabricClient;
+import com.trailblazer.fabric.networking.ServerIntegrationManager;
 import com.trailblazer.fabric.networking.payload.c2s.SharePathRequestPayload;
 
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -21,8 +25,6 @@ import net.minecraft.util.Formatting;
  */
 public final class PathShareSender {
 
-    private static final Gson GSON = new Gson();
-
     // Keep aligned with SharePathRequestPayload's cap.
     private static final int MAX_JSON_BYTES = 1_048_576;
 
@@ -36,11 +38,23 @@ public final class PathShareSender {
         List<UUID> resolvedRecipients = (recipients instanceof List<UUID> list)
                 ? list
                 : new ArrayList<>(recipients);
-        String json = GSON.toJson(path);
+        ServerIntegrationManager server = ServerIntegrationBridge.SERVER_INTEGRATION;
+        int maxBytes = MAX_JSON_BYTES;
+        if (server != null && server.getMaxPayloadBytes() > 0) {
+            maxBytes = Math.min(maxBytes, server.getMaxPayloadBytes());
+        }
+        // The server rejects paths over its advertised point limit, so send a thinned copy instead
+        PathData toSend = path;
+        if (server != null && server.getMaxPointsPerPath() > 1 && path.getPoints().size() > server.getMaxPointsPerPath()) {
+            toSend = thinnedCopy(path, server.getMaxPointsPerPath());
+        }
+        // Servers before protocol version 3 only read points in object form
+        boolean flatPoints = server != null && server.has(Protocol.Capability.FLAT_POINTS);
+        String json = PathJson.gson(flatPoints).toJson(toSend);
 
         // Avoid throwing from the payload codec (which can disconnect the client).
         byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
-        if (jsonBytes.length > MAX_JSON_BYTES) {
+        if (jsonBytes.length > maxBytes) {
             TrailblazerFabricClient.LOGGER.warn("Refusing to share path '{}' because payload is too large: {} bytes", path.getPathName(), jsonBytes.length);
             MinecraftClient client = MinecraftClient.getInstance();
             if (client != null && client.player != null) {
@@ -54,4 +68,20 @@ public final class PathShareSender {
         }
         ClientPlayNetworking.send(new SharePathRequestPayload(resolvedRecipients, json));
     }
+
+    /** Evenly strides the points down to {@code limit}, always keeping the last point. */
+    private static PathData thinnedCopy(PathData path, int limit) {
+        List<Vector3d> pts = path.getPoints();
+        int keepEvery = (pts.size() + limit - 2) / (limit - 1);
+        List<Vector3d> thinned = new ArrayList<>(limit);
+        for (int i = 0; i < pts.size() - 1 && thinned.size() < limit - 1; i += keepEvery) {
+            thinned.add(pts.get(i));
+        }
+        thinned.add(pts.get(pts.size() - 1));
+        PathData copy = new PathData(path.getPathId(), path.getPathName(), path.getOwnerUUID(), path.getOwnerName(),
+                path.getCreationTimestamp(), path.getDimension(), thinned, path.getColorArgb(),
+                path.getSharedWith() != null ? path.getSharedWith() : List.of());
+        copy.setOrigin(path.getOriginPathId(), path.getOriginOwnerUUID(), path.getOriginOwnerName());
+        return copy;
+    }
 }
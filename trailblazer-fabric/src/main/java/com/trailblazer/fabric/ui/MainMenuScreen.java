@@ -1,13 +1,16 @@
 package com.trailblazer.fabric.ui;
 
+import com.trailblazer.api.PathColors;
 import com.trailblazer.api.PathData;
 import com.trailblazer.fabric.ClientPathManager;
 import com.trailblazer.fabric.ClientPathManager.PathOrigin;
 import com.trailblazer.fabric.RenderSettingsManager;
+import com.trailblazer.fabric.config.TrailblazerClientConfig;
 
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.widget.ButtonWidget;
+import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
@@ -21,19 +24,33 @@ import com.trailblazer.fabric.networking.payload.c2s.SharePathRequestPayload;
 public class MainMenuScreen extends Screen {
     private final ClientPathManager pathManager;
     private final RenderSettingsManager renderSettingsManager;
+    private final TrailblazerClientConfig config;
     private ButtonWidget myPathsTab;
     private ButtonWidget sharedWithMeTab;
     private ButtonWidget settingsButton;
     private ButtonWidget recordButton;
     private PathListWidget pathListWidget;
+    private TextFieldWidget searchField;
+    private final PathSearchIndex searchIndex = new PathSearchIndex();
+    private String searchQuery = "";
     private int lastPathCount = -1;
+    // Bulk action bar, shown while at least one path is ticked
+    private final List<ButtonWidget> bulkButtons = new ArrayList<>();
+    private ButtonWidget bulkDeleteButton;
+    private ButtonWidget bulkColorButton;
+    private TextFieldWidget folderField;
+    private boolean awaitingBulkDeleteConfirm = false;
+    private long bulkDeleteConfirmStartMs = 0L;
+    private int bulkColorIndex = -1;
+    private static final long CONFIRM_TIMEOUT_MS = 5000L;
 
     private boolean showingMyPaths = true;
 
-    public MainMenuScreen(ClientPathManager pathManager, RenderSettingsManager renderSettingsManager) {
+    public MainMenuScreen(ClientPathManager pathManager, RenderSettingsManager renderSettingsManager, TrailblazerClientConfig config) {
         super(Text.of("Trailblazer Main Menu"));
         this.pathManager = pathManager;
         this.renderSettingsManager = renderSettingsManager;
+        this.config = config;
     }
 
     @Override
@@ -58,7 +75,7 @@ public class MainMenuScreen extends Screen {
         this.addDrawableChild(sharedWithMeTab);
 
         settingsButton = ButtonWidget.builder(Text.of("Settings"), button -> {
-            this.client.setScreen(new SettingsScreen(renderSettingsManager, this));
+            this.client.setScreen(new SettingsScreen(renderSettingsManager, config, this));
         }).dimensions(this.width - 105, 5, 100, 20).build();
         this.addDrawableChild(settingsButton);
 
@@ -93,14 +110,105 @@ public class MainMenuScreen extends Screen {
         }).dimensions(5, 5, 110, 20).build();
         this.addDrawableChild(recordButton);
 
-        pathListWidget = new PathListWidget(this.client, this.width, this.height - 80, 60, 20);
+        searchField = new TextFieldWidget(this.textRenderer, this.width / 2 - 105, 55, 210, 18, Text.of("Search"));
+        searchField.setMaxLength(64);
+        searchField.setPlaceholder(Text.literal("Search name, folder or owner").formatted(Formatting.DARK_GRAY));
+        searchField.setText(searchQuery);
+        searchField.setChangedListener(query -> {
+            searchQuery = query;
+            applySearch();
+        });
+        this.addDrawableChild(searchField);
+
+        pathListWidget = new PathListWidget(this.client, this.width, this.height - 124, 80, 20);
         this.addDrawableChild(pathListWidget);
 
+        initBulkBar(this.height - 36);
+
         updatePathList();
     }
 
+    private void initBulkBar(int y) {
+        bulkButtons.clear();
+        int x = 10;
+        bulkButtons.add(ButtonWidget.builder(Text.of("Show"), button -> {
+            pathManager.setPathsVisible(pathListWidget.getSelectedIds(), true);
+            updatePathList();
+        }).dimensions(x, y, 50, 20).build());
+        x += 54;
+        bulkButtons.add(ButtonWidget.builder(Text.of("Hide"), button -> {
+            pathManager.setPathsVisible(pathListWidget.getSelectedIds(), false);
+            updatePathList();
+        }).dimensions(x, y, 50, 20).build());
+        x += 54;
+        bulkColorButton = ButtonWidget.builder(Text.of("Color"), button -> {
+            List<Integer> palette = PathColors.palette();
+            bulkColorIndex = (bulkColorIndex + 1) % palette.size();
+            int color = palette.get(bulkColorIndex);
+            pathManager.recolorPaths(pathListWidget.getSelectedIds(), color);
+            button.setMessage(Text.of("Color: " + PathColors.nameOrHex(color)));
+        }).dimensions(x, y, 90, 20).build();
+        bulkButtons.add(bulkColorButton);
+        x += 94;
+        bulkDeleteButton = ButtonWidget.builder(Text.of("Delete"), button -> {
+            long now = System.currentTimeMillis();
+            if (!awaitingBulkDeleteConfirm || now - bulkDeleteConfirmStartMs > CONFIRM_TIMEOUT_MS) {
+                awaitingBulkDeleteConfirm = true;
+                bulkDeleteConfirmStartMs = now;
+                return;
+            }
+            awaitingBulkDeleteConfirm = false;
+            pathManager.deletePaths(pathListWidget.getSelectedIds());
+            pathListWidget.clearSelection();
+            updatePathList();
+        }).dimensions(x, y, 80, 20).build();
+        bulkButtons.add(bulkDeleteButton);
+        x += 84;
+        bulkButtons.add(ButtonWidget.builder(Text.of("Clear"), button -> {
+            pathListWidget.clearSelection();
+        }).dimensions(x, y, 50, 20).build());
+        x += 60;
+
+        folderField = new TextFieldWidget(this.textRenderer, x, y, 100, 20, Text.of("Folder"));
+        folderField.setMaxLength(32);
+        folderField.setPlaceholder(Text.literal("Folder").formatted(Formatting.DARK_GRAY));
+        this.addDrawableChild(folderField);
+        x += 104;
+        bulkButtons.add(ButtonWidget.builder(Text.of("Move"), button -> {
+            // An empty folder name takes the paths out of their folder
+            pathManager.setPathsFolder(pathListWidget.getSelectedIds(), folderField.getText());
+            updatePathList();
+        }).dimensions(x, y, 50, 20).build());
+
+        for (ButtonWidget button : bulkButtons) {
+            this.addDrawableChild(button);
+        }
+        refreshBulkBar();
+    }
+
+    private void refreshBulkBar() {
+        if (pathListWidget == null || folderField == null) {
+            return;
+        }
+        int count = pathListWidget.getSelectedIds().size();
+        boolean show = count > 0;
+        for (ButtonWidget button : bulkButtons) {
+            button.visible = show;
+        }
+        folderField.visible = show;
+        // Shared paths cannot be recolored or filed by their recipients
+        bulkColorButton.active = showingMyPaths;
+        folderField.active = showingMyPaths;
+        if (awaitingBulkDeleteConfirm && System.currentTimeMillis() - bulkDeleteConfirmStartMs > CONFIRM_TIMEOUT_MS) {
+            awaitingBulkDeleteConfirm = false;
+        }
+        String label = (awaitingBulkDeleteConfirm ? "Confirm (" : (showingMyPaths ? "Delete (" : "Remove (")) + count + ")";
+        if (!bulkDeleteButton.getMessage().getString().equals(label)) {
+            bulkDeleteButton.setMessage(Text.of(label));
+        }
+    }
+
     private void updatePathList() {
-        pathListWidget.clearEntries();
         List<PathData> paths = new ArrayList<>();
         if (showingMyPaths) {
             for (PathData path : pathManager.getMyPaths()) {
@@ -118,9 +226,13 @@ public class MainMenuScreen extends Screen {
                 }
             }
         }
+        searchIndex.rebuild(paths);
+        Set<java.util.UUID> listed = new HashSet<>();
         for (PathData path : paths) {
-            pathListWidget.addEntry(pathListWidget.new PathEntry(path, pathManager, showingMyPaths));
+            listed.add(path.getPathId());
         }
+        pathListWidget.retainSelection(listed);
+        applySearch();
         lastPathCount = paths.size();
         if (recordButton != null) {
             recordButton.setMessage(getRecordingText());
@@ -128,6 +240,14 @@ public class MainMenuScreen extends Screen {
         refreshTabState();
     }
 
+    /** Shows the indexed paths matching the search box; the index itself is only rebuilt by updatePathList. */
+    private void applySearch() {
+        if (pathListWidget == null) {
+            return;
+        }
+        pathListWidget.setPaths(searchIndex.search(searchQuery), pathManager, showingMyPaths);
+    }
+
     private void refreshTabState() {
         if (myPathsTab != null) {
             myPathsTab.active = !showingMyPaths;
@@ -154,7 +274,7 @@ public class MainMenuScreen extends Screen {
     @Override
     public void tick() {
         super.tick();
-        int currentCount = (showingMyPaths ? pathManager.getMyPaths().size() : pathManager.getSharedPaths().size());
+        int currentCount = (showingMyPaths ? pathManager.getMyPaths().size() : pathManager.getSharedPathCount());
         if (currentCount != lastPathCount) {
             updatePathList();
         }
@@ -165,6 +285,7 @@ public class MainMenuScreen extends Screen {
             }
         }
         refreshTabState();
+        refreshBulkBar();
     }
 
     @Override
@@ -177,7 +298,7 @@ public class MainMenuScreen extends Screen {
         // When the user is viewing the Shared With Me tab but sharing is not available
         if (!showingMyPaths) {
             boolean canShare = ClientPlayNetworking.canSend(SharePathRequestPayload.ID);
-            boolean hasShared = !pathManager.getSharedPaths().isEmpty();
+            boolean hasShared = pathManager.getSharedPathCount() > 0;
             if (!canShare && !hasShared) {
                 String[] lines = new String[] {
                     "Server-side plugin required",
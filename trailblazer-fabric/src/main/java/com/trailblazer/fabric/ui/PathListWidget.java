@@ -12,7 +12,13 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry> {
     private double targetScrollAmount = -1.0;
@@ -29,19 +35,31 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
     private static final int ROW_BG_HOVER      = 0x5A000000;
     private static final int SEPARATOR         = 0x40FFFFFF;
 
+    // Paths ticked for bulk actions; kept across list rebuilds for paths that are still listed
+    private final Set<UUID> selected = new LinkedHashSet<>();
+    private Map<UUID, PathEntry> entryCache = Map.of();
+
     public PathListWidget(MinecraftClient client, int width, int height, int top, int itemHeight) {
         super(client, width, height, top, Math.max(itemHeight, 36));
-        boolean disabledViaMethod = false;
+        disableVanillaBackground(this);
+    }
+
+    // Looked up once per game session; the menu recreates the widget on every resize and reopen
+    private static java.lang.reflect.Method renderBackgroundSetter;
+    private static java.lang.reflect.Field renderBackgroundField;
+    private static boolean reflectionResolved = false;
+
+    private static void resolveBackgroundHandles() {
+        reflectionResolved = true;
         try {
             Class<?> c = net.minecraft.client.gui.widget.ElementListWidget.class;
-            while (c != null && !disabledViaMethod) {
+            while (c != null && renderBackgroundSetter == null) {
                 for (java.lang.reflect.Method m : c.getDeclaredMethods()) {
                     if (m.getName().equals("setRenderBackground")
                             && m.getParameterCount() == 1
                             && m.getParameterTypes()[0] == boolean.class) {
                         m.setAccessible(true);
-                        m.invoke(this, false);
-                        disabledViaMethod = true;
+                        renderBackgroundSetter = m;
                         break;
                     }
                 }
@@ -49,16 +67,14 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
             }
         } catch (Throwable t) {
         }
-        if (!disabledViaMethod) {
+        if (renderBackgroundSetter == null) {
             try {
                 Class<?> c = net.minecraft.client.gui.widget.ElementListWidget.class;
-                boolean fieldSet = false;
-                while (c != null && !fieldSet) {
+                while (c != null && renderBackgroundField == null) {
                     for (java.lang.reflect.Field f : c.getDeclaredFields()) {
                         if (f.getType() == boolean.class && f.getName().equals("renderBackground")) {
                             f.setAccessible(true);
-                            f.setBoolean(this, false);
-                            fieldSet = true;
+                            renderBackgroundField = f;
                             break;
                         }
                     }
@@ -70,6 +86,21 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
         }
     }
 
+    private static void disableVanillaBackground(PathListWidget widget) {
+        if (!reflectionResolved) {
+            resolveBackgroundHandles();
+        }
+        try {
+            if (renderBackgroundSetter != null) {
+                renderBackgroundSetter.invoke(widget, false);
+            } else if (renderBackgroundField != null) {
+                renderBackgroundField.setBoolean(widget, false);
+            }
+        } catch (Throwable t) {
+            // Background disabling failed silently - not critical
+        }
+    }
+
     @Override
     protected void drawMenuListBackground(DrawContext context) {
         // Suppressed - using custom background rendering
@@ -170,16 +201,59 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
         return super.addEntry(entry);
     }
 
+    /**
+     * Replaces the listed paths. Entries of paths that were already listed with the same origin are reused,
+     * and new entries create their buttons only when first scrolled into view, so listing thousands of
+     * paths costs one lightweight object per row.
+     */
+    public void setPaths(List<PathData> paths, ClientPathManager pathManager, boolean myPaths) {
+        Map<UUID, PathEntry> previous = entryCache;
+        Map<UUID, PathEntry> next = new HashMap<>(paths.size() * 2);
+        List<PathEntry> entries = new ArrayList<>(paths.size());
+        for (PathData path : paths) {
+            PathEntry entry = previous.get(path.getPathId());
+            if (entry == null || !entry.canReuseFor(path, myPaths)) {
+                entry = new PathEntry(path, pathManager, myPaths);
+            }
+            next.put(path.getPathId(), entry);
+            entries.add(entry);
+        }
+        entryCache = next;
+        replaceEntries(entries);
+        if (targetScrollAmount > getMaxScrollY()) {
+            targetScrollAmount = getMaxScrollY();
+            scrollVelocity = 0.0;
+        }
+    }
+
+    public Set<UUID> getSelectedIds() {
+        return Set.copyOf(selected);
+    }
+
+    public void clearSelection() {
+        // Rows pick up the change on their next render
+        selected.clear();
+    }
+
+    /** Drops selected ids that are no longer listed, e.g. after a delete or a server sync. */
+    public void retainSelection(Set<UUID> listed) {
+        selected.retainAll(listed);
+    }
+
     public class PathEntry extends ElementListWidget.Entry<PathEntry> {
         private final PathData path;
         private final ClientPathManager pathManager;
         private final boolean isMyPath;
         private final PathOrigin origin;
-        private final ButtonWidget toggleButton;
-        private final ButtonWidget shareButton;
-    private final net.minecraft.text.Text shareDisabledTooltip;
-        private final ButtonWidget editButton;
-        private final ButtonWidget deleteButton;
+        // Created on first render or input, see ensureWidgets()
+        private ButtonWidget selectButton;
+        private ButtonWidget toggleButton;
+        private ButtonWidget shareButton;
+        private net.minecraft.text.Text shareDisabledTooltip;
+        private ButtonWidget editButton;
+        private ButtonWidget deleteButton;
+        private boolean shownVisible;
+        private boolean shownSelected;
         private boolean awaitingDeleteConfirm = false;
         private long deleteConfirmStartMs = 0L;
         private static final long CONFIRM_TIMEOUT_MS = 5000L;
@@ -189,6 +263,24 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
             this.pathManager = pathManager;
             this.isMyPath = isMyPath;
             this.origin = pathManager.getPathOrigin(path.getPathId());
+        }
+
+        private boolean canReuseFor(PathData other, boolean myPaths) {
+            return other == path && myPaths == isMyPath && pathManager.getPathOrigin(other.getPathId()) == origin;
+        }
+
+        private void ensureWidgets() {
+            if (toggleButton != null) {
+                return;
+            }
+            this.shownVisible = pathManager.isPathVisible(path.getPathId());
+            this.shownSelected = selected.contains(path.getPathId());
+            this.selectButton = ButtonWidget.builder(getSelectText(), button -> {
+                if (!selected.remove(path.getPathId())) {
+                    selected.add(path.getPathId());
+                }
+                button.setMessage(getSelectText());
+            }).build();
 
             this.toggleButton = ButtonWidget.builder(getToggleButtonText(), button -> {
                 pathManager.togglePathVisibility(path.getPathId());
@@ -260,6 +352,18 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
             // The entry's actual position is managed by EntryListWidget via getX/getY/getWidth/getHeight.
 
             tickDelta = PathListWidget.this.lastTickDelta;
+            ensureWidgets();
+            // Reused rows may have been changed by bulk actions or commands since they were last drawn
+            boolean visibleNow = pathManager.isPathVisible(path.getPathId());
+            if (visibleNow != shownVisible) {
+                shownVisible = visibleNow;
+                toggleButton.setMessage(getToggleButtonText());
+            }
+            boolean selectedNow = selected.contains(path.getPathId());
+            if (selectedNow != shownSelected) {
+                shownSelected = selectedNow;
+                selectButton.setMessage(getSelectText());
+            }
 
             int rowLeft = this.getX();
             int rowTop = this.getY();
@@ -281,6 +385,10 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
             final int textBaselineY = rowTop + topPadding + 5;
             int baseX = bgLeft + 4;
 
+            selectButton.setX(baseX); selectButton.setY(rowTop + buttonYOffset); selectButton.setWidth(18); selectButton.setHeight(18);
+            selectButton.render(context, mouseX, mouseY, tickDelta);
+            baseX += 22;
+
             if (origin != null) {
                 int badgeColor = path.getColorArgb();
                 context.fill(baseX, textBaselineY - 1, baseX + 8, textBaselineY - 1 + 8, badgeColor);
@@ -296,7 +404,7 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
             int buttonAreaWidth = isMyPath ? (buttonSpacing * 4) : (buttonSpacing * 2);
             int availableTextWidth = (bgRight - bgLeft) - (baseX - bgLeft) - buttonAreaWidth - 8;
             var textRenderer = MinecraftClient.getInstance().textRenderer;
-            String displayName = path.getPathName();
+            String displayName = path.getFolder() != null ? path.getFolder() + " / " + path.getPathName() : path.getPathName();
             if (textRenderer.getWidth(displayName) > availableTextWidth) {
                 displayName = textRenderer.trimToWidth(displayName, availableTextWidth - textRenderer.getWidth("...")) + "...";
             }
@@ -364,6 +472,12 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
             }
         }
 
+        private Text getSelectText() {
+            return selected.contains(path.getPathId())
+                    ? Text.literal("x").formatted(Formatting.GREEN)
+                    : Text.literal(" ");
+        }
+
         private Text getToggleButtonText() {
             boolean isVisible = pathManager.isPathVisible(path.getPathId());
             return Text.of("Toggle: " + (isVisible ? "ON" : "OFF"))
@@ -373,18 +487,20 @@ public class PathListWidget extends ElementListWidget<PathListWidget.PathEntry>
 
         @Override
         public List<? extends net.minecraft.client.gui.Element> children() {
+            ensureWidgets();
             if (isMyPath) {
-                return List.of(toggleButton, shareButton, editButton, deleteButton);
+                return List.of(selectButton, toggleButton, shareButton, editButton, deleteButton);
             }
-            return List.of(toggleButton, deleteButton);
+            return List.of(selectButton, toggleButton, deleteButton);
         }
 
         @Override
         public List<? extends net.minecraft.client.gui.Selectable> selectableChildren() {
+            ensureWidgets();
             if (isMyPath) {
-                return List.of(toggleButton, shareButton, editButton, deleteButton);
+                return List.of(selectButton, toggleButton, shareButton, editButton, deleteButton);
             }
-            return List.of(toggleButton, deleteButton);
+            return List.of(selectButton, toggleButton, deleteButton);
         }
 
         private Text getOriginTooltipText() {
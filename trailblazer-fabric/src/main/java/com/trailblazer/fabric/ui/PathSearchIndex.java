@@ -0,0 +1,88 @@
+package com.trailblazer.fabric.ui;
+
+import com.trailblazer.api.PathData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search keys for the paths listed in the main menu, sorted by name.
+ * <p>
+ * Keys are lower-cased once per rebuild, not per keystroke. A query matches when every whitespace-separated
+ * term occurs in the path's name, folder or owner. Typing more characters narrows the previous result instead
+ * of scanning all paths again, so filtering stays instant with tens of thousands of paths.
+ */
+final class PathSearchIndex {
+
+    private record Key(PathData path, String text) {}
+
+    private List<Key> all = List.of();
+    private String lastQuery = "";
+    private List<Key> lastResult = List.of();
+
+    void rebuild(Collection<PathData> paths) {
+        List<Key> keys = new ArrayList<>(paths.size());
+        for (PathData path : paths) {
+            keys.add(new Key(path, searchText(path)));
+        }
+        keys.sort(Comparator.comparing((Key k) -> k.path().getPathName(), String.CASE_INSENSITIVE_ORDER));
+        this.all = keys;
+        this.lastQuery = "";
+        this.lastResult = keys;
+    }
+
+    List<PathData> search(String query) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        // A longer query can only match a subset of what the shorter one matched
+        List<Key> candidates = !lastQuery.isEmpty() && normalized.startsWith(lastQuery) ? lastResult : all;
+        List<Key> result;
+        if (normalized.isEmpty()) {
+            result = all;
+        } else {
+            String[] terms = normalized.split("\\s+");
+            result = new ArrayList<>();
+            for (Key key : candidates) {
+                if (matches(key.text(), terms)) {
+                    result.add(key);
+                }
+            }
+        }
+        lastQuery = normalized;
+        lastResult = result;
+        List<PathData> paths = new ArrayList<>(result.size());
+        for (Key key : result) {
+            paths.add(key.path());
+        }
+        return paths;
+    }
+
+    int size() {
+        return all.size();
+    }
+
+    private static boolean matches(String text, String[] terms) {
+        for (String term : terms) {
+            if (!text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String searchText(PathData path) {
+        StringBuilder sb = new StringBuilder(path.getPathName());
+        if (path.getFolder() != null) {
+            sb.append('\n').append(path.getFolder());
+        }
+        if (path.getOwnerName() != null) {
+            sb.append('\n').append(path.getOwnerName());
+        }
+        if (path.getOriginOwnerName() != null) {
+            sb.append('\n').append(path.getOriginOwnerName());
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
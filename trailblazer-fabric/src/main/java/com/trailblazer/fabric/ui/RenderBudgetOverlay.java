@@ -0,0 +1,26 @@
+package com.trailblazer.fabric.ui;
+
+import com.trailblazer.fabric.rendering.PathRenderer;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.render.RenderTickCounter;
+import net.minecraft.text.Text;
+
+/** HUD hint shown while the path vertex budget keeps far-away path sections from being drawn. */
+public class RenderBudgetOverlay implements HudRenderCallback {
+    private final PathRenderer pathRenderer;
+    public RenderBudgetOverlay(PathRenderer pathRenderer) { this.pathRenderer = pathRenderer; }
+
+    @Override
+    public void onHudRender(DrawContext context, RenderTickCounter tickCounter) {
+        int skipped = pathRenderer.getLastSkippedSections();
+        if (skipped <= 0) return;
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null || client.options.hudHidden) return;
+        String label = "Trailblazer: " + skipped + " distant path section(s) hidden (vertex budget "
+                + pathRenderer.getLastVertexBudget() + ")";
+        int y = client.getWindow().getScaledHeight() - 2 * client.textRenderer.fontHeight - 8;
+        context.drawTextWithShadow(client.textRenderer, Text.literal(label), 8, y, 0xFFFFCC55);
+    }
+}
@@ -1,7 +1,9 @@
 package com.trailblazer.fabric.ui;
 
 import com.trailblazer.fabric.RenderSettingsManager;
+import com.trailblazer.fabric.config.TrailblazerClientConfig;
 import com.trailblazer.fabric.rendering.RenderMode;
+import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.option.ControlsOptionsScreen;
 import net.minecraft.client.gui.widget.ButtonWidget;
@@ -10,11 +12,13 @@ import net.minecraft.text.Text;
 
 public class SettingsScreen extends Screen {
     private final RenderSettingsManager renderSettingsManager;
+    private final TrailblazerClientConfig config;
     private final Screen parent;
 
-    public SettingsScreen(RenderSettingsManager renderSettingsManager, Screen parent) {
+    public SettingsScreen(RenderSettingsManager renderSettingsManager, TrailblazerClientConfig config, Screen parent) {
         super(Text.of("Trailblazer Settings"));
         this.renderSettingsManager = renderSettingsManager;
+        this.config = config;
         this.parent = parent;
     }
 
@@ -35,11 +39,18 @@ public class SettingsScreen extends Screen {
         }).dimensions(buttonX, buttonY, buttonWidth, buttonHeight).build();
         this.addDrawableChild(renderModeButton);
 
+        // Renderer, autosave and recording read the profile as they go, so the change applies at once
+        this.addDrawableChild(ButtonWidget.builder(profileLabel(), button -> {
+            config.setProfile(config.profile().next());
+            config.save(FabricLoader.getInstance().getConfigDir());
+            button.setMessage(profileLabel());
+        }).dimensions(buttonX, buttonY + 30, buttonWidth, buttonHeight).build());
+
         this.addDrawableChild(ButtonWidget.builder(Text.of("Configure Keybindings"), button -> {
             if (this.client != null) {
                 this.client.setScreen(new ControlsOptionsScreen(this.parent, this.client.options));
             }
-        }).dimensions(buttonX, buttonY + 30, buttonWidth, buttonHeight).build());
+        }).dimensions(buttonX, buttonY + 60, buttonWidth, buttonHeight).build());
 
         this.addDrawableChild(ButtonWidget.builder(Text.of("Back"), button -> {
             this.client.setScreen(parent);
@@ -50,6 +61,10 @@ public class SettingsScreen extends Screen {
         return Text.of("Render Mode: " + renderSettingsManager.getRenderMode().getDisplayText().getString());
     }
 
+    private Text profileLabel() {
+        return Text.of("Performance: " + config.profile().displayName());
+    }
+
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
         // Avoid calling renderBackground explicitly; base Screen handles blur.
@@ -0,0 +1,125 @@
+package com.trailblazer.fabric.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
+import com.trailblazer.api.Vector3d;
+
+public class PathPersistenceManagerTest {
+
+    private static final Gson GSON = PathJson.gson();
+
+    @TempDir
+    Path worldDir;
+
+    @Test
+    void recoverJournal_shouldCreateMissingPathFile() throws IOException {
+        UUID pathId = UUID.randomUUID();
+        Path journalFile = writeJournal(pathId, "Recorded", points(3));
+
+        PathPersistenceManager.recoverJournal(worldDir, journalFile);
+
+        JsonObject saved = readPathFile(pathId);
+        assertEquals("Recorded", saved.get("name").getAsString());
+        assertEquals(points(3), pointsOf(saved));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void recoverJournal_shouldPreferJournalWithMorePoints() throws IOException {
+        UUID pathId = UUID.randomUUID();
+        writePathFile(pathId, "Saved", points(2));
+        Path journalFile = writeJournal(pathId, "Recorded", points(5));
+
+        PathPersistenceManager.recoverJournal(worldDir, journalFile);
+
+        JsonObject saved = readPathFile(pathId);
+        // The metadata of the saved file is kept, only its points are replaced
+        assertEquals("Saved", saved.get("name").getAsString());
+        assertEquals(points(5), pointsOf(saved));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void recoverJournal_shouldKeepFileSavedAfterLastFlush() throws IOException {
+        UUID pathId = UUID.randomUUID();
+        writePathFile(pathId, "Saved", points(4));
+        Path journalFile = writeJournal(pathId, "Recorded", points(3));
+
+        PathPersistenceManager.recoverJournal(worldDir, journalFile);
+
+        JsonObject saved = readPathFile(pathId);
+        assertEquals("Saved", saved.get("name").getAsString());
+        assertEquals(points(4), pointsOf(saved));
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void markDirty_shouldRewriteJournalHeaderOfRenamedRecording() throws IOException {
+        PathPersistenceManager persistence = new PathPersistenceManager(null, null);
+        persistence.setWorldDirectory(worldDir);
+        UUID pathId = UUID.randomUUID();
+        PathData recording = new PathData(pathId, "Before", UUID.randomUUID(), "Player", 0L, "minecraft:overworld", new ArrayList<>(points(2)));
+        persistence.startJournal(recording);
+        persistence.flushJournal();
+
+        recording.setPathName("After");
+        recording.getPoints().add(new Vector3d(9, 9, 9));
+        persistence.markDirty(pathId);
+        persistence.flushJournal();
+
+        Path journalFile = worldDir.resolve("trailblazer").resolve("paths").resolve(pathId + ".journal");
+        RecordingJournal.Contents contents = RecordingJournal.read(journalFile);
+        assertEquals("After", GSON.fromJson(contents.headerJson(), JsonObject.class).get("name").getAsString());
+        assertEquals(recording.getPoints(), contents.points());
+        persistence.finishJournal(false);
+    }
+
+    private Path writeJournal(UUID pathId, String name, List<Vector3d> points) throws IOException {
+        JsonObject header = new JsonObject();
+        header.addProperty("pathId", pathId.toString());
+        header.addProperty("name", name);
+        Path file = worldDir.resolve(pathId + ".journal");
+        try (RecordingJournal journal = RecordingJournal.create(file, GSON.toJson(header))) {
+            journal.append(points);
+        }
+        return file;
+    }
+
+    private void writePathFile(UUID pathId, String name, List<Vector3d> points) throws IOException {
+        JsonObject rec = new JsonObject();
+        rec.addProperty("pathId", pathId.toString());
+        rec.addProperty("name", name);
+        rec.add("points", GSON.toJsonTree(points, PathJson.POINT_LIST_TYPE));
+        Files.writeString(worldDir.resolve(pathId + ".json"), GSON.toJson(rec));
+    }
+
+    private JsonObject readPathFile(UUID pathId) throws IOException {
+        return GSON.fromJson(Files.readString(worldDir.resolve(pathId + ".json")), JsonObject.class);
+    }
+
+    private static List<Vector3d> pointsOf(JsonObject rec) {
+        return GSON.fromJson(rec.get("points"), PathJson.POINT_LIST_TYPE);
+    }
+
+    private static List<Vector3d> points(int count) {
+        List<Vector3d> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(new Vector3d(i, 64, -i));
+        }
+        return points;
+    }
+}
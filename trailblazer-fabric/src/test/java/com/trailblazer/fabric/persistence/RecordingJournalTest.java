@@ -0,0 +1,76 @@
+package com.trailblazer.fabric.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.trailblazer.api.Vector3d;
+
+public class RecordingJournalTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void read_shouldReturnHeaderAndAppendedPoints() throws IOException {
+        Path file = folder.resolve("path.journal");
+        List<Vector3d> points = new ArrayList<>(List.of(new Vector3d(1, 2, 3), new Vector3d(4, 5, 6)));
+        try (RecordingJournal journal = RecordingJournal.create(file, "{\"name\":\"Trail\"}")) {
+            journal.append(points);
+            points.add(new Vector3d(7, 8, 9));
+            // Only the new point is written the second time
+            journal.append(points);
+        }
+
+        RecordingJournal.Contents contents = RecordingJournal.read(file);
+        assertEquals("{\"name\":\"Trail\"}", contents.headerJson());
+        assertEquals(points, contents.points());
+    }
+
+    @Test
+    void read_shouldIgnoreTornFinalRecord() throws IOException {
+        Path file = folder.resolve("path.journal");
+        List<Vector3d> points = List.of(new Vector3d(1, 2, 3), new Vector3d(4, 5, 6), new Vector3d(7, 8, 9));
+        try (RecordingJournal journal = RecordingJournal.create(file, "{}")) {
+            journal.append(points);
+        }
+        // A crash in the middle of writing the last point
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 5);
+        }
+
+        RecordingJournal.Contents contents = RecordingJournal.read(file);
+        assertEquals("{}", contents.headerJson());
+        assertEquals(points.subList(0, 2), contents.points());
+    }
+
+    @Test
+    void rewrite_shouldReplaceHeaderAndPoints() throws IOException {
+        Path file = folder.resolve("path.journal");
+        try (RecordingJournal journal = RecordingJournal.create(file, "{\"name\":\"Before\"}")) {
+            journal.append(List.of(new Vector3d(1, 1, 1), new Vector3d(2, 2, 2)));
+            journal.rewrite("{\"name\":\"After\"}", List.of(new Vector3d(3, 3, 3)));
+            journal.append(List.of(new Vector3d(3, 3, 3), new Vector3d(4, 4, 4)));
+        }
+
+        RecordingJournal.Contents contents = RecordingJournal.read(file);
+        assertEquals("{\"name\":\"After\"}", contents.headerJson());
+        assertEquals(List.of(new Vector3d(3, 3, 3), new Vector3d(4, 4, 4)), contents.points());
+    }
+
+    @Test
+    void read_shouldRejectForeignFile() throws IOException {
+        Path file = folder.resolve("path.journal");
+        Files.writeString(file, "{\"pathId\":null}");
+
+        assertThrows(IOException.class, () -> RecordingJournal.read(file));
+    }
+}
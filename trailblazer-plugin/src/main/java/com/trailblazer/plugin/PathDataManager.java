@@ -1,23 +1,47 @@
 package com.trailblazer.plugin;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.trailblazer.api.PathColors;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 import com.trailblazer.api.Vector3d;
 import com.trailblazer.api.PathNameSanitizer;
+import com.trailblazer.plugin.storage.PathBodyCache;
+import com.trailblazer.plugin.storage.PointBlobStore;
+import com.trailblazer.plugin.storage.RecordStore;
+import com.trailblazer.plugin.storage.SqliteBackend;
+import com.trailblazer.plugin.storage.StorageBackend;
 
 public class PathDataManager {
 
@@ -26,12 +50,122 @@ public class PathDataManager {
     private final AtomicInteger nextServerPathNumber = new AtomicInteger(1);
     public static final int MAX_POINTS_PER_PATH = 5000;
 
+    // Summary fields stored next to the blob reference, so listings never need to read the points
+    private static final String POINT_COUNT_FIELD = "pointCount";
+    private static final String START_FIELD = "start";
+    private static final String END_FIELD = "end";
+
+    /** Upper bound on files written concurrently by batch operations. */
+    private static final int BATCH_WRITE_PARALLELISM = 4;
+    private final ExecutorService batchWriteExecutor;
+
+    /** Default heap budget of {@link #bodyCache}, overridable via {@code storage.path-cache-megabytes}. */
+    private static final int DEFAULT_PATH_CACHE_MEGABYTES = 64;
+    private final PathBodyCache bodyCache;
+
+    private static final int DEFAULT_LOG_SEGMENT_MEGABYTES = 16;
+    private final ExecutorService compactionExecutor;
+    /** The backend selected by {@code storage.engine}. */
+    private final StorageBackend backend;
+    /** The remaining backends, checked for records to move over when a world is first opened. */
+    private final List<StorageBackend> otherBackends;
+    /** Per world, memoized so the store is opened (and migrated) once, outside the map's own locking. */
+    private final ConcurrentHashMap<UUID, CompletableFuture<RecordStore>> recordStores = new ConcurrentHashMap<>();
+
     public PathDataManager(TrailblazerPlugin plugin) {
         this.basePathsFolder = new File(plugin.getDataFolder(), "paths");
         if (!this.basePathsFolder.exists() && !this.basePathsFolder.mkdirs()) {
             TrailblazerPlugin.getPluginLogger().severe("Could not create data folder!");
         }
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.gson = PathJson.gson();
+        AtomicInteger threadIndex = new AtomicInteger(1);
+        this.batchWriteExecutor = Executors.newFixedThreadPool(BATCH_WRITE_PARALLELISM, r -> {
+            Thread t = new Thread(r, "Trailblazer-BatchWrite-" + threadIndex.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        int cacheMegabytes = plugin.getConfig().getInt("storage.path-cache-megabytes", DEFAULT_PATH_CACHE_MEGABYTES);
+        this.bodyCache = new PathBodyCache(Math.max(0, cacheMegabytes) * 1024L * 1024L);
+        this.compactionExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Trailblazer-LogCompaction");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        int segmentMegabytes = plugin.getConfig().getInt("storage.log.segment-megabytes", DEFAULT_LOG_SEGMENT_MEGABYTES);
+        List<StorageBackend> backends = List.of(
+                StorageBackend.files(),
+                StorageBackend.log(Math.max(1, segmentMegabytes) * 1024L * 1024L, compactionExecutor),
+                new SqliteBackend(new File(basePathsFolder, "paths.db")));
+        this.backend = selectBackend(backends, plugin.getConfig().getString("storage.engine", "files"));
+        this.otherBackends = backends.stream().filter(b -> b != backend).toList();
+        TrailblazerPlugin.getPluginLogger().info("Path storage engine: " + backend.id());
+    }
+
+    /** Resolves {@code storage.engine}, falling back to one file per path if the choice is unknown or unusable. */
+    private static StorageBackend selectBackend(List<StorageBackend> backends, String configured) {
+        String id = StorageBackend.normalize(configured);
+        StorageBackend selected = backends.stream().filter(b -> b.id().equals(id)).findFirst().orElse(null);
+        if (selected == null) {
+            TrailblazerPlugin.getPluginLogger().warning("Unknown storage.engine '" + configured + "', using files");
+            return backends.get(0);
+        }
+        if (selected instanceof SqliteBackend sqlite) {
+            try {
+                sqlite.connect();
+            } catch (IOException e) {
+                TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "SQLite storage is unavailable, using files", e);
+                return backends.get(0);
+            }
+        }
+        return selected;
+    }
+
+    /** Stops the batch writer pool and closes the record stores. Pending writes are allowed to finish. */
+    public void shutdown() {
+        batchWriteExecutor.shutdown();
+        compactionExecutor.shutdown();
+        try {
+            batchWriteExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            compactionExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Map.Entry<UUID, CompletableFuture<RecordStore>> entry : recordStores.entrySet()) {
+            CompletableFuture<RecordStore> opened = entry.getValue();
+            if (!opened.isDone() || opened.isCompletedExceptionally()) {
+                continue;
+            }
+            try {
+                opened.join().close();
+            } catch (IOException e) {
+                TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to close path storage of world " + entry.getKey(), e);
+            }
+        }
+        recordStores.clear();
+        blobStores.clear();
+        for (StorageBackend b : otherBackends) {
+            closeBackend(b);
+        }
+        closeBackend(backend);
+        TrailblazerPlugin.getPluginLogger().info("Trailblazer path cache stats: " + bodyCache.metrics());
+    }
+
+    private static void closeBackend(StorageBackend b) {
+        try {
+            b.close();
+        } catch (IOException e) {
+            TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to close " + b.id() + " path storage", e);
+        }
+    }
+
+    public PathBodyCache.Metrics cacheMetrics() {
+        return bodyCache.metrics();
+    }
+
+    /** Releases the cached path bodies of a world that is no longer loaded. */
+    public void onWorldUnload(UUID worldUid) {
+        bodyCache.invalidateWorld(worldUid);
     }
 
     // Per-path locks so concurrent operations on different paths do not contend.
@@ -42,80 +176,471 @@ public class PathDataManager {
     // for the same recipient + origin path combination can proceed at a time.
     private final ConcurrentHashMap<String, ReentrantLock> sharingLocks = new ConcurrentHashMap<>();
 
+    // Geometry is stored once per world as content-addressed blobs; path records only reference them.
+    // Filled by records() together with the world's record store.
+    private final ConcurrentHashMap<UUID, PointBlobStore> blobStores = new ConcurrentHashMap<>();
+
+    // Single-flight world scans. A world's generation advances after every write, so a scan is only
+    // shared with callers that could not have observed a newer state of the folder.
+    private final ConcurrentHashMap<UUID, WorldScan> inflightScans = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, AtomicLong> writeGenerations = new ConcurrentHashMap<>();
+    /** Upper bound on world folders scanned at once, so join storms across worlds cannot saturate the disk. */
+    private static final int MAX_CONCURRENT_SCANS = 2;
+    private final Semaphore scanPermits = new Semaphore(MAX_CONCURRENT_SCANS, true);
+
     public void savePath(UUID worldUid, PathData path) {
         if (path == null || path.getPathId() == null) {
             throw new IllegalArgumentException("Path and pathId must not be null");
         }
-        File worldFolder = resolveWorldFolder(worldUid);
-        File pathFile = new File(worldFolder, path.getPathId().toString() + ".json");
         ReentrantLock lock = acquireLock(path.getPathId());
         try {
-            try (FileWriter writer = new FileWriter(pathFile)) {
-                gson.toJson(path, writer);
+            RecordStore records = records(worldUid);
+            PointBlobStore blobs = blobStore(worldUid);
+            JsonObject previous = records.read(path.getPathId());
+            String previousRef = previous != null ? PointBlobStore.refOf(previous) : null;
+            // Every save is a new revision, so clients can tell which paths changed since they last synced
+            long previousVersion = previous != null ? versionOf(previous) : 0L;
+            path.setVersion(Math.max(path.getVersion(), previousVersion) + 1);
+            String ref = blobs.retain(path.getPoints());
+            try {
+                records.write(path.getPathId(), recordBody(path, ref));
+            } catch (IOException e) {
+                blobs.release(ref);
+                throw e;
             }
+            writeGeneration(worldUid).incrementAndGet();
+            blobs.release(previousRef);
+            // Write-through: the next read of this path is served from memory
+            bodyCache.put(worldUid, path);
         } catch (IOException e) {
+            bodyCache.invalidate(worldUid, path.getPathId());
             TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to save path " + path.getPathName(), e);
         } finally {
             releaseLock(path.getPathId(), lock);
         }
     }
 
+    /**
+     * Streams a record straight to storage: the path's fields, then the blob reference and summary. The index
+     * keys are handed over from the path itself.
+     */
+    private static RecordStore.RecordBody recordBody(PathData path, String ref) {
+        RecordStore.Keys keys = new RecordStore.Keys(path.getOwnerUUID(), path.getPathName(), path.getOriginPathId());
+        return RecordStore.RecordBody.withKeys(keys, writer -> {
+            List<Vector3d> points = path.getPoints();
+            writer.beginObject();
+            PathJson.writeFields(writer, path, false);
+            writer.name(PointBlobStore.REF_FIELD).value(ref);
+            writer.name(POINT_COUNT_FIELD).value(points.size());
+            if (!points.isEmpty()) {
+                writer.name(START_FIELD);
+                PathJson.POINT.write(writer, points.get(0));
+                writer.name(END_FIELD);
+                PathJson.POINT.write(writer, points.get(points.size() - 1));
+            }
+            writer.endObject();
+        });
+    }
+
+    /**
+     * Saves several paths with one {@link RecordStore#writeAll} call, i.e. one transaction on an indexed store.
+     * Same steps as {@link #savePath}, with every path's lock held until the batch is written.
+     */
+    private void saveBatch(UUID worldUid, List<PathData> paths) {
+        // Locks are taken in id order so two batches can never deadlock against each other
+        List<PathData> ordered = paths.stream().sorted(Comparator.comparing(PathData::getPathId)).toList();
+        List<ReentrantLock> locks = new ArrayList<>(ordered.size());
+        for (PathData path : ordered) {
+            locks.add(acquireLock(path.getPathId()));
+        }
+        PointBlobStore blobs = null;
+        List<String> retained = new ArrayList<>();
+        try {
+            RecordStore records = records(worldUid);
+            blobs = blobStore(worldUid);
+            List<String> previousRefs = new ArrayList<>();
+            Map<UUID, RecordStore.RecordBody> bodies = new LinkedHashMap<>();
+            for (PathData path : ordered) {
+                JsonObject previous = records.read(path.getPathId());
+                previousRefs.add(previous != null ? PointBlobStore.refOf(previous) : null);
+                long previousVersion = previous != null ? versionOf(previous) : 0L;
+                path.setVersion(Math.max(path.getVersion(), previousVersion) + 1);
+                String ref = blobs.retain(path.getPoints());
+                retained.add(ref);
+                bodies.put(path.getPathId(), recordBody(path, ref));
+            }
+            records.writeAll(bodies);
+            writeGeneration(worldUid).incrementAndGet();
+            for (String previousRef : previousRefs) {
+                blobs.release(previousRef);
+            }
+            for (PathData path : ordered) {
+                bodyCache.put(worldUid, path);
+            }
+        } catch (IOException e) {
+            if (blobs != null) {
+                for (String ref : retained) {
+                    blobs.release(ref);
+                }
+            }
+            for (PathData path : ordered) {
+                bodyCache.invalidate(worldUid, path.getPathId());
+            }
+            TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to save a batch of " + ordered.size() + " paths", e);
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                releaseLock(ordered.get(i).getPathId(), locks.get(i));
+            }
+        }
+    }
+
     public String getNextServerPathName() {
         int current = nextServerPathNumber.getAndIncrement();
         return "Path-" + current;
     }
 
     public List<PathData> loadPaths(UUID worldUid, UUID playerUUID) {
-        List<PathData> playerPaths = new ArrayList<>();
-        File worldFolder = resolveWorldFolder(worldUid);
-        File[] pathFiles = worldFolder.listFiles((dir, name) -> name.endsWith(".json"));
-        if (pathFiles == null) {
-            return playerPaths;
+        return loadPathsForOwners(worldUid, Set.of(playerUUID)).getOrDefault(playerUUID, new ArrayList<>());
+    }
+
+    /**
+     * Loads the paths of several owners with a single scan of the world folder, or a single owner index
+     * query on an indexed store. Owners without any paths are absent from the returned map.
+     * <p>
+     * Concurrent loads of the same world share one scan (see {@link #scanWorld(UUID)}); only the
+     * requested owners' records are then turned into {@link PathData} with their geometry.
+     */
+    public Map<UUID, List<PathData>> loadPathsForOwners(UUID worldUid, Set<UUID> ownerUUIDs) {
+        Map<UUID, List<PathData>> byOwner = new HashMap<>();
+        if (ownerUUIDs.isEmpty()) {
+            return byOwner;
+        }
+        for (ScannedRecord scanned : recordsOwnedBy(worldUid, ownerUUIDs)) {
+            ReentrantLock lock = acquireLock(scanned.pathId());
+            try {
+                PathData pathData = loadOwnedRecord(worldUid, scanned);
+                if (pathData != null) {
+                    byOwner.computeIfAbsent(pathData.getOwnerUUID(), k -> new ArrayList<>()).add(pathData);
+                }
+            } catch (IOException e) {
+                TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to load a path file for " + ownerUUIDs + ": " + scanned.pathId(), e);
+            } finally {
+                releaseLock(scanned.pathId(), lock);
+            }
         }
+        return byOwner;
+    }
 
-        for (File pathFile : pathFiles) {
-            UUID pathId = extractPathId(pathFile.getName());
-            if (pathId == null) {
-                TrailblazerPlugin.getPluginLogger().warning("Skipping path file with invalid name: " + pathFile.getName());
+    /**
+     * Lists an owner's paths in a world without loading their points.
+     * <p>
+     * Uses the same shared scan as {@link #loadPathsForOwners}, but only reads record fields. Records
+     * written before summary fields were stored take their point count and endpoints from the geometry
+     * until they are next saved.
+     *
+     * @param filter optional, applied to each summary
+     */
+    public List<PathSummary> listSummaries(UUID worldUid, UUID ownerUUID, Predicate<PathSummary> filter) {
+        return listSummariesForOwners(worldUid, Set.of(ownerUUID), filter).getOrDefault(ownerUUID, new ArrayList<>());
+    }
+
+    /** Summaries of several owners' paths from a single scan. Owners without any paths are absent. */
+    public Map<UUID, List<PathSummary>> listSummariesForOwners(UUID worldUid, Set<UUID> ownerUUIDs, Predicate<PathSummary> filter) {
+        Map<UUID, List<PathSummary>> byOwner = new HashMap<>();
+        if (ownerUUIDs.isEmpty()) {
+            return byOwner;
+        }
+        for (ScannedRecord scanned : recordsOwnedBy(worldUid, ownerUUIDs)) {
+            PathSummary summary = summarize(worldUid, scanned);
+            if (summary == null) {
+                TrailblazerPlugin.getPluginLogger().warning("Skipping invalid path data file: " + scanned.pathId() + ".json");
                 continue;
             }
+            if (filter == null || filter.test(summary)) {
+                byOwner.computeIfAbsent(summary.ownerUUID(), k -> new ArrayList<>()).add(summary);
+            }
+        }
+        return byOwner;
+    }
 
-            ReentrantLock lock = acquireLock(pathId);
-            try (FileReader reader = new FileReader(pathFile)) {
-                PathData pathData = gson.fromJson(reader, PathData.class);
-                if (pathData == null || !isValidPathData(pathData)) {
-                    TrailblazerPlugin.getPluginLogger().warning("Skipping invalid path data file: " + pathFile.getName());
+    /**
+     * Finds one of an owner's paths by name, ignoring case, like {@link PathSummary#findByName} over
+     * {@link #listSummaries} but answered from the name index when the store has one.
+     *
+     * @param filter optional, applied to each candidate
+     */
+    public Optional<PathSummary> findSummaryByName(UUID worldUid, UUID ownerUUID, String name, Predicate<PathSummary> filter) {
+        RecordStore store = records(worldUid);
+        if (!store.isIndexed()) {
+            return PathSummary.findByName(listSummaries(worldUid, ownerUUID, filter), name);
+        }
+        List<PathSummary> candidates = new ArrayList<>();
+        try {
+            for (UUID pathId : store.idsNamed(ownerUUID, name)) {
+                JsonObject json = store.read(pathId);
+                if (json == null || !ownerUUID.equals(parseOwner(json))) {
                     continue;
                 }
+                PathSummary summary = summarize(worldUid, new ScannedRecord(pathId, ownerUUID, json));
+                if (summary != null && (filter == null || filter.test(summary))) {
+                    candidates.add(summary);
+                }
+            }
+        } catch (IOException e) {
+            TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to look up path '" + name + "' of " + ownerUUID, e);
+            return Optional.empty();
+        }
+        return PathSummary.findByName(candidates, name);
+    }
+
+    /**
+     * Loads one path with its points, typically after picking it from {@link #listSummaries}.
+     *
+     * @return the path, or empty if it does not exist (anymore) or belongs to someone else
+     */
+    public Optional<PathData> loadPath(UUID worldUid, UUID ownerUUID, UUID pathId) {
+        ReentrantLock lock = acquireLock(pathId);
+        try {
+            JsonObject json = records(worldUid).read(pathId);
+            UUID owner = json != null ? parseOwner(json) : null;
+            if (owner == null || !owner.equals(ownerUUID)) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(loadOwnedRecord(worldUid, new ScannedRecord(pathId, owner, json)));
+        } catch (IOException e) {
+            TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to load path " + pathId, e);
+            return Optional.empty();
+        } finally {
+            releaseLock(pathId, lock);
+        }
+    }
+
+    /**
+     * Projects a scanned record onto a {@link PathSummary}, applying the same defaults as
+     * {@link #normalizeLoadedPath}. Does not modify the shared JSON.
+     *
+     * @return the summary, or null if the record is invalid or its geometry is missing
+     */
+    private PathSummary summarize(UUID worldUid, ScannedRecord scanned) {
+        JsonObject json = scanned.json();
+        try {
+            UUID pathId = scanned.pathId();
+            String ownerName = stringOf(json, "ownerName");
+            if (ownerName == null || ownerName.isBlank()) {
+                ownerName = "Player";
+            }
+            String dimension = stringOf(json, "dimension");
+            if (dimension == null || dimension.isBlank()) {
+                dimension = "minecraft:overworld";
+            }
+            int color = json.get("colorArgb") instanceof JsonPrimitive c && c.isNumber() ? c.getAsInt() : 0;
+            if (color == 0) {
+                color = PathColors.assignColorFor(pathId);
+            }
+            String origin = stringOf(json, "originPathId");
+            UUID originPathId = origin != null ? UUID.fromString(origin) : pathId;
+
+            int pointCount;
+            Vector3d start;
+            Vector3d end;
+            if (json.get(POINT_COUNT_FIELD) instanceof JsonPrimitive count && count.isNumber()) {
+                pointCount = count.getAsInt();
+                start = json.has(START_FIELD) ? gson.fromJson(json.get(START_FIELD), Vector3d.class) : null;
+                end = json.has(END_FIELD) ? gson.fromJson(json.get(END_FIELD), Vector3d.class) : null;
+            } else {
+                String ref = PointBlobStore.refOf(json);
+                List<Vector3d> points;
+                if (ref != null) {
+                    points = blobStore(worldUid).read(ref);
+                } else if (json.get("points") instanceof JsonArray inline) {
+                    points = PathJson.POINTS.fromJsonTree(inline);
+                } else {
+                    points = List.of();
+                }
+                if (points == null) {
+                    return null;
+                }
+                pointCount = points.size();
+                start = points.isEmpty() ? null : points.get(0);
+                end = points.isEmpty() ? null : points.get(points.size() - 1);
+            }
+            if (pointCount > MAX_POINTS_PER_PATH) {
+                return null;
+            }
+            return new PathSummary(
+                    pathId,
+                    PathNameSanitizer.sanitize(stringOf(json, "pathName")),
+                    scanned.ownerUuid(),
+                    ownerName,
+                    json.get("creationTimestamp") instanceof JsonPrimitive t && t.isNumber() ? t.getAsLong() : 0L,
+                    dimension,
+                    color,
+                    stringOf(json, "folder"),
+                    versionOf(json),
+                    originPathId,
+                    pointCount,
+                    start,
+                    end
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String stringOf(JsonObject json, String field) {
+        JsonElement value = json.get(field);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    /**
+     * Builds a caller-owned {@link PathData} from a scanned record, repairing and re-saving it if needed.
+     * Must be called with the path lock held.
+     *
+     * @return the path, or null if the record is invalid or its geometry is missing
+     */
+    private PathData loadOwnedRecord(UUID worldUid, ScannedRecord scanned) throws IOException {
+        // The scan already read the record, so its version tells whether the cached body is still current
+        PathData cached = bodyCache.get(worldUid, scanned.pathId(), versionOf(scanned.json()));
+        if (cached != null && scanned.ownerUuid().equals(cached.getOwnerUUID())) {
+            return cached;
+        }
+        // The scanned JSON is shared by everyone who joined the scan, so parse from a copy
+        StoredRecord stored = toStoredRecord(worldUid, scanned.json().deepCopy(), true);
+        if (stored == null || !isValidPathData(stored.data())) {
+            TrailblazerPlugin.getPluginLogger().warning("Skipping invalid path data file: " + scanned.pathId() + ".json");
+            return null;
+        }
+        PathData pathData = stored.data();
+        // Normalize loaded data to a safe, constructor-built instance to recover from missing fields
+        // in older/tampered JSON while keeping backwards compatibility.
+        PathData normalized = normalizeLoadedPath(pathData);
+        // Sanitize name post-deserialization to harden against tampered JSON
+        String original = normalized.getPathName();
+        boolean nameChanged = !PathNameSanitizer.sanitize(original).equals(original);
+        // Legacy records with inline points also get their geometry moved into the blob store once
+        if (normalized == pathData && !nameChanged && stored.pointsRef() != null) {
+            bodyCache.put(worldUid, pathData);
+            return pathData;
+        }
+
+        // Repairs write the record back, so start from the record as it is now rather than the scan snapshot
+        StoredRecord current = readRecord(worldUid, scanned.pathId(), true);
+        if (current == null || !isValidPathData(current.data()) || !scanned.ownerUuid().equals(current.data().getOwnerUUID())) {
+            return null;
+        }
+        PathData repaired = normalizeLoadedPath(current.data());
+        repaired.setPathName(repaired.getPathName()); // setter sanitizes
+        savePath(worldUid, repaired);
+        return repaired;
+    }
+
+    /**
+     * Raw records of the given owners. Indexed stores answer from their owner index; otherwise the owners'
+     * records are picked out of the shared world scan.
+     */
+    private List<ScannedRecord> recordsOwnedBy(UUID worldUid, Set<UUID> ownerUUIDs) {
+        RecordStore store = records(worldUid);
+        if (!store.isIndexed()) {
+            return scanWorld(worldUid).stream().filter(r -> ownerUUIDs.contains(r.ownerUuid())).toList();
+        }
+        List<ScannedRecord> owned = new ArrayList<>();
+        try {
+            for (Map.Entry<UUID, JsonObject> entry : store.readOwnedBy(ownerUUIDs).entrySet()) {
+                UUID owner = parseOwner(entry.getValue());
+                if (owner != null) {
+                    owned.add(new ScannedRecord(entry.getKey(), owner, entry.getValue()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the paths of world " + worldUid, e);
+        }
+        return owned;
+    }
 
-                // Normalize loaded data to a safe, constructor-built instance to recover from missing fields
-                // in older/tampered JSON while keeping backwards compatibility.
-                PathData normalized = normalizeLoadedPath(pathData);
-                if (normalized != pathData) {
-                    pathData = normalized;
-                    savePath(worldUid, pathData);
+    /**
+     * Parses every record in a world folder, without geometry. Callers that arrive while a scan of the
+     * same world is running join it instead of starting their own, as long as no write to that world
+     * happened since it started; otherwise the scan might miss the write and a fresh one is started.
+     */
+    private List<ScannedRecord> scanWorld(UUID worldUid) {
+        long generation = writeGeneration(worldUid).get();
+        while (true) {
+            WorldScan existing = inflightScans.get(worldUid);
+            if (existing != null && existing.generation == generation) {
+                try {
+                    return existing.result.join();
+                } catch (CompletionException e) {
+                    // The owner of the scan failed; fall through and scan ourselves
+                    inflightScans.remove(worldUid, existing);
+                    continue;
                 }
+            }
+            WorldScan scan = new WorldScan(generation);
+            boolean claimed = existing == null
+                    ? inflightScans.putIfAbsent(worldUid, scan) == null
+                    : inflightScans.replace(worldUid, existing, scan);
+            if (!claimed) {
+                continue;
+            }
+            try {
+                List<ScannedRecord> records = readWorldRecords(worldUid);
+                scan.result.complete(records);
+                return records;
+            } catch (RuntimeException e) {
+                scan.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                inflightScans.remove(worldUid, scan);
+            }
+        }
+    }
 
-                // Only check ownership - sharedWith is no longer used for access control
-                // All shared paths are now owned copies created via ensureSharedCopy()
-                if (pathData.getOwnerUUID().equals(playerUUID)) {
-                    // Sanitize name post-deserialization to harden against tampered JSON
-                    String original = pathData.getPathName();
-                    String sanitized = PathNameSanitizer.sanitize(original);
-                    if (!sanitized.equals(original)) {
-                        pathData.setPathName(sanitized);
-                        // Persist corrected name asynchronously (reuse save logic)
-                        savePath(worldUid, pathData);
+    private List<ScannedRecord> readWorldRecords(UUID worldUid) {
+        List<ScannedRecord> records = new ArrayList<>();
+        scanPermits.acquireUninterruptibly();
+        try {
+            RecordStore store = records(worldUid);
+            for (UUID pathId : store.ids()) {
+                ReentrantLock lock = acquireLock(pathId);
+                try {
+                    JsonObject json = store.read(pathId);
+                    if (json == null) {
+                        // Deleted since the listing
+                        continue;
                     }
-                    playerPaths.add(pathData);
+                    UUID owner = parseOwner(json);
+                    if (owner == null) {
+                        TrailblazerPlugin.getPluginLogger().warning("Skipping invalid path data file: " + pathId + ".json");
+                        continue;
+                    }
+                    records.add(new ScannedRecord(pathId, owner, json));
+                } finally {
+                    releaseLock(pathId, lock);
                 }
-            } catch (IOException e) {
-                TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to load a path file for " + playerUUID + ": " + pathFile.getName(), e);
-            } finally {
-                releaseLock(pathId, lock);
             }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the paths of world " + worldUid, e);
+        } finally {
+            scanPermits.release();
+        }
+    }
+
+    private static long versionOf(JsonObject json) {
+        return json.get("version") instanceof JsonPrimitive v && v.isNumber() ? v.getAsLong() : 0L;
+    }
+
+    private static UUID parseOwner(JsonObject json) {
+        try {
+            JsonElement owner = json.get("ownerUUID");
+            return owner != null && owner.isJsonPrimitive() ? UUID.fromString(owner.getAsString()) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        return playerPaths;
+    }
+
+    private AtomicLong writeGeneration(UUID worldUid) {
+        return writeGenerations.computeIfAbsent(worldUid, id -> new AtomicLong());
     }
 
     /**
@@ -178,6 +703,8 @@ public class PathDataManager {
                 new ArrayList<>(sharedWith)
         );
         repaired.setOrigin(originPathId, originOwnerUuid, originOwnerName);
+        repaired.setVersion(loaded.getVersion());
+        repaired.setFolder(loaded.getFolder());
         return repaired;
     }
 
@@ -185,33 +712,35 @@ public class PathDataManager {
         if (pathId == null) {
             return false;
         }
-        File worldFolder = resolveWorldFolder(worldUid);
-        File pathFile = new File(worldFolder, pathId.toString() + ".json");
         ReentrantLock lock = acquireLock(pathId);
         try {
-            if (!pathFile.exists()) {
-                return false;
-            }
-
-            PathData pathData;
-            try (FileReader reader = new FileReader(pathFile)) {
-                pathData = gson.fromJson(reader, PathData.class);
+            StoredRecord stored;
+            try {
+                stored = readRecord(worldUid, pathId, false);
             } catch (IOException e) {
                 TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to read path for deletion: " + pathId, e);
                 return false;
             }
 
-            if (pathData == null) {
+            if (stored == null) {
                 return false;
             }
+            PathData pathData = stored.data();
 
             // Only allow deletion if player owns the path
             // Shared paths are now owned copies, so recipients delete their own copy, not remove from sharedWith
             if (pathData.getOwnerUUID().equals(playerUUID)) {
-                if (!pathFile.delete()) {
-                    TrailblazerPlugin.getPluginLogger().severe("Failed to delete path file: " + pathFile.getAbsolutePath());
+                try {
+                    if (!records(worldUid).delete(pathId)) {
+                        return false;
+                    }
+                } catch (IOException e) {
+                    TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to delete path " + pathId, e);
                     return false;
                 }
+                blobStore(worldUid).release(stored.pointsRef());
+                bodyCache.invalidate(worldUid, pathId);
+                writeGeneration(worldUid).incrementAndGet();
                 return true;
             }
 
@@ -223,65 +752,160 @@ public class PathDataManager {
     }
 
     public SharedCopyResult ensureSharedCopy(PathData source, UUID targetUuid, String targetName, UUID targetWorldUid) {
-        if (source == null || targetUuid == null || targetName == null || targetName.isBlank()) {
+        if (targetUuid == null || targetName == null) {
+            throw new IllegalArgumentException("Source path, target UUID, and target name must be provided");
+        }
+        return ensureSharedCopies(source, Map.of(targetUuid, targetName), targetWorldUid).get(targetUuid);
+    }
+
+    /**
+     * Ensures every target owns a copy of {@code source}, as one batch.
+     * <p>
+     * Existing lineage for all recipients is resolved with a single folder scan, or with the lineage index
+     * on an indexed store, where only recipients still without a copy are listed. New copies are written
+     * in parallel. Results are returned in the iteration order of {@code targets}.
+     *
+     * @param targets recipient UUID to display name
+     */
+    public Map<UUID, SharedCopyResult> ensureSharedCopies(PathData source, Map<UUID, String> targets, UUID targetWorldUid) {
+        if (source == null || targets == null) {
             throw new IllegalArgumentException("Source path, target UUID, and target name must be provided");
         }
-        
-        // Create a unique lock key for this specific sharing operation.
-        // Same recipient + same origin path = same lock, preventing duplicate creation.
+        for (Map.Entry<UUID, String> target : targets.entrySet()) {
+            if (target.getKey() == null || target.getValue() == null || target.getValue().isBlank()) {
+                throw new IllegalArgumentException("Source path, target UUID, and target name must be provided");
+            }
+        }
+        Map<UUID, SharedCopyResult> results = new LinkedHashMap<>();
+        if (targets.isEmpty()) {
+            return results;
+        }
+
+        // One lock per recipient + origin path, so only one sharing operation for the same combination
+        // can check and create a copy at a time. Keys are taken in sorted order so that two batches
+        // with overlapping recipients can never deadlock against each other.
         UUID originPathId = resolveOriginPathId(source);
-        String lockKey = targetUuid.toString() + ":" + originPathId.toString();
-        
-        // Get or create a lock for this sharing operation.
-        // This ensures only one thread can check and create a copy for the same
-        // recipient + origin path combination at a time.
-        ReentrantLock sharingLock = sharingLocks.computeIfAbsent(lockKey, k -> new ReentrantLock());
-        
-        sharingLock.lock();
+        List<String> lockKeys = targets.keySet().stream()
+                .map(targetUuid -> targetUuid.toString() + ":" + originPathId.toString())
+                .sorted()
+                .toList();
+        Map<String, ReentrantLock> held = new LinkedHashMap<>();
         try {
-            // Now safely check for duplicates while holding the lock.
-            // This prevents race conditions where multiple threads might check
-            // simultaneously and both decide to create a copy.
-            List<PathData> existing = loadPaths(targetWorldUid, targetUuid);
-            Optional<PathData> alreadyOwned = existing.stream()
-                    .filter(p -> targetUuid.equals(p.getOwnerUUID()))
-                    .filter(p -> resolveOriginPathId(p).equals(originPathId))
-                    .findFirst();
-            
-            if (alreadyOwned.isPresent()) {
-                // Duplicate found! Return existing copy without creating a new one.
-                return new SharedCopyResult(alreadyOwned.get(), false);
+            for (String lockKey : lockKeys) {
+                ReentrantLock sharingLock = sharingLocks.computeIfAbsent(lockKey, k -> new ReentrantLock());
+                sharingLock.lock();
+                held.put(lockKey, sharingLock);
             }
-            
-            // No duplicate found - safe to create a new copy.
-            String newName = uniquePathName(source.getPathName(), existing);
-            List<Vector3d> copiedPoints = new ArrayList<>(source.getPoints());
-            PathData copy = new PathData(UUID.randomUUID(), newName, targetUuid, targetName,
-                    System.currentTimeMillis(), source.getDimension(), copiedPoints, source.getColorArgb());
-            copy.setOrigin(originPathId, resolveOriginOwner(source), resolveOriginOwnerName(source));
-            savePath(targetWorldUid, copy);
-            return new SharedCopyResult(copy, true);
+
+            // Now safely check for duplicates while holding the locks. One scan covers all recipients,
+            // and only the summaries are needed to find existing copies and taken names.
+            Map<UUID, UUID> copyIds = new HashMap<>();
+            Set<UUID> listed;
+            Map<UUID, List<PathSummary>> existingByOwner;
+            RecordStore store = records(targetWorldUid);
+            if (store.isIndexed()) {
+                copyIds.putAll(copiesFromIndex(store, originPathId, targets.keySet()));
+                // Names only matter for recipients that get a new copy
+                listed = new HashSet<>(targets.keySet());
+                listed.removeAll(copyIds.keySet());
+                existingByOwner = new HashMap<>(listSummariesForOwners(targetWorldUid, listed, null));
+            } else {
+                listed = new HashSet<>(targets.keySet());
+                existingByOwner = new HashMap<>(listSummariesForOwners(targetWorldUid, listed, null));
+                existingByOwner.forEach((owner, summaries) -> summaries.stream()
+                        .filter(p -> p.originPathId().equals(originPathId))
+                        .findFirst()
+                        .ifPresent(p -> copyIds.put(owner, p.pathId())));
+            }
+            List<PathData> toWrite = new ArrayList<>();
+            for (Map.Entry<UUID, String> target : targets.entrySet()) {
+                UUID targetUuid = target.getKey();
+                UUID copyId = copyIds.get(targetUuid);
+                Optional<PathData> alreadyOwned = copyId != null ? loadPath(targetWorldUid, targetUuid, copyId) : Optional.empty();
+
+                if (alreadyOwned.isPresent()) {
+                    // Duplicate found! Return existing copy without creating a new one.
+                    results.put(targetUuid, new SharedCopyResult(alreadyOwned.get(), false));
+                    continue;
+                }
+                if (listed.add(targetUuid)) {
+                    // The indexed copy could not be loaded after all, so its owner's names were not listed yet
+                    existingByOwner.put(targetUuid, listSummaries(targetWorldUid, targetUuid, null));
+                }
+                List<PathSummary> existing = existingByOwner.getOrDefault(targetUuid, List.of());
+
+                // No duplicate found - safe to create a new copy.
+                String newName = uniquePathName(source.getPathName(), existing);
+                List<Vector3d> copiedPoints = new ArrayList<>(source.getPoints());
+                PathData copy = new PathData(UUID.randomUUID(), newName, targetUuid, target.getValue(),
+                        System.currentTimeMillis(), source.getDimension(), copiedPoints, source.getColorArgb());
+                copy.setOrigin(originPathId, resolveOriginOwner(source), resolveOriginOwnerName(source));
+                toWrite.add(copy);
+                results.put(targetUuid, new SharedCopyResult(copy, true));
+            }
+            saveAll(targetWorldUid, toWrite);
+            return results;
         } finally {
-            // Always release the lock, even if an exception occurs.
-            sharingLock.unlock();
-            
-            // Clean up the lock if it's no longer in use to prevent memory leaks.
-            // Use tryLock() to atomically check if the lock is truly free.
-            // If we can acquire it immediately, no other thread has it, so it's safe to remove.
-            if (sharingLock.tryLock()) {
-                try {
-                    // While holding the lock, check if any threads are queued.
-                    // If not, it's safe to remove since we have exclusive access.
-                    if (!sharingLock.hasQueuedThreads()) {
-                        sharingLocks.remove(lockKey, sharingLock);
-                    }
-                } finally {
-                    // Always release the lock we just acquired.
-                    sharingLock.unlock();
+            // Always release the locks, even if an exception occurs.
+            held.forEach(this::releaseSharingLock);
+        }
+    }
+
+    /** Each owner's copy of {@code originPathId} among {@code owners}, looked up in the store's lineage index. */
+    private Map<UUID, UUID> copiesFromIndex(RecordStore store, UUID originPathId, Set<UUID> owners) {
+        Map<UUID, UUID> copies = new HashMap<>();
+        try {
+            for (UUID pathId : store.idsDerivedFrom(originPathId)) {
+                JsonObject json = store.read(pathId);
+                UUID owner = json != null ? parseOwner(json) : null;
+                if (owner != null && owners.contains(owner)) {
+                    copies.putIfAbsent(owner, pathId);
                 }
             }
-            // If tryLock() failed, another thread acquired the lock, so do not remove.
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to look up copies of path " + originPathId, e);
+        }
+        return copies;
+    }
+
+    /**
+     * Writes several paths: as one batch on an indexed store, otherwise fanning out over the batch writer
+     * pool when there is more than one.
+     */
+    private void saveAll(UUID worldUid, List<PathData> paths) {
+        if (paths.size() > 1 && records(worldUid).isIndexed()) {
+            saveBatch(worldUid, paths);
+            return;
+        }
+        if (paths.size() <= 1) {
+            paths.forEach(path -> savePath(worldUid, path));
+            return;
         }
+        CompletableFuture<?>[] writes = paths.stream()
+                .map(path -> CompletableFuture.runAsync(() -> savePath(worldUid, path), batchWriteExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(writes).join();
+    }
+
+    private void releaseSharingLock(String lockKey, ReentrantLock sharingLock) {
+        sharingLock.unlock();
+
+        // Clean up the lock if it's no longer in use to prevent memory leaks.
+        // Use tryLock() to atomically check if the lock is truly free.
+        // If we can acquire it immediately, no other thread has it, so it's safe to remove.
+        if (sharingLock.tryLock()) {
+            try {
+                // While holding the lock, check if any threads are queued.
+                // If not, it's safe to remove since we have exclusive access.
+                if (!sharingLock.hasQueuedThreads()) {
+                    sharingLocks.remove(lockKey, sharingLock);
+                }
+            } finally {
+                // Always release the lock we just acquired.
+                sharingLock.unlock();
+            }
+        }
+        // If tryLock() failed, another thread acquired the lock, so do not remove.
     }
 
     private UUID resolveOriginPathId(PathData path) {
@@ -302,7 +926,7 @@ public class PathDataManager {
         return path.getOwnerName();
     }
 
-    private String uniquePathName(String proposed, List<PathData> existing) {
+    private String uniquePathName(String proposed, List<PathSummary> existing) {
         // Sanitize names at the trust boundary (paths may be client-sent or tampered on disk).
         // PathData itself sanitizes, but doing it here ensures deterministic collision checks too.
         String base = (proposed == null || proposed.isBlank()) ? "Shared Path" : proposed.trim();
@@ -315,10 +939,10 @@ public class PathDataManager {
         return candidate;
     }
 
-    private boolean nameExists(List<PathData> existing, String candidate) {
+    private boolean nameExists(List<PathSummary> existing, String candidate) {
         String lower = candidate.toLowerCase(Locale.ROOT);
-        for (PathData path : existing) {
-            if (path.getPathName() != null && path.getPathName().toLowerCase(Locale.ROOT).equals(lower)) {
+        for (PathSummary path : existing) {
+            if (path.pathName() != null && path.pathName().toLowerCase(Locale.ROOT).equals(lower)) {
                 return true;
             }
         }
@@ -349,16 +973,14 @@ public class PathDataManager {
             return;
         }
         String sanitized = com.trailblazer.api.PathNameSanitizer.sanitize(newName);
-        File worldFolder = resolveWorldFolder(worldUid);
-        File pathFile = new File(worldFolder, pathId.toString() + ".json");
-        if (!pathFile.exists()) {
-            TrailblazerPlugin.getPluginLogger().warning("Attempted to rename a path that does not exist: " + pathId);
-            return;
-        }
-
         ReentrantLock lock = acquireLock(pathId);
-        try (FileReader reader = new FileReader(pathFile)) {
-            PathData pathData = gson.fromJson(reader, PathData.class);
+        try {
+            StoredRecord stored = readRecord(worldUid, pathId, true);
+            if (stored == null) {
+                TrailblazerPlugin.getPluginLogger().warning("Attempted to rename a path that does not exist: " + pathId);
+                return;
+            }
+            PathData pathData = stored.data();
             if (pathData != null && pathData.getOwnerUUID().equals(playerUUID)) {
                 pathData.setPathName(sanitized);
                 savePath(worldUid, pathData);
@@ -370,26 +992,123 @@ public class PathDataManager {
         }
     }
 
-    public List<PathData> updateMetadata(UUID worldUid, UUID playerUUID, UUID pathId, String newName, int colorArgb) {
-        List<PathData> paths = loadPaths(worldUid, playerUUID);
-        boolean updated = false;
-        for (PathData path : paths) {
-            if (!path.getPathId().equals(pathId)) {
-                continue;
+    /**
+     * Renames and/or recolors one of the player's paths. A blank name or a color of 0 leaves that field as is.
+     *
+     * @return the saved path with its new version, or null if the player has no such path
+     */
+    public PathData updateMetadata(UUID worldUid, UUID playerUUID, UUID pathId, String newName, int colorArgb) {
+        if (pathId == null) {
+            return null;
+        }
+        ReentrantLock lock = acquireLock(pathId);
+        try {
+            PathData path = loadPath(worldUid, playerUUID, pathId).orElse(null);
+            if (path == null) {
+                return null;
             }
-            if (path.getOwnerUUID().equals(playerUUID)) {
-                if (newName != null && !newName.isBlank()) {
-                    path.setPathName(com.trailblazer.api.PathNameSanitizer.sanitize(newName));
-                }
-                if (colorArgb != 0) {
+            if (newName != null && !newName.isBlank()) {
+                path.setPathName(com.trailblazer.api.PathNameSanitizer.sanitize(newName));
+            }
+            if (colorArgb != 0) {
+                path.setColorArgb(colorArgb);
+            }
+            savePath(worldUid, path);
+            return path;
+        } finally {
+            releaseLock(pathId, lock);
+        }
+    }
+
+    /**
+     * Applies one {@link com.trailblazer.api.Protocol.BulkAction} to the player's own paths in a single pass:
+     * the targets are picked from one summary listing, deletes go to the store as one batch, and only paths
+     * being rewritten are loaded with their points and then saved together. Ids the player does not own are
+     * ignored.
+     */
+    public BulkResult applyBulk(UUID worldUid, UUID playerUUID, int action, Collection<UUID> pathIds, int colorArgb, String folder) {
+        Set<UUID> requested = new HashSet<>(pathIds);
+        List<UUID> targets = listSummaries(worldUid, playerUUID, summary -> requested.contains(summary.pathId())).stream()
+                .map(PathSummary::pathId)
+                .toList();
+        if (action == com.trailblazer.api.Protocol.BulkAction.DELETE) {
+            return new BulkResult(List.of(), deletePaths(worldUid, playerUUID, targets));
+        }
+        if (action != com.trailblazer.api.Protocol.BulkAction.RECOLOR && action != com.trailblazer.api.Protocol.BulkAction.SET_FOLDER) {
+            throw new IllegalArgumentException("Unknown bulk action " + action);
+        }
+        List<PathData> changed = new ArrayList<>();
+        for (UUID pathId : targets) {
+            loadPath(worldUid, playerUUID, pathId).ifPresent(path -> {
+                if (action == com.trailblazer.api.Protocol.BulkAction.RECOLOR) {
                     path.setColorArgb(colorArgb);
+                } else {
+                    path.setFolder(folder);
+                }
+                changed.add(path);
+            });
+        }
+        saveAll(worldUid, changed);
+        return new BulkResult(changed, List.of());
+    }
+
+    /**
+     * Outcome of {@link #applyBulk}.
+     *
+     * @param changed paths that were rewritten, with their new versions
+     * @param removed ids of deleted paths
+     */
+    public record BulkResult(List<PathData> changed, List<UUID> removed) {
+        public int affected() {
+            return changed.size() + removed.size();
+        }
+    }
+
+    /**
+     * Deletes several of the player's paths with one {@link RecordStore#deleteAll} call, i.e. one transaction
+     * on an indexed store. Same checks as {@link #deletePath}, with every path's lock held until the batch is done.
+     *
+     * @return ids of the removed paths
+     */
+    private List<UUID> deletePaths(UUID worldUid, UUID playerUUID, Collection<UUID> pathIds) {
+        // Locks are taken in id order so two batches can never deadlock against each other
+        List<UUID> ordered = pathIds.stream().distinct().sorted().toList();
+        List<ReentrantLock> locks = new ArrayList<>(ordered.size());
+        for (UUID pathId : ordered) {
+            locks.add(acquireLock(pathId));
+        }
+        Map<UUID, String> owned = new LinkedHashMap<>();
+        try {
+            for (UUID pathId : ordered) {
+                StoredRecord stored = readRecord(worldUid, pathId, false);
+                if (stored != null && playerUUID.equals(stored.data().getOwnerUUID())) {
+                    owned.put(pathId, stored.pointsRef());
                 }
-                savePath(worldUid, path);
-                updated = true;
             }
-            break;
+            if (owned.isEmpty()) {
+                return List.of();
+            }
+            List<UUID> removed = records(worldUid).deleteAll(owned.keySet());
+            PointBlobStore blobs = blobStore(worldUid);
+            for (UUID pathId : removed) {
+                blobs.release(owned.get(pathId));
+                bodyCache.invalidate(worldUid, pathId);
+            }
+            writeGeneration(worldUid).incrementAndGet();
+            return removed;
+        } catch (IOException e) {
+            // Some records may be gone already; make sure nothing stale is served for them
+            for (UUID pathId : owned.keySet()) {
+                bodyCache.invalidate(worldUid, pathId);
+            }
+            writeGeneration(worldUid).incrementAndGet();
+            TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE, "Failed to delete a batch of " + owned.size() + " paths", e);
+            return List.of();
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                releaseLock(ordered.get(i), locks.get(i));
+            }
         }
-        return updated ? paths : null;
     }
 
     public static boolean isValidPathData(PathData path) {
@@ -428,16 +1147,162 @@ public class PathDataManager {
         }
     }
 
-    private UUID extractPathId(String fileName) {
-        if (fileName == null || !fileName.endsWith(".json")) {
-            return null;
+    private PointBlobStore blobStore(UUID worldUid) {
+        // Opening the record store also counts the world's blob references
+        records(worldUid);
+        return blobStores.get(worldUid);
+    }
+
+    /**
+     * Reads a path record. Blob-backed records come back with an empty point list unless
+     * {@code withPoints} is set.
+     *
+     * @return the record, or null if the file does not hold a path or its blob is missing
+     */
+    private StoredRecord readRecord(UUID worldUid, UUID pathId, boolean withPoints) throws IOException {
+        JsonObject json = records(worldUid).read(pathId);
+        return json != null ? toStoredRecord(worldUid, json, withPoints) : null;
+    }
+
+    /** Converts a parsed record, consuming {@code json}. */
+    private StoredRecord toStoredRecord(UUID worldUid, JsonObject json, boolean withPoints) {
+        String ref = PointBlobStore.refOf(json);
+        if (ref != null) {
+            json.remove(PointBlobStore.REF_FIELD);
+            json.add("points", new JsonArray());
         }
-        String raw = fileName.substring(0, fileName.length() - 5);
+        PathData data;
         try {
-            return UUID.fromString(raw);
-        } catch (IllegalArgumentException ex) {
+            data = gson.fromJson(json, PathData.class);
+        } catch (RuntimeException e) {
             return null;
         }
+        if (data == null) {
+            return null;
+        }
+        StoredRecord stored = new StoredRecord(data, ref);
+        if (withPoints && ref != null && !resolvePoints(worldUid, stored)) {
+            return null;
+        }
+        return stored;
+    }
+
+    private boolean resolvePoints(UUID worldUid, StoredRecord stored) {
+        List<Vector3d> points = blobStore(worldUid).read(stored.pointsRef());
+        if (points == null) {
+            TrailblazerPlugin.getPluginLogger().warning("Missing point blob " + stored.pointsRef() + " for path " + stored.data().getPathId());
+            return false;
+        }
+        stored.data().getPoints().addAll(points);
+        return isValidPathData(stored.data());
+    }
+
+    /** A path record as stored on disk, with the hash of the blob holding its points (null for legacy records). */
+    private record StoredRecord(PathData data, String pointsRef) {}
+
+    /** A raw record from a world scan; the JSON is shared between all callers of the scan and must not be mutated. */
+    private record ScannedRecord(UUID pathId, UUID ownerUuid, JsonObject json) {}
+
+    private static final class WorldScan {
+        private final long generation;
+        private final CompletableFuture<List<ScannedRecord>> result = new CompletableFuture<>();
+
+        private WorldScan(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The world's record store, opened on first use together with its blob store. Concurrent first users wait
+     * for the same open; a failed open is forgotten so the next access tries again.
+     */
+    private RecordStore records(UUID worldUid) {
+        CompletableFuture<RecordStore> opening = recordStores.get(worldUid);
+        if (opening == null) {
+            CompletableFuture<RecordStore> claimed = new CompletableFuture<>();
+            opening = recordStores.putIfAbsent(worldUid, claimed);
+            if (opening == null) {
+                opening = claimed;
+                try {
+                    claimed.complete(openWorldStores(worldUid));
+                } catch (RuntimeException e) {
+                    recordStores.remove(worldUid, claimed);
+                    claimed.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return opening.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the record store of a world and counts its blob references. The count runs before the store is
+     * handed out, so no record can be written or deleted before it (see {@link PointBlobStore#initialize}).
+     */
+    private RecordStore openWorldStores(UUID worldUid) {
+        RecordStore store = openRecordStore(worldUid);
+        try {
+            PointBlobStore blobs = new PointBlobStore(resolveWorldFolder(worldUid), store, gson);
+            blobs.initialize();
+            blobStores.put(worldUid, blobs);
+        } catch (RuntimeException e) {
+            try {
+                store.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Opens the configured store of a world. Records left in another backend, e.g. after
+     * {@code storage.engine} was switched, are moved over first.
+     */
+    private RecordStore openRecordStore(UUID worldUid) {
+        File worldFolder = resolveWorldFolder(worldUid);
+        RecordStore store;
+        try {
+            store = backend.open(worldUid, worldFolder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open path storage of world " + worldUid, e);
+        }
+        for (StorageBackend other : otherBackends) {
+            try {
+                if (other.hasRecords(worldUid, worldFolder)) {
+                    migrateRecords(worldUid, other.open(worldUid, worldFolder), store);
+                    other.discard(worldUid, worldFolder);
+                }
+            } catch (IOException e) {
+                // Left where they are; the next start tries again
+                TrailblazerPlugin.getPluginLogger().log(java.util.logging.Level.SEVERE,
+                        "Failed to move path records of world " + worldUid + " from " + other.id() + " storage", e);
+            }
+        }
+        return store;
+    }
+
+    /** Copies every record from {@code source} to {@code target}, then empties and closes {@code source}. */
+    private void migrateRecords(UUID worldUid, RecordStore source, RecordStore target) throws IOException {
+        try (source) {
+            List<UUID> ids = source.ids();
+            for (UUID pathId : ids) {
+                JsonObject json = source.read(pathId);
+                if (json != null) {
+                    target.write(pathId, RecordStore.RecordBody.withKeys(RecordStore.Keys.of(json), writer -> gson.toJson(json, writer)));
+                }
+                source.delete(pathId);
+            }
+            TrailblazerPlugin.getPluginLogger().info("Moved " + ids.size() + " path records of world " + worldUid
+                    + " to " + backend.id() + " storage");
+        }
     }
 
     private File resolveWorldFolder(UUID worldUid) {
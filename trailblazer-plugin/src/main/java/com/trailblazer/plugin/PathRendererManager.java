@@ -2,6 +2,7 @@ package com.trailblazer.plugin;
 
 import com.trailblazer.api.PathData;
 import com.trailblazer.api.Vector3d;
+import com.trailblazer.plugin.rendering.DisplayPathRenderer;
 import com.trailblazer.plugin.rendering.RenderMode;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -23,11 +24,16 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Manages the visual rendering of paths for players using server-side particles.
  * This serves as the fallback for users without the client-side companion mod.
+ * With {@code rendering.vanilla-renderer: displays} paths are drawn with display entities instead,
+ * see {@link DisplayPathRenderer}.
  */
 public class PathRendererManager {
 
     private final Map<UUID, BukkitTask> activeRenderTasks = new ConcurrentHashMap<>();
+    private final Map<UUID, PathData> displayedPaths = new ConcurrentHashMap<>();
     private final TrailblazerPlugin plugin;
+    /** Null when rendering with particles. */
+    private final DisplayPathRenderer displayRenderer;
     // Per-player spacing is read from PlayerRenderSettingsManager to allow parity with client settings.
     private static final java.util.Map<Integer, Particle.DustOptions> DUST_CACHE = new java.util.concurrent.ConcurrentHashMap<>();
     private static Particle.DustOptions dustFor(int argb) {
@@ -41,6 +47,15 @@ public class PathRendererManager {
 
     public PathRendererManager(TrailblazerPlugin plugin) {
         this.plugin = plugin;
+        String renderer = plugin.getConfig().getString("rendering.vanilla-renderer", "particles");
+        if ("displays".equalsIgnoreCase(renderer.trim())) {
+            this.displayRenderer = new DisplayPathRenderer(plugin);
+        } else {
+            if (!"particles".equalsIgnoreCase(renderer.trim())) {
+                plugin.getLogger().warning("Unknown rendering.vanilla-renderer '" + renderer + "', using particles");
+            }
+            this.displayRenderer = null;
+        }
     }
 
     public void startRendering(Player player, PathData path) {
@@ -56,6 +71,11 @@ public class PathRendererManager {
             return;
         }
 
+        if (displayRenderer != null) {
+            showDisplays(player, path, world);
+            return;
+        }
+
         BukkitTask task = new BukkitRunnable() {
             @Override
             public void run() {
@@ -85,6 +105,9 @@ public class PathRendererManager {
     }
 
     public void stopRendering(Player player) {
+        if (displayRenderer != null && displayedPaths.remove(player.getUniqueId()) != null) {
+            onMainThread(() -> displayRenderer.hide(player));
+        }
         BukkitTask task = activeRenderTasks.remove(player.getUniqueId());
         if (task != null) {
             try {
@@ -95,20 +118,65 @@ public class PathRendererManager {
         }
     }
 
-    private void renderDashedLineParticles(Player player, PathData path, World world) {
-        List<Vector3d> points = path.getPoints();
-        final Particle.DustOptions dust = dustFor(path.getColorArgb());
-        // Detect if this path corresponds to an active recording owned by the same player — used
-        // to decide whether to render live-style visuals.
-        boolean isLive = false;
+    /**
+     * Re-renders the player's path after their render mode or marker spacing changed. Particles pick up
+     * the change on their own; display entities are laid out once and must be rebuilt.
+     */
+    public void onRenderSettingsChanged(Player player) {
+        PathData path = displayedPaths.get(player.getUniqueId());
+        if (path != null) {
+            startRendering(player, path);
+        }
+    }
+
+    /** Removes all display entities; called when the plugin is disabled. */
+    public void shutdown() {
+        if (displayRenderer != null) {
+            displayRenderer.shutdown();
+        }
+        displayedPaths.clear();
+    }
+
+    private void showDisplays(Player player, PathData path, World world) {
+        displayedPaths.put(player.getUniqueId(), path);
+        RenderMode mode = plugin.getPlayerRenderSettingsManager().getRenderMode(player);
+        double spacing = plugin.getPlayerRenderSettingsManager().getMarkerSpacing(player);
+        boolean live = isLive(path);
+        onMainThread(() -> {
+            // A later start or stop may have superseded this one while it was queued
+            if (displayedPaths.get(player.getUniqueId()) == path && player.isOnline()) {
+                displayRenderer.show(player, path, world, mode, spacing, live);
+            }
+        });
+    }
+
+    /** Entities may only be touched on the main thread; shares and commands can arrive from elsewhere. */
+    private void onMainThread(Runnable action) {
+        if (plugin.getServer().isPrimaryThread()) {
+            action.run();
+        } else {
+            plugin.getServer().getScheduler().runTask(plugin, action);
+        }
+    }
+
+    /**
+     * Detect if this path corresponds to an active recording owned by the same player — used
+     * to decide whether to render live-style visuals.
+     */
+    private boolean isLive(PathData path) {
         var active = plugin.getRecordingManager().getActive(path.getOwnerUUID());
         if (active != null) {
             try {
-                if (active.pathId.equals(path.getPathId())) {
-                    isLive = true;
-                }
+                return active.pathId.equals(path.getPathId());
             } catch (Throwable ignored) { }
         }
+        return false;
+    }
+
+    private void renderDashedLineParticles(Player player, PathData path, World world) {
+        List<Vector3d> points = path.getPoints();
+        final Particle.DustOptions dust = dustFor(path.getColorArgb());
+        boolean isLive = isLive(path);
         
         // Render dashed segments using particles (server-side fallback)
         double dashLength = 2.0; // Length of each dash
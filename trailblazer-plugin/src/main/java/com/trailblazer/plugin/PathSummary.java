@@ -0,0 +1,45 @@
+package com.trailblazer.plugin;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.trailblazer.api.Vector3d;
+
+/**
+ * Metadata of a stored path without its point list, as returned by
+ * {@link PathDataManager#listSummaries(UUID, UUID, java.util.function.Predicate)}.
+ * <p>
+ * Listing, lookup by name, tab completion and duplicate checks only need these fields; the full
+ * {@link com.trailblazer.api.PathData} is loaded with {@link PathDataManager#loadPath} once a body is
+ * actually needed (showing, sharing, rendering).
+ *
+ * @param start first point, or null if the path has no points
+ * @param end last point, or null if the path has no points
+ */
+public record PathSummary(
+        UUID pathId,
+        String pathName,
+        UUID ownerUUID,
+        String ownerName,
+        long creationTimestamp,
+        String dimension,
+        int colorArgb,
+        String folder,
+        long version,
+        UUID originPathId,
+        int pointCount,
+        Vector3d start,
+        Vector3d end
+) {
+
+    /** Case-insensitive exact match on the name, like {@link com.trailblazer.api.PathNameMatcher#findByName}. */
+    public static Optional<PathSummary> findByName(Collection<PathSummary> summaries, String name) {
+        if (summaries == null || name == null) return Optional.empty();
+        String norm = name.trim();
+        for (PathSummary s : summaries) {
+            if (s.pathName() != null && s.pathName().equalsIgnoreCase(norm)) return Optional.of(s);
+        }
+        return Optional.empty();
+    }
+}
@@ -15,11 +15,18 @@ import net.kyori.adventure.text.format.NamedTextColor;
 
 /**
  * Handles server-side path recording for players without the client mod (and also works with it for live preview).
+ * <p>
+ * Sampling is driven by {@link com.trailblazer.plugin.listeners.PlayerMoveListener}: move events only mark a
+ * recorder as dirty, and all dirty recorders are flushed once on the next tick. Several move events from the
+ * same player within a tick therefore collapse into a single sample, and recorders that stand still cost nothing.
  */
 public class RecordingManager {
     private static final double MIN_DIST_SQ = 0.04; // ~0.2 blocks movement threshold
     private static final double TRAIL_Y_OFFSET = 0.5; // Offset to raise trail above ground level to prevent it from being hidden inside blocks
     private final Map<UUID, ActiveRecording> active = new HashMap<>();
+    // Recorders that moved since the last flush; insertion order keeps sampling fair under load
+    private final Set<ActiveRecording> dirty = new LinkedHashSet<>();
+    private boolean flushScheduled = false;
     private final TrailblazerPlugin plugin;
     private final PathDataManager dataManager;
     private int maxPointsPerPath = 5000; // could be made configurable later
@@ -37,7 +44,7 @@ public class RecordingManager {
         UUID id = player.getUniqueId();
         if (active.containsKey(id)) return false;
         String name = (providedName != null && !providedName.isBlank()) ? providedName.trim() : dataManager.getNextServerPathName();
-        ActiveRecording rec = new ActiveRecording(UUID.randomUUID(), name, player.getWorld(), System.currentTimeMillis());
+        ActiveRecording rec = new ActiveRecording(UUID.randomUUID(), name, player, player.getWorld(), System.currentTimeMillis());
         active.put(id, rec);
         // seed with initial point immediately
         appendPoint(player, rec, true);
@@ -47,33 +54,65 @@ public class RecordingManager {
     public PathData stopRecording(Player player, boolean save) {
         ActiveRecording rec = active.remove(player.getUniqueId());
         if (rec == null) return null;
+        dirty.remove(rec);
         if (!save || rec.points.size() < 2) {
             return null; // discard too-short or cancelled
         }
         PathData data = new PathData(rec.pathId, rec.name, player.getUniqueId(), player.getName(), rec.startTime,
             dimensionKey(rec.world), new ArrayList<>(rec.points), PathColors.assignColorFor(rec.pathId));
-        dataManager.savePath(rec.world.getUID(), data);
+        UUID worldUid = rec.world.getUID();
+        plugin.getIoExecutor().write(worldUid, () -> {
+            dataManager.savePath(worldUid, data);
+            return null;
+        });
         return data;
     }
 
     public void cancelRecording(Player player) {
-        active.remove(player.getUniqueId());
+        ActiveRecording rec = active.remove(player.getUniqueId());
+        if (rec != null) {
+            dirty.remove(rec);
+        }
     }
 
-    public void tick() {
+    /**
+     * Called from the move listener. Only marks the recorder as dirty; the actual sample is taken
+     * once per tick in {@link #flushDirty()} so bursts of move events collapse into one point.
+     */
+    public void onPlayerMove(Player player) {
         if (active.isEmpty()) return;
-        for (Iterator<Map.Entry<UUID, ActiveRecording>> it = active.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<UUID, ActiveRecording> e = it.next();
-            Player p = plugin.getServer().getPlayer(e.getKey());
-            ActiveRecording rec = e.getValue();
-            if (p == null || !p.isOnline()) {
-                // auto-cancel if player left
-                it.remove();
+        ActiveRecording rec = active.get(player.getUniqueId());
+        if (rec == null) return;
+        if (dirty.add(rec) && !flushScheduled) {
+            flushScheduled = true;
+            plugin.getServer().getScheduler().runTask(plugin, this::flushDirty);
+        }
+    }
+
+    /** Stops (without saving) a recording whose player left the world it was started in. */
+    public void onPlayerChangedWorld(Player player) {
+        cancelRecording(player);
+    }
+
+    private void flushDirty() {
+        flushScheduled = false;
+        if (dirty.isEmpty()) return;
+        // Snapshot first: appendPoint may stop a recording (point limit) and mutate the sets
+        List<ActiveRecording> batch = new ArrayList<>(dirty);
+        dirty.clear();
+        for (ActiveRecording rec : batch) {
+            Player p = rec.player;
+            if (active.get(p.getUniqueId()) != rec) {
+                continue; // stopped or replaced since it was marked
+            }
+            if (!p.isOnline()) {
+                // auto-cancel if player left without a quit event reaching us
+                active.remove(p.getUniqueId());
                 continue;
             }
             if (p.getWorld() != rec.world) {
                 // stop if dimension/world changed (could alternatively split)
-                it.remove();
+                active.remove(p.getUniqueId());
                 continue;
             }
             appendPoint(p, rec, false);
@@ -116,11 +155,12 @@ public class RecordingManager {
     public static class ActiveRecording {
         final UUID pathId;
         final String name;
+        final Player player; // cached so sampling never goes through a UUID lookup
         final World world;
         final long startTime;
         final List<Vector3d> points = new ArrayList<>();
-        ActiveRecording(UUID pathId, String name, World world, long startTime) {
-            this.pathId = pathId; this.name = name; this.world = world; this.startTime = startTime; }
+        ActiveRecording(UUID pathId, String name, Player player, World world, long startTime) {
+            this.pathId = pathId; this.name = name; this.player = player; this.world = world; this.startTime = startTime; }
         public UUID getPathId() { return pathId; }
         public String getName() { return name; }
         public World getWorld() { return world; }
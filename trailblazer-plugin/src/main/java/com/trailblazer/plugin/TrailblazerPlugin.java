@@ -3,26 +3,30 @@ package com.trailblazer.plugin;
 import java.util.logging.Logger;
 
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import com.trailblazer.plugin.commands.PathTabCompleter;
 import com.trailblazer.plugin.commands.TrailblazerCommand;
+import com.trailblazer.plugin.listeners.PlayerMoveListener;
 import com.trailblazer.plugin.networking.ServerPacketHandler;
 import com.trailblazer.plugin.rendering.PlayerRenderSettingsManager;
+import com.trailblazer.plugin.storage.PathIoExecutor;
 
 public final class TrailblazerPlugin extends JavaPlugin implements Listener {
 
     private static Logger pluginLogger;
     private static TrailblazerPlugin instance;
 
+    private PathIoExecutor ioExecutor;
     private PathDataManager pathDataManager;
     private PathRendererManager pathRendererManager;
     private ServerPacketHandler serverPacketHandler;
     private PlayerRenderSettingsManager playerRenderSettingsManager;
     private RecordingManager recordingManager;
-    private int recordingTaskId = -1;
 
     @Override
     public void onEnable() {
@@ -30,6 +34,7 @@ public final class TrailblazerPlugin extends JavaPlugin implements Listener {
         pluginLogger = this.getLogger();
         pluginLogger.info("Trailblazer plugin loaded and fixed");
 
+        saveDefaultConfig();
         initializeManagers();
         registerEventListeners();
         registerCommands();
@@ -42,10 +47,24 @@ public final class TrailblazerPlugin extends JavaPlugin implements Listener {
     public void onDisable() {
         // Stop all rendering tasks on shutdown
         getServer().getScheduler().cancelTasks(this);
+        if (pathRendererManager != null) {
+            pathRendererManager.shutdown();
+        }
+        if (serverPacketHandler != null) {
+            serverPacketHandler.shutdown();
+        }
+        // Let queued writes finish before the storage layer goes away
+        if (ioExecutor != null) {
+            ioExecutor.shutdown(10_000L);
+        }
+        if (pathDataManager != null) {
+            pathDataManager.shutdown();
+        }
         pluginLogger.info("Plugin disabled. All trails are safe.");
     }
 
     private void initializeManagers() {
+        ioExecutor = new PathIoExecutor(this);
         pathDataManager = new PathDataManager(this);
         playerRenderSettingsManager = new PlayerRenderSettingsManager();
         serverPacketHandler = new ServerPacketHandler(this);
@@ -55,14 +74,10 @@ public final class TrailblazerPlugin extends JavaPlugin implements Listener {
     }
 
     private void registerEventListeners() {
-        getServer().getPluginManager().registerEvents(this, this); // Register this class for the quit event
+        getServer().getPluginManager().registerEvents(this, this); // Register this class for the quit and world unload events
+        // Recording is sampled from movement events rather than polled every tick
+        getServer().getPluginManager().registerEvents(new PlayerMoveListener(recordingManager), this);
         pluginLogger.info("Event listeners registered.");
-        // Schedule recording tick task (every 2 ticks to reduce load slightly)
-        if (recordingTaskId == -1) {
-            recordingTaskId = getServer().getScheduler().scheduleSyncRepeatingTask(this, () -> {
-                if (recordingManager != null) recordingManager.tick();
-            }, 1L, 2L);
-        }
     }
     
     // Cleans up managers to prevent memory leaks when a player logs off.
@@ -76,11 +91,20 @@ public final class TrailblazerPlugin extends JavaPlugin implements Listener {
         }
     }
 
+    // Another plugin may cancel the unload, so only react once it is final
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        pathDataManager.onWorldUnload(event.getWorld().getUID());
+    }
+
     private void registerCommands() {
-        getCommand("trailblazer").setExecutor(new TrailblazerCommand(this));
-        getCommand("trailblazer").setTabCompleter(new PathTabCompleter(pathDataManager));
-        getCommand("tbl").setExecutor(new TrailblazerCommand(this));
-        getCommand("tbl").setTabCompleter(new PathTabCompleter(pathDataManager));
+        // One executor for both aliases so a player's commands are ordered across them
+        TrailblazerCommand command = new TrailblazerCommand(this);
+        getCommand("trailblazer").setExecutor(command);
+        PathTabCompleter tabCompleter = new PathTabCompleter(pathDataManager, ioExecutor);
+        getCommand("trailblazer").setTabCompleter(tabCompleter);
+        getCommand("tbl").setExecutor(command);
+        getCommand("tbl").setTabCompleter(tabCompleter);
         pluginLogger.info("Commands registered.");
     }
 
@@ -88,6 +112,11 @@ public final class TrailblazerPlugin extends JavaPlugin implements Listener {
         return pathDataManager;
     }
 
+    /** All path storage I/O is submitted through this executor. */
+    public PathIoExecutor getIoExecutor() {
+        return ioExecutor;
+    }
+
     public PathRendererManager getPathRendererManager() {
         return pathRendererManager;
     }
@@ -109,6 +138,7 @@ public final class TrailblazerPlugin extends JavaPlugin implements Listener {
     }
 
     public static Logger getPluginLogger() {
-        return pluginLogger;
+        // Storage classes also run outside a server, e.g. in tests
+        return pluginLogger != null ? pluginLogger : Logger.getLogger("Trailblazer");
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.trailblazer.plugin.commands;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.bukkit.entity.Player;
+
+import com.trailblazer.plugin.storage.PathIoExecutor;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Two-phase execution for /trailblazer subcommands that touch path storage.
+ * <p>
+ * The gather phase runs on the {@link PathIoExecutor} and must not call the Bukkit API; anything it needs
+ * from the player or world is captured on the main thread beforehand. The apply phase runs on the main
+ * thread and sends messages or starts renderers. Commands of one player run strictly one after another,
+ * so a quick rename followed by a delete sees the renamed path. Each player may have at most
+ * {@link #MAX_QUEUED_PER_PLAYER} commands in flight; further ones are refused instead of queued.
+ * All bookkeeping is confined to the main thread.
+ */
+public class CommandPipeline {
+
+    private static final int MAX_QUEUED_PER_PLAYER = 3;
+
+    private final PathIoExecutor io;
+    private final Map<UUID, PlayerQueue> queues = new HashMap<>();
+
+    public CommandPipeline(PathIoExecutor io) {
+        this.io = io;
+    }
+
+    /** Queues a command whose gather phase only reads the world's paths. */
+    public <T> void read(Player player, UUID worldUid, Callable<T> gather, Consumer<T> apply) {
+        submit(player, worldUid, false, gather, apply);
+    }
+
+    /** Queues a command whose gather phase modifies the world's paths. */
+    public <T> void write(Player player, UUID worldUid, Callable<T> gather, Consumer<T> apply) {
+        submit(player, worldUid, true, gather, apply);
+    }
+
+    private <T> void submit(Player player, UUID worldUid, boolean write, Callable<T> gather, Consumer<T> apply) {
+        UUID playerId = player.getUniqueId();
+        PlayerQueue queue = queues.computeIfAbsent(playerId, id -> new PlayerQueue());
+        if (queue.pending >= MAX_QUEUED_PER_PLAYER) {
+            player.sendMessage(Component.text("Still working on your previous commands, please wait a moment.", NamedTextColor.YELLOW));
+            return;
+        }
+        queue.pending++;
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<Void> previous = queue.tail;
+        queue.tail = done;
+        // Starts only after the previous command of this player has applied its effects
+        previous.whenComplete((ignored, error) -> {
+            CompletableFuture<T> gathered = write ? io.write(worldUid, gather) : io.read(worldUid, gather);
+            io.onMain(gathered, value -> {
+                try {
+                    if (player.isOnline()) {
+                        apply.accept(value);
+                    }
+                } finally {
+                    finish(playerId, queue, done);
+                }
+            }, failure -> {
+                if (player.isOnline()) {
+                    player.sendMessage(Component.text(PathIoExecutor.isBusy(failure)
+                            ? "The server is busy, please try again in a moment."
+                            : "An error occurred while accessing your paths.", NamedTextColor.RED));
+                }
+                finish(playerId, queue, done);
+            });
+        });
+    }
+
+    private void finish(UUID playerId, PlayerQueue queue, CompletableFuture<Void> done) {
+        queue.pending--;
+        if (queue.pending == 0) {
+            queues.remove(playerId, queue);
+        }
+        done.complete(null);
+    }
+
+    private static final class PlayerQueue {
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        private int pending = 0;
+    }
+}
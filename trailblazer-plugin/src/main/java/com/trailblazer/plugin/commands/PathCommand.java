@@ -3,6 +3,7 @@ package com.trailblazer.plugin.commands;
 import com.trailblazer.api.PathData;
 import com.trailblazer.api.Vector3d;
 import com.trailblazer.plugin.PathDataManager;
+import com.trailblazer.plugin.PathSummary;
 import com.trailblazer.plugin.TrailblazerPlugin;
 import com.trailblazer.plugin.rendering.PlayerRenderSettingsManager;
 import com.trailblazer.plugin.rendering.RenderMode;
@@ -25,11 +26,14 @@ public class PathCommand implements CommandExecutor {
     private final TrailblazerPlugin plugin;
     private final com.trailblazer.plugin.PathDataManager pathDataManager;
     private final PlayerRenderSettingsManager renderSettingsManager;
+    // Storage work for path subcommands runs off the main thread, in order per player
+    private final CommandPipeline pipeline;
 
     public PathCommand(TrailblazerPlugin plugin) {
         this.plugin = plugin;
         this.pathDataManager = plugin.getPathDataManager();
         this.renderSettingsManager = plugin.getPlayerRenderSettingsManager();
+        this.pipeline = new CommandPipeline(plugin.getIoExecutor());
     }
 
     @Override
@@ -182,28 +186,27 @@ public class PathCommand implements CommandExecutor {
         var pr = CommandUtils.parseQuoted(args, 1, true);
         String pathName = pr.value;
         String dimId = currentDimensionId(player.getWorld());
-        Optional<PathData> pathOpt = com.trailblazer.api.PathNameMatcher.findByName(
-            pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-                .filter(p -> dimId.equals(p.getDimension()))
-                .collect(java.util.stream.Collectors.toList()),
-            pathName);
-
-        if (pathOpt.isPresent()) {
-            PathData path = pathOpt.get();
-            List<Vector3d> points = path.getPoints();
-            if (points.isEmpty()) {
-                player.sendMessage(Component.text("Path '" + pathName + "' has no points.", NamedTextColor.YELLOW));
-                return;
-            }
-            Vector3d start = points.get(0);
-            Vector3d end = points.get(points.size() - 1);
+        java.util.UUID worldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+        pipeline.read(player, worldUid,
+            () -> findInDimension(worldUid, playerId, dimId, pathName),
+            pathOpt -> {
+                if (pathOpt.isPresent()) {
+                    PathSummary path = pathOpt.get();
+                    if (path.pointCount() == 0 || path.start() == null || path.end() == null) {
+                        player.sendMessage(Component.text("Path '" + pathName + "' has no points.", NamedTextColor.YELLOW));
+                        return;
+                    }
+                    Vector3d start = path.start();
+                    Vector3d end = path.end();
 
-            player.sendMessage(Component.text("--- Info for " + pathName + " ---", NamedTextColor.GOLD));
-            player.sendMessage(Component.text("Start: ", NamedTextColor.GRAY).append(Component.text(String.format("%.1f, %.1f, %.1f", start.getX(), start.getY(), start.getZ()), NamedTextColor.WHITE)));
-            player.sendMessage(Component.text("End:   ", NamedTextColor.GRAY).append(Component.text(String.format("%.1f, %.1f, %.1f", end.getX(), end.getY(), end.getZ()), NamedTextColor.WHITE)));
-        } else {
-            player.sendMessage(Component.text("Path '" + pathName + "' not found.", NamedTextColor.RED));
-        }
+                    player.sendMessage(Component.text("--- Info for " + pathName + " ---", NamedTextColor.GOLD));
+                    player.sendMessage(Component.text("Start: ", NamedTextColor.GRAY).append(Component.text(String.format("%.1f, %.1f, %.1f", start.getX(), start.getY(), start.getZ()), NamedTextColor.WHITE)));
+                    player.sendMessage(Component.text("End:   ", NamedTextColor.GRAY).append(Component.text(String.format("%.1f, %.1f, %.1f", end.getX(), end.getY(), end.getZ()), NamedTextColor.WHITE)));
+                } else {
+                    player.sendMessage(Component.text("Path '" + pathName + "' not found.", NamedTextColor.RED));
+                }
+            });
     }
 
     private void handleColor(Player player, String[] args) {
@@ -215,27 +218,34 @@ public class PathCommand implements CommandExecutor {
         String pathName = pr.value;
         var pr2 = CommandUtils.parseQuoted(args, pr.nextIndex, true);
         String colorArg = pr2.value;
-        String dimId2 = currentDimensionId(player.getWorld());
-        List<PathData> paths = pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-            .filter(p -> dimId2.equals(p.getDimension()))
-            .collect(java.util.stream.Collectors.toList());
-    Optional<PathData> pathOpt = com.trailblazer.api.PathNameMatcher.findByName(paths, pathName);
-        if (pathOpt.isEmpty()) {
-            player.sendMessage(Component.text("Path '" + pathName + "' not found.", NamedTextColor.RED));
-            return;
-        }
-        PathData path = pathOpt.get();
         java.util.Optional<Integer> parsed = com.trailblazer.api.PathColors.parse(colorArg);
         if (parsed.isEmpty()) {
             player.sendMessage(Component.text("Invalid color. Use a name or #RRGGBB.", NamedTextColor.RED));
             return;
         }
-        path.setColorArgb(parsed.get());
-        // Persist by rewriting file (reuse rename logic pattern)
-        pathDataManager.savePath(player.getWorld().getUID(), path);
-        player.sendMessage(Component.text("Color for path '" + path.getPathName() + "' set to " + com.trailblazer.api.PathColors.nameOrHex(path.getColorArgb()), NamedTextColor.GREEN));
-        
-        plugin.getPathRendererManager().startRendering(player, path);
+        String dimId2 = currentDimensionId(player.getWorld());
+        java.util.UUID worldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+        pipeline.write(player, worldUid, () -> {
+            Optional<PathData> pathOpt = findInDimension(worldUid, playerId, dimId2, pathName)
+                .flatMap(summary -> pathDataManager.loadPath(worldUid, playerId, summary.pathId()));
+            if (pathOpt.isEmpty()) {
+                return null;
+            }
+            PathData path = pathOpt.get();
+            path.setColorArgb(parsed.get());
+            // Persist by rewriting file (reuse rename logic pattern)
+            pathDataManager.savePath(worldUid, path);
+            return path;
+        }, path -> {
+            if (path == null) {
+                player.sendMessage(Component.text("Path '" + pathName + "' not found.", NamedTextColor.RED));
+                return;
+            }
+            player.sendMessage(Component.text("Color for path '" + path.getPathName() + "' set to " + com.trailblazer.api.PathColors.nameOrHex(path.getColorArgb()), NamedTextColor.GREEN));
+
+            plugin.getPathRendererManager().startRendering(player, path);
+        });
     }
 
     private void handleView(Player player, String[] args) {
@@ -250,17 +260,19 @@ public class PathCommand implements CommandExecutor {
         var pr = CommandUtils.parseQuoted(args, 1, true);
         String pathName = pr.value;
         String dimId3 = currentDimensionId(player.getWorld());
-        List<PathData> paths = pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-            .filter(p -> dimId3.equals(p.getDimension()))
-            .collect(java.util.stream.Collectors.toList());
-        Optional<PathData> pathOpt = com.trailblazer.api.PathNameMatcher.findByName(paths, pathName);
-
-        if (pathOpt.isPresent()) {
-            plugin.getPathRendererManager().startRendering(player, pathOpt.get());
-            player.sendMessage(Component.text("Showing path: " + pathName, NamedTextColor.GREEN));
-        } else {
-            player.sendMessage(Component.text("Path '" + pathName + "' not found.", NamedTextColor.RED));
-        }
+        java.util.UUID worldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+        pipeline.read(player, worldUid,
+            () -> findInDimension(worldUid, playerId, dimId3, pathName)
+                .flatMap(summary -> pathDataManager.loadPath(worldUid, playerId, summary.pathId())),
+            pathOpt -> {
+                if (pathOpt.isPresent()) {
+                    plugin.getPathRendererManager().startRendering(player, pathOpt.get());
+                    player.sendMessage(Component.text("Showing path: " + pathName, NamedTextColor.GREEN));
+                } else {
+                    player.sendMessage(Component.text("Path '" + pathName + "' not found.", NamedTextColor.RED));
+                }
+            });
     }
 
     private void handleHide(Player player, String[] args) {
@@ -278,34 +290,76 @@ public class PathCommand implements CommandExecutor {
             return;
         }
         if (args.length < 2) {
-            player.sendMessage(Component.text("Usage: /trailblazer delete <name> (quote names with spaces)", NamedTextColor.RED));
+            player.sendMessage(Component.text("Usage: /trailblazer delete <name>[,<name>...] (quote names with spaces)", NamedTextColor.RED));
             return;
         }
         var pr = CommandUtils.parseQuoted(args, 1, true);
-        String pathName = pr.value;
+        // Path names cannot contain commas (see PathNameSanitizer), so a comma always separates names
+        List<String> pathNames = Arrays.stream(pr.value.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .distinct()
+            .collect(Collectors.toList());
+        if (pathNames.isEmpty()) {
+            player.sendMessage(Component.text("Usage: /trailblazer delete <name>[,<name>...] (quote names with spaces)", NamedTextColor.RED));
+            return;
+        }
         String dimId4 = currentDimensionId(player.getWorld());
-        Optional<PathData> pathOpt = com.trailblazer.api.PathNameMatcher.findByName(
-            pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-                .filter(p -> dimId4.equals(p.getDimension()))
-                .collect(java.util.stream.Collectors.toList()),
-            pathName);
-
-        if (pathOpt.isPresent()) {
-            PathData path = pathOpt.get();
-            boolean deleted = pathDataManager.deletePath(player.getWorld().getUID(), player.getUniqueId(), path.getPathId());
-            if (deleted) {
-                if (!plugin.getServerPacketHandler().isModdedPlayer(player)) {
-                    plugin.getPathRendererManager().stopRendering(player);
+        java.util.UUID worldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+        pipeline.write(player, worldUid, () -> {
+            List<PathSummary> paths = summariesInDimension(worldUid, playerId, dimId4);
+            java.util.Map<java.util.UUID, String> idsToNames = new java.util.LinkedHashMap<>();
+            List<String> notFound = new ArrayList<>();
+            for (String name : pathNames) {
+                Optional<PathSummary> pathOpt = PathSummary.findByName(paths, name);
+                if (pathOpt.isPresent()) {
+                    idsToNames.putIfAbsent(pathOpt.get().pathId(), name);
+                } else {
+                    notFound.add(name);
                 }
-                player.sendMessage(Component.text("Path '" + pathName + "' has been removed from your list.", NamedTextColor.GREEN));
-            } else {
-                player.sendMessage(Component.text("Failed to remove path '" + pathName + "'.", NamedTextColor.RED));
             }
-        } else {
-            player.sendMessage(Component.text("Path '" + pathName + "' not found in your list.", NamedTextColor.RED));
-        }
+            List<String> deleted = new ArrayList<>();
+            List<String> failed = new ArrayList<>(idsToNames.values());
+            if (!idsToNames.isEmpty()) {
+                // One storage pass for all names
+                var result = pathDataManager.applyBulk(worldUid, playerId, com.trailblazer.api.Protocol.BulkAction.DELETE,
+                    idsToNames.keySet(), 0, null);
+                for (java.util.UUID id : result.removed()) {
+                    deleted.add(idsToNames.get(id));
+                }
+                failed.removeAll(deleted);
+            }
+            return new DeleteOutcome(deleted, notFound, failed);
+        }, outcome -> {
+            if (!outcome.deleted().isEmpty() && !plugin.getServerPacketHandler().isModdedPlayer(player)) {
+                plugin.getPathRendererManager().stopRendering(player);
+            }
+            if (pathNames.size() == 1) {
+                String pathName = pathNames.get(0);
+                if (!outcome.notFound().isEmpty()) {
+                    player.sendMessage(Component.text("Path '" + pathName + "' not found in your list.", NamedTextColor.RED));
+                } else if (!outcome.deleted().isEmpty()) {
+                    player.sendMessage(Component.text("Path '" + pathName + "' has been removed from your list.", NamedTextColor.GREEN));
+                } else {
+                    player.sendMessage(Component.text("Failed to remove path '" + pathName + "'.", NamedTextColor.RED));
+                }
+                return;
+            }
+            if (!outcome.deleted().isEmpty()) {
+                player.sendMessage(Component.text("Removed " + outcome.deleted().size() + " path(s) from your list: " + String.join(", ", outcome.deleted()) + ".", NamedTextColor.GREEN));
+            }
+            if (!outcome.notFound().isEmpty()) {
+                player.sendMessage(Component.text("Not found in your list: " + String.join(", ", outcome.notFound()) + ".", NamedTextColor.RED));
+            }
+            if (!outcome.failed().isEmpty()) {
+                player.sendMessage(Component.text("Failed to remove: " + String.join(", ", outcome.failed()) + ".", NamedTextColor.RED));
+            }
+        });
     }
 
+    private record DeleteOutcome(List<String> deleted, List<String> notFound, List<String> failed) {}
+
     private void handleList(Player player) {
         if (plugin.getServerPacketHandler().isModdedPlayer(player)) {
             player.sendMessage(Component.text("Client mod handles listing paths. Use the Trailblazer UI.", NamedTextColor.YELLOW));
@@ -313,29 +367,30 @@ public class PathCommand implements CommandExecutor {
         }
 
         String dimId5 = currentDimensionId(player.getWorld());
-        List<PathData> paths = pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-            .filter(p -> dimId5.equals(p.getDimension()))
-            .collect(java.util.stream.Collectors.toList());
-        if (paths.isEmpty()) {
-            player.sendMessage(Component.text("You have no saved paths on this server.", NamedTextColor.GRAY));
-            return;
-        }
+        java.util.UUID worldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+        pipeline.read(player, worldUid, () -> summariesInDimension(worldUid, playerId, dimId5), paths -> {
+            if (paths.isEmpty()) {
+                player.sendMessage(Component.text("You have no saved paths on this server.", NamedTextColor.GRAY));
+                return;
+            }
 
-        paths.sort((a, b) -> Long.compare(b.getCreationTimestamp(), a.getCreationTimestamp()));
-        player.sendMessage(Component.text("--- Saved Paths ---", NamedTextColor.GOLD));
-        int index = 1;
-        for (PathData path : paths) {
-            boolean owner = path.getOwnerUUID().equals(player.getUniqueId());
-            NamedTextColor nameColor = owner ? NamedTextColor.GREEN : NamedTextColor.AQUA;
-            Component line = Component.text(index++ + ". ", NamedTextColor.GRAY)
-                    .append(Component.text(path.getPathName(), nameColor))
-                    .append(Component.text(" (" + path.getPoints().size() + " points, " + friendlyDimension(path.getDimension()) + ")", NamedTextColor.DARK_GRAY));
-            if (!owner) {
-                line = line.append(Component.text(" [shared]", NamedTextColor.BLUE));
+            paths.sort((a, b) -> Long.compare(b.creationTimestamp(), a.creationTimestamp()));
+            player.sendMessage(Component.text("--- Saved Paths ---", NamedTextColor.GOLD));
+            int index = 1;
+            for (PathSummary path : paths) {
+                boolean owner = path.ownerUUID().equals(playerId);
+                NamedTextColor nameColor = owner ? NamedTextColor.GREEN : NamedTextColor.AQUA;
+                Component line = Component.text(index++ + ". ", NamedTextColor.GRAY)
+                        .append(Component.text(path.pathName(), nameColor))
+                        .append(Component.text(" (" + path.pointCount() + " points, " + friendlyDimension(path.dimension()) + ")", NamedTextColor.DARK_GRAY));
+                if (!owner) {
+                    line = line.append(Component.text(" [shared]", NamedTextColor.BLUE));
+                }
+                player.sendMessage(line);
             }
-            player.sendMessage(line);
-        }
-        player.sendMessage(Component.text("Use '/trailblazer view <name>' to show a path.", NamedTextColor.GRAY));
+            player.sendMessage(Component.text("Use '/trailblazer view <name>' to show a path.", NamedTextColor.GRAY));
+        });
     }
 
     private String friendlyDimension(String dimensionId) {
@@ -365,31 +420,40 @@ public class PathCommand implements CommandExecutor {
         String rawNewName = pr2.value;
         String sanitizedNewName = com.trailblazer.api.PathNameSanitizer.sanitize(rawNewName);
         String dimId6 = currentDimensionId(player.getWorld());
-        List<PathData> paths = pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-            .filter(p -> dimId6.equals(p.getDimension()))
-            .collect(java.util.stream.Collectors.toList());
-
-        // Check if a path with the new name already exists to avoid duplicates.
-        if (paths.stream().anyMatch(p -> p.getPathName().equalsIgnoreCase(sanitizedNewName))) {
-            player.sendMessage(Component.text("A path with the name '" + sanitizedNewName + "' already exists.", NamedTextColor.RED));
-            return;
-        }
-
-    Optional<PathData> pathOpt = com.trailblazer.api.PathNameMatcher.findByName(paths, oldName);
+        java.util.UUID worldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+        pipeline.write(player, worldUid, () -> {
+            List<PathSummary> paths = summariesInDimension(worldUid, playerId, dimId6);
+
+            // Check if a path with the new name already exists to avoid duplicates.
+            if (paths.stream().anyMatch(p -> p.pathName().equalsIgnoreCase(sanitizedNewName))) {
+                return RenameOutcome.NAME_TAKEN;
+            }
 
-        if (pathOpt.isPresent()) {
+            Optional<PathSummary> pathOpt = PathSummary.findByName(paths, oldName);
+            if (pathOpt.isEmpty()) {
+                return RenameOutcome.NOT_FOUND;
+            }
             // A player can rename any path in their list. For shared paths, this is just a local alias.
-            pathDataManager.renamePath(player.getWorld().getUID(), player.getUniqueId(), pathOpt.get().getPathId(), sanitizedNewName);
-            if (!sanitizedNewName.equals(rawNewName)) {
-                player.sendMessage(Component.text("Path '" + oldName + "' renamed to sanitized '" + sanitizedNewName + "' (invalid characters were adjusted).", NamedTextColor.GREEN));
-            } else {
-                player.sendMessage(Component.text("Path '" + oldName + "' renamed to '" + sanitizedNewName + "'.", NamedTextColor.GREEN));
+            pathDataManager.renamePath(worldUid, playerId, pathOpt.get().pathId(), sanitizedNewName);
+            return RenameOutcome.RENAMED;
+        }, outcome -> {
+            switch (outcome) {
+                case NAME_TAKEN -> player.sendMessage(Component.text("A path with the name '" + sanitizedNewName + "' already exists.", NamedTextColor.RED));
+                case NOT_FOUND -> player.sendMessage(Component.text("Path '" + oldName + "' not found.", NamedTextColor.RED));
+                case RENAMED -> {
+                    if (!sanitizedNewName.equals(rawNewName)) {
+                        player.sendMessage(Component.text("Path '" + oldName + "' renamed to sanitized '" + sanitizedNewName + "' (invalid characters were adjusted).", NamedTextColor.GREEN));
+                    } else {
+                        player.sendMessage(Component.text("Path '" + oldName + "' renamed to '" + sanitizedNewName + "'.", NamedTextColor.GREEN));
+                    }
+                }
             }
-        } else {
-            player.sendMessage(Component.text("Path '" + oldName + "' not found.", NamedTextColor.RED));
-        }
+        });
     }
 
+    private enum RenameOutcome { NAME_TAKEN, NOT_FOUND, RENAMED }
+
     private void handleRenderMode(Player player, String[] args) {
         if (plugin.getServerPacketHandler().isModdedPlayer(player)) {
              player.sendMessage(Component.text("You have the client mod! Please use the 'G' key to change render modes.", NamedTextColor.YELLOW));
@@ -410,6 +474,7 @@ public class PathCommand implements CommandExecutor {
         if (modeOpt.isPresent()) {
             renderSettingsManager.setRenderMode(player, modeOpt.get());
             player.sendMessage(Component.text("Render mode set to " + modeOpt.get().name(), NamedTextColor.GREEN));
+            plugin.getPathRendererManager().onRenderSettingsChanged(player);
         } else {
             player.sendMessage(Component.text("Invalid render mode: " + modeName, NamedTextColor.RED));
         }
@@ -434,6 +499,7 @@ public class PathCommand implements CommandExecutor {
             }
             renderSettingsManager.setMarkerSpacing(player, spacing);
             player.sendMessage(Component.text("Marker spacing set to " + spacing + " blocks.", NamedTextColor.GREEN));
+            plugin.getPathRendererManager().onRenderSettingsChanged(player);
         } catch (NumberFormatException ex) {
             player.sendMessage(Component.text("Invalid number: " + args[1], NamedTextColor.RED));
         }
@@ -452,6 +518,7 @@ public class PathCommand implements CommandExecutor {
         List<Player> targetPlayers = targetPlayerNames.stream()
                 .map(name -> plugin.getServer().getPlayer(name.trim()))
                 .filter(p -> p != null && p.isOnline())
+                .distinct()
                 .collect(Collectors.toList());
 
         if (targetPlayers.isEmpty()) {
@@ -460,34 +527,58 @@ public class PathCommand implements CommandExecutor {
         }
 
         String dimId7 = currentDimensionId(player.getWorld());
-        Optional<PathData> pathOpt = pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream()
-            .filter(p -> dimId7.equals(p.getDimension()))
-            .filter(p -> p.getPathName().equalsIgnoreCase(pathName))
-                .findFirst();
+        java.util.UUID sourceWorldUid = player.getWorld().getUID();
+        java.util.UUID playerId = player.getUniqueId();
+
+        // Create every recipient's copy in one batch (single folder scan, parallel writes)
+        java.util.Map<java.util.UUID, String> recipients = new java.util.LinkedHashMap<>();
+        for (Player targetPlayer : targetPlayers) {
+            if (!targetPlayer.getUniqueId().equals(playerId)) {
+                recipients.put(targetPlayer.getUniqueId(), targetPlayer.getName());
+            }
+        }
 
-        if (pathOpt.isPresent()) {
-            PathData path = pathOpt.get();
-            if (path.getOwnerUUID().equals(player.getUniqueId())) {
+        pipeline.write(player, sourceWorldUid, () -> {
+            // Only the shared path's points are loaded
+            PathData found = findInDimension(sourceWorldUid, playerId, dimId7, pathName)
+                .flatMap(p -> pathDataManager.loadPath(sourceWorldUid, playerId, p.pathId()))
+                .orElse(null);
+            if (found == null || !found.getOwnerUUID().equals(playerId)) {
+                return new ShareOutcome(found, null);
+            }
+            return new ShareOutcome(found, pathDataManager.ensureSharedCopies(found, recipients, sourceWorldUid));
+        }, outcome -> deliverShare(player, pathName, targetPlayers, sourceWorldUid, outcome));
+    }
+
+    private record ShareOutcome(PathData path, java.util.Map<java.util.UUID, PathDataManager.SharedCopyResult> results) {}
+
+    private void deliverShare(Player player, String pathName, List<Player> targetPlayers, java.util.UUID sourceWorldUid, ShareOutcome outcome) {
+        PathData path = outcome.path();
+        if (path != null) {
+            if (outcome.results() != null) {
                 List<String> succeeded = new ArrayList<>();
                 List<String> alreadyHad = new ArrayList<>();
                 List<String> queuedOtherWorld = new ArrayList<>();
                 java.util.Map<String, String> failed = new java.util.HashMap<>();
-
-                java.util.UUID sourceWorldUid = player.getWorld().getUID();
+                java.util.Map<java.util.UUID, PathDataManager.SharedCopyResult> results = outcome.results();
 
                 for (Player targetPlayer : targetPlayers) {
                     if (targetPlayer.getUniqueId().equals(player.getUniqueId())) {
                         player.sendMessage(Component.text("You cannot share a path with yourself.", NamedTextColor.YELLOW));
                         continue;
                     }
-
-                    PathDataManager.SharedCopyResult result = pathDataManager.ensureSharedCopy(path, targetPlayer.getUniqueId(), targetPlayer.getName(), sourceWorldUid);
+                    PathDataManager.SharedCopyResult result = results.get(targetPlayer.getUniqueId());
                     PathData sharedCopy = result.getPath();
                     if (!result.wasCreated()) {
                         // The target already has a copy (idempotent behavior)
                         alreadyHad.add(targetPlayer.getName());
                         continue;
                     }
+                    // The target logged off while the copies were written; the copy is loaded on their next join
+                    if (!targetPlayer.isOnline()) {
+                        succeeded.add(targetPlayer.getName());
+                        continue;
+                    }
 
                     // Avoid cross-world bleeding: only deliver/render immediately if they're in the same world.
                     if (!sourceWorldUid.equals(targetPlayer.getWorld().getUID())) {
@@ -550,7 +641,7 @@ public class PathCommand implements CommandExecutor {
         player.sendMessage(Component.text("/trailblazer hide", NamedTextColor.YELLOW).append(Component.text(" - Hide current path", NamedTextColor.WHITE)));
         player.sendMessage(Component.text("/trailblazer info <name>", NamedTextColor.YELLOW).append(Component.text(" - Get path coordinates", NamedTextColor.WHITE)));
         player.sendMessage(Component.text("/trailblazer rename <old> <new>", NamedTextColor.YELLOW).append(Component.text(" - Rename a path", NamedTextColor.WHITE)));
-        player.sendMessage(Component.text("/trailblazer delete <name>", NamedTextColor.YELLOW).append(Component.text(" - Delete a path", NamedTextColor.WHITE)));
+        player.sendMessage(Component.text("/trailblazer delete <name>[,<name>...]", NamedTextColor.YELLOW).append(Component.text(" - Delete one or more paths", NamedTextColor.WHITE)));
         player.sendMessage(Component.text("/trailblazer color <name> <color>", NamedTextColor.YELLOW).append(Component.text(" - Change path color", NamedTextColor.WHITE)));
         player.sendMessage(Component.text("/trailblazer spacing <blocks>", NamedTextColor.YELLOW).append(Component.text(" - Set marker spacing (e.g. 3.0)", NamedTextColor.WHITE)));
         player.sendMessage(Component.text("/trailblazer share <path> <players>", NamedTextColor.YELLOW).append(Component.text(" - Share path with players", NamedTextColor.WHITE)));
@@ -560,6 +651,19 @@ public class PathCommand implements CommandExecutor {
         }
     }
 
+    /**
+     * Lists the player's paths in a world, limited to one dimension, without their points.
+     * Safe to call off the main thread.
+     */
+    private List<PathSummary> summariesInDimension(java.util.UUID worldUid, java.util.UUID playerId, String dimId) {
+        return pathDataManager.listSummaries(worldUid, playerId, p -> dimId.equals(p.dimension()));
+    }
+
+    /** Looks up one of the player's paths in a dimension by name. Safe to call off the main thread. */
+    private Optional<PathSummary> findInDimension(java.util.UUID worldUid, java.util.UUID playerId, String dimId, String name) {
+        return pathDataManager.findSummaryByName(worldUid, playerId, name, p -> dimId.equals(p.dimension()));
+    }
+
     // Maps the current Bukkit world environment to our canonical dimension identifiers used in PathData
     private String currentDimensionId(org.bukkit.World world) {
         if (world == null) return "minecraft:overworld";
@@ -1,6 +1,8 @@
 package com.trailblazer.plugin.commands;
 
 import com.trailblazer.plugin.PathDataManager;
+import com.trailblazer.plugin.PathSummary;
+import com.trailblazer.plugin.storage.PathIoExecutor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
@@ -10,20 +12,53 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class PathTabCompleter implements TabCompleter {
 
     private final PathDataManager pathDataManager;
+    private final PathIoExecutor io;
+    /** Completion runs on the main thread, so suggestions come from a per-player snapshot refreshed off-thread. */
+    private static final long SNAPSHOT_TTL_MS = 5_000L;
+    private final Map<UUID, PathSnapshot> snapshots = new ConcurrentHashMap<>();
     // Include 'help' so tab completion suggests it for server-side users as well
     // Ordered to match preferred server-side command order: record -> list -> view -> hide -> info -> rename -> delete -> color -> spacing -> share -> rendermode -> help
     private static final List<String> SUB_COMMANDS = List.of("record", "list", "view", "hide", "info", "rename", "delete", "color", "spacing", "share", "rendermode", "help");
     private static final List<String> RECORD_SUB = List.of("start","stop","cancel","status");
 
-    public PathTabCompleter(PathDataManager pathDataManager) {
+    public PathTabCompleter(PathDataManager pathDataManager, PathIoExecutor io) {
         this.pathDataManager = pathDataManager;
+        this.io = io;
     }
 
+    /**
+     * Returns the names of the player's last known paths in their current world and refreshes them in the
+     * background when stale. The first completion in a world may therefore come back empty. Only path
+     * summaries are read, never points.
+     */
+    private List<String> knownPaths(org.bukkit.entity.Player player) {
+        UUID playerId = player.getUniqueId();
+        UUID worldUid = player.getWorld().getUID();
+        PathSnapshot snapshot = snapshots.get(playerId);
+        boolean current = snapshot != null && snapshot.worldUid().equals(worldUid);
+        long now = System.currentTimeMillis();
+        if (!current || now - snapshot.fetchedAt() > SNAPSHOT_TTL_MS) {
+            // Players who left keep their snapshot until it is long stale
+            snapshots.values().removeIf(s -> now - s.fetchedAt() > SNAPSHOT_TTL_MS * 12);
+            // Mark as fetched now so a burst of keystrokes triggers a single load
+            snapshots.put(playerId, new PathSnapshot(worldUid, current ? snapshot.names() : List.of(), now));
+            io.read(worldUid, () -> pathDataManager.listSummaries(worldUid, playerId, null))
+                .thenAccept(paths -> snapshots.put(playerId, new PathSnapshot(worldUid,
+                    paths.stream().map(PathSummary::pathName).toList(), System.currentTimeMillis())));
+        }
+        return current ? snapshot.names() : List.of();
+    }
+
+    private record PathSnapshot(UUID worldUid, List<String> names, long fetchedAt) {}
+
     @Override
     public @Nullable List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String alias, @NotNull String[] args) {
         if (!(sender instanceof org.bukkit.entity.Player player)) {
@@ -55,22 +90,22 @@ public class PathTabCompleter implements TabCompleter {
         case "delete":
         case "rename":
         case "info":
-            var all = pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream();
-            var suggestions = com.trailblazer.api.PathNameMatcher.getSuggestions(all, args[1], 50).stream()
+            var all = knownPaths(player).stream();
+            var suggestions = com.trailblazer.api.PathNameMatcher.getNameSuggestions(all, args[1], 50).stream()
                 .map(n -> n.contains(" ") ? ('"' + n + '"') : n)
                 .collect(Collectors.toList());
             return StringUtil.copyPartialMatches(args[1], suggestions, new ArrayList<>());
                 case "rendermode":
                     return StringUtil.copyPartialMatches(args[1], List.of("trail", "arrows"), new ArrayList<>());
         case "color":
-            var colorSuggestions = com.trailblazer.api.PathNameMatcher.getSuggestions(pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream(), args[1], 50).stream()
+            var colorSuggestions = com.trailblazer.api.PathNameMatcher.getNameSuggestions(knownPaths(player).stream(), args[1], 50).stream()
                 .map(n -> n.contains(" ") ? ('"' + n + '"') : n)
                 .collect(Collectors.toList());
             return StringUtil.copyPartialMatches(args[1], colorSuggestions, new ArrayList<>());
                 case "record":
                     return StringUtil.copyPartialMatches(args[1], RECORD_SUB, new ArrayList<>());
                 case "share":
-            var shareSuggestions = com.trailblazer.api.PathNameMatcher.getSuggestions(pathDataManager.loadPaths(player.getWorld().getUID(), player.getUniqueId()).stream(), args[1], 50).stream()
+            var shareSuggestions = com.trailblazer.api.PathNameMatcher.getNameSuggestions(knownPaths(player).stream(), args[1], 50).stream()
                 .map(n -> n.contains(" ") ? ('"' + n + '"') : n)
                 .collect(Collectors.toList());
             return StringUtil.copyPartialMatches(args[1], shareSuggestions, new ArrayList<>());
@@ -1,42 +1,37 @@
 package com.trailblazer.plugin.listeners;
 
-import com.trailblazer.plugin.PathRecordingManager;
-import org.bukkit.Location;
-import org.bukkit.entity.Player;
+import com.trailblazer.plugin.RecordingManager;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 /**
- * Listens for player movement to handle path recording.
+ * Feeds player movement into the {@link RecordingManager}.
+ * The manager coalesces events per player and samples at most once per tick.
  */
 public class PlayerMoveListener implements Listener {
 
-    private final PathRecordingManager recordingManager;
+    private final RecordingManager recordingManager;
 
-    public PlayerMoveListener(PathRecordingManager recordingManager) {
+    public PlayerMoveListener(RecordingManager recordingManager) {
         this.recordingManager = recordingManager;
     }
 
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-
-        // Optimization: If the player isn't recording, we do nothing.
-        // The manager handles this check, but we can do it here to be extra efficient.
-        if (!recordingManager.isRecording(player)) {
+        // Head rotation alone fires move events too; those never produce a new point.
+        if (!event.hasChangedPosition()) {
             return;
         }
+        recordingManager.onPlayerMove(event.getPlayer());
+    }
 
-        // Optimization: Check if the player has actually moved from one block to another.
-        // This avoids running our logic for tiny head movements.
-        Location from = event.getFrom();
-        Location to = event.getTo();
-        if (to != null && from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() && from.getBlockZ() == to.getBlockZ()) {
-            return;
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        if (recordingManager.isRecording(event.getPlayer().getUniqueId())) {
+            recordingManager.onPlayerChangedWorld(event.getPlayer());
         }
-
-        // Tell the manager to process this new location.
-        recordingManager.recordPlayerLocation(player, player.getLocation());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,437 @@
+package com.trailblazer.plugin.networking;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.bukkit.entity.Player;
+
+import com.trailblazer.plugin.TrailblazerPlugin;
+
+/**
+ * Per-player outbound queue for all plugin messages sent to modded clients.
+ * <p>
+ * Each player has a token bucket refilled with {@code bytesPerTick} every tick and holding at most
+ * {@link #BURST_TICKS} ticks' worth. A message goes out immediately when nothing is queued ahead of it and the
+ * bucket is not empty; otherwise it waits and the per-tick drain sends queued messages by {@link Priority},
+ * FIFO within a priority. A message may overdraw the bucket, so one larger than the budget still goes out and
+ * the following ticks pay for it.
+ * <p>
+ * Messages sent with a coalescing key replace a queued message of the same priority and key instead of
+ * queueing behind it, e.g. a live frame superseding an unsent older frame. A message without a key acts as a
+ * barrier: nothing queued before it is replaced by anything queued after it, so e.g. a full sync never jumps
+ * over a delta.
+ * <p>
+ * Each player's queue is capped at {@link #MAX_QUEUED_BYTES}. Beyond that, only messages that a later one
+ * supersedes are shed: coalescible messages outside {@link Priority#SYNC}, such as live frames. Sync messages
+ * are never dropped one by one, because the client would silently fall out of step. Instead the queued
+ * path-list messages are discarded as a whole and a fresh full sync is requested, which carries their combined
+ * effect. Other sync-priority messages, e.g. world switches, stay queued.
+ * All state is confined to the main thread.
+ */
+public class OutboundScheduler {
+
+    /** Drain order, highest first. Messages whose relative order matters must share a priority. */
+    public enum Priority {
+        /** Recording start/stop and live frames. */
+        LIVE,
+        /** Action results, the server hello. */
+        ACTION,
+        /** Paths shared by other players. */
+        SHARE,
+        /** Full and delta syncs and everything else that changes the client's path list. */
+        SYNC
+    }
+
+    /** Coalescing key of messages that replace the client's whole path list. */
+    public static final String FULL_SYNC_KEY = "full-sync";
+
+    private static final int BURST_TICKS = 4;
+    private static final long MAX_QUEUED_BYTES = 8L * 1024 * 1024;
+    /** A requested full sync that never arrived (e.g. its load failed) is requested again after this long. */
+    private static final long RESYNC_RETRY_TICKS = 200L;
+
+    private final TrailblazerPlugin plugin;
+    private final Set<String> pathListChannels;
+    private final Consumer<Player> resync;
+    /** Zero or less disables the budget; messages are then only queued when called off the main thread. */
+    private final long bytesPerTick;
+    private final Map<UUID, PlayerQueue> queues = new HashMap<>();
+    private final Set<PlayerQueue> backlogged = new LinkedHashSet<>();
+    private long currentTick = 0L;
+
+    // Metrics
+    private long sent = 0L;
+    private long sentBytes = 0L;
+    private long deferred = 0L;
+    private long coalesced = 0L;
+    private long dropped = 0L;
+    private long collapsed = 0L;
+    private long resyncs = 0L;
+    private long peakQueuedBytes = 0L;
+
+    /**
+     * @param pathListChannels sync-priority channels whose messages a full sync makes redundant
+     * @param resync sends the player a full sync keyed {@link #FULL_SYNC_KEY}; called on the main thread
+     */
+    public OutboundScheduler(TrailblazerPlugin plugin, long bytesPerTick, Set<String> pathListChannels, Consumer<Player> resync) {
+        this.plugin = plugin;
+        this.bytesPerTick = bytesPerTick;
+        this.pathListChannels = pathListChannels;
+        this.resync = resync;
+        plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /** Sends or queues a message that is never replaced by a later one. Safe to call from any thread. */
+    public void send(Player player, Priority priority, String channel, byte[] message) {
+        send(player, priority, channel, message, null);
+    }
+
+    /**
+     * Sends or queues a message. Safe to call from any thread.
+     *
+     * @param coalesceKey identifies messages that supersede each other, or null
+     */
+    public void send(Player player, Priority priority, String channel, byte[] message, String coalesceKey) {
+        send(player, priority, channel, message, coalesceKey, null);
+    }
+
+    /**
+     * Sends or queues a message. Safe to call from any thread.
+     *
+     * @param coalesceKey identifies messages that supersede each other, or null
+     * @param onSent run on the main thread once the message, or one that replaced it, is actually written; never run
+     *               if it is dropped. May be null
+     */
+    public void send(Player player, Priority priority, String channel, byte[] message, String coalesceKey, Runnable onSent) {
+        if (!plugin.getServer().isPrimaryThread()) {
+            plugin.getServer().getScheduler().runTask(plugin, () -> send(player, priority, channel, message, coalesceKey, onSent));
+            return;
+        }
+        if (!player.isOnline()) {
+            return;
+        }
+        PlayerQueue queue = queues.computeIfAbsent(player.getUniqueId(), PlayerQueue::new);
+        if (FULL_SYNC_KEY.equals(coalesceKey)) {
+            queue.resyncRequestedAt = -1L;
+        }
+        queue.refill();
+        if (queue.isEmpty() && queue.hasBudget()) {
+            transmit(player, queue, channel, message, onSent);
+            return;
+        }
+        deferred++;
+        Outgoing outgoing = new Outgoing(channel, message, coalesceKey, onSent);
+        if (queue.coalesce(priority, outgoing)) {
+            return;
+        }
+        if (queue.queuedBytes + message.length > MAX_QUEUED_BYTES) {
+            if (priority == Priority.SYNC && pathListChannels.contains(channel)) {
+                collapsed += queue.removePathListMessages();
+                if (!FULL_SYNC_KEY.equals(coalesceKey)) {
+                    // The message itself is covered by the full sync as well
+                    collapsed++;
+                    requestResync(player, queue);
+                    return;
+                }
+                // A full sync is the replacement, so it is queued even if the rest of the queue is still over the cap
+            }
+            if (coalesceKey != null) {
+                // A later message with the same key supersedes this one anyway
+                shed(queue, channel);
+                return;
+            }
+            // Small control messages are kept even over the cap
+        }
+        queue.append(priority, outgoing);
+        backlogged.add(queue);
+    }
+
+    /**
+     * Sends an idempotent message that must be applied after everything queued before it, whatever its priority.
+     * It goes out at {@code priority}, so it stays in order with that priority's messages, and is repeated behind the
+     * queued lower-priority messages, e.g. so a deletion both precedes its action result and is not undone by an older
+     * sync still waiting. Safe to call from any thread.
+     */
+    public void sendAfterQueued(Player player, Priority priority, String channel, byte[] message) {
+        if (!plugin.getServer().isPrimaryThread()) {
+            plugin.getServer().getScheduler().runTask(plugin, () -> sendAfterQueued(player, priority, channel, message));
+            return;
+        }
+        PlayerQueue queue = queues.get(player.getUniqueId());
+        Priority last = queue != null ? queue.lastNonEmpty() : null;
+        send(player, priority, channel, message);
+        if (last != null && last.ordinal() > priority.ordinal()) {
+            send(player, last, channel, message);
+        }
+    }
+
+    /**
+     * Asks for a freshly loaded full sync in place of collapsed path-list messages. It is read after all of them were
+     * written, so it carries their combined effect.
+     */
+    private void requestResync(Player player, PlayerQueue queue) {
+        if (queue.resyncRequestedAt < 0 || currentTick - queue.resyncRequestedAt >= RESYNC_RETRY_TICKS) {
+            queue.resyncRequestedAt = currentTick;
+            resyncs++;
+            plugin.getLogger().warning("Outbound queue of player " + player.getName() + " is full; replacing queued path syncs with a full sync");
+            resync.accept(player);
+        }
+    }
+
+    private void shed(PlayerQueue queue, String channel) {
+        // Log the first drop and then every 64th, so a backlog does not also flood the log
+        if (dropped++ % 64 == 0) {
+            plugin.getLogger().warning("Outbound queue of player " + queue.playerId + " is full; dropping a message on "
+                    + channel + " (" + dropped + " dropped so far)");
+        }
+    }
+
+    /** Discards a player's queue, e.g. when they leave. */
+    public void forget(UUID playerId) {
+        PlayerQueue queue = queues.remove(playerId);
+        if (queue != null) {
+            backlogged.remove(queue);
+            dropped += queue.size();
+        }
+    }
+
+    /** Messages and bytes currently queued for a player. */
+    public QueueDepth depth(UUID playerId) {
+        PlayerQueue queue = queues.get(playerId);
+        return queue != null ? new QueueDepth(queue.size(), queue.queuedBytes) : new QueueDepth(0, 0L);
+    }
+
+    public Metrics metrics() {
+        int queuedMessages = 0;
+        long queuedBytes = 0L;
+        for (PlayerQueue queue : backlogged) {
+            queuedMessages += queue.size();
+            queuedBytes += queue.queuedBytes;
+        }
+        return new Metrics(backlogged.size(), queuedMessages, queuedBytes, peakQueuedBytes,
+                sent, sentBytes, deferred, coalesced, dropped, collapsed, resyncs);
+    }
+
+    /** Drops everything still queued and logs the totals. Called when the plugin is disabled. */
+    public void shutdown() {
+        for (PlayerQueue queue : backlogged) {
+            dropped += queue.size();
+        }
+        backlogged.clear();
+        queues.clear();
+        plugin.getLogger().info("Trailblazer outbound stats: " + metrics());
+    }
+
+    private void tick() {
+        currentTick++;
+        if (backlogged.isEmpty()) {
+            return;
+        }
+        for (PlayerQueue queue : new ArrayList<>(backlogged)) {
+            Player player = plugin.getServer().getPlayer(queue.playerId);
+            if (player == null || !player.isOnline()) {
+                forget(queue.playerId);
+                continue;
+            }
+            queue.refill();
+            Outgoing next;
+            while (queue.hasBudget() && (next = queue.poll()) != null) {
+                transmit(player, queue, next.channel, next.message, next.onSent);
+            }
+            if (queue.isEmpty()) {
+                backlogged.remove(queue);
+            }
+        }
+    }
+
+    private void transmit(Player player, PlayerQueue queue, String channel, byte[] message, Runnable onSent) {
+        player.sendPluginMessage(plugin, channel, message);
+        if (bytesPerTick > 0) {
+            queue.tokens -= message.length;
+        }
+        sent++;
+        sentBytes += message.length;
+        if (onSent != null) {
+            onSent.run();
+        }
+    }
+
+    private final class PlayerQueue {
+        private final UUID playerId;
+        @SuppressWarnings("unchecked")
+        private final ArrayDeque<Outgoing>[] byPriority = new ArrayDeque[Priority.values().length];
+        /** Queued messages that a later message with the same key may still replace, per priority. */
+        @SuppressWarnings("unchecked")
+        private final Map<String, Outgoing>[] replaceable = new Map[Priority.values().length];
+        private long tokens;
+        private long refilledAt = currentTick;
+        private long queuedBytes = 0L;
+        private int size = 0;
+        /** Tick of an outstanding full sync request, or -1. */
+        private long resyncRequestedAt = -1L;
+
+        private PlayerQueue(UUID playerId) {
+            this.playerId = playerId;
+            for (int i = 0; i < byPriority.length; i++) {
+                byPriority[i] = new ArrayDeque<>();
+                replaceable[i] = new HashMap<>();
+            }
+            this.tokens = capacity();
+        }
+
+        private long capacity() {
+            return bytesPerTick * BURST_TICKS;
+        }
+
+        private void refill() {
+            if (bytesPerTick > 0 && refilledAt != currentTick) {
+                tokens = Math.min(capacity(), tokens + (currentTick - refilledAt) * bytesPerTick);
+            }
+            refilledAt = currentTick;
+        }
+
+        private boolean hasBudget() {
+            return bytesPerTick <= 0 || tokens > 0;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        /** Replaces a queued message with the same key in place; false if there is none. */
+        private boolean coalesce(Priority priority, Outgoing message) {
+            if (message.coalesceKey == null) {
+                return false;
+            }
+            Outgoing superseded = replaceable[priority.ordinal()].get(message.coalesceKey);
+            if (superseded == null) {
+                return false;
+            }
+            // Takes the older message's place in the queue
+            queuedBytes += message.message.length - superseded.message.length;
+            superseded.channel = message.channel;
+            superseded.message = message.message;
+            if (superseded.onSent == null) {
+                superseded.onSent = message.onSent;
+            } else if (message.onSent != null) {
+                Runnable first = superseded.onSent;
+                Runnable second = message.onSent;
+                superseded.onSent = () -> {
+                    first.run();
+                    second.run();
+                };
+            }
+            coalesced++;
+            peakQueuedBytes = Math.max(peakQueuedBytes, queuedBytes);
+            return true;
+        }
+
+        private void append(Priority priority, Outgoing message) {
+            int p = priority.ordinal();
+            if (message.coalesceKey == null) {
+                replaceable[p].clear();
+            }
+            byPriority[p].add(message);
+            if (message.coalesceKey != null) {
+                replaceable[p].put(message.coalesceKey, message);
+            }
+            size++;
+            queuedBytes += message.message.length;
+            peakQueuedBytes = Math.max(peakQueuedBytes, queuedBytes);
+        }
+
+        /** Removes the queued sync messages on path-list channels; returns how many. */
+        private int removePathListMessages() {
+            int p = Priority.SYNC.ordinal();
+            int removed = 0;
+            for (Iterator<Outgoing> it = byPriority[p].iterator(); it.hasNext(); ) {
+                Outgoing message = it.next();
+                if (pathListChannels.contains(message.channel)) {
+                    it.remove();
+                    if (message.coalesceKey != null) {
+                        replaceable[p].remove(message.coalesceKey, message);
+                    }
+                    size--;
+                    queuedBytes -= message.message.length;
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        /** Lowest priority with queued messages, or null. */
+        private Priority lastNonEmpty() {
+            for (int p = byPriority.length - 1; p >= 0; p--) {
+                if (!byPriority[p].isEmpty()) {
+                    return Priority.values()[p];
+                }
+            }
+            return null;
+        }
+
+        private Outgoing poll() {
+            for (int p = 0; p < byPriority.length; p++) {
+                Outgoing message = byPriority[p].poll();
+                if (message != null) {
+                    if (message.coalesceKey != null) {
+                        replaceable[p].remove(message.coalesceKey, message);
+                    }
+                    size--;
+                    queuedBytes -= message.message.length;
+                    return message;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Outgoing {
+        private String channel;
+        private byte[] message;
+        private final String coalesceKey;
+        private Runnable onSent;
+
+        private Outgoing(String channel, byte[] message, String coalesceKey, Runnable onSent) {
+            this.channel = channel;
+            this.message = message;
+            this.coalesceKey = coalesceKey;
+            this.onSent = onSent;
+        }
+    }
+
+    public record QueueDepth(int messages, long bytes) {}
+
+    /**
+     * Point-in-time outbound statistics.
+     *
+     * @param backloggedPlayers players with messages waiting for budget
+     * @param peakQueuedBytes largest single-player backlog seen
+     * @param deferred messages that had to wait instead of going out immediately
+     * @param coalesced queued messages replaced by a newer one
+     * @param dropped messages discarded because a queue was full or its player left
+     * @param collapsed sync messages replaced by a full sync because a queue was full
+     * @param resyncs full syncs requested for that
+     */
+    public record Metrics(int backloggedPlayers, int queuedMessages, long queuedBytes, long peakQueuedBytes,
+                          long sent, long sentBytes, long deferred, long coalesced, long dropped,
+                          long collapsed, long resyncs) {
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT,
+                    "backlogged=%d queued=%d (%d bytes) peak=%d bytes sent=%d (%d bytes) deferred=%d coalesced=%d dropped=%d collapsed=%d resyncs=%d",
+                    backloggedPlayers, queuedMessages, queuedBytes, peakQueuedBytes, sent, sentBytes, deferred, coalesced,
+                    dropped, collapsed, resyncs);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.trailblazer.plugin.networking;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import com.trailblazer.plugin.TrailblazerPlugin;
+
+/**
+ * One serialized mailbox per player for incoming plugin messages, drained on worker threads.
+ * <p>
+ * A handler returns a future that completes once its effects are applied, typically on the main thread
+ * after an I/O task. The next message of the same player starts only after that, so a client's requests
+ * are processed in the order it sent them. Mailboxes of different players drain in parallel and never
+ * wait for each other. Each mailbox holds at most {@link #MAX_QUEUED_MESSAGES} messages; a client that
+ * floods beyond that has its newest messages dropped.
+ */
+public class PlayerMailboxes {
+
+    private static final int MAX_QUEUED_MESSAGES = 256;
+    /** A handler whose future never completes (e.g. the plugin is disabling) must not wedge its mailbox. */
+    private static final long MAX_HANDLER_WAIT_MS = 30_000L;
+
+    private final TrailblazerPlugin plugin;
+    private final ConcurrentHashMap<UUID, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("Trailblazer-Mailbox-", 0).factory());
+    private volatile boolean closed = false;
+
+    public PlayerMailboxes(TrailblazerPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Queues a message handler for a player. Safe to call from any thread.
+     *
+     * @param label short description used in log messages, e.g. the channel name
+     * @param handler runs on a worker thread; returns when its effects are done, or null if it finished inline
+     */
+    public void post(UUID playerId, String label, Supplier<CompletableFuture<?>> handler) {
+        if (closed) {
+            return;
+        }
+        boolean[] queued = {false};
+        // Enqueued under the map's lock for this player, so a retired mailbox is never unmapped with work in it
+        Mailbox mailbox = mailboxes.compute(playerId, (id, current) -> {
+            Mailbox target = current != null ? current : new Mailbox();
+            if (target.size.incrementAndGet() > MAX_QUEUED_MESSAGES) {
+                target.size.decrementAndGet();
+            } else {
+                target.queue.add(new Message(label, handler));
+                queued[0] = true;
+            }
+            return target;
+        });
+        if (!queued[0]) {
+            // Log the first drop and then every 64th, so a flood does not also flood the log
+            if (mailbox.dropped.getAndIncrement() % 64 == 0) {
+                plugin.getLogger().warning("Mailbox of player " + playerId + " is full; dropping " + label
+                        + " (" + mailbox.dropped.get() + " dropped so far)");
+            }
+            return;
+        }
+        if (mailbox.running.compareAndSet(false, true)) {
+            workers.execute(() -> drain(playerId, mailbox));
+        }
+    }
+
+    /**
+     * Forgets a player's mailbox once the messages already queued have run. Until then new messages join the
+     * same queue, so a fresh mailbox never drains alongside the old one.
+     */
+    public void remove(UUID playerId) {
+        mailboxes.computeIfPresent(playerId, (id, mailbox) -> {
+            if (mailbox.isIdle()) {
+                return null;
+            }
+            mailbox.retired = true;
+            return mailbox;
+        });
+    }
+
+    /** Stops accepting messages and interrupts handlers still waiting; queued I/O is flushed by the I/O executor. */
+    public void shutdown() {
+        closed = true;
+        workers.shutdownNow();
+    }
+
+    private void drain(UUID playerId, Mailbox mailbox) {
+        while (!closed) {
+            Message message;
+            while (!closed && (message = mailbox.queue.poll()) != null) {
+                mailbox.size.decrementAndGet();
+                process(playerId, message);
+            }
+            mailbox.running.set(false);
+            // A message may have arrived between the last poll and clearing the flag
+            if (mailbox.queue.isEmpty() || !mailbox.running.compareAndSet(false, true)) {
+                if (mailbox.retired) {
+                    mailboxes.computeIfPresent(playerId, (id, current) -> current == mailbox && mailbox.isIdle() ? null : current);
+                }
+                return;
+            }
+        }
+    }
+
+    private void process(UUID playerId, Message message) {
+        try {
+            CompletableFuture<?> done = message.handler.get();
+            if (done != null) {
+                done.get(MAX_HANDLER_WAIT_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            plugin.getLogger().warning("Handling " + message.label + " for player " + playerId + " took longer than "
+                    + MAX_HANDLER_WAIT_MS + " ms; continuing with the next message.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Handlers report failures to the player themselves; this only keeps the log complete
+            plugin.getLogger().log(Level.FINE, "Handler for " + message.label + " failed", e.getCause());
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Unhandled error processing " + message.label + " for player " + playerId, e);
+        }
+    }
+
+    private static final class Mailbox {
+        private final ConcurrentLinkedQueue<Message> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        // Set by remove() while messages were still pending; unmapped by its worker once idle
+        private volatile boolean retired = false;
+
+        private boolean isIdle() {
+            return queue.isEmpty() && !running.get();
+        }
+    }
+
+    private record Message(String label, Supplier<CompletableFuture<?>> handler) {}
+}
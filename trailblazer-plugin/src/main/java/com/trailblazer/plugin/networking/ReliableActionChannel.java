@@ -0,0 +1,277 @@
+package com.trailblazer.plugin.networking;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.bukkit.entity.Player;
+
+import com.trailblazer.api.PathData;
+import com.trailblazer.plugin.TrailblazerPlugin;
+import com.trailblazer.plugin.networking.payload.s2c.PathActionBatchPayload;
+import com.trailblazer.plugin.networking.payload.s2c.PathActionResultPayload;
+
+/**
+ * Reliable, windowed delivery of {@link PathActionResultPayload}s to modded clients.
+ * <p>
+ * Results queued during a tick are flushed together on the next tick as one {@link PathActionBatchPayload}
+ * frame per player. At most {@link #WINDOW_SIZE} results are in flight per player; the rest wait until acks
+ * open the window. Resends are driven by a timer wheel with one slot per tick, so each tick only touches the
+ * entries that are actually due, regardless of how many players are online.
+ * <p>
+ * The client acks with its cumulative sequence plus a list of selectively received sequences above it.
+ * Clients that did not negotiate batching and do not listen on the batch channel get one plain result
+ * message per entry instead. Frames go out through the player's {@link OutboundScheduler} at action priority,
+ * and an entry's resend timer starts only once its frame is actually written, so a frame held back by the
+ * outbound budget is not resent while it is still queued.
+ * All state is confined to the main thread.
+ */
+public class ReliableActionChannel {
+
+    private static final int RESEND_INTERVAL_TICKS = 40;
+    private static final int MAX_RETRY_ATTEMPTS = 5;
+    private static final int WINDOW_SIZE = 32;
+    private static final int MAX_SELECTIVE_ACKS = 64;
+    /** Keeps frames well under the 1 MiB clientbound custom payload limit. */
+    private static final int MAX_FRAME_BYTES = 512 * 1024;
+    /** Power of two larger than the resend interval, so every entry in a slot is due when the slot fires. */
+    private static final int WHEEL_SLOTS = 64;
+
+    private final TrailblazerPlugin plugin;
+    private final OutboundScheduler outbound;
+    private final Predicate<Player> batchNegotiated;
+    private final Predicate<Player> flatPoints;
+    private final Map<UUID, PlayerChannel> channels = new HashMap<>();
+    private final Set<PlayerChannel> needsFlush = new LinkedHashSet<>();
+    @SuppressWarnings("unchecked")
+    private final List<WheelEntry>[] wheel = new List[WHEEL_SLOTS];
+    private int scheduledEntries = 0;
+    private long currentTick = 0L;
+    private boolean flushScheduled = false;
+
+    public ReliableActionChannel(TrailblazerPlugin plugin, OutboundScheduler outbound, Predicate<Player> batchNegotiated,
+                                 Predicate<Player> flatPoints) {
+        this.plugin = plugin;
+        this.outbound = outbound;
+        this.batchNegotiated = batchNegotiated;
+        this.flatPoints = flatPoints;
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PathActionBatchPayload.CHANNEL);
+        plugin.getServer().getScheduler().runTaskTimer(plugin, this::advanceWheel, 1L, 1L);
+    }
+
+    /** Queues a result for reliable delivery. Safe to call from any thread. */
+    public void send(Player player, String action, UUID pathId, boolean success, String message, PathData updated) {
+        if (!plugin.getServer().isPrimaryThread()) {
+            plugin.getServer().getScheduler().runTask(plugin, () -> send(player, action, pathId, success, message, updated));
+            return;
+        }
+        PlayerChannel channel = channels.computeIfAbsent(player.getUniqueId(), PlayerChannel::new);
+        long sequence = channel.nextSequence++;
+        // Entries are encoded once; the per-entry ack field stays empty because the frame header carries it.
+        byte[] encoded = new PathActionResultPayload(action, pathId, success, message, updated, sequence, null,
+                flatPoints.test(player)).toBytes();
+        channel.queued.add(new Pending(sequence, encoded));
+        requestFlush(channel);
+    }
+
+    /**
+     * Handles an ack frame: cumulative sequence (long), then optionally a VarInt count of selectively
+     * acknowledged sequences. Older clients only send the cumulative part.
+     */
+    public void handleAck(Player player, byte[] message) {
+        if (message == null || message.length < Long.BYTES) {
+            return;
+        }
+        PlayerChannel channel = channels.get(player.getUniqueId());
+        if (channel == null) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(message);
+        long cumulative = buffer.getLong();
+        if (cumulative > 0) {
+            channel.lastAck = Math.max(channel.lastAck, cumulative);
+            channel.inFlight.headMap(cumulative, true).clear();
+        }
+        if (buffer.hasRemaining()) {
+            int count = ServerPacketHandler.readVarInt(buffer);
+            if (count < 0 || count > MAX_SELECTIVE_ACKS) {
+                return;
+            }
+            for (int i = 0; i < count && buffer.remaining() >= Long.BYTES; i++) {
+                channel.inFlight.remove(buffer.getLong());
+            }
+        }
+        // Acks may have opened the window for queued results
+        if (!channel.queued.isEmpty()) {
+            requestFlush(channel);
+        }
+    }
+
+    public void forget(UUID playerId) {
+        PlayerChannel channel = channels.remove(playerId);
+        if (channel != null) {
+            needsFlush.remove(channel);
+        }
+        // Wheel entries for the channel are discarded lazily when their slot fires
+    }
+
+    private void requestFlush(PlayerChannel channel) {
+        if (needsFlush.add(channel) && !flushScheduled) {
+            flushScheduled = true;
+            plugin.getServer().getScheduler().runTask(plugin, this::flushAll);
+        }
+    }
+
+    private void flushAll() {
+        flushScheduled = false;
+        List<PlayerChannel> batch = new ArrayList<>(needsFlush);
+        needsFlush.clear();
+        for (PlayerChannel channel : batch) {
+            flush(channel);
+        }
+    }
+
+    private void advanceWheel() {
+        currentTick++;
+        if (scheduledEntries == 0) {
+            return;
+        }
+        List<WheelEntry> slot = wheel[(int) (currentTick & (WHEEL_SLOTS - 1))];
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<WheelEntry> due = new ArrayList<>(slot);
+        slot.clear();
+        scheduledEntries -= due.size();
+        for (WheelEntry entry : due) {
+            Pending pending = entry.channel.inFlight.get(entry.sequence);
+            // Acked, abandoned, or already rescheduled by a later send: nothing to do
+            if (pending == null || pending.attempts != entry.attempt || channels.get(entry.channel.playerId) != entry.channel) {
+                continue;
+            }
+            entry.channel.resendDue.add(pending);
+            requestFlush(entry.channel);
+        }
+    }
+
+    private void flush(PlayerChannel channel) {
+        Player player = plugin.getServer().getPlayer(channel.playerId);
+        if (player == null || !player.isOnline()) {
+            forget(channel.playerId);
+            return;
+        }
+
+        List<Pending> toSend = new ArrayList<>();
+        for (Pending pending : channel.resendDue) {
+            if (channel.inFlight.get(pending.sequence) != pending) {
+                continue;
+            }
+            if (pending.attempts >= MAX_RETRY_ATTEMPTS) {
+                channel.inFlight.remove(pending.sequence);
+                plugin.getLogger().warning("Dropping path action result " + pending.sequence + " for " + player.getName() + " after " + pending.attempts + " attempts without acknowledgment.");
+                continue;
+            }
+            toSend.add(pending);
+        }
+        channel.resendDue.clear();
+        while (!channel.queued.isEmpty() && channel.inFlight.size() < WINDOW_SIZE) {
+            Pending pending = channel.queued.poll();
+            channel.inFlight.put(pending.sequence, pending);
+            toSend.add(pending);
+        }
+        if (toSend.isEmpty()) {
+            return;
+        }
+
+        boolean batched = batchNegotiated.test(player)
+                || player.getListeningPluginChannels().contains(PathActionBatchPayload.CHANNEL);
+        if (batched) {
+            List<Pending> frame = new ArrayList<>();
+            int frameBytes = PathActionBatchPayload.HEADER_BYTES;
+            for (Pending pending : toSend) {
+                if (!frame.isEmpty() && frameBytes + pending.encoded.length > MAX_FRAME_BYTES) {
+                    sendFrame(player, channel, frame);
+                    frame = new ArrayList<>();
+                    frameBytes = PathActionBatchPayload.HEADER_BYTES;
+                }
+                frame.add(pending);
+                frameBytes += pending.encoded.length;
+            }
+            sendFrame(player, channel, frame);
+        } else {
+            for (Pending pending : toSend) {
+                pending.attempts++;
+                outbound.send(player, OutboundScheduler.Priority.ACTION, PathActionResultPayload.CHANNEL, pending.encoded,
+                        null, () -> schedule(channel, pending));
+            }
+        }
+    }
+
+    private void sendFrame(Player player, PlayerChannel channel, List<Pending> frame) {
+        Long ack = channel.lastAck > 0 ? channel.lastAck : null;
+        List<byte[]> entries = new ArrayList<>(frame.size());
+        for (Pending pending : frame) {
+            pending.attempts++;
+            entries.add(pending.encoded);
+        }
+        PathActionBatchPayload payload = new PathActionBatchPayload(channel.baseSequence(), ack, entries);
+        // The resend timer starts when the frame is written, not while it waits in the outbound queue
+        outbound.send(player, OutboundScheduler.Priority.ACTION, PathActionBatchPayload.CHANNEL, payload.toBytes(), null, () -> {
+            for (Pending pending : frame) {
+                schedule(channel, pending);
+            }
+        });
+    }
+
+    private void schedule(PlayerChannel channel, Pending pending) {
+        long dueTick = currentTick + RESEND_INTERVAL_TICKS;
+        wheel[(int) (dueTick & (WHEEL_SLOTS - 1))].add(new WheelEntry(channel, pending.sequence, pending.attempts));
+        scheduledEntries++;
+    }
+
+    private static final class PlayerChannel {
+        private final UUID playerId;
+        private final TreeMap<Long, Pending> inFlight = new TreeMap<>();
+        private final ArrayDeque<Pending> queued = new ArrayDeque<>();
+        private final List<Pending> resendDue = new ArrayList<>();
+        private long nextSequence = 1L;
+        private long lastAck = 0L;
+
+        private PlayerChannel(UUID playerId) {
+            this.playerId = playerId;
+        }
+
+        /** Lowest sequence still deliverable; everything below it is acked or abandoned. */
+        private long baseSequence() {
+            if (!inFlight.isEmpty()) {
+                return inFlight.firstKey();
+            }
+            Pending next = queued.peek();
+            return next != null ? next.sequence : nextSequence;
+        }
+    }
+
+    private static final class Pending {
+        private final long sequence;
+        private final byte[] encoded;
+        private int attempts;
+
+        private Pending(long sequence, byte[] encoded) {
+            this.sequence = sequence;
+            this.encoded = encoded;
+        }
+    }
+
+    private record WheelEntry(PlayerChannel channel, long sequence, int attempt) {}
+}
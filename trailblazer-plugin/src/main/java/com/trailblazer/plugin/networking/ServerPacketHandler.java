@@ -9,9 +9,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -25,45 +24,81 @@ import org.jetbrains.annotations.NotNull;
 
 import com.google.gson.Gson;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
+import com.trailblazer.api.Protocol;
 import com.trailblazer.api.Vector3d;
 import com.trailblazer.plugin.PathDataManager;
 import com.trailblazer.plugin.TrailblazerPlugin;
+import com.trailblazer.plugin.networking.payload.c2s.BulkPathActionPayload;
 import com.trailblazer.plugin.networking.payload.c2s.HandshakePayload;
+import com.trailblazer.plugin.networking.payload.c2s.PathVersionsPayload;
 import com.trailblazer.plugin.networking.payload.c2s.StartRecordingPayload;
 import com.trailblazer.plugin.networking.payload.c2s.StopRecordingPayload;
 import com.trailblazer.plugin.networking.payload.s2c.HideAllPathsPayload;
 import com.trailblazer.plugin.networking.payload.s2c.LivePathUpdatePayload;
 import com.trailblazer.plugin.networking.payload.s2c.PathDataSyncPayload;
 import com.trailblazer.plugin.networking.payload.s2c.PathDeletedPayload;
+import com.trailblazer.plugin.networking.payload.s2c.PathDeltaPayload;
+import com.trailblazer.plugin.networking.payload.s2c.RequestPathVersionsPayload;
+import com.trailblazer.plugin.networking.payload.s2c.ServerHelloPayload;
 import com.trailblazer.plugin.networking.payload.s2c.SharePathPayload;
 import com.trailblazer.plugin.networking.payload.s2c.StopLivePathPayload;
 import com.trailblazer.plugin.networking.payload.s2c.PathActionResultPayload;
+import com.trailblazer.plugin.storage.PathIoExecutor;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
 public class ServerPacketHandler implements Listener, PluginMessageListener {
 
     private final TrailblazerPlugin plugin;
-    private final Gson gson = new Gson();
-    private final Set<UUID> moddedPlayers = new HashSet<>();
+    private final Gson gson = PathJson.gson();
+    // Written by mailbox workers, read from the main thread
+    private final Set<UUID> moddedPlayers = ConcurrentHashMap.newKeySet();
+    /** Capabilities negotiated with each modded player; absent or 0 means protocol version 1 behavior. */
+    private final Map<UUID, Integer> negotiatedCapabilities = new ConcurrentHashMap<>();
     private static final String UPDATE_METADATA_CHANNEL = "trailblazer:update_path_metadata";
     private static final String SHARE_PATH_WITH_PLAYERS_CHANNEL = "trailblazer:share_path_with_players";
     private static final String SHARE_REQUEST_CHANNEL = "trailblazer:share_request";
     private static final String SAVE_PATH_CHANNEL = "trailblazer:save_path";
     private static final String ACTION_ACK_CHANNEL = "trailblazer:path_action_ack";
-    private static final long RESEND_INTERVAL_TICKS = 40L;
-    private static final long RESEND_INTERVAL_MS = 2000L;
-    private static final int MAX_RETRY_ATTEMPTS = 5;
 
     /** Defensive cap against malicious/buggy clients attempting huge recipient fan-outs. */
     private static final int MAX_SHARE_TARGETS = 64;
+    /** Largest C2S string body accepted by {@link #readString(ByteBuffer)}. */
+    private static final int MAX_PAYLOAD_BYTES = 1_048_576;
+    /** Upper bound for a mailbox worker waiting on the main thread, e.g. while the plugin is disabling. */
+    private static final long MAIN_THREAD_TIMEOUT_SECONDS = 10L;
+    /** Per-player outbound budget when {@code network.kilobytes-per-tick} is not configured. */
+    private static final long DEFAULT_KILOBYTES_PER_TICK = 64L;
+    /** Everything this server implements; advertised in the server hello. */
+    public static final int SERVER_CAPABILITIES = Protocol.Capability.LIVE_UPDATES
+            | Protocol.Capability.SHARED_STORAGE
+            | Protocol.Capability.COLOR_CANONICAL
+            | Protocol.Capability.ACTION_BATCH
+            | Protocol.Capability.DELTA_SYNC
+            | Protocol.Capability.BULK_ACTIONS
+            | Protocol.Capability.FLAT_POINTS;
 
     private final PathDataManager dataManager;
-    private final Map<UUID, ReliableMessageState> reliableStates = new ConcurrentHashMap<>();
+    private final PathIoExecutor io;
+    private final ReliableActionChannel actionResults;
+    private final PlayerMailboxes mailboxes;
+    private final OutboundScheduler outbound;
 
     public ServerPacketHandler(TrailblazerPlugin plugin) {
         this.plugin = plugin;
         this.dataManager = plugin.getPathDataManager();
+        this.io = plugin.getIoExecutor();
+        this.mailboxes = new PlayerMailboxes(plugin);
+        long kilobytesPerTick = plugin.getConfig().getLong("network.kilobytes-per-tick", DEFAULT_KILOBYTES_PER_TICK);
+        // An overfull queue trades its pending path syncs for one full sync of the player's current world
+        this.outbound = new OutboundScheduler(plugin, Math.max(0L, kilobytesPerTick) * 1024L,
+                Set.of(PathDataSyncPayload.CHANNEL, PathDeltaPayload.CHANNEL, PathDeletedPayload.CHANNEL_NAME),
+                player -> {
+                    // Runs on the main thread; the mailbox worker must not read the player's world itself
+                    UUID worldUid = player.getWorld().getUID();
+                    mailboxes.post(player.getUniqueId(), "resync", () -> syncPaths(player, worldUid, null));
+                });
 
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
         plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PathDataSyncPayload.CHANNEL);
@@ -73,6 +108,9 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, SharePathPayload.CHANNEL_NAME);
         plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PathDeletedPayload.CHANNEL_NAME);
         plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PathActionResultPayload.CHANNEL);
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, ServerHelloPayload.CHANNEL);
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PathDeltaPayload.CHANNEL);
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, RequestPathVersionsPayload.CHANNEL);
         plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, com.trailblazer.plugin.networking.payload.s2c.StartRecordingPayload.CHANNEL);
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, HandshakePayload.CHANNEL, this);
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, SHARE_REQUEST_CHANNEL, this);
@@ -81,41 +119,65 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, UPDATE_METADATA_CHANNEL, this);
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, SHARE_PATH_WITH_PLAYERS_CHANNEL, this);
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, ACTION_ACK_CHANNEL, this);
+        plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, PathVersionsPayload.CHANNEL, this);
+        plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, BulkPathActionPayload.CHANNEL, this);
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, StartRecordingPayload.CHANNEL, this);
         plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, StopRecordingPayload.CHANNEL, this);
 
-        plugin.getServer().getScheduler().runTaskTimer(plugin, this::resendPendingActionResults, RESEND_INTERVAL_TICKS, RESEND_INTERVAL_TICKS);
+        this.actionResults = new ReliableActionChannel(plugin, outbound,
+                player -> hasCapability(player, Protocol.Capability.ACTION_BATCH),
+                player -> hasCapability(player, Protocol.Capability.FLAT_POINTS));
     }
 
     @Override
     public void onPluginMessageReceived(@NotNull String channel, @NotNull Player player, @NotNull byte[] message) {
         if (channel.equalsIgnoreCase(ACTION_ACK_CHANNEL)) {
-            handleActionAck(player, message);
+            actionResults.handleAck(player, message);
             return;
         }
 
         plugin.getLogger().info("Received plugin message on channel: " + channel + " from player: " + player.getName());
 
+        // The world is captured here, on the main thread; handlers run on the player's mailbox worker
+        UUID worldUid = player.getWorld().getUID();
+        mailboxes.post(player.getUniqueId(), channel, () -> dispatch(channel, player, worldUid, message));
+    }
+
+    /** Stops processing incoming messages. Called when the plugin is disabled. */
+    public void shutdown() {
+        mailboxes.shutdown();
+        outbound.shutdown();
+    }
+
+    /** Outbound queueing statistics, see {@link OutboundScheduler}. */
+    public OutboundScheduler.Metrics outboundMetrics() {
+        return outbound.metrics();
+    }
+
+    /**
+     * Handles one message on the sender's mailbox worker. Decoding and validation happen here; storage
+     * work goes to the I/O executor and Bukkit state is only touched on the main thread.
+     *
+     * @return completes once the message's effects are applied
+     */
+    private CompletableFuture<?> dispatch(String channel, Player player, UUID worldUid, byte[] message) {
         if (channel.equalsIgnoreCase(HandshakePayload.CHANNEL)) {
             moddedPlayers.add(player.getUniqueId());
-            plugin.getLogger().info("Received HandshakePayload from " + player.getName() + " - modded client detected");
+            HandshakePayload handshake = HandshakePayload.fromBytes(message);
+            int negotiated = Protocol.negotiate(SERVER_CAPABILITIES, handshake.getCapabilities());
+            negotiatedCapabilities.put(player.getUniqueId(), negotiated);
+            plugin.getLogger().info("Received HandshakePayload from " + player.getName() + " - modded client detected (protocol "
+                    + handshake.getProtocolVersion() + ", capabilities 0x" + Integer.toHexString(negotiated) + ")");
+            runOnMain(() -> sendServerHello(player, worldUid));
             plugin.getLogger().info("Modded player " + player.getName() + " can now use server-side recording features");
+            return syncPaths(player, worldUid, handshake.getKnownVersions());
+        }
 
-            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-                java.util.UUID worldUid = player.getWorld().getUID();
-                plugin.getLogger().info("Loading paths for " + player.getName() + " in world " + worldUid);
-                List<PathData> allPaths = dataManager.loadPaths(worldUid, player.getUniqueId());
-                pruneDuplicateSharedCopies(allPaths, player.getUniqueId(), worldUid);
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    sendAllPathData(player, allPaths);
-                    if (!allPaths.isEmpty()) {
-                        TrailblazerPlugin.getPluginLogger().info("Synced " + allPaths.size() + " existing path(s) to " + player.getName());
-                    } else {
-                        TrailblazerPlugin.getPluginLogger().info("No existing paths for " + player.getName() + " in world " + worldUid);
-                    }
-                });
-            });
-            return;
+        if (channel.equalsIgnoreCase(PathVersionsPayload.CHANNEL)) {
+            if (isModdedPlayer(player)) {
+                return syncPaths(player, worldUid, PathVersionsPayload.fromBytes(message).getKnownVersions());
+            }
+            return null;
         }
 
         if (channel.equalsIgnoreCase("trailblazer:delete_path")) {
@@ -130,58 +192,66 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
                     String raw = new String(message, java.nio.charset.StandardCharsets.UTF_8).trim();
                     pathId = UUID.fromString(raw);
                 }
-                java.util.UUID worldUid = player.getWorld().getUID();
-                List<PathData> paths = dataManager.loadPaths(worldUid, player.getUniqueId());
-                boolean owned = paths.stream().anyMatch(p -> p.getPathId().equals(pathId) && p.getOwnerUUID().equals(player.getUniqueId()));
-                if (owned) {
-                    boolean removed = dataManager.deletePath(worldUid, player.getUniqueId(), pathId);
+                UUID playerId = player.getUniqueId();
+                // deletePath checks ownership itself, so the player's other paths are never loaded
+                return io.onMain(io.write(worldUid, () -> dataManager.deletePath(worldUid, playerId, pathId)), removed -> {
                     if (removed) {
-                        plugin.getServer().getScheduler().runTask(plugin, () -> {
-                            sendPathDeleted(player, pathId);
-                            sendActionResult(player, "delete", pathId, true, "Path deleted successfully.", null);
-                        });
+                        sendPathDeleted(player, pathId);
+                        sendActionResult(player, "delete", pathId, true, "Path deleted successfully.", null);
                     } else {
-                        sendActionResult(player, "delete", pathId, false, "Failed to delete path.", null);
+                        sendActionResult(player, "delete", pathId, false, "Path not found or you do not own it.", null);
                     }
-                } else {
-                    sendActionResult(player, "delete", pathId, false, "You do not own this path.", null);
-                }
+                }, error -> sendActionResult(player, "delete", pathId, false, failureMessage(error, "deleting the path"), null));
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to process delete path payload from " + player.getName() + ": " + e.getMessage());
                 sendActionResult(player, "delete", null, false, "An error occurred while deleting the path.", null);
             }
-            return;
+            return null;
         }
 
         if (channel.equalsIgnoreCase(UPDATE_METADATA_CHANNEL)) {
-            handleMetadataUpdate(player, message);
-            return;
+            return handleMetadataUpdate(player, worldUid, message);
         }
 
         if (channel.equalsIgnoreCase(SHARE_PATH_WITH_PLAYERS_CHANNEL)) {
-            handleSharePathWithPlayers(player, message);
-            return;
+            return handleSharePathWithPlayers(player, worldUid, message);
         }
 
         if (channel.equalsIgnoreCase(SHARE_REQUEST_CHANNEL)) {
-            handleShareRequest(player, message);
-            return;
+            return handleShareRequest(player, worldUid, message);
         }
 
         if (channel.equalsIgnoreCase(SAVE_PATH_CHANNEL)) {
-            handleSaveRequest(player, message);
-            return;
+            return handleSaveRequest(player, worldUid, message);
         }
 
+        if (channel.equalsIgnoreCase(BulkPathActionPayload.CHANNEL)) {
+            return handleBulkAction(player, worldUid, message);
+        }
+
+        // Recording state lives on the main thread
         if (channel.equalsIgnoreCase(StartRecordingPayload.CHANNEL)) {
-            handleStartRecording(player, message);
-            return;
+            return runOnMain(() -> handleStartRecording(player, message));
         }
 
         if (channel.equalsIgnoreCase(StopRecordingPayload.CHANNEL)) {
-            handleStopRecording(player, message);
-            return;
+            return runOnMain(() -> handleStopRecording(player, message));
         }
+        return null;
+    }
+
+    private CompletableFuture<Void> runOnMain(Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, io.mainThread());
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            // The plugin is disabling
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** Blocks the mailbox worker until {@code task} has run on the main thread. */
+    private <T> T callOnMain(java.util.function.Supplier<T> task) throws Exception {
+        return CompletableFuture.supplyAsync(task, io.mainThread()).get(MAIN_THREAD_TIMEOUT_SECONDS, java.util.concurrent.TimeUnit.SECONDS);
     }
 
     /**
@@ -205,16 +275,82 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         }
 
         List<PathData> safePaths = paths != null ? paths : Collections.emptyList();
-        String json = gson.toJson(safePaths);
+        String json = gsonFor(player).toJson(safePaths);
         PathDataSyncPayload payload = new PathDataSyncPayload(json);
-        player.sendPluginMessage(plugin, PathDataSyncPayload.CHANNEL, payload.toBytes());
+        // A newer full sync makes an unsent older one obsolete
+        outbound.send(player, OutboundScheduler.Priority.SYNC, PathDataSyncPayload.CHANNEL, payload.toBytes(),
+                OutboundScheduler.FULL_SYNC_KEY);
+    }
+
+    /**
+     * Loads the player's paths in their current world and syncs them. Delta-sync clients that reported
+     * their known versions get only the differences; everyone else gets the full list.
+     *
+     * @param worldUid the world the player was in when the sync was requested
+     * @param knownVersions versions the client holds, or null to force a full sync
+     */
+    private CompletableFuture<Void> syncPaths(Player player, UUID worldUid, Map<UUID, Long> knownVersions) {
+        UUID playerId = player.getUniqueId();
+        plugin.getLogger().info("Loading paths for " + player.getName() + " in world " + worldUid);
+        return io.onMain(io.read(worldUid, () -> {
+            List<PathData> allPaths = dataManager.loadPaths(worldUid, playerId);
+            pruneDuplicateSharedCopies(allPaths, playerId, worldUid);
+            return allPaths;
+        }), allPaths -> {
+            if (!player.isOnline()) {
+                return;
+            }
+            if (knownVersions != null && hasCapability(player, Protocol.Capability.DELTA_SYNC)) {
+                sendPathDelta(player, allPaths, knownVersions);
+                return;
+            }
+            sendAllPathData(player, allPaths);
+            if (!allPaths.isEmpty()) {
+                TrailblazerPlugin.getPluginLogger().info("Synced " + allPaths.size() + " existing path(s) to " + player.getName());
+            } else {
+                TrailblazerPlugin.getPluginLogger().info("No existing paths for " + player.getName() + " in world " + worldUid);
+            }
+        }, error -> TrailblazerPlugin.getPluginLogger().warning("Could not sync paths to " + player.getName() + ": " + error.getMessage()));
+    }
+
+    /** Player-facing text for a failed I/O task; a saturated queue asks the player to retry. */
+    private static String failureMessage(Throwable error, String action) {
+        return PathIoExecutor.isBusy(error)
+                ? "The server is busy, please try again in a moment."
+                : "An error occurred while " + action + ".";
+    }
+
+    /** Sends only the paths whose version differs from the client's, plus the ids it should drop. */
+    private void sendPathDelta(Player player, List<PathData> paths, Map<UUID, Long> knownVersions) {
+        List<PathData> changed = new ArrayList<>();
+        Set<UUID> current = new HashSet<>();
+        for (PathData path : paths) {
+            current.add(path.getPathId());
+            Long known = knownVersions.get(path.getPathId());
+            if (known == null || known != path.getVersion()) {
+                changed.add(path);
+            }
+        }
+        List<UUID> removed = new ArrayList<>();
+        for (UUID id : knownVersions.keySet()) {
+            if (!current.contains(id)) {
+                removed.add(id);
+            }
+        }
+        PathDeltaPayload payload = new PathDeltaPayload(removed, gsonFor(player).toJson(changed));
+        outbound.send(player, OutboundScheduler.Priority.SYNC, PathDeltaPayload.CHANNEL, payload.toBytes());
+        TrailblazerPlugin.getPluginLogger().info("Delta-synced " + player.getName() + ": " + changed.size() + " changed, "
+                + removed.size() + " removed, " + (paths.size() - changed.size()) + " unchanged");
     }
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         UUID playerId = event.getPlayer().getUniqueId();
         moddedPlayers.remove(playerId);
-        reliableStates.remove(playerId);
+        negotiatedCapabilities.remove(playerId);
+        actionResults.forget(playerId);
+        mailboxes.remove(playerId);
+        outbound.forget(playerId);
     }
 
     @EventHandler
@@ -222,7 +358,10 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         Player player = event.getPlayer();
         UUID playerId = player.getUniqueId();
         moddedPlayers.remove(playerId);
-        reliableStates.remove(playerId);
+        negotiatedCapabilities.remove(playerId);
+        actionResults.forget(playerId);
+        mailboxes.remove(playerId);
+        outbound.forget(playerId);
     }
 
     @EventHandler
@@ -231,29 +370,52 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         if (player == null || !player.isOnline() || !isModdedPlayer(player)) {
             return;
         }
+        if (hasCapability(player, Protocol.Capability.DELTA_SYNC)) {
+            // The client reports what it holds; the delta removes the old world's paths and adds the new ones
+            outbound.send(player, OutboundScheduler.Priority.SYNC, RequestPathVersionsPayload.CHANNEL,
+                    new RequestPathVersionsPayload(player.getWorld().getUID()).toBytes());
+            return;
+        }
         // Immediately hide any client-rendered paths to avoid cross-world visuals lingering
         sendHideAllPaths(player);
 
-        // Load and sync paths scoped to the new world's UUID
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            UUID worldUid = player.getWorld().getUID();
-            List<PathData> allPaths = dataManager.loadPaths(worldUid, player.getUniqueId());
-            pruneDuplicateSharedCopies(allPaths, player.getUniqueId(), worldUid);
-            plugin.getServer().getScheduler().runTask(plugin, () -> sendAllPathData(player, allPaths));
-        });
+        // Load and sync paths scoped to the new world's UUID, ordered with the player's other requests
+        UUID worldUid = player.getWorld().getUID();
+        mailboxes.post(player.getUniqueId(), "world change", () -> syncPaths(player, worldUid, null));
     }
 
     public boolean isModdedPlayer(Player player) {
         return moddedPlayers.contains(player.getUniqueId());
     }
 
+    /** Writes points in the form the player's client reads; everything sent must go through this. */
+    private Gson gsonFor(Player player) {
+        return PathJson.gson(hasCapability(player, Protocol.Capability.FLAT_POINTS));
+    }
+
+    /** True if both this server and the player's client support the given {@link Protocol.Capability} flag. */
+    public boolean hasCapability(Player player, int flag) {
+        Integer mask = negotiatedCapabilities.get(player.getUniqueId());
+        return mask != null && Protocol.has(mask, flag);
+    }
+
+    /**
+     * Advertises the server's protocol version, capabilities and limits. Version 1 clients have no
+     * receiver registered for the channel and simply drop it.
+     */
+    private void sendServerHello(Player player, UUID worldUid) {
+        ServerHelloPayload hello = new ServerHelloPayload(Protocol.PROTOCOL_VERSION, SERVER_CAPABILITIES,
+                PathDataManager.MAX_POINTS_PER_PATH, MAX_PAYLOAD_BYTES, MAX_SHARE_TARGETS, worldUid);
+        outbound.send(player, OutboundScheduler.Priority.ACTION, ServerHelloPayload.CHANNEL, hello.toBytes());
+    }
+
     /**
      * Sends a signal to the client to hide all currently visible paths.
      * @param player The player to send the signal to.
      */
     public void sendHideAllPaths(Player player) {
         if (!isModdedPlayer(player)) return;
-        player.sendPluginMessage(plugin, HideAllPathsPayload.CHANNEL, new HideAllPathsPayload().toBytes());
+        outbound.send(player, OutboundScheduler.Priority.SYNC, HideAllPathsPayload.CHANNEL, new HideAllPathsPayload().toBytes());
     }
 
     /**
@@ -265,8 +427,9 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         if (!isModdedPlayer(player) || points == null) {
             return;
         }
-        LivePathUpdatePayload payload = new LivePathUpdatePayload(points);
-        player.sendPluginMessage(plugin, LivePathUpdatePayload.CHANNEL, payload.toBytes());
+        LivePathUpdatePayload payload = new LivePathUpdatePayload(points, hasCapability(player, Protocol.Capability.FLAT_POINTS));
+        // Every frame carries all points so far; only the newest unsent one matters
+        outbound.send(player, OutboundScheduler.Priority.LIVE, LivePathUpdatePayload.CHANNEL, payload.toBytes(), "live-frame");
     }
 
     /**
@@ -278,7 +441,7 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             return;
         }
         StopLivePathPayload payload = new StopLivePathPayload();
-        player.sendPluginMessage(plugin, StopLivePathPayload.CHANNEL, payload.toBytes());
+        outbound.send(player, OutboundScheduler.Priority.LIVE, StopLivePathPayload.CHANNEL, payload.toBytes());
     }
 
     public void sendPathDeleted(Player player, UUID pathId) {
@@ -286,14 +449,16 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             return;
         }
         PathDeletedPayload payload = new PathDeletedPayload(pathId);
-        player.sendPluginMessage(plugin, PathDeletedPayload.CHANNEL_NAME, payload.toBytes());
+        // Ahead of the delete's action result, and again behind any older queued sync that still holds the path
+        outbound.sendAfterQueued(player, OutboundScheduler.Priority.ACTION, PathDeletedPayload.CHANNEL_NAME, payload.toBytes());
     }
 
     public void sendSharePath(Player targetPlayer, PathData pathData) {
         // The check for whether the player is modded is now handled in PathCommand.
         // This method is now only responsible for creating and sending the packet to modded clients.
-        SharePathPayload payload = new SharePathPayload(pathData);
-        targetPlayer.sendPluginMessage(plugin, SharePathPayload.CHANNEL_NAME, payload.toBytes());
+        SharePathPayload payload = new SharePathPayload(pathData, hasCapability(targetPlayer, Protocol.Capability.FLAT_POINTS));
+        outbound.send(targetPlayer, OutboundScheduler.Priority.SHARE, SharePathPayload.CHANNEL_NAME, payload.toBytes(),
+                "share:" + pathData.getPathId());
     }
 
     private void sendActionResult(Player player, String action, UUID pathId, boolean success, String message, PathData updated) {
@@ -301,238 +466,131 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             return;
         }
 
-        ReliableMessageState state = reliableStates.computeIfAbsent(player.getUniqueId(), id -> new ReliableMessageState());
-        long sequence = state.nextSequence.getAndIncrement();
-        PendingActionResult pending = new PendingActionResult(sequence, action, pathId, success, message, updated);
-        state.pending.put(sequence, pending);
-        dispatchPendingResult(player, state, pending);
-    }
-
-    private void dispatchPendingResult(Player player, ReliableMessageState state, PendingActionResult pending) {
-        long now = System.currentTimeMillis();
-        byte[] bytes = pending.toBytes(state.lastAck);
-        player.sendPluginMessage(plugin, PathActionResultPayload.CHANNEL, bytes);
-        pending.markDispatched(now);
+        actionResults.send(player, action, pathId, success, message, updated);
     }
 
-    private void resendPendingActionResults() {
-        long now = System.currentTimeMillis();
-        for (Map.Entry<UUID, ReliableMessageState> entry : reliableStates.entrySet()) {
-            Player target = plugin.getServer().getPlayer(entry.getKey());
-            if (target == null || !target.isOnline() || !isModdedPlayer(target)) {
-                continue;
+    private CompletableFuture<?> handleSharePathWithPlayers(Player sender, UUID senderWorldUid, byte[] message) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(message);
+            UUID pathId = new UUID(buffer.getLong(), buffer.getLong());
+            int playerCount = readVarInt(buffer);
+            if (playerCount < 0 || playerCount > MAX_SHARE_TARGETS) {
+                throw new IllegalArgumentException("Invalid recipient count: " + playerCount);
             }
-
-            ReliableMessageState state = entry.getValue();
-            if (state.pending.isEmpty()) {
-                continue;
+            List<UUID> playerIds = new ArrayList<>();
+            for (int i = 0; i < playerCount; i++) {
+                playerIds.add(new UUID(buffer.getLong(), buffer.getLong()));
             }
 
-            for (PendingActionResult pending : new ArrayList<>(state.pending.values())) {
-                if (now - pending.getLastSentAtMs() < RESEND_INTERVAL_MS) {
-                    continue;
-                }
-
-                if (pending.getAttempts() >= MAX_RETRY_ATTEMPTS) {
-                    state.pending.remove(pending.getSequence());
-                    plugin.getLogger().warning("Dropping path action result " + pending.getSequence() + " for " + target.getName() + " after " + pending.getAttempts() + " attempts without acknowledgment.");
-                    continue;
+            // Shared copies are scoped to the *source* world. The recipient may be elsewhere (or offline),
+            // but persistence must follow the world the path actually belongs to.
+            UUID senderId = sender.getUniqueId();
+            Map<UUID, String> recipients = callOnMain(() -> resolveShareRecipients(sender, playerIds));
+
+            // null: the sender does not own the path
+            return io.onMain(io.write(senderWorldUid, () -> dataManager.loadPath(senderWorldUid, senderId, pathId)
+                    .map(path -> dataManager.ensureSharedCopies(path, recipients, senderWorldUid))
+                    .orElse(null)), results -> {
+                if (results == null) {
+                    sendActionResult(sender, "share", pathId, false, "You do not own this path.", null);
+                } else {
+                    deliverShareResults(sender, pathId, recipients, results, senderWorldUid);
                 }
-
-                byte[] bytes = pending.toBytes(state.lastAck);
-                target.sendPluginMessage(plugin, PathActionResultPayload.CHANNEL, bytes);
-                pending.markDispatched(now);
-            }
-
-            if (state.pending.isEmpty()) {
-                reliableStates.remove(entry.getKey(), state);
-            }
+            }, error -> sendActionResult(sender, "share", pathId, false, failureMessage(error, "sharing the path"), null));
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to process share path with players payload from " + sender.getName() + ": " + e.getMessage());
+            sendActionResult(sender, "share", null, false, "An error occurred while sharing the path.", null);
+            return null;
         }
     }
 
-    private void handleActionAck(Player player, byte[] message) {
-        if (message == null || message.length < Long.BYTES) {
-            return;
-        }
-        ByteBuffer buffer = ByteBuffer.wrap(message);
-        long acknowledged = buffer.getLong();
-        if (acknowledged <= 0) {
-            return;
+    /**
+     * Resolves display names for share recipients on the main thread, dropping nulls, duplicates
+     * and the sender. The returned map keeps the client's recipient order.
+     */
+    private Map<UUID, String> resolveShareRecipients(Player sender, List<UUID> targetIds) {
+        Map<UUID, String> recipients = new java.util.LinkedHashMap<>();
+        for (UUID targetId : targetIds) {
+            if (targetId == null || targetId.equals(sender.getUniqueId()) || recipients.containsKey(targetId)) {
+                continue;
+            }
+            recipients.put(targetId, resolvePlayerName(targetId));
         }
+        return recipients;
+    }
 
-        ReliableMessageState state = reliableStates.get(player.getUniqueId());
-        if (state == null) {
-            return;
-        }
+    /**
+     * Notifies recipients of a completed batch share and sends the sender one aggregated result.
+     * Must run on the main thread.
+     */
+    private void deliverShareResults(Player sender, UUID pathId, Map<UUID, String> recipients,
+                                     Map<UUID, PathDataManager.SharedCopyResult> results, UUID senderWorldUid) {
+        List<String> newlyShared = new ArrayList<>();
+        List<String> alreadyHad = new ArrayList<>();
+        List<String> queuedOffline = new ArrayList<>();
+        List<String> queuedOtherWorld = new ArrayList<>();
+
+        for (Map.Entry<UUID, PathDataManager.SharedCopyResult> entry : results.entrySet()) {
+            String targetName = recipients.get(entry.getKey());
+            PathDataManager.SharedCopyResult result = entry.getValue();
+            if (!result.wasCreated()) {
+                alreadyHad.add(targetName);
+                continue;
+            }
 
-        state.lastAck = Math.max(state.lastAck, acknowledged);
-        state.pending.entrySet().removeIf(entry -> entry.getKey() <= acknowledged);
-        if (state.pending.isEmpty()) {
-            reliableStates.remove(player.getUniqueId(), state);
-        }
-    }
+            PathData sharedCopy = result.getPath();
+            newlyShared.add(targetName);
 
-    private static final class ReliableMessageState {
-        private final AtomicLong nextSequence = new AtomicLong(1L);
-        private final ConcurrentSkipListMap<Long, PendingActionResult> pending = new ConcurrentSkipListMap<>();
-        private volatile long lastAck = 0L;
-    }
+            Player targetOnline = plugin.getServer().getPlayer(entry.getKey());
+            if (targetOnline == null || !targetOnline.isOnline()) {
+                queuedOffline.add(targetName);
+                continue;
+            }
 
-    private static final class PendingActionResult {
-        private final long sequence;
-        private final String action;
-        private final UUID pathId;
-        private final boolean success;
-        private final String message;
-        private final PathData updated;
-        private volatile long lastSentAtMs;
-        private volatile int attempts;
+            // Avoid cross-world bleeding: only deliver/render immediately if they're in the same world.
+            java.util.UUID targetWorldUid = targetOnline.getWorld().getUID();
+            if (!senderWorldUid.equals(targetWorldUid)) {
+                queuedOtherWorld.add(targetName);
+                targetOnline.sendMessage(Component.text(sender.getName() + " shared a path with you: " + sharedCopy.getPathName() + ". It will appear when you join their world.", NamedTextColor.AQUA));
+                continue;
+            }
 
-        private PendingActionResult(long sequence, String action, UUID pathId, boolean success, String message, PathData updated) {
-            this.sequence = sequence;
-            this.action = action;
-            this.pathId = pathId;
-            this.success = success;
-            this.message = message;
-            this.updated = updated;
-            this.lastSentAtMs = 0L;
-            this.attempts = 0;
+            // Note: sharedWith is no longer used - all recipients get owned copies via ensureSharedCopies()
+            if (isModdedPlayer(targetOnline)) {
+                sendSharePath(targetOnline, sharedCopy);
+                targetOnline.sendMessage(Component.text(sender.getName() + " has shared a path with you: " + sharedCopy.getPathName(), NamedTextColor.AQUA));
+            } else {
+                plugin.getPathRendererManager().startRendering(targetOnline, sharedCopy);
+                targetOnline.sendMessage(Component.text(sender.getName() + " has shared a path with you: " + sharedCopy.getPathName(), NamedTextColor.AQUA));
+                targetOnline.sendMessage(Component.text("It is now being displayed. Use '/path hide' to hide it or '/path view " + sharedCopy.getPathName() + "' to see it again.", NamedTextColor.GRAY));
+            }
         }
 
-        private byte[] toBytes(long acknowledgedSequence) {
-            Long ackField = acknowledgedSequence > 0 ? acknowledgedSequence : null;
-            PathActionResultPayload payload = new PathActionResultPayload(action, pathId, success, message, updated, sequence, ackField);
-            return payload.toBytes();
+        boolean success = !newlyShared.isEmpty();
+        StringBuilder response = new StringBuilder();
+        if (success) {
+            response.append("Shared path with ").append(String.join(", ", newlyShared)).append('.');
         }
-
-        private void markDispatched(long timestampMs) {
-            this.attempts++;
-            this.lastSentAtMs = timestampMs;
+        if (!alreadyHad.isEmpty()) {
+            if (response.length() > 0) response.append(' ');
+            response.append(String.join(", ", alreadyHad)).append(" already had their own copy.");
         }
-
-        private long getSequence() {
-            return sequence;
+        if (!queuedOffline.isEmpty()) {
+            if (response.length() > 0) response.append(' ');
+            response.append("Queued for offline players: ").append(String.join(", ", queuedOffline)).append('.');
         }
-
-        private int getAttempts() {
-            return attempts;
+        if (!queuedOtherWorld.isEmpty()) {
+            if (response.length() > 0) response.append(' ');
+            response.append("Queued for players in another world: ").append(String.join(", ", queuedOtherWorld)).append('.');
         }
-
-        private long getLastSentAtMs() {
-            return lastSentAtMs;
+        if (response.length() == 0) {
+            response.append("Selected players already have this path.");
         }
-    }
-
-    private void handleSharePathWithPlayers(Player sender, byte[] message) {
-        try {
-            ByteBuffer buffer = ByteBuffer.wrap(message);
-            UUID pathId = new UUID(buffer.getLong(), buffer.getLong());
-            int playerCount = readVarInt(buffer);
-            if (playerCount < 0 || playerCount > MAX_SHARE_TARGETS) {
-                throw new IllegalArgumentException("Invalid recipient count: " + playerCount);
-            }
-            List<UUID> playerIds = new ArrayList<>();
-            for (int i = 0; i < playerCount; i++) {
-                playerIds.add(new UUID(buffer.getLong(), buffer.getLong()));
-            }
 
-            // Shared copies are scoped to the *source* world. The recipient may be elsewhere (or offline),
-            // but persistence must follow the world the path actually belongs to.
-            java.util.UUID senderWorldUid = sender.getWorld().getUID();
-            List<PathData> paths = dataManager.loadPaths(senderWorldUid, sender.getUniqueId());
-            paths.stream()
-                .filter(p -> p.getPathId().equals(pathId) && p.getOwnerUUID().equals(sender.getUniqueId()))
-                .findFirst()
-                .ifPresentOrElse(path -> {
-                    List<String> newlyShared = new ArrayList<>();
-                    List<String> alreadyHad = new ArrayList<>();
-                    List<String> queuedOffline = new ArrayList<>();
-                    List<String> queuedOtherWorld = new ArrayList<>();
-
-                    for (UUID targetPlayerId : playerIds) {
-                        if (targetPlayerId == null || targetPlayerId.equals(sender.getUniqueId())) {
-                            continue;
-                        }
-
-                        Player targetOnline = plugin.getServer().getPlayer(targetPlayerId);
-                        String targetName = (targetOnline != null && targetOnline.isOnline())
-                                ? targetOnline.getName()
-                                : resolvePlayerName(targetPlayerId);
-
-                        // Persist in the sender's world folder (source world). This allows offline recipients
-                        // to receive the shared path on next join, and prevents storing paths in unrelated worlds.
-                        PathDataManager.SharedCopyResult result = dataManager.ensureSharedCopy(path, targetPlayerId, targetName, senderWorldUid);
-                        if (!result.wasCreated()) {
-                            alreadyHad.add(targetName);
-                            continue;
-                        }
-
-                        PathData sharedCopy = result.getPath();
-                        newlyShared.add(targetName);
-
-                        if (targetOnline == null || !targetOnline.isOnline()) {
-                            queuedOffline.add(targetName);
-                            continue;
-                        }
-
-                        // Avoid cross-world bleeding: only deliver/render immediately if they're in the same world.
-                        java.util.UUID targetWorldUid = targetOnline.getWorld().getUID();
-                        if (!senderWorldUid.equals(targetWorldUid)) {
-                            queuedOtherWorld.add(targetName);
-                            targetOnline.sendMessage(Component.text(sender.getName() + " shared a path with you: " + sharedCopy.getPathName() + ". It will appear when you join their world.", NamedTextColor.AQUA));
-                            continue;
-                        }
-
-                        boolean targetIsModded = isModdedPlayer(targetOnline);
-                        // Note: sharedWith is no longer used - all recipients get owned copies via ensureSharedCopy()
-                        if (targetIsModded) {
-                            sendSharePath(targetOnline, sharedCopy);
-                            targetOnline.sendMessage(Component.text(sender.getName() + " has shared a path with you: " + sharedCopy.getPathName(), NamedTextColor.AQUA));
-                        } else {
-                            plugin.getPathRendererManager().startRendering(targetOnline, sharedCopy);
-                            targetOnline.sendMessage(Component.text(sender.getName() + " has shared a path with you: " + sharedCopy.getPathName(), NamedTextColor.AQUA));
-                            targetOnline.sendMessage(Component.text("It is now being displayed. Use '/path hide' to hide it or '/path view " + sharedCopy.getPathName() + "' to see it again.", NamedTextColor.GRAY));
-                        }
-                    }
-
-                    boolean success = !newlyShared.isEmpty();
-                    StringBuilder response = new StringBuilder();
-                    if (success) {
-                        response.append("Shared path with ").append(String.join(", ", newlyShared)).append('.');
-                    }
-                    if (!alreadyHad.isEmpty()) {
-                        if (response.length() > 0) {
-                            response.append(' ');
-                        }
-                        response.append(String.join(", ", alreadyHad)).append(" already had their own copy.");
-                    }
-                    if (!queuedOffline.isEmpty()) {
-                        if (response.length() > 0) {
-                            response.append(' ');
-                        }
-                        response.append("Queued for offline players: ").append(String.join(", ", queuedOffline)).append('.');
-                    }
-                    if (!queuedOtherWorld.isEmpty()) {
-                        if (response.length() > 0) {
-                            response.append(' ');
-                        }
-                        response.append("Queued for players in another world: ").append(String.join(", ", queuedOtherWorld)).append('.');
-                    }
-                    if (response.length() == 0) {
-                        response.append("Selected players already have this path.");
-                    }
-
-                    sendActionResult(sender, "share", pathId, success, response.toString(), null);
-                }, () -> {
-                    sendActionResult(sender, "share", pathId, false, "You do not own this path.", null);
-                });
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to process share path with players payload from " + sender.getName() + ": " + e.getMessage());
-            sendActionResult(sender, "share", null, false, "An error occurred while sharing the path.", null);
-        }
+        sendActionResult(sender, "share", pathId, success, response.toString(), null);
     }
 
-    private void handleMetadataUpdate(Player player, byte[] message) {
+    private CompletableFuture<?> handleMetadataUpdate(Player player, UUID worldUid, byte[] message) {
         try {
             ByteBuffer buffer = ByteBuffer.wrap(message);
             UUID pathId = new UUID(buffer.getLong(), buffer.getLong());
@@ -542,25 +600,29 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             buffer.get(nameBytes);
             String newName = new String(nameBytes, StandardCharsets.UTF_8);
 
-            java.util.UUID worldUid = player.getWorld().getUID();
-            List<PathData> updatedPaths = dataManager.updateMetadata(worldUid, player.getUniqueId(), pathId, newName, color);
-            if (updatedPaths != null) {
-                PathData updatedPath = updatedPaths.stream().filter(p -> p.getPathId().equals(pathId)).findFirst().orElse(null);
-                pruneDuplicateSharedCopies(updatedPaths, player.getUniqueId(), worldUid);
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    sendAllPathData(player, updatedPaths);
-                    sendActionResult(player, "update_metadata", pathId, true, "Path updated successfully.", updatedPath);
-                });
-            } else {
-                sendActionResult(player, "update_metadata", pathId, false, "Failed to update path. You may not be the owner or the name is taken.", null);
-            }
+            UUID playerId = player.getUniqueId();
+            return io.onMain(io.write(worldUid, () -> dataManager.updateMetadata(worldUid, playerId, pathId, newName, color)), updatedPath -> {
+                if (updatedPath == null) {
+                    sendActionResult(player, "update_metadata", pathId, false, "Failed to update path. You may not be the owner.", null);
+                    return;
+                }
+                if (hasCapability(player, Protocol.Capability.DELTA_SYNC)) {
+                    PathDeltaPayload delta = new PathDeltaPayload(List.of(), gsonFor(player).toJson(List.of(updatedPath)));
+                    outbound.send(player, OutboundScheduler.Priority.SYNC, PathDeltaPayload.CHANNEL, delta.toBytes());
+                } else {
+                    // Legacy clients only take whole lists
+                    syncPaths(player, worldUid, null);
+                }
+                sendActionResult(player, "update_metadata", pathId, true, "Path updated successfully.", updatedPath);
+            }, error -> sendActionResult(player, "update_metadata", pathId, false, failureMessage(error, "updating the path"), null));
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to process update metadata payload from " + player.getName() + ": " + e.getMessage());
             sendActionResult(player, "update_metadata", null, false, "An error occurred while updating the path.", null);
+            return null;
         }
     }
 
-    private void handleShareRequest(Player sender, byte[] message) {
+    private CompletableFuture<?> handleShareRequest(Player sender, UUID senderWorldUid, byte[] message) {
         try {
             ByteBuffer buffer = ByteBuffer.wrap(message);
             int targetCount = readVarInt(buffer);
@@ -581,108 +643,77 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             // of the submitted path (shared copies are owned by recipients in the current design).
             if (!sender.getUniqueId().equals(path.getOwnerUUID())) {
                 sendActionResult(sender, "share", null, false, "You can only share paths that you own.", null);
-                return;
+                return null;
             }
 
             if (path.getOriginPathId() == null || path.getOriginOwnerUUID() == null || path.getOriginOwnerName() == null) {
                 path.setOrigin(path.getPathId(), sender.getUniqueId(), sender.getName());
             }
 
-            // For both modded and unmodded recipients: ensure a shared copy exists.
-            // If the recipient is modded and online, also deliver over the custom channel.
-            // NOTE: Only recipients in the same world can receive immediate delivery/rendering to avoid cross-world visuals.
-            List<String> newlyShared = new ArrayList<>();
-            List<String> alreadyHad = new ArrayList<>();
-            List<String> queuedOffline = new ArrayList<>();
-            List<String> queuedOtherWorld = new ArrayList<>();
-            int moddedDelivered = 0;
-
-            java.util.UUID senderWorldUid = sender.getWorld().getUID();
-
-            for (UUID targetId : targets) {
-                if (targetId == null || targetId.equals(sender.getUniqueId())) {
-                    continue;
-                }
-
-                Player targetOnline = plugin.getServer().getPlayer(targetId);
-                String targetName = (targetOnline != null && targetOnline.isOnline())
-                        ? targetOnline.getName()
-                        : resolvePlayerName(targetId);
-
-                // Persist in sender's current world folder. This makes sharing work for offline recipients,
-                // and avoids persisting a path into a recipient's unrelated current world.
-                PathDataManager.SharedCopyResult result = dataManager.ensureSharedCopy(path, targetId, targetName, senderWorldUid);
-                PathData sharedCopy = result.getPath();
-                if (!result.wasCreated()) {
-                    alreadyHad.add(targetName);
-                    continue;
-                }
-
-                newlyShared.add(targetName);
-
-                if (targetOnline == null || !targetOnline.isOnline()) {
-                    queuedOffline.add(targetName);
-                    continue;
-                }
-
-                java.util.UUID targetWorldUid = targetOnline.getWorld().getUID();
-                if (!senderWorldUid.equals(targetWorldUid)) {
-                    queuedOtherWorld.add(targetName);
-                    targetOnline.sendMessage(Component.text(sender.getName() + " shared a path with you: " + sharedCopy.getPathName() + ". It will appear when you join their world.", NamedTextColor.AQUA));
-                    continue;
-                }
-
-                boolean targetIsModded = isModdedPlayer(targetOnline);
-                if (targetIsModded) {
-                    // Deliver to modded clients via payload
-                    sendSharePath(targetOnline, sharedCopy);
-                    targetOnline.sendMessage(Component.text(sender.getName() + " has shared a path with you: " + sharedCopy.getPathName(), NamedTextColor.AQUA));
-                    moddedDelivered++;
-                } else {
-                    // Fallback: start server-side particle rendering and notify
-                    plugin.getPathRendererManager().startRendering(targetOnline, sharedCopy);
-                    targetOnline.sendMessage(Component.text(sender.getName() + " has shared a path with you: " + sharedCopy.getPathName(), NamedTextColor.AQUA));
-                    targetOnline.sendMessage(Component.text("It is now being displayed. Use '/path hide' to hide it or '/path view " + sharedCopy.getPathName() + "' to see it again.", NamedTextColor.GRAY));
-                }
-            }
-
-            boolean success = !newlyShared.isEmpty() || moddedDelivered > 0;
-            StringBuilder response = new StringBuilder();
-            if (!newlyShared.isEmpty()) {
-                response.append("Shared path with ").append(String.join(", ", newlyShared)).append('.');
-            }
-            if (!alreadyHad.isEmpty()) {
-                if (response.length() > 0) response.append(' ');
-                response.append(String.join(", ", alreadyHad)).append(" already had their own copy.");
-            }
-            if (!queuedOffline.isEmpty()) {
-                if (response.length() > 0) response.append(' ');
-                response.append("Queued for offline players: ").append(String.join(", ", queuedOffline)).append('.');
-            }
-            if (!queuedOtherWorld.isEmpty()) {
-                if (response.length() > 0) response.append(' ');
-                response.append("Queued for players in another world: ").append(String.join(", ", queuedOtherWorld)).append('.');
-            }
-            if (response.length() == 0) {
-                // Nobody received a new copy, but if some were online+modded we still delivered
-                response.append(moddedDelivered > 0 ? ("Shared path with " + moddedDelivered + " player(s).") : "Selected players already have this path.");
-            }
-
-            sendActionResult(sender, "share", path.getPathId(), success, response.toString(), null);
+            // For both modded and unmodded recipients: ensure a shared copy exists, as one batch off the main thread.
+            // Persist in sender's current world folder. This makes sharing work for offline recipients,
+            // and avoids persisting a path into a recipient's unrelated current world.
+            Map<UUID, String> recipients = callOnMain(() -> resolveShareRecipients(sender, targets));
+            return io.onMain(io.write(senderWorldUid, () -> dataManager.ensureSharedCopies(path, recipients, senderWorldUid)),
+                results -> deliverShareResults(sender, path.getPathId(), recipients, results, senderWorldUid),
+                error -> sendActionResult(sender, "share", path.getPathId(), false, failureMessage(error, "sharing the path"), null));
         } catch (Exception ex) {
             plugin.getLogger().warning("Failed to process share request payload from " + sender.getName() + ": " + ex.getMessage());
             sendActionResult(sender, "share", null, false, "An error occurred while sharing the path.", null);
+            return null;
         }
     }
 
-    private void handleSaveRequest(Player sender, byte[] message) {
+    /**
+     * Applies one action to many paths in a single storage pass and answers with one sync (a delta for
+     * clients that negotiated it) and one action result, instead of a round trip and resync per path.
+     */
+    private CompletableFuture<?> handleBulkAction(Player player, UUID worldUid, byte[] message) {
+        BulkPathActionPayload payload;
+        try {
+            payload = BulkPathActionPayload.fromBytes(message);
+        } catch (java.io.IOException e) {
+            plugin.getLogger().warning("Rejected bulk path action from " + player.getName() + ": " + e.getMessage());
+            sendActionResult(player, "bulk", null, false, "Invalid bulk request.", null);
+            return null;
+        }
+        if (payload.getPathIds().isEmpty()) {
+            return null;
+        }
+        UUID playerId = player.getUniqueId();
+        return io.onMain(io.write(worldUid, () -> dataManager.applyBulk(worldUid, playerId, payload.getAction(),
+                payload.getPathIds(), payload.getColorArgb(), payload.getFolder())), result -> {
+            if (!player.isOnline()) {
+                return;
+            }
+            if (hasCapability(player, Protocol.Capability.DELTA_SYNC)) {
+                PathDeltaPayload delta = new PathDeltaPayload(result.removed(), gsonFor(player).toJson(result.changed()));
+                outbound.send(player, OutboundScheduler.Priority.SYNC, PathDeltaPayload.CHANNEL, delta.toBytes());
+            } else if (result.affected() > 0) {
+                // Legacy clients only take whole lists, which applyBulk no longer loads
+                syncPaths(player, worldUid, null);
+            }
+            int skipped = payload.getPathIds().size() - result.affected();
+            String verb = switch (payload.getAction()) {
+                case Protocol.BulkAction.DELETE -> "Deleted";
+                case Protocol.BulkAction.RECOLOR -> "Recolored";
+                default -> payload.getFolder() != null
+                        ? "Moved to '" + com.trailblazer.api.PathNameSanitizer.sanitize(payload.getFolder()) + "':"
+                        : "Removed from folder:";
+            };
+            String text = verb + " " + result.affected() + " path(s)" + (skipped > 0 ? ", skipped " + skipped + " you do not own." : ".");
+            sendActionResult(player, "bulk", null, result.affected() > 0, text, null);
+        }, error -> sendActionResult(player, "bulk", null, false, failureMessage(error, "updating your paths"), null));
+    }
+
+    private CompletableFuture<?> handleSaveRequest(Player sender, UUID worldUid, byte[] message) {
         try {
             // The incoming message for a save request is the raw JSON string
             String json = new String(message, StandardCharsets.UTF_8);
             PathData clientPath = gson.fromJson(json, PathData.class);
             if (clientPath == null || !PathDataManager.isValidPathData(clientPath)) {
                 sendActionResult(sender, "save", null, false, "Invalid path data.", null);
-                return;
+                return null;
             }
 
             // Server is authoritative: generate a new UUID for the persistent copy.
@@ -707,21 +738,22 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             serverCopy.setOrigin(clientPath.getPathId(), clientPath.getOwnerUUID(), clientPath.getOwnerName());
 
             // Persist the new server-authoritative copy.
-            java.util.UUID worldUid = sender.getWorld().getUID();
-            dataManager.savePath(worldUid, serverCopy);
-
-            // Send a success result back to the client with the new, authoritative path data.
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                sendActionResult(sender, "save", serverCopy.getPathId(), true, "Path saved successfully.", serverCopy);
-            });
+            return io.onMain(io.write(worldUid, () -> {
+                dataManager.savePath(worldUid, serverCopy);
+                return serverCopy;
+            }),
+                // Send a success result back to the client with the new, authoritative path data.
+                saved -> sendActionResult(sender, "save", saved.getPathId(), true, "Path saved successfully.", saved),
+                error -> sendActionResult(sender, "save", serverCopy.getPathId(), false, failureMessage(error, "saving the path"), null));
 
         } catch (Exception ex) {
             plugin.getLogger().warning("Failed to process save path payload from " + sender.getName() + ": " + ex.getMessage());
             sendActionResult(sender, "save", null, false, "An error occurred while saving the path.", null);
+            return null;
         }
     }
 
-    private static int readVarInt(ByteBuffer buffer) {
+    static int readVarInt(ByteBuffer buffer) {
         if (buffer.remaining() < 1) {
             throw new IllegalStateException("Buffer underflow reading VarInt");
         }
@@ -744,7 +776,7 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
 
     private String readString(ByteBuffer buffer) {
         int length = readVarInt(buffer);
-        if (length < 0 || length > 1_048_576) {
+        if (length < 0 || length > MAX_PAYLOAD_BYTES) {
             throw new IllegalStateException("Invalid string length: " + length);
         }
         byte[] data = new byte[length];
@@ -778,6 +810,8 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
      * <p>
      * IMPORTANT: This method also deletes duplicate path files from disk to prevent them from
      * reappearing when paths are reloaded. Only the first path (by iteration order) is kept.
+     * The duplicates leave the list immediately; their files are deleted by a queued I/O write, so
+     * this is safe to call from inside a read task.
      */
     private void pruneDuplicateSharedCopies(List<PathData> paths, UUID playerId, UUID worldUid) {
         if (paths == null || paths.isEmpty() || playerId == null || worldUid == null) {
@@ -805,24 +839,31 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             }
         }
         
-        // Delete duplicate path files from disk and remove them from the list
+        // Remove duplicates from the list now and delete their files from disk in a write task
         if (!pathsToRemove.isEmpty()) {
-            int deletedCount = 0;
-            for (PathData duplicate : pathsToRemove) {
-                boolean deleted = dataManager.deletePath(worldUid, playerId, duplicate.getPathId());
-                if (deleted) {
-                    deletedCount++;
-                    TrailblazerPlugin.getPluginLogger().info("Deleted duplicate path file: " + duplicate.getPathId() + 
-                        " (" + duplicate.getPathName() + ") for player " + playerId);
-                } else {
-                    TrailblazerPlugin.getPluginLogger().warning("Failed to delete duplicate path file: " + 
-                        duplicate.getPathId() + " for player " + playerId);
-                }
-            }
             paths.removeAll(pathsToRemove);
-            TrailblazerPlugin.getPluginLogger().info("Removed " + pathsToRemove.size() + " duplicate path(s) " +
-                "(" + deletedCount + " files deleted from disk) for player " + playerId);
+            io.write(worldUid, () -> {
+                deleteDuplicateFiles(pathsToRemove, playerId, worldUid);
+                return null;
+            });
+        }
+    }
+
+    private void deleteDuplicateFiles(List<PathData> pathsToRemove, UUID playerId, UUID worldUid) {
+        int deletedCount = 0;
+        for (PathData duplicate : pathsToRemove) {
+            boolean deleted = dataManager.deletePath(worldUid, playerId, duplicate.getPathId());
+            if (deleted) {
+                deletedCount++;
+                TrailblazerPlugin.getPluginLogger().info("Deleted duplicate path file: " + duplicate.getPathId() + 
+                    " (" + duplicate.getPathName() + ") for player " + playerId);
+            } else {
+                TrailblazerPlugin.getPluginLogger().warning("Failed to delete duplicate path file: " + 
+                    duplicate.getPathId() + " for player " + playerId);
+            }
         }
+        TrailblazerPlugin.getPluginLogger().info("Removed " + pathsToRemove.size() + " duplicate path(s) " +
+            "(" + deletedCount + " files deleted from disk) for player " + playerId);
     }
 
     private static UUID resolveLineageId(PathData path) {
@@ -879,15 +920,17 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
                 }
                 
                 // Reload and sync all paths to include the new one
-                plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-                    UUID worldUid = player.getWorld().getUID();
-                    List<PathData> allPaths = dataManager.loadPaths(worldUid, player.getUniqueId());
-                    pruneDuplicateSharedCopies(allPaths, player.getUniqueId(), worldUid);
-                    plugin.getServer().getScheduler().runTask(plugin, () -> {
-                        sendAllPathData(player, allPaths);
-                        player.sendMessage(Component.text("Path saved successfully!", NamedTextColor.GREEN));
-                    });
-                });
+                // Queued behind the recording's save in the same world, so the new path is included
+                UUID worldUid = player.getWorld().getUID();
+                UUID playerId = player.getUniqueId();
+                io.onMain(io.read(worldUid, () -> {
+                    List<PathData> allPaths = dataManager.loadPaths(worldUid, playerId);
+                    pruneDuplicateSharedCopies(allPaths, playerId, worldUid);
+                    return allPaths;
+                }), allPaths -> {
+                    sendAllPathData(player, allPaths);
+                    player.sendMessage(Component.text("Path saved successfully!", NamedTextColor.GREEN));
+                }, error -> player.sendMessage(Component.text(failureMessage(error, "loading your paths"), NamedTextColor.RED)));
                 plugin.getLogger().info("Stopped and saved recording for " + player.getName());
             } else {
                 if (save) {
@@ -929,7 +972,7 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
         com.trailblazer.plugin.networking.payload.s2c.StartRecordingPayload payload = 
             new com.trailblazer.plugin.networking.payload.s2c.StartRecordingPayload(
                 pathId, recording.getName(), dimension);
-        player.sendPluginMessage(plugin, com.trailblazer.plugin.networking.payload.s2c.StartRecordingPayload.CHANNEL, payload.toBytes());
+        outbound.send(player, OutboundScheduler.Priority.LIVE, com.trailblazer.plugin.networking.payload.s2c.StartRecordingPayload.CHANNEL, payload.toBytes());
         plugin.getLogger().info("StartRecordingPayload sent successfully to " + player.getName());
     }
 
@@ -941,6 +984,6 @@ public class ServerPacketHandler implements Listener, PluginMessageListener {
             return;
         }
         // Send empty payload (0 bytes) to match client's CODEC expectation
-        player.sendPluginMessage(plugin, StopLivePathPayload.CHANNEL, new StopLivePathPayload().toBytes());
+        outbound.send(player, OutboundScheduler.Priority.LIVE, StopLivePathPayload.CHANNEL, new StopLivePathPayload().toBytes());
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.trailblazer.plugin.networking.payload.c2s;
+
+import org.bukkit.NamespacedKey;
+
+import com.trailblazer.api.Protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Client-to-Server payload applying one {@link Protocol.BulkAction} to many of the sender's paths.
+ * <p>
+ * Encoding: action (byte), int count, then each path UUID (two longs). {@code RECOLOR} is followed by
+ * the ARGB color (int); {@code SET_FOLDER} by the folder name as int length plus UTF-8 bytes.
+ */
+public class BulkPathActionPayload {
+    public static final NamespacedKey ID = new NamespacedKey("trailblazer", "bulk_path_action");
+    public static final String CHANNEL = ID.toString();
+
+    private static final int MAX_FOLDER_BYTES = 256;
+
+    private final int action;
+    private final List<UUID> pathIds;
+    private final int colorArgb;
+    private final String folder;
+
+    private BulkPathActionPayload(int action, List<UUID> pathIds, int colorArgb, String folder) {
+        this.action = action;
+        this.pathIds = pathIds;
+        this.colorArgb = colorArgb;
+        this.folder = folder;
+    }
+
+    public int getAction() {
+        return action;
+    }
+
+    /** Distinct path ids in the order the client sent them. */
+    public List<UUID> getPathIds() {
+        return pathIds;
+    }
+
+    public int getColorArgb() {
+        return colorArgb;
+    }
+
+    /** Folder name for {@code SET_FOLDER}; null unfiles the paths. */
+    public String getFolder() {
+        return folder;
+    }
+
+    /** @throws IOException if the message is truncated, malformed or exceeds the limits */
+    public static BulkPathActionPayload fromBytes(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int action = in.readUnsignedByte();
+            if (action != Protocol.BulkAction.DELETE && action != Protocol.BulkAction.RECOLOR
+                    && action != Protocol.BulkAction.SET_FOLDER) {
+                throw new IOException("Unknown bulk action " + action);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > Protocol.BulkAction.MAX_PATHS) {
+                throw new IOException("Invalid path count " + count);
+            }
+            LinkedHashSet<UUID> ids = new LinkedHashSet<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                ids.add(new UUID(in.readLong(), in.readLong()));
+            }
+            int color = 0;
+            String folder = null;
+            if (action == Protocol.BulkAction.RECOLOR) {
+                color = in.readInt();
+            } else if (action == Protocol.BulkAction.SET_FOLDER) {
+                int length = in.readInt();
+                if (length < 0 || length > MAX_FOLDER_BYTES) {
+                    throw new IOException("Invalid folder name length " + length);
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                folder = length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+            }
+            return new BulkPathActionPayload(action, new ArrayList<>(ids), color, folder);
+        }
+    }
+}
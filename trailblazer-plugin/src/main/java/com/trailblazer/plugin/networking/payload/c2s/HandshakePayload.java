@@ -2,10 +2,57 @@ package com.trailblazer.plugin.networking.payload.c2s;
 
 import org.bukkit.NamespacedKey;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Represents the C2S handshake payload.
+ * <p>
+ * Protocol version 2 clients append their protocol version and capability mask (two ints), followed by
+ * the versions of the server paths they already hold in {@link PathVersionsPayload} encoding.
+ * Older clients send an empty body, which parses as version 1 with no capabilities.
  */
 public class HandshakePayload {
     public static final NamespacedKey ID = new NamespacedKey("trailblazer", "handshake");
     public static final String CHANNEL = ID.toString();
+
+    private final int protocolVersion;
+    private final int capabilities;
+    private final Map<UUID, Long> knownVersions;
+
+    private HandshakePayload(int protocolVersion, int capabilities, Map<UUID, Long> knownVersions) {
+        this.protocolVersion = protocolVersion;
+        this.capabilities = capabilities;
+        this.knownVersions = knownVersions;
+    }
+
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    public int getCapabilities() {
+        return capabilities;
+    }
+
+    /** Versions of the server paths the client already holds, or null if it needs a full sync. */
+    public Map<UUID, Long> getKnownVersions() {
+        return knownVersions;
+    }
+
+    public static HandshakePayload fromBytes(byte[] data) {
+        if (data == null || data.length < Integer.BYTES * 2) {
+            return new HandshakePayload(1, 0, null);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int protocolVersion = in.readInt();
+            int capabilities = in.readInt();
+            Map<UUID, Long> known = in.available() >= Integer.BYTES ? PathVersionsPayload.readVersions(in) : null;
+            return new HandshakePayload(protocolVersion, capabilities, known);
+        } catch (IOException e) {
+            return new HandshakePayload(1, 0, null);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package com.trailblazer.plugin.networking.payload.c2s;
+
+import org.bukkit.NamespacedKey;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Client-to-Server payload listing the server paths the client already holds and their versions.
+ * <p>
+ * Encoding: int count, then per path its UUID (two longs) and version (long). A count of -1 means the
+ * client has no usable view and wants a full sync. The same encoding trails the v2 handshake body.
+ */
+public class PathVersionsPayload {
+    public static final NamespacedKey ID = new NamespacedKey("trailblazer", "path_versions");
+    public static final String CHANNEL = ID.toString();
+
+    /** Keeps the list inside the 32 KiB serverbound custom payload limit. */
+    public static final int MAX_ENTRIES = 1024;
+
+    private final Map<UUID, Long> knownVersions;
+
+    private PathVersionsPayload(Map<UUID, Long> knownVersions) {
+        this.knownVersions = knownVersions;
+    }
+
+    /** Known versions by path id, or null if the client asked for a full sync. */
+    public Map<UUID, Long> getKnownVersions() {
+        return knownVersions;
+    }
+
+    public static PathVersionsPayload fromBytes(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return new PathVersionsPayload(readVersions(in));
+        } catch (IOException e) {
+            return new PathVersionsPayload(null);
+        }
+    }
+
+    /** Reads a version list; returns null for the full-sync marker or an out-of-range count. */
+    static Map<UUID, Long> readVersions(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            return null;
+        }
+        Map<UUID, Long> versions = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            UUID pathId = new UUID(in.readLong(), in.readLong());
+            versions.put(pathId, in.readLong());
+        }
+        return versions;
+    }
+}
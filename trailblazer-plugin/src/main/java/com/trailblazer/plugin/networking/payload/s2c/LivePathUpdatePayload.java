@@ -1,6 +1,6 @@
 package com.trailblazer.plugin.networking.payload.s2c;
 
-import com.google.gson.Gson;
+import com.trailblazer.api.PathJson;
 import com.trailblazer.api.Vector3d;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.messaging.PluginMessageListener;
@@ -13,16 +13,18 @@ import java.util.List;
  */
 public class LivePathUpdatePayload implements PluginMessageListener {
     public static final String CHANNEL = "trailblazer:live_path_update";
-    private static final Gson GSON = new Gson();
 
     private final List<Vector3d> points;
+    private final boolean flatPoints;
 
-    public LivePathUpdatePayload(List<Vector3d> points) {
+    /** @param flatPoints true if the client negotiated {@link com.trailblazer.api.Protocol.Capability#FLAT_POINTS} */
+    public LivePathUpdatePayload(List<Vector3d> points, boolean flatPoints) {
         this.points = points;
+        this.flatPoints = flatPoints;
     }
 
     public byte[] toBytes() {
-        String json = GSON.toJson(points);
+        String json = PathJson.gson(flatPoints).toJson(points, PathJson.POINT_LIST_TYPE);
         return json.getBytes(StandardCharsets.UTF_8);
     }
 
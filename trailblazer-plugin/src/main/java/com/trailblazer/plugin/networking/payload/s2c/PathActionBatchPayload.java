@@ -0,0 +1,53 @@
+package com.trailblazer.plugin.networking.payload.s2c;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Frame carrying several already-encoded {@link PathActionResultPayload} entries in one plugin message.
+ * <p>
+ * Layout: base sequence (long), ack presence flag + highest cumulative ack received from the client (long),
+ * VarInt entry count, then each entry in the plain action result encoding. Every sequence below the base
+ * has either been acknowledged or abandoned, so the client may advance its cumulative ack to {@code base - 1}.
+ */
+public class PathActionBatchPayload {
+    public static final String CHANNEL = "trailblazer:path_action_batch";
+
+    /** Fixed bytes before the entries: base, ack flag, ack, and a worst-case VarInt count. */
+    public static final int HEADER_BYTES = 8 + 1 + 8 + 5;
+
+    private final long baseSequence;
+    private final Long acknowledgedSequence;
+    private final List<byte[]> entries;
+
+    public PathActionBatchPayload(long baseSequence, Long acknowledgedSequence, List<byte[]> entries) {
+        this.baseSequence = baseSequence;
+        this.acknowledgedSequence = acknowledgedSequence;
+        this.entries = entries;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer header = ByteBuffer.allocate(8 + 1 + 8);
+        header.putLong(baseSequence);
+        header.put((byte) (acknowledgedSequence != null ? 1 : 0));
+        if (acknowledgedSequence != null) {
+            header.putLong(acknowledgedSequence);
+        }
+        out.write(header.array(), 0, header.position());
+        writeVarInt(out, entries.size());
+        for (byte[] entry : entries) {
+            out.writeBytes(entry);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & -128) != 0) {
+            out.write(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
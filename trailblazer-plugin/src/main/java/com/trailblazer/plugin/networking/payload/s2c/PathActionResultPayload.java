@@ -2,6 +2,7 @@ package com.trailblazer.plugin.networking.payload.s2c;
 
 import com.google.gson.Gson;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -10,7 +11,6 @@ import java.util.UUID;
 /** Plugin messaging (Bukkit) variant of the action result payload. */
 public class PathActionResultPayload {
     public static final String CHANNEL = "trailblazer:path_action_result";
-    private static final Gson GSON = new Gson();
 
     private final String action;
     private final UUID pathId;
@@ -19,12 +19,14 @@ public class PathActionResultPayload {
     private final PathData updated;
     private final long sequenceNumber;
     private final Long acknowledgedSequence;
+    private final Gson gson;
 
     public PathActionResultPayload(String action, UUID pathId, boolean success, String message, PathData updated) {
-        this(action, pathId, success, message, updated, 0L, null);
+        this(action, pathId, success, message, updated, 0L, null, false);
     }
 
-    public PathActionResultPayload(String action, UUID pathId, boolean success, String message, PathData updated, long sequenceNumber, Long acknowledgedSequence) {
+    /** @param flatPoints true if the client negotiated {@link com.trailblazer.api.Protocol.Capability#FLAT_POINTS} */
+    public PathActionResultPayload(String action, UUID pathId, boolean success, String message, PathData updated, long sequenceNumber, Long acknowledgedSequence, boolean flatPoints) {
         this.action = action;
         this.pathId = pathId;
         this.success = success;
@@ -32,6 +34,7 @@ public class PathActionResultPayload {
         this.updated = updated;
         this.sequenceNumber = sequenceNumber;
         this.acknowledgedSequence = acknowledgedSequence;
+        this.gson = PathJson.gson(flatPoints);
     }
 
     public byte[] toBytes() {
@@ -41,7 +44,7 @@ public class PathActionResultPayload {
         // - UUID is two longs
         // - Sequence and optional ack are longs
 
-        String json = updated == null ? "" : GSON.toJson(updated);
+        String json = updated == null ? "" : gson.toJson(updated);
         byte[] actionB = action.getBytes(StandardCharsets.UTF_8);
         byte[] msgB = (message == null ? "" : message).getBytes(StandardCharsets.UTF_8);
         byte[] updatedB = json.getBytes(StandardCharsets.UTF_8);
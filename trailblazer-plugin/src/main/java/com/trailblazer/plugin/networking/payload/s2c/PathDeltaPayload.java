@@ -0,0 +1,46 @@
+package com.trailblazer.plugin.networking.payload.s2c;
+
+import org.bukkit.NamespacedKey;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * S2C incremental sync: the paths added or changed since the client's known versions, and the ids it
+ * should drop. Paths not mentioned are unchanged and stay as the client has them.
+ * <p>
+ * Encoding: int removed count, removed UUIDs (two longs each), then the changed paths as a UTF-8 JSON
+ * array filling the rest of the message, like {@link PathDataSyncPayload}.
+ */
+public class PathDeltaPayload {
+    public static final NamespacedKey ID = new NamespacedKey("trailblazer", "path_delta");
+    public static final String CHANNEL = ID.toString();
+
+    private final List<UUID> removed;
+    private final String changedJson;
+
+    public PathDeltaPayload(List<UUID> removed, String changedJson) {
+        this.removed = removed;
+        this.changedJson = changedJson;
+    }
+
+    public byte[] toBytes() {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeInt(removed.size());
+            for (UUID id : removed) {
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            }
+            out.write(changedJson.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize PathDeltaPayload", e);
+        }
+    }
+}
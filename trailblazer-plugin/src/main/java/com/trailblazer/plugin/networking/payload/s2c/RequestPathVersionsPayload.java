@@ -0,0 +1,29 @@
+package com.trailblazer.plugin.networking.payload.s2c;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+
+/**
+ * Asks a delta-sync client to report the server paths it holds, after which the server answers with a
+ * {@link PathDeltaPayload}. Sent on world change instead of a full resync; carries the new world's UID
+ * so the client can switch to its cached paths for that world first.
+ */
+public class RequestPathVersionsPayload {
+    public static final NamespacedKey ID = new NamespacedKey("trailblazer", "request_path_versions");
+    public static final String CHANNEL = ID.toString();
+
+    private final UUID worldUid;
+
+    public RequestPathVersionsPayload(UUID worldUid) {
+        this.worldUid = worldUid;
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(16)
+                .putLong(worldUid.getMostSignificantBits())
+                .putLong(worldUid.getLeastSignificantBits())
+                .array();
+    }
+}
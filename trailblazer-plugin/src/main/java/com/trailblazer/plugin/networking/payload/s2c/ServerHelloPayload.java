@@ -0,0 +1,54 @@
+package com.trailblazer.plugin.networking.payload.s2c;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+
+/**
+ * Server reply to the handshake advertising what this server supports.
+ * <p>
+ * Layout (big-endian ints): protocol version, capability mask, max points per path,
+ * max C2S payload bytes, max share targets, then the UID of the player's current world (two longs).
+ * Fields may be appended in later versions;
+ * clients ignore trailing bytes they do not understand.
+ */
+public class ServerHelloPayload {
+    public static final NamespacedKey ID = new NamespacedKey("trailblazer", "server_hello");
+    public static final String CHANNEL = ID.toString();
+
+    private final int protocolVersion;
+    private final int capabilities;
+    private final int maxPointsPerPath;
+    private final int maxPayloadBytes;
+    private final int maxShareTargets;
+    private final UUID worldUid;
+
+    public ServerHelloPayload(int protocolVersion, int capabilities, int maxPointsPerPath, int maxPayloadBytes, int maxShareTargets, UUID worldUid) {
+        this.protocolVersion = protocolVersion;
+        this.capabilities = capabilities;
+        this.maxPointsPerPath = maxPointsPerPath;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.maxShareTargets = maxShareTargets;
+        this.worldUid = worldUid;
+    }
+
+    public byte[] toBytes() {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeInt(protocolVersion);
+            out.writeInt(capabilities);
+            out.writeInt(maxPointsPerPath);
+            out.writeInt(maxPayloadBytes);
+            out.writeInt(maxShareTargets);
+            out.writeLong(worldUid.getMostSignificantBits());
+            out.writeLong(worldUid.getLeastSignificantBits());
+            out.flush();
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize ServerHelloPayload", e);
+        }
+    }
+}
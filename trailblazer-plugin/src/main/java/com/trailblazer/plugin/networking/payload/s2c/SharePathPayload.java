@@ -1,8 +1,8 @@
 package com.trailblazer.plugin.networking.payload.s2c;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.trailblazer.api.PathData;
+import com.trailblazer.api.PathJson;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -11,12 +11,15 @@ import java.nio.charset.StandardCharsets;
 public class SharePathPayload {
 
     public static final String CHANNEL_NAME = "trailblazer:share_path";
-    private static final Gson GSON = new GsonBuilder().create();
+    private static final Gson GSON = PathJson.gson();
 
     private final PathData pathData;
+    private final boolean flatPoints;
 
-    public SharePathPayload(PathData pathData) {
+    /** @param flatPoints true if the client negotiated {@link com.trailblazer.api.Protocol.Capability#FLAT_POINTS} */
+    public SharePathPayload(PathData pathData, boolean flatPoints) {
         this.pathData = pathData;
+        this.flatPoints = flatPoints;
     }
 
     public PathData getPathData() {
@@ -25,7 +28,7 @@ public class SharePathPayload {
 
     public byte[] toBytes() {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        byte[] jsonBytes = GSON.toJson(pathData).getBytes(StandardCharsets.UTF_8);
+        byte[] jsonBytes = PathJson.gson(flatPoints).toJson(pathData).getBytes(StandardCharsets.UTF_8);
         writeVarInt(bos, jsonBytes.length);
         bos.writeBytes(jsonBytes);
         return bos.toByteArray();
@@ -36,7 +39,7 @@ public class SharePathPayload {
             int len = readVarInt(bis);
             byte[] data = bis.readNBytes(len);
             PathData path = GSON.fromJson(new String(data, StandardCharsets.UTF_8), PathData.class);
-            return new SharePathPayload(path);
+            return new SharePathPayload(path, true);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize shared path payload", e);
         }
@@ -0,0 +1,404 @@
+package com.trailblazer.plugin.rendering;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.Color;
+import org.bukkit.DyeColor;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import com.trailblazer.api.PathData;
+import com.trailblazer.api.Vector3d;
+
+/**
+ * Renders paths for vanilla clients with display entities instead of particles.
+ * <p>
+ * Dashes are thin stretched {@link BlockDisplay}s and arrows are {@link ItemDisplay}s. They are spawned once,
+ * invisible by default and grouped per chunk; each chunk's group is shown to a viewer while they are within
+ * {@link #SHOW_RADIUS_CHUNKS} of it. After that the client keeps drawing them on its own, so a path being
+ * viewed costs no packets and only a once-per-second proximity check. Viewers of the same path with the same
+ * settings share one set of entities.
+ * <p>
+ * The entities are not persistent: they disappear with their chunk and are spawned again when a viewer is near
+ * the loaded chunk. All methods must be called on the main thread.
+ */
+public class DisplayPathRenderer {
+
+    /** Vanilla tracks display entities up to ten chunks away; showing farther groups would gain nothing. */
+    private static final int SHOW_RADIUS_CHUNKS = 10;
+    private static final long REFRESH_PERIOD_TICKS = 20L;
+
+    // Same dash pattern as the particle renderer
+    private static final double DASH_LENGTH = 2.0;
+    private static final double GAP_LENGTH = 1.0;
+    private static final float DASH_WIDTH = 0.1f;
+    private static final float ARROW_SCALE = 0.6f;
+    private static final double ARROW_LIFT = 0.1;
+
+    /** Turns the item sprite of an arrow, which points up and to the right, to lie flat and point along +Z. */
+    private static final Quaternionf ARROW_BASE_ROTATION = new Quaternionf()
+            .rotateZ((float) (Math.PI / 2))
+            .rotateY((float) (-Math.PI / 2))
+            .rotateZ((float) (-Math.PI / 4));
+
+    private final Plugin plugin;
+    private final Map<Layout, ShownPath> shownPaths = new HashMap<>();
+    private final Map<UUID, ShownPath> viewing = new HashMap<>();
+    private final Map<Integer, Material> blockCache = new HashMap<>();
+    private BukkitTask refreshTask;
+
+    public DisplayPathRenderer(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Shows {@code path} to {@code player}, replacing whatever they were shown before.
+     *
+     * @param live true for a path that is still being recorded; drawn in the flame colour like the particle renderer
+     */
+    public void show(Player player, PathData path, World world, RenderMode mode, double markerSpacing, boolean live) {
+        hide(player);
+        Layout layout = new Layout(path.getPathId(), world.getUID(), mode,
+                mode == RenderMode.DIRECTIONAL_ARROWS ? markerSpacing : 0.0,
+                path.getColorArgb(), live, path.getPoints().hashCode());
+        ShownPath shown = shownPaths.get(layout);
+        if (shown == null) {
+            shown = new ShownPath(world, layout, buildRegions(path.getPoints(), mode, markerSpacing,
+                    live ? Material.SHROOMLIGHT : blockFor(path.getColorArgb())));
+            shownPaths.put(layout, shown);
+        }
+        shown.viewers.add(player);
+        viewing.put(player.getUniqueId(), shown);
+        refresh(shown);
+        if (refreshTask == null) {
+            refreshTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::refreshAll,
+                    REFRESH_PERIOD_TICKS, REFRESH_PERIOD_TICKS);
+        }
+    }
+
+    /** Stops showing the player's path. Its entities are removed once nobody views it any more. */
+    public void hide(Player player) {
+        ShownPath shown = viewing.remove(player.getUniqueId());
+        if (shown == null) {
+            return;
+        }
+        shown.viewers.remove(player);
+        for (Region region : shown.regions.values()) {
+            if (region.shownTo.remove(player.getUniqueId()) && player.isOnline()) {
+                for (Display entity : region.entities) {
+                    player.hideEntity(plugin, entity);
+                }
+            }
+        }
+        if (shown.viewers.isEmpty()) {
+            shownPaths.remove(shown.layout);
+            shown.regions.values().forEach(Region::despawn);
+        }
+        if (shownPaths.isEmpty() && refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+    }
+
+    /** True if the player is currently shown a path by this renderer. */
+    public boolean isShowing(Player player) {
+        return viewing.containsKey(player.getUniqueId());
+    }
+
+    /** Removes every spawned entity; called when the plugin is disabled. */
+    public void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        for (ShownPath shown : shownPaths.values()) {
+            shown.regions.values().forEach(Region::despawn);
+        }
+        shownPaths.clear();
+        viewing.clear();
+    }
+
+    private void refreshAll() {
+        for (ShownPath shown : new ArrayList<>(shownPaths.values())) {
+            for (Player viewer : new ArrayList<>(shown.viewers)) {
+                if (!viewer.isOnline()) {
+                    hide(viewer);
+                }
+            }
+            if (!shown.viewers.isEmpty()) {
+                refresh(shown);
+            }
+        }
+    }
+
+    /** Spawns the groups viewers came near and shows or hides groups as viewers move. */
+    private void refresh(ShownPath shown) {
+        for (Region region : shown.regions.values()) {
+            if (!shown.world.isChunkLoaded(region.chunkX, region.chunkZ)) {
+                // Unloading the chunk discarded the entities
+                region.forget();
+                continue;
+            }
+            List<Player> near = new ArrayList<>();
+            for (Player viewer : shown.viewers) {
+                if (viewer.getWorld().equals(shown.world) && region.isNear(viewer.getLocation())) {
+                    near.add(viewer);
+                }
+            }
+            if (near.isEmpty() && !region.isAlive()) {
+                // Nobody is near; respawn only when someone comes back
+                region.despawn();
+                continue;
+            }
+            if (!region.isAlive()) {
+                region.despawn();
+                region.spawn(shown.world);
+            }
+            for (Player viewer : shown.viewers) {
+                if (near.contains(viewer)) {
+                    if (region.shownTo.add(viewer.getUniqueId())) {
+                        for (Display entity : region.entities) {
+                            viewer.showEntity(plugin, entity);
+                        }
+                    }
+                } else if (region.shownTo.remove(viewer.getUniqueId())) {
+                    for (Display entity : region.entities) {
+                        viewer.hideEntity(plugin, entity);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<Long, Region> buildRegions(List<Vector3d> points, RenderMode mode, double markerSpacing, Material block) {
+        Map<Long, Region> regions = new HashMap<>();
+        if (mode == RenderMode.DIRECTIONAL_ARROWS) {
+            addArrows(regions, points, markerSpacing);
+        } else {
+            addDashes(regions, points, block);
+        }
+        return regions;
+    }
+
+    /** Lays the dash pattern along the whole polyline, splitting dashes that cross a vertex. */
+    private static void addDashes(Map<Long, Region> regions, List<Vector3d> points, Material block) {
+        double period = DASH_LENGTH + GAP_LENGTH;
+        double phase = 0.0; // distance into the current dash/gap period
+        for (int i = 0; i < points.size() - 1; i++) {
+            Vector3d start = points.get(i);
+            Vector3d end = points.get(i + 1);
+            double dx = end.getX() - start.getX();
+            double dy = end.getY() - start.getY();
+            double dz = end.getZ() - start.getZ();
+            double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (length < 0.1) {
+                continue;
+            }
+            Vector3f direction = new Vector3f((float) (dx / length), (float) (dy / length), (float) (dz / length));
+            double along = 0.0;
+            while (along < length) {
+                double step = Math.min(length - along, (phase < DASH_LENGTH ? DASH_LENGTH : period) - phase);
+                if (phase < DASH_LENGTH && step > 0.01) {
+                    double x = start.getX() + dx / length * along;
+                    double y = start.getY() + dy / length * along;
+                    double z = start.getZ() + dz / length * along;
+                    regionAt(regions, x, z).placements.add(Placement.dash(x, y + DASH_WIDTH / 2, z, direction, (float) step, block));
+                }
+                along += step;
+                phase = (phase + step) % period;
+            }
+        }
+    }
+
+    /** Same marker placement as the particle renderer: one arrow every {@code spacing} blocks of path. */
+    private static void addArrows(Map<Long, Region> regions, List<Vector3d> points, double spacing) {
+        double distanceSinceLastMarker = 0.0;
+        Vector3d last = null;
+        for (int i = 0; i < points.size(); i++) {
+            Vector3d current = points.get(i);
+            if (last != null) {
+                distanceSinceLastMarker += distance(last, current);
+            }
+            if (last == null || distanceSinceLastMarker >= spacing) {
+                for (int j = i + 1; j < points.size(); j++) {
+                    Vector3d next = points.get(j);
+                    double length = distance(current, next);
+                    if (length > 0.1) {
+                        Vector3f direction = new Vector3f(
+                                (float) ((next.getX() - current.getX()) / length),
+                                (float) ((next.getY() - current.getY()) / length),
+                                (float) ((next.getZ() - current.getZ()) / length));
+                        regionAt(regions, current.getX(), current.getZ()).placements
+                                .add(Placement.arrow(current.getX(), current.getY() + ARROW_LIFT, current.getZ(), direction));
+                        break;
+                    }
+                }
+                distanceSinceLastMarker = 0.0;
+            }
+            last = current;
+        }
+    }
+
+    private static double distance(Vector3d a, Vector3d b) {
+        double dx = b.getX() - a.getX();
+        double dy = b.getY() - a.getY();
+        double dz = b.getZ() - a.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private static Region regionAt(Map<Long, Region> regions, double x, double z) {
+        int chunkX = (int) Math.floor(x) >> 4;
+        int chunkZ = (int) Math.floor(z) >> 4;
+        return regions.computeIfAbsent(((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL), k -> new Region(chunkX, chunkZ));
+    }
+
+    /** Display blocks only come in block colours; picks the concrete closest to the path colour. */
+    private Material blockFor(int argb) {
+        return blockCache.computeIfAbsent(argb, c -> {
+            int r = (c >> 16) & 0xFF;
+            int g = (c >> 8) & 0xFF;
+            int b = c & 0xFF;
+            DyeColor best = DyeColor.WHITE;
+            int bestDistance = Integer.MAX_VALUE;
+            for (DyeColor dye : DyeColor.values()) {
+                Color color = dye.getColor();
+                int dr = color.getRed() - r;
+                int dg = color.getGreen() - g;
+                int db = color.getBlue() - b;
+                int d = dr * dr + dg * dg + db * db;
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = dye;
+                }
+            }
+            Material concrete = Material.matchMaterial(best.name() + "_CONCRETE");
+            return concrete != null ? concrete : Material.WHITE_CONCRETE;
+        });
+    }
+
+    /** What makes two viewers' renderings identical, so they can share entities. */
+    private record Layout(UUID pathId, UUID worldUid, RenderMode mode, double markerSpacing,
+                          int colorArgb, boolean live, int pointsHash) {}
+
+    private static final class ShownPath {
+        final World world;
+        final Layout layout;
+        final Map<Long, Region> regions;
+        final Set<Player> viewers = new HashSet<>();
+
+        ShownPath(World world, Layout layout, Map<Long, Region> regions) {
+            this.world = world;
+            this.layout = layout;
+            this.regions = regions;
+        }
+    }
+
+    /** The entities of one chunk. */
+    private static final class Region {
+        final int chunkX;
+        final int chunkZ;
+        final List<Placement> placements = new ArrayList<>();
+        final List<Display> entities = new ArrayList<>();
+        final Set<UUID> shownTo = new HashSet<>();
+
+        Region(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        boolean isNear(Location location) {
+            return Math.abs((location.getBlockX() >> 4) - chunkX) <= SHOW_RADIUS_CHUNKS
+                    && Math.abs((location.getBlockZ() >> 4) - chunkZ) <= SHOW_RADIUS_CHUNKS;
+        }
+
+        boolean isAlive() {
+            if (entities.isEmpty()) {
+                return false;
+            }
+            for (Display entity : entities) {
+                if (!entity.isValid()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void spawn(World world) {
+            for (Placement placement : placements) {
+                entities.add(placement.spawn(world));
+            }
+        }
+
+        void despawn() {
+            for (Display entity : entities) {
+                if (entity.isValid()) {
+                    entity.remove();
+                }
+            }
+            forget();
+        }
+
+        void forget() {
+            entities.clear();
+            shownTo.clear();
+        }
+    }
+
+    /** One entity to spawn: a dash of {@code length} blocks or an arrow, pointing along {@code direction}. */
+    private record Placement(double x, double y, double z, Vector3f direction, float length, Material block) {
+
+        static Placement dash(double x, double y, double z, Vector3f direction, float length, Material block) {
+            return new Placement(x, y, z, direction, length, block);
+        }
+
+        static Placement arrow(double x, double y, double z, Vector3f direction) {
+            return new Placement(x, y, z, direction, 0f, null);
+        }
+
+        Display spawn(World world) {
+            Location location = new Location(world, x, y, z);
+            Quaternionf rotation = new Quaternionf().rotationTo(0f, 0f, 1f, direction.x, direction.y, direction.z);
+            if (block == null) {
+                return world.spawn(location, ItemDisplay.class, display -> {
+                    configure(display);
+                    display.setItemStack(new ItemStack(Material.ARROW));
+                    display.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.FIXED);
+                    display.setTransformation(new Transformation(new Vector3f(),
+                            rotation.mul(ARROW_BASE_ROTATION, new Quaternionf()),
+                            new Vector3f(ARROW_SCALE), new Quaternionf()));
+                });
+            }
+            return world.spawn(location, BlockDisplay.class, display -> {
+                configure(display);
+                display.setBlock(block.createBlockData());
+                // The block model spans [0, 1] from the entity origin; centre its cross-section on the path
+                Vector3f offset = rotation.transform(new Vector3f(-DASH_WIDTH / 2, -DASH_WIDTH / 2, 0f));
+                display.setTransformation(new Transformation(offset, rotation,
+                        new Vector3f(DASH_WIDTH, DASH_WIDTH, length), new Quaternionf()));
+            });
+        }
+
+        private static void configure(Display display) {
+            display.setPersistent(false);
+            display.setVisibleByDefault(false);
+            display.setBrightness(new Display.Brightness(15, 15));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.trailblazer.plugin.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.trailblazer.plugin.TrailblazerPlugin;
+
+/**
+ * One {@code <pathId>.json} file per record in the world folder; the original storage layout.
+ */
+public class FileRecordStore implements RecordStore {
+
+    private static final String SUFFIX = ".json";
+
+    private final File folder;
+
+    public FileRecordStore(File folder) {
+        this.folder = folder;
+    }
+
+    /** True if {@code folder} holds at least one record file. */
+    public static boolean hasRecords(File folder) {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        return files != null && files.length > 0;
+    }
+
+    @Override
+    public List<UUID> ids() {
+        List<UUID> ids = new ArrayList<>();
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null) {
+            return ids;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                ids.add(UUID.fromString(name.substring(0, name.length() - SUFFIX.length())));
+            } catch (IllegalArgumentException e) {
+                TrailblazerPlugin.getPluginLogger().warning("Skipping path file with invalid name: " + name);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public JsonObject read(UUID pathId) {
+        File file = fileOf(pathId);
+        if (!file.exists()) {
+            return null;
+        }
+        try (FileReader reader = new FileReader(file)) {
+            JsonElement parsed = JsonParser.parseReader(reader);
+            return parsed != null && parsed.isJsonObject() ? parsed.getAsJsonObject() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void write(UUID pathId, RecordBody body) throws IOException {
+        File file = fileOf(pathId);
+        File tmpFile = new File(folder, pathId + SUFFIX + ".tmp");
+        try (JsonWriter writer = new JsonWriter(new BufferedWriter(new FileWriter(tmpFile)))) {
+            body.writeTo(writer);
+        }
+        // Atomic replace so blob reference counting never observes a half-written record
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public boolean delete(UUID pathId) throws IOException {
+        File file = fileOf(pathId);
+        if (!file.exists()) {
+            return false;
+        }
+        if (!file.delete()) {
+            throw new IOException("Failed to delete path file: " + file.getAbsolutePath());
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // Nothing is held open between calls
+    }
+
+    private File fileOf(UUID pathId) {
+        return new File(folder, pathId + SUFFIX);
+    }
+}
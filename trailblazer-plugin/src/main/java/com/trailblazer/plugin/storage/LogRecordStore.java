@@ -0,0 +1,666 @@
+package com.trailblazer.plugin.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.zip.CRC32C;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.trailblazer.plugin.TrailblazerPlugin;
+
+/**
+ * Log-structured record store: all records of a world live in a few append-only segment files under
+ * {@code <world>/log/} instead of one file per path.
+ * <p>
+ * Every write appends the full record and every delete appends a tombstone, each framed with its path id,
+ * length and CRC32C. An in-memory index maps each live path to the position of its latest record, so a read
+ * is one positional read. Segments are sealed once they reach the configured size; sealing also writes a
+ * checkpoint of the index, so opening the store only replays what was appended after the last checkpoint.
+ * Without a usable checkpoint every segment is replayed. A torn entry at the end of the last segment (a crash
+ * mid-append) is detected by its CRC and cut off; everything before it is recovered.
+ * <p>
+ * Appends are not forced to disk one by one; the active segment is forced when it is sealed, before every
+ * checkpoint and on {@link #close}. Like the file store, an OS crash can lose the most recent writes, but never
+ * corrupts earlier ones.
+ * <p>
+ * Overwritten records and tombstones are dead weight. Once the oldest sealed segments are at least half dead,
+ * their live records are copied to the head of the log on a background executor and the segments deleted.
+ * Compaction always takes a prefix of the log, so a dropped tombstone can never uncover an older record on
+ * replay.
+ * <p>
+ * The index only locates records; it knows nothing about owners or names. The owner, name and lineage queries
+ * keep the {@link RecordStore} defaults, which read every live record, and {@link #isIndexed()} stays false, so
+ * loads go through the shared world scan just as with the file store.
+ */
+public class LogRecordStore implements RecordStore {
+
+    /** Subfolder of the world folder holding the log. */
+    public static final String DIRECTORY = "log";
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "index.ckpt";
+    private static final int SEGMENT_MAGIC = 0x54424c47; // "TBLG"
+    private static final int CHECKPOINT_MAGIC = 0x5442434b; // "TBCK"
+    private static final int FORMAT_VERSION = 1;
+    private static final int SEGMENT_HEADER = 8;
+
+    private static final byte PUT = 1;
+    private static final byte TOMBSTONE = 2;
+    // type, path id, payload length, CRC32C of the preceding fields and the payload
+    private static final int ENTRY_HEADER = 1 + 16 + 4 + 4;
+    /** Anything larger is treated as corruption during replay. */
+    private static final int MAX_PAYLOAD_BYTES = 16 * 1024 * 1024;
+    // path id, segment, offset, length
+    private static final int CHECKPOINT_ENTRY = 16 + 4 + 8 + 4;
+
+    private static final double COMPACTION_DEAD_RATIO = 0.5;
+    private static final long MIN_COMPACTION_BYTES = 1024L * 1024L;
+
+    private final File directory;
+    private final long segmentBytes;
+    private final Executor compactor;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    // Guarded by lock
+    private final Map<UUID, Location> index = new HashMap<>();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private boolean closed = false;
+
+    /**
+     * Opens (or creates) the log in {@code worldFolder}, recovering the index from the checkpoint and the tail
+     * of the log.
+     *
+     * @param segmentBytes size at which the active segment is sealed
+     * @param compactor runs compactions; may be shared between stores
+     */
+    public LogRecordStore(File worldFolder, long segmentBytes, Executor compactor) throws IOException {
+        this.directory = new File(worldFolder, DIRECTORY);
+        this.segmentBytes = Math.max(segmentBytes, 64L * 1024L);
+        this.compactor = compactor;
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create log folder: " + directory.getAbsolutePath());
+        }
+        try {
+            open();
+        } catch (IOException | RuntimeException e) {
+            closeChannels();
+            throw e;
+        }
+    }
+
+    /** True if {@code worldFolder} contains a log. */
+    public static boolean exists(File worldFolder) {
+        return new File(worldFolder, DIRECTORY).isDirectory();
+    }
+
+    /** Deletes the log of {@code worldFolder}. The store must be closed. */
+    public static void remove(File worldFolder) throws IOException {
+        File directory = new File(worldFolder, DIRECTORY);
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(directory.toPath());
+    }
+
+    @Override
+    public List<UUID> ids() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(index.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public JsonObject read(UUID pathId) throws IOException {
+        byte[] payload;
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            Location location = index.get(pathId);
+            if (location == null) {
+                return null;
+            }
+            payload = readPayload(location, pathId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (payload == null) {
+            TrailblazerPlugin.getPluginLogger().warning("Corrupt log entry for path " + pathId + " in " + directory);
+            return null;
+        }
+        try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8)) {
+            JsonElement parsed = JsonParser.parseReader(reader);
+            return parsed != null && parsed.isJsonObject() ? parsed.getAsJsonObject() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void write(UUID pathId, RecordBody body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8))) {
+            body.writeTo(writer);
+        }
+        ByteBuffer entry = encode(PUT, pathId, bytes.toByteArray());
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            Location location = appendEntry(entry);
+            track(index.put(pathId, location), location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        maybeCompact();
+    }
+
+    @Override
+    public boolean delete(UUID pathId) throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (!index.containsKey(pathId)) {
+                return false;
+            }
+            appendEntry(encode(TOMBSTONE, pathId, new byte[0]));
+            track(index.remove(pathId), null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        maybeCompact();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeCheckpoint();
+        } finally {
+            closeChannels();
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --- Opening and recovery ---
+
+    private void open() throws IOException {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                int id;
+                try {
+                    id = Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    TrailblazerPlugin.getPluginLogger().warning("Ignoring unexpected file in path log: " + file);
+                    continue;
+                }
+                segments.put(id, openSegment(id, file));
+            }
+        }
+        if (segments.isEmpty()) {
+            active = createSegment(1);
+            writeCheckpoint();
+            return;
+        }
+        active = segments.lastEntry().getValue();
+        // A crash right after creating a segment can leave it without a complete header
+        if (active.size < SEGMENT_HEADER) {
+            active.channel.truncate(0L);
+            writeSegmentHeader(active);
+        }
+        for (Segment segment : segments.values()) {
+            if (!hasValidHeader(segment)) {
+                throw new IOException("Unrecognized path log segment: " + segment.file);
+            }
+        }
+
+        Location replayFrom = readCheckpoint();
+        if (replayFrom == null) {
+            index.clear();
+            replayFrom = new Location(segments.firstKey(), SEGMENT_HEADER, 0);
+        }
+        boolean replayed = false;
+        for (Segment segment : segments.tailMap(replayFrom.segment(), true).values()) {
+            long from = segment.id == replayFrom.segment() ? replayFrom.offset() : SEGMENT_HEADER;
+            long end = replay(segment, from);
+            replayed |= end > from;
+            if (end < segment.size) {
+                if (segment == active) {
+                    TrailblazerPlugin.getPluginLogger().warning("Truncating " + (segment.size - end)
+                            + " bytes of incomplete writes from " + segment.file);
+                    segment.channel.truncate(end);
+                    segment.size = end;
+                } else {
+                    TrailblazerPlugin.getPluginLogger().severe("Ignoring corrupt data at offset " + end + " of " + segment.file);
+                }
+            }
+        }
+        for (Location location : index.values()) {
+            segments.get(location.segment()).liveBytes += location.length();
+        }
+        if (replayed) {
+            writeCheckpoint();
+        }
+    }
+
+    /**
+     * Loads the index from the checkpoint.
+     *
+     * @return where replay has to resume (length unused), or null if there is no usable checkpoint
+     */
+    private Location readCheckpoint() {
+        File file = new File(directory, CHECKPOINT_FILE);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            if (buf.remaining() < 4) {
+                return null;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buf.array(), 0, buf.limit() - 4);
+            if ((int) crc.getValue() != buf.getInt(buf.limit() - 4)) {
+                TrailblazerPlugin.getPluginLogger().warning("Path log checkpoint is corrupt, replaying the whole log: " + file);
+                return null;
+            }
+            if (buf.getInt() != CHECKPOINT_MAGIC || buf.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int segment = buf.getInt();
+            long offset = buf.getLong();
+            int count = buf.getInt();
+            Segment resume = segments.get(segment);
+            if (resume == null || offset > resume.size || count < 0 || buf.remaining() - 4 != (long) count * CHECKPOINT_ENTRY) {
+                return null;
+            }
+            for (int i = 0; i < count; i++) {
+                UUID pathId = new UUID(buf.getLong(), buf.getLong());
+                Location location = new Location(buf.getInt(), buf.getLong(), buf.getInt());
+                Segment holder = segments.get(location.segment());
+                if (holder == null || location.offset() + location.length() > holder.size) {
+                    index.clear();
+                    return null;
+                }
+                index.put(pathId, location);
+            }
+            return new Location(segment, offset, 0);
+        } catch (IOException | RuntimeException e) {
+            TrailblazerPlugin.getPluginLogger().log(Level.WARNING, "Could not read path log checkpoint " + file, e);
+            index.clear();
+            return null;
+        }
+    }
+
+    /** Applies the entries of {@code segment} from {@code from} on to the index. Returns the end of valid data. */
+    private long replay(Segment segment, long from) throws IOException {
+        long position = from;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.file.toPath()), 1 << 16))) {
+            in.skipNBytes(from);
+            while (position + ENTRY_HEADER <= segment.size) {
+                byte type = in.readByte();
+                long msb = in.readLong();
+                long lsb = in.readLong();
+                int length = in.readInt();
+                int crc = in.readInt();
+                if ((type != PUT && type != TOMBSTONE) || length < 0 || length > MAX_PAYLOAD_BYTES
+                        || position + ENTRY_HEADER + length > segment.size) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (crcOf(type, msb, lsb, payload) != crc) {
+                    break;
+                }
+                UUID pathId = new UUID(msb, lsb);
+                if (type == PUT) {
+                    index.put(pathId, new Location(segment.id, position, ENTRY_HEADER + length));
+                } else {
+                    index.remove(pathId);
+                }
+                position += ENTRY_HEADER + length;
+            }
+        } catch (EOFException e) {
+            // The file ended inside an entry; everything before it is intact
+        }
+        return position;
+    }
+
+    // --- Appending ---
+
+    /** Appends an encoded entry to the active segment, sealing it first if the entry does not fit. */
+    private Location appendEntry(ByteBuffer entry) throws IOException {
+        int length = entry.remaining();
+        if (active.size > SEGMENT_HEADER && active.size + length > segmentBytes) {
+            seal();
+        }
+        long offset = active.size;
+        writeFully(active.channel, entry, offset);
+        active.size += length;
+        return new Location(active.id, offset, length);
+    }
+
+    /** Updates live byte counts after the index entry {@code previous} was replaced by {@code current}. */
+    private void track(Location previous, Location current) {
+        if (previous != null) {
+            segments.get(previous.segment()).liveBytes -= previous.length();
+        }
+        if (current != null) {
+            segments.get(current.segment()).liveBytes += current.length();
+        }
+    }
+
+    private void seal() throws IOException {
+        active.channel.force(false);
+        active = createSegment(active.id + 1);
+        writeCheckpoint();
+    }
+
+    // --- Compaction ---
+
+    private void maybeCompact() {
+        if (compacting.get()) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            if (closed || compactionPrefix() < 0) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (IOException | RuntimeException e) {
+                    TrailblazerPlugin.getPluginLogger().log(Level.SEVERE, "Path log compaction failed in " + directory, e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the dead records are reclaimed on a later run
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Picks the prefix of sealed segments that frees the most space while being at least
+     * {@link #COMPACTION_DEAD_RATIO} dead. Must be called with the lock held.
+     *
+     * @return id of the last segment of the prefix, or -1 if nothing is worth compacting
+     */
+    private int compactionPrefix() {
+        long total = 0L;
+        long dead = 0L;
+        long bestDead = 0L;
+        int best = -1;
+        for (Segment segment : segments.values()) {
+            if (segment == active) {
+                break;
+            }
+            total += segment.size;
+            dead += segment.size - segment.liveBytes;
+            if (dead >= MIN_COMPACTION_BYTES && dead >= total * COMPACTION_DEAD_RATIO && dead > bestDead) {
+                best = segment.id;
+                bestDead = dead;
+            }
+        }
+        return best;
+    }
+
+    private void compact() throws IOException {
+        List<Segment> victims;
+        List<Map.Entry<UUID, Location>> live = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int last = closed ? -1 : compactionPrefix();
+            if (last < 0) {
+                return;
+            }
+            victims = new ArrayList<>(segments.headMap(last, true).values());
+            for (Map.Entry<UUID, Location> entry : index.entrySet()) {
+                if (entry.getValue().segment() <= last) {
+                    live.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long reclaimed = 0L;
+        for (Segment victim : victims) {
+            reclaimed += victim.size;
+        }
+        // Sealed segments never change, so entries are copied one at a time and writers are only held up briefly.
+        // An entry rewritten or deleted in the meantime is simply skipped.
+        for (Map.Entry<UUID, Location> entry : live) {
+            lock.writeLock().lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                Location location = entry.getValue();
+                if (!location.equals(index.get(entry.getKey()))) {
+                    continue;
+                }
+                ByteBuffer raw = ByteBuffer.allocate(location.length());
+                readFully(segments.get(location.segment()).channel, raw, location.offset());
+                raw.flip();
+                Location moved = appendEntry(raw);
+                index.put(entry.getKey(), moved);
+                track(location, moved);
+                reclaimed -= location.length();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            // The checkpoint no longer refers to the victims, so a crash from here on never replays them
+            active.channel.force(false);
+            writeCheckpoint();
+            for (Segment victim : victims) {
+                segments.remove(victim.id);
+                victim.channel.close();
+                Files.deleteIfExists(victim.file.toPath());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        TrailblazerPlugin.getPluginLogger().info(String.format(Locale.ROOT,
+                "Compacted %d path log segment(s) in %s, reclaimed %.1f KB", victims.size(), directory, reclaimed / 1024.0));
+    }
+
+    // --- Files ---
+
+    /** Writes the index and the replay position atomically. Must be called with the write lock held. */
+    private void writeCheckpoint() throws IOException {
+        active.channel.force(false);
+        ByteBuffer buf = ByteBuffer.allocate(4 + 4 + 4 + 8 + 4 + index.size() * CHECKPOINT_ENTRY + 4);
+        buf.putInt(CHECKPOINT_MAGIC).putInt(FORMAT_VERSION).putInt(active.id).putLong(active.size).putInt(index.size());
+        for (Map.Entry<UUID, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            buf.putLong(entry.getKey().getMostSignificantBits()).putLong(entry.getKey().getLeastSignificantBits())
+                    .putInt(location.segment()).putLong(location.offset()).putInt(location.length());
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buf.array(), 0, buf.position());
+        buf.putInt((int) crc.getValue());
+        buf.flip();
+
+        File file = new File(directory, CHECKPOINT_FILE);
+        File tmpFile = new File(directory, CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmpFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, buf, 0L);
+            channel.force(false);
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        Segment segment = openSegment(id, new File(directory, String.format(Locale.ROOT, "%08d%s", id, SEGMENT_SUFFIX)));
+        writeSegmentHeader(segment);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private static Segment openSegment(int id, File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(id, file, channel, channel.size());
+    }
+
+    private static void writeSegmentHeader(Segment segment) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER).putInt(SEGMENT_MAGIC).putInt(FORMAT_VERSION);
+        header.flip();
+        writeFully(segment.channel, header, 0L);
+        segment.size = SEGMENT_HEADER;
+    }
+
+    private static boolean hasValidHeader(Segment segment) throws IOException {
+        if (segment.size < SEGMENT_HEADER) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER);
+        readFully(segment.channel, header, 0L);
+        header.flip();
+        return header.getInt() == SEGMENT_MAGIC && header.getInt() == FORMAT_VERSION;
+    }
+
+    /** Reads and verifies one entry. Returns its payload, or null if it does not check out. */
+    private byte[] readPayload(Location location, UUID pathId) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(location.length());
+        readFully(segments.get(location.segment()).channel, buf, location.offset());
+        buf.flip();
+        byte type = buf.get();
+        long msb = buf.getLong();
+        long lsb = buf.getLong();
+        int length = buf.getInt();
+        int crc = buf.getInt();
+        if (type != PUT || msb != pathId.getMostSignificantBits() || lsb != pathId.getLeastSignificantBits()
+                || length != location.length() - ENTRY_HEADER) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buf.get(payload);
+        return crcOf(type, msb, lsb, payload) == crc ? payload : null;
+    }
+
+    private static ByteBuffer encode(byte type, UUID pathId, byte[] payload) {
+        long msb = pathId.getMostSignificantBits();
+        long lsb = pathId.getLeastSignificantBits();
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER + payload.length);
+        entry.put(type).putLong(msb).putLong(lsb).putInt(payload.length).putInt(crcOf(type, msb, lsb, payload)).put(payload);
+        entry.flip();
+        return entry;
+    }
+
+    private static int crcOf(byte type, long msb, long lsb, byte[] payload) {
+        ByteBuffer fields = ByteBuffer.allocate(1 + 16 + 4).put(type).putLong(msb).putLong(lsb).putInt(payload.length);
+        CRC32C crc = new CRC32C();
+        crc.update(fields.array());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            position += channel.write(buf, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            int read = channel.read(buf, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of path log segment");
+            }
+            position += read;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Path log is closed: " + directory);
+        }
+    }
+
+    private void closeChannels() {
+        for (Segment segment : segments.values()) {
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                TrailblazerPlugin.getPluginLogger().warning("Failed to close path log segment " + segment.file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /** Position of an entry: segment id, offset of its header and total length including the header. */
+    private record Location(int segment, long offset, int length) {}
+
+    private static final class Segment {
+        private final int id;
+        private final File file;
+        private final FileChannel channel;
+        private long size;
+        // Bytes of entries the index still points to; the rest of the segment is dead
+        private long liveBytes = 0L;
+
+        private Segment(int id, File file, FileChannel channel, long size) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.size = size;
+        }
+    }
+}
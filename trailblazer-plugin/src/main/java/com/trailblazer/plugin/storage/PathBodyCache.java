@@ -0,0 +1,177 @@
+package com.trailblazer.plugin.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.trailblazer.api.PathData;
+
+/**
+ * Parsed path bodies (record plus geometry), kept in memory up to a heap budget.
+ * <p>
+ * Entries are weighted by an estimate of their heap footprint, which is dominated by the point count, and
+ * evicted least recently used first. Each world has its own partition so a world can be dropped as a whole;
+ * the budget is shared, and eviction takes from the partition being filled before touching the others.
+ * <p>
+ * An entry is only served for the exact record version it was cached at, so a stale body can never be
+ * returned even if an invalidation was missed. Callers receive copies and may mutate them freely.
+ */
+public class PathBodyCache {
+
+    // Vector3d (header + three doubles) plus its slot in the point list
+    private static final long BYTES_PER_POINT = 48L;
+    // Record fields, strings and map bookkeeping
+    private static final long BYTES_PER_ENTRY = 512L;
+
+    private final long budgetBytes;
+    private final Map<UUID, Partition> partitions = new HashMap<>();
+    private long weightBytes = 0L;
+
+    // Metrics
+    private long hits = 0L;
+    private long misses = 0L;
+    private long evictions = 0L;
+
+    public PathBodyCache(long budgetBytes) {
+        this.budgetBytes = Math.max(0L, budgetBytes);
+    }
+
+    /** Returns a copy of the cached body if it is present at {@code version}, otherwise null. */
+    public synchronized PathData get(UUID worldUid, UUID pathId, long version) {
+        Partition partition = partitions.get(worldUid);
+        Entry entry = partition != null ? partition.entries.get(pathId) : null;
+        if (entry == null || entry.path.getVersion() != version) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return copyOf(entry.path);
+    }
+
+    /** Caches a copy of {@code path}, replacing any older body. Paths that were never saved are not cached. */
+    public synchronized void put(UUID worldUid, PathData path) {
+        if (budgetBytes == 0L || path.getVersion() <= 0L) {
+            return;
+        }
+        long weight = weightOf(path);
+        if (weight > budgetBytes) {
+            invalidate(worldUid, path.getPathId());
+            return;
+        }
+        Partition partition = partitions.computeIfAbsent(worldUid, id -> new Partition());
+        Entry previous = partition.entries.put(path.getPathId(), new Entry(copyOf(path), weight));
+        if (previous != null) {
+            partition.weightBytes -= previous.weight;
+            weightBytes -= previous.weight;
+        }
+        partition.weightBytes += weight;
+        weightBytes += weight;
+        evictFrom(partition, path.getPathId());
+        for (Partition other : partitions.values()) {
+            if (weightBytes <= budgetBytes) {
+                break;
+            }
+            evictFrom(other, path.getPathId());
+        }
+        partitions.values().removeIf(p -> p.entries.isEmpty());
+    }
+
+    /** Drops one path, e.g. after it was deleted or a write to it failed. */
+    public synchronized void invalidate(UUID worldUid, UUID pathId) {
+        Partition partition = partitions.get(worldUid);
+        if (partition == null) {
+            return;
+        }
+        Entry removed = partition.entries.remove(pathId);
+        if (removed != null) {
+            partition.weightBytes -= removed.weight;
+            weightBytes -= removed.weight;
+        }
+        if (partition.entries.isEmpty()) {
+            partitions.remove(worldUid);
+        }
+    }
+
+    /** Drops every path of a world. */
+    public synchronized void invalidateWorld(UUID worldUid) {
+        Partition partition = partitions.remove(worldUid);
+        if (partition != null) {
+            weightBytes -= partition.weightBytes;
+        }
+    }
+
+    public synchronized Metrics metrics() {
+        int entries = 0;
+        for (Partition partition : partitions.values()) {
+            entries += partition.entries.size();
+        }
+        return new Metrics(entries, partitions.size(), weightBytes, budgetBytes, hits, misses, evictions);
+    }
+
+    /** Evicts least recently used entries of one partition until within budget, never touching {@code keep}. */
+    private void evictFrom(Partition partition, UUID keep) {
+        var it = partition.entries.entrySet().iterator();
+        while (weightBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<UUID, Entry> next = it.next();
+            if (next.getKey().equals(keep)) {
+                continue;
+            }
+            Entry eldest = next.getValue();
+            it.remove();
+            partition.weightBytes -= eldest.weight;
+            weightBytes -= eldest.weight;
+            evictions++;
+        }
+    }
+
+    private static long weightOf(PathData path) {
+        return BYTES_PER_ENTRY + BYTES_PER_POINT * path.getPoints().size();
+    }
+
+    private static PathData copyOf(PathData path) {
+        PathData copy = new PathData(
+                path.getPathId(),
+                path.getPathName(),
+                path.getOwnerUUID(),
+                path.getOwnerName(),
+                path.getCreationTimestamp(),
+                path.getDimension(),
+                new ArrayList<>(path.getPoints()),
+                path.getColorArgb(),
+                new ArrayList<>(path.getSharedWith())
+        );
+        copy.setOrigin(path.getOriginPathId(), path.getOriginOwnerUUID(), path.getOriginOwnerName());
+        copy.setVersion(path.getVersion());
+        copy.setFolder(path.getFolder());
+        return copy;
+    }
+
+    private record Entry(PathData path, long weight) {}
+
+    private static final class Partition {
+        // Access order, so iteration starts at the least recently used entry
+        private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weightBytes = 0L;
+    }
+
+    /**
+     * Point-in-time cache statistics.
+     *
+     * @param weightBytes estimated heap held by cached bodies
+     */
+    public record Metrics(int entries, int worlds, long weightBytes, long budgetBytes, long hits, long misses, long evictions) {
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT,
+                    "entries=%d worlds=%d weight=%.1fMB budget=%.1fMB hits=%d misses=%d hitRate=%.1f%% evictions=%d",
+                    entries, worlds, weightBytes / 1048576.0, budgetBytes / 1048576.0, hits, misses, hitRate() * 100.0, evictions);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.trailblazer.plugin.storage;
+
+import java.util.ArrayDeque;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.trailblazer.plugin.TrailblazerPlugin;
+
+/**
+ * The plugin's single entry point for path storage I/O. Every {@link com.trailblazer.plugin.PathDataManager}
+ * call is submitted here instead of running on the main thread or an ad-hoc scheduler task.
+ * <p>
+ * Tasks run on virtual threads and are ordered per world: reads submitted back to back may run together,
+ * while a write waits for everything submitted before it and blocks everything submitted after it.
+ * At most {@link #MAX_CONCURRENT_TASKS} tasks touch the disk at once. The number of queued and running
+ * tasks is bounded; when full, admission is retried with exponential backoff off the caller's thread
+ * and the future finally fails with {@link RejectedExecutionException}.
+ */
+public class PathIoExecutor {
+
+    /** Ordering key for work that does not belong to a world. */
+    public static final UUID GLOBAL = new UUID(0L, 0L);
+
+    private static final int MAX_PENDING_TASKS = 512;
+    private static final int MAX_CONCURRENT_TASKS = 8;
+    private static final int MAX_ADMISSION_ATTEMPTS = 4;
+    private static final long INITIAL_BACKOFF_MS = 25L;
+
+    private final TrailblazerPlugin plugin;
+    private final ConcurrentHashMap<UUID, Lane> lanes = new ConcurrentHashMap<>();
+    private final Semaphore diskPermits = new Semaphore(MAX_CONCURRENT_TASKS, true);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Executor mainThread;
+    private volatile boolean closed = false;
+
+    // Metrics
+    private final AtomicInteger peakPending = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public PathIoExecutor(TrailblazerPlugin plugin) {
+        this.plugin = plugin;
+        this.mainThread = task -> {
+            if (!plugin.isEnabled()) {
+                // Fails the dependent future instead of leaving it pending forever
+                throw new RejectedExecutionException("Trailblazer is disabled");
+            }
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        };
+    }
+
+    /** Submits a task that only reads the given world's storage. */
+    public <T> CompletableFuture<T> read(UUID worldUid, Callable<T> task) {
+        return submit(worldUid, false, task);
+    }
+
+    /** Submits a task that modifies the given world's storage. */
+    public <T> CompletableFuture<T> write(UUID worldUid, Callable<T> task) {
+        return submit(worldUid, true, task);
+    }
+
+    /**
+     * Runs continuations on the server thread, e.g. {@code read(...).thenAcceptAsync(..., io.mainThread())}.
+     * Once the plugin is disabled it rejects tasks, so the dependent futures complete exceptionally.
+     */
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    /**
+     * Delivers the outcome of {@code future} on the main thread. Failures are logged and handed to
+     * {@code onFailure}; rejections caused by a full queue are reported the same way.
+     *
+     * @return completes after the callback has run, so callers can order follow-up work behind it; completes
+     *         exceptionally if the plugin was disabled before the callback could be scheduled
+     */
+    public <T> CompletableFuture<Void> onMain(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        future.whenComplete((value, error) -> {
+            try {
+                mainThread.execute(() -> deliver(value, error, onSuccess, onFailure, delivered));
+            } catch (RuntimeException e) {
+                delivered.completeExceptionally(e);
+            }
+        });
+        return delivered;
+    }
+
+    private <T> void deliver(T value, Throwable error, Consumer<T> onSuccess, Consumer<Throwable> onFailure, CompletableFuture<Void> delivered) {
+        try {
+            if (error == null) {
+                onSuccess.accept(value);
+                return;
+            }
+            Throwable cause = error instanceof java.util.concurrent.CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (!(cause instanceof RejectedExecutionException)) {
+                plugin.getLogger().log(java.util.logging.Level.WARNING, "Trailblazer I/O task failed", cause);
+            }
+            onFailure.accept(cause);
+        } finally {
+            delivered.complete(null);
+        }
+    }
+
+    /** True if the failure means the I/O queue was saturated, so the caller can tell the player to retry. */
+    public static boolean isBusy(Throwable error) {
+        return error instanceof RejectedExecutionException;
+    }
+
+    public Metrics metrics() {
+        long done = completed.sum() + failed.sum();
+        return new Metrics(pending.get(), peakPending.get(), submitted.sum(), done, rejected.sum(),
+                done > 0 ? totalWaitNanos.sum() / done / 1_000_000.0 : 0.0, maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Stops accepting work and waits up to {@code timeoutMs} for queued tasks (in particular writes) to finish.
+     */
+    public void shutdown(long timeoutMs) {
+        closed = true;
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (this) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    plugin.getLogger().warning("Trailblazer I/O shutdown timed out with " + pending.get() + " task(s) pending.");
+                    break;
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        plugin.getLogger().info("Trailblazer I/O stats: " + metrics());
+    }
+
+    private <T> CompletableFuture<T> submit(UUID worldUid, boolean write, Callable<T> task) {
+        Job<T> job = new Job<>(worldUid != null ? worldUid : GLOBAL, write, task);
+        submitted.increment();
+        admit(job, 1);
+        return job.future;
+    }
+
+    private void admit(Job<?> job, int attempt) {
+        if (closed) {
+            reject(job, "I/O executor is shut down");
+            return;
+        }
+        int depth = pending.incrementAndGet();
+        if (depth > MAX_PENDING_TASKS) {
+            pending.decrementAndGet();
+            if (attempt >= MAX_ADMISSION_ATTEMPTS) {
+                reject(job, "I/O queue is full (" + MAX_PENDING_TASKS + " tasks)");
+                return;
+            }
+            long backoff = INITIAL_BACKOFF_MS << (attempt - 1);
+            Thread.ofVirtual().name("Trailblazer-IO-backoff").start(() -> {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                admit(job, attempt + 1);
+            });
+            return;
+        }
+        peakPending.accumulateAndGet(depth, Math::max);
+        job.enqueuedAt = System.nanoTime();
+        lanes.compute(job.key, (key, lane) -> {
+            Lane target = lane != null ? lane : new Lane();
+            target.queue.add(job);
+            target.dispatch();
+            return target;
+        });
+    }
+
+    private void reject(Job<?> job, String reason) {
+        rejected.increment();
+        plugin.getLogger().warning("Rejected Trailblazer I/O task: " + reason);
+        job.future.completeExceptionally(new RejectedExecutionException(reason));
+    }
+
+    private <T> void run(Job<T> job) {
+        diskPermits.acquireUninterruptibly();
+        long waited = System.nanoTime() - job.enqueuedAt;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        try {
+            T value = job.task.call();
+            completed.increment();
+            job.future.complete(value);
+        } catch (Throwable t) {
+            failed.increment();
+            job.future.completeExceptionally(t);
+        } finally {
+            diskPermits.release();
+            lanes.computeIfPresent(job.key, (key, lane) -> {
+                lane.finished(job);
+                lane.dispatch();
+                return lane.isIdle() ? null : lane;
+            });
+            if (pending.decrementAndGet() == 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /** Per-world FIFO with reader/writer semantics. Only mutated inside {@code lanes.compute*}. */
+    private final class Lane {
+        private final ArrayDeque<Job<?>> queue = new ArrayDeque<>();
+        private int runningReads = 0;
+        private boolean runningWrite = false;
+
+        private void dispatch() {
+            while (!queue.isEmpty() && !runningWrite) {
+                Job<?> head = queue.peek();
+                if (head.write) {
+                    if (runningReads > 0) {
+                        return;
+                    }
+                    runningWrite = true;
+                } else {
+                    runningReads++;
+                }
+                queue.poll();
+                Thread.ofVirtual().name("Trailblazer-IO").start(() -> run(head));
+            }
+        }
+
+        private void finished(Job<?> job) {
+            if (job.write) {
+                runningWrite = false;
+            } else {
+                runningReads--;
+            }
+        }
+
+        private boolean isIdle() {
+            return queue.isEmpty() && runningReads == 0 && !runningWrite;
+        }
+    }
+
+    private static final class Job<T> {
+        private final UUID key;
+        private final boolean write;
+        private final Callable<T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private long enqueuedAt;
+
+        private Job(UUID key, boolean write, Callable<T> task) {
+            this.key = key;
+            this.write = write;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Point-in-time I/O statistics.
+     *
+     * @param queueDepth tasks queued or running right now
+     * @param peakQueueDepth highest queue depth seen
+     * @param averageWaitMs mean time from admission until a task started running
+     * @param maxWaitMs longest such wait
+     */
+    public record Metrics(int queueDepth, int peakQueueDepth, long submitted, long finished, long rejected,
+                          double averageWaitMs, double maxWaitMs) {
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT,
+                    "depth=%d peak=%d submitted=%d finished=%d rejected=%d avgWait=%.1fms maxWait=%.1fms",
+                    queueDepth, peakQueueDepth, submitted, finished, rejected, averageWaitMs, maxWaitMs);
+        }
+    }
+}
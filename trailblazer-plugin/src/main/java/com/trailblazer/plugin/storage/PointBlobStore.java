@@ -0,0 +1,235 @@
+package com.trailblazer.plugin.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.trailblazer.api.PathJson;
+import com.trailblazer.api.Vector3d;
+import com.trailblazer.plugin.TrailblazerPlugin;
+
+/**
+ * Content-addressed store for path geometry within one world folder.
+ * <p>
+ * Point lists are written once as immutable blobs named by the SHA-256 of their coordinates, so a path
+ * shared with many players is stored a single time. Path records reference a blob via their
+ * {@value #REF_FIELD} field. Reference counts are rebuilt from the records on first use and kept in
+ * memory afterwards; a blob whose count drops to zero is deleted.
+ */
+public class PointBlobStore {
+
+    /** Field name carrying the blob hash inside a path record. */
+    public static final String REF_FIELD = "pointsRef";
+
+    private static final String BLOB_SUFFIX = ".json";
+    private static final int READ_CACHE_SIZE = 64;
+    // Blobs younger than this are never swept: their record may still be on its way to disk.
+    private static final long SWEEP_GRACE_MS = 60_000L;
+
+    private final RecordStore records;
+    private final File blobFolder;
+    private final Gson gson;
+
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private boolean counted = false;
+    private final Map<String, List<Vector3d>> readCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Vector3d>> eldest) {
+            return size() > READ_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * @param worldFolder folder the {@code blobs} subfolder is created in
+     * @param records the world's path records, read once to count references
+     */
+    public PointBlobStore(File worldFolder, RecordStore records, Gson gson) {
+        this.records = records;
+        this.blobFolder = new File(worldFolder, "blobs");
+        this.gson = gson;
+        if (!blobFolder.exists() && !blobFolder.mkdirs()) {
+            TrailblazerPlugin.getPluginLogger().severe("Could not create blob folder: " + blobFolder.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Counts references up front. Must run before any record of this world is written or deleted,
+     * otherwise a deletion could be missed by the initial count.
+     */
+    public synchronized void initialize() {
+        ensureCounted();
+    }
+
+    /**
+     * Takes a reference on the blob holding {@code points}, writing it if it does not exist yet.
+     *
+     * @return the blob hash to store in the path record
+     */
+    public String retain(List<Vector3d> points) throws IOException {
+        String hash = hash(points);
+        synchronized (this) {
+            ensureCounted();
+            refCounts.merge(hash, 1, Integer::sum);
+        }
+        File blob = blobFile(hash);
+        if (!blob.exists()) {
+            // Concurrent writers of the same hash write identical bytes, so the last atomic move wins harmlessly.
+            Path tmp = Files.createTempFile(blobFolder.toPath(), hash, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                gson.toJson(points, PathJson.POINT_LIST_TYPE, writer);
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                release(hash);
+                throw e;
+            }
+            Files.move(tmp, blob.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return hash;
+    }
+
+    /** Drops one reference; the blob file is deleted once nothing references it. */
+    public synchronized void release(String hash) {
+        if (hash == null) {
+            return;
+        }
+        ensureCounted();
+        Integer remaining = refCounts.computeIfPresent(hash, (k, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            readCache.remove(hash);
+            File blob = blobFile(hash);
+            if (blob.exists() && !blob.delete()) {
+                TrailblazerPlugin.getPluginLogger().warning("Failed to delete unreferenced point blob " + blob.getName());
+            }
+        }
+    }
+
+    /**
+     * Reads the points of a blob. The returned list is a fresh mutable copy.
+     *
+     * @return the points, or null if the blob is missing or unreadable
+     */
+    public List<Vector3d> read(String hash) {
+        List<Vector3d> cached;
+        synchronized (this) {
+            cached = readCache.get(hash);
+        }
+        if (cached == null) {
+            File blob = blobFile(hash);
+            if (!blob.exists()) {
+                return null;
+            }
+            try (Reader reader = Files.newBufferedReader(blob.toPath(), StandardCharsets.UTF_8)) {
+                cached = gson.fromJson(reader, PathJson.POINT_LIST_TYPE);
+            } catch (IOException | RuntimeException e) {
+                TrailblazerPlugin.getPluginLogger().log(Level.SEVERE, "Failed to read point blob " + blob.getName(), e);
+                return null;
+            }
+            if (cached == null) {
+                return null;
+            }
+            cached = List.copyOf(cached);
+            synchronized (this) {
+                readCache.put(hash, cached);
+            }
+        }
+        return new ArrayList<>(cached);
+    }
+
+    /** Extracts the blob reference from a parsed path record, or null for legacy inline records. */
+    public static String refOf(JsonObject record) {
+        JsonElement ref = record.get(REF_FIELD);
+        return ref != null && ref.isJsonPrimitive() ? ref.getAsString() : null;
+    }
+
+    /**
+     * Rebuilds reference counts from the records on first use and sweeps blobs left unreferenced
+     * by a crash between writing a blob and its record.
+     */
+    private void ensureCounted() {
+        if (counted) {
+            return;
+        }
+        counted = true;
+        List<UUID> ids;
+        try {
+            ids = records.ids();
+        } catch (IOException e) {
+            // An incomplete count would let release() delete blobs that are still referenced
+            counted = false;
+            throw new UncheckedIOException("Could not list records to count blob refs in " + blobFolder, e);
+        }
+        for (UUID id : ids) {
+            try {
+                JsonObject record = records.read(id);
+                String ref = record != null ? refOf(record) : null;
+                if (ref != null) {
+                    refCounts.merge(ref, 1, Integer::sum);
+                }
+            } catch (IOException | RuntimeException e) {
+                TrailblazerPlugin.getPluginLogger().warning("Skipping unreadable record while counting blob refs: " + id);
+            }
+        }
+
+        File[] blobs = blobFolder.listFiles((dir, name) -> name.endsWith(BLOB_SUFFIX));
+        if (blobs == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - SWEEP_GRACE_MS;
+        Set<String> live = new HashSet<>(refCounts.keySet());
+        for (File blob : blobs) {
+            String hash = blob.getName().substring(0, blob.getName().length() - BLOB_SUFFIX.length());
+            if (!live.contains(hash) && blob.lastModified() < cutoff && !blob.delete()) {
+                TrailblazerPlugin.getPluginLogger().warning("Failed to sweep orphaned point blob " + blob.getName());
+            }
+        }
+    }
+
+    private File blobFile(String hash) {
+        return new File(blobFolder, hash + BLOB_SUFFIX);
+    }
+
+    private static String hash(List<Vector3d> points) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+        byte[] buf = new byte[24];
+        for (Vector3d point : points) {
+            putLong(buf, 0, Double.doubleToLongBits(point.getX()));
+            putLong(buf, 8, Double.doubleToLongBits(point.getY()));
+            putLong(buf, 16, Double.doubleToLongBits(point.getZ()));
+            digest.update(buf);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void putLong(byte[] buf, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            buf[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.trailblazer.plugin.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The path records of one world, keyed by path id. Point geometry is not part of a record; it lives in the
+ * world's {@link PointBlobStore}. Stores are created by a {@link StorageBackend}.
+ * <p>
+ * Implementations are thread-safe. Callers serialize operations on the same path themselves (the per-path
+ * locks in {@link com.trailblazer.plugin.PathDataManager}); operations on different paths may run concurrently.
+ * <p>
+ * The query methods have default implementations that read every record. Stores that keep indexes override
+ * them and report {@link #isIndexed()}; callers then query them directly instead of scanning.
+ */
+public interface RecordStore extends Closeable {
+
+    /** Streams one record; called at most once per {@link #write}. */
+    @FunctionalInterface
+    interface RecordBody {
+        void writeTo(JsonWriter out) throws IOException;
+
+        /** Keys of the record being written, or null to make indexed stores read them back from the JSON. */
+        default Keys keys() {
+            return null;
+        }
+
+        /** A body that also hands over its keys, so indexed stores do not have to parse what it writes. */
+        static RecordBody withKeys(Keys keys, RecordBody body) {
+            return new RecordBody() {
+                @Override
+                public void writeTo(JsonWriter out) throws IOException {
+                    body.writeTo(out);
+                }
+
+                @Override
+                public Keys keys() {
+                    return keys;
+                }
+            };
+        }
+    }
+
+    /**
+     * The record fields indexed stores query by.
+     *
+     * @param originPathId null for an original, i.e. the path descends from itself
+     */
+    record Keys(UUID owner, String pathName, UUID originPathId) {
+        /** Reads the keys of a parsed record. */
+        public static Keys of(JsonObject record) {
+            JsonElement pathName = record.get("pathName");
+            return new Keys(uuidOf(record, "ownerUUID"),
+                    pathName != null && pathName.isJsonPrimitive() ? pathName.getAsString() : null,
+                    uuidOf(record, "originPathId"));
+        }
+    }
+
+    /** Ids of all stored records, in no particular order. */
+    List<UUID> ids() throws IOException;
+
+    /** @return the record, or null if it does not exist or cannot be parsed */
+    JsonObject read(UUID pathId) throws IOException;
+
+    /** Replaces the record atomically: a concurrent or later {@link #read} sees either the old or the new one. */
+    void write(UUID pathId, RecordBody body) throws IOException;
+
+    /** @return true if a record was removed */
+    boolean delete(UUID pathId) throws IOException;
+
+    /** Flushes and releases resources. The store must not be used afterwards. */
+    @Override
+    void close() throws IOException;
+
+    /** True if the query methods below are answered from indexes rather than by reading every record. */
+    default boolean isIndexed() {
+        return false;
+    }
+
+    /** Writes several records. Indexed stores do so in one transaction; otherwise each write stands alone. */
+    default void writeAll(Map<UUID, RecordBody> bodies) throws IOException {
+        for (Map.Entry<UUID, RecordBody> entry : bodies.entrySet()) {
+            write(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Deletes several records. Indexed stores do so in one transaction; otherwise each delete stands alone.
+     *
+     * @return the ids whose records were removed
+     */
+    default List<UUID> deleteAll(Collection<UUID> pathIds) throws IOException {
+        List<UUID> removed = new ArrayList<>();
+        for (UUID pathId : pathIds) {
+            if (delete(pathId)) {
+                removed.add(pathId);
+            }
+        }
+        return removed;
+    }
+
+    /** Records owned by any of {@code owners}, keyed by path id. */
+    default Map<UUID, JsonObject> readOwnedBy(Set<UUID> owners) throws IOException {
+        Map<UUID, JsonObject> records = new HashMap<>();
+        for (UUID pathId : ids()) {
+            JsonObject record = read(pathId);
+            if (record != null && owners.contains(uuidOf(record, "ownerUUID"))) {
+                records.put(pathId, record);
+            }
+        }
+        return records;
+    }
+
+    /** Ids of {@code owner}'s records named {@code name}, ignoring case and surrounding whitespace. */
+    default List<UUID> idsNamed(UUID owner, String name) throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        String wanted = name.trim();
+        for (Map.Entry<UUID, JsonObject> entry : readOwnedBy(Set.of(owner)).entrySet()) {
+            JsonElement pathName = entry.getValue().get("pathName");
+            if (pathName != null && pathName.isJsonPrimitive() && pathName.getAsString().equalsIgnoreCase(wanted)) {
+                ids.add(entry.getKey());
+            }
+        }
+        return ids;
+    }
+
+    /** Ids of all records descending from {@code originPathId}, i.e. shared copies of it, including the original. */
+    default List<UUID> idsDerivedFrom(UUID originPathId) throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        for (UUID pathId : ids()) {
+            JsonObject record = read(pathId);
+            UUID origin = record != null ? uuidOf(record, "originPathId") : null;
+            if (originPathId.equals(origin != null ? origin : pathId)) {
+                ids.add(pathId);
+            }
+        }
+        return ids;
+    }
+
+    /** Reads a UUID field of a record, or null if it is missing or malformed. */
+    static UUID uuidOf(JsonObject record, String field) {
+        JsonElement value = record.get(field);
+        if (value == null || !value.isJsonPrimitive()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.getAsString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.trailblazer.plugin.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Keeps the records of all worlds in one SQLite database, with indexes on owner, lineage and name so
+ * listings, duplicate checks and name lookups are index lookups instead of reads of every record.
+ * <p>
+ * The record JSON is stored as is; the indexed columns come from the {@link RecordStore.Keys} each body
+ * carries, and are only read back from the JSON for bodies without them. SQLite itself
+ * is not bundled: the JDBC driver shipped with the server is used. All statements run on one connection
+ * in WAL mode, serialized on this backend, which matches SQLite's single-writer model.
+ */
+public class SqliteBackend implements StorageBackend {
+
+    public static final String ID = "sqlite";
+
+    /**
+     * Ships with the server. Instantiated directly, because {@link java.sql.DriverManager} only offers drivers
+     * that something has already loaded, which is not guaranteed for the server's copy.
+     */
+    private static final String DRIVER_CLASS = "org.sqlite.JDBC";
+    private static final int SCHEMA_VERSION = 1;
+    /** Owners per {@code IN (...)} query, well below SQLite's parameter limit. */
+    private static final int MAX_OWNERS_PER_QUERY = 256;
+
+    private final File databaseFile;
+    private Connection connection;
+
+    public SqliteBackend(File databaseFile) {
+        this.databaseFile = databaseFile;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    /** Opens the database eagerly, e.g. to fail at startup rather than on the first access to a world. */
+    public synchronized void connect() throws IOException {
+        if (connection != null) {
+            return;
+        }
+        try {
+            Connection c = driver().connect("jdbc:sqlite:" + databaseFile.getAbsolutePath(), new Properties());
+            if (c == null) {
+                throw new IOException(DRIVER_CLASS + " does not accept SQLite URLs");
+            }
+            try (Statement statement = c.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute("""
+                        CREATE TABLE IF NOT EXISTS paths (
+                            world TEXT NOT NULL,
+                            path_id TEXT NOT NULL,
+                            owner TEXT NOT NULL,
+                            name_key TEXT NOT NULL,
+                            origin_path_id TEXT NOT NULL,
+                            record TEXT NOT NULL,
+                            PRIMARY KEY (world, path_id)
+                        )""");
+                statement.execute("CREATE INDEX IF NOT EXISTS paths_by_owner ON paths (world, owner, name_key)");
+                statement.execute("CREATE INDEX IF NOT EXISTS paths_by_origin ON paths (world, origin_path_id)");
+                statement.execute("PRAGMA user_version=" + SCHEMA_VERSION);
+            } catch (SQLException e) {
+                c.close();
+                throw e;
+            }
+            connection = c;
+        } catch (SQLException e) {
+            throw new IOException("Could not open path database " + databaseFile, e);
+        }
+    }
+
+    private static Driver driver() throws IOException {
+        try {
+            return (Driver) Class.forName(DRIVER_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw new IOException("The SQLite JDBC driver (" + DRIVER_CLASS + ") is not available on this server", e);
+        }
+    }
+
+    @Override
+    public RecordStore open(UUID worldUid, File worldFolder) throws IOException {
+        connect();
+        return new WorldStore(worldUid.toString());
+    }
+
+    @Override
+    public synchronized boolean hasRecords(UUID worldUid, File worldFolder) throws IOException {
+        if (!databaseFile.exists()) {
+            return false;
+        }
+        connect();
+        try (PreparedStatement select = connection.prepareStatement("SELECT 1 FROM paths WHERE world = ? LIMIT 1")) {
+            select.setString(1, worldUid.toString());
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Path database query failed", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close path database " + databaseFile, e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static JsonObject parse(String json) {
+        try {
+            JsonElement parsed = JsonParser.parseReader(new StringReader(json));
+            return parsed != null && parsed.isJsonObject() ? parsed.getAsJsonObject() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** The rows of one world. */
+    private final class WorldStore implements RecordStore {
+        private final String world;
+
+        private WorldStore(String world) {
+            this.world = world;
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        public List<UUID> ids() throws IOException {
+            return queryIds("SELECT path_id FROM paths WHERE world = ?");
+        }
+
+        @Override
+        public JsonObject read(UUID pathId) throws IOException {
+            synchronized (SqliteBackend.this) {
+                try (PreparedStatement select = connection().prepareStatement(
+                        "SELECT record FROM paths WHERE world = ? AND path_id = ?")) {
+                    select.setString(1, world);
+                    select.setString(2, pathId.toString());
+                    try (ResultSet rows = select.executeQuery()) {
+                        return rows.next() ? parse(rows.getString(1)) : null;
+                    }
+                } catch (SQLException e) {
+                    throw new IOException("Path database query failed", e);
+                }
+            }
+        }
+
+        @Override
+        public void write(UUID pathId, RecordBody body) throws IOException {
+            writeAll(Map.of(pathId, body));
+        }
+
+        /** One transaction with a single prepared statement executed as a batch. */
+        @Override
+        public void writeAll(Map<UUID, RecordBody> bodies) throws IOException {
+            // Serialized outside the lock
+            List<Row> rows = new ArrayList<>(bodies.size());
+            for (Map.Entry<UUID, RecordBody> entry : bodies.entrySet()) {
+                StringWriter json = new StringWriter();
+                try (JsonWriter writer = new JsonWriter(json)) {
+                    entry.getValue().writeTo(writer);
+                }
+                Keys keys = entry.getValue().keys();
+                if (keys == null) {
+                    JsonObject record = parse(json.toString());
+                    keys = record != null ? Keys.of(record) : null;
+                }
+                if (keys == null || keys.owner() == null) {
+                    throw new IOException("Path record without owner: " + entry.getKey());
+                }
+                UUID origin = keys.originPathId();
+                rows.add(new Row(entry.getKey(), keys.owner(), nameKey(keys.pathName()),
+                        origin != null ? origin : entry.getKey(), json.toString()));
+            }
+            synchronized (SqliteBackend.this) {
+                Connection c = connection();
+                try {
+                    c.setAutoCommit(false);
+                    try (PreparedStatement upsert = c.prepareStatement(
+                            "INSERT OR REPLACE INTO paths (world, path_id, owner, name_key, origin_path_id, record) VALUES (?, ?, ?, ?, ?, ?)")) {
+                        for (Row row : rows) {
+                            upsert.setString(1, world);
+                            upsert.setString(2, row.pathId().toString());
+                            upsert.setString(3, row.owner().toString());
+                            upsert.setString(4, row.nameKey());
+                            upsert.setString(5, row.origin().toString());
+                            upsert.setString(6, row.json());
+                            upsert.addBatch();
+                        }
+                        upsert.executeBatch();
+                    }
+                    c.commit();
+                } catch (SQLException e) {
+                    rollback(c);
+                    throw new IOException("Path database write failed", e);
+                } finally {
+                    restoreAutoCommit(c);
+                }
+            }
+        }
+
+        @Override
+        public boolean delete(UUID pathId) throws IOException {
+            synchronized (SqliteBackend.this) {
+                try (PreparedStatement delete = connection().prepareStatement(
+                        "DELETE FROM paths WHERE world = ? AND path_id = ?")) {
+                    delete.setString(1, world);
+                    delete.setString(2, pathId.toString());
+                    return delete.executeUpdate() > 0;
+                } catch (SQLException e) {
+                    throw new IOException("Path database delete failed", e);
+                }
+            }
+        }
+
+        /** One transaction; the statement is run per id since a batch does not report which rows existed. */
+        @Override
+        public List<UUID> deleteAll(Collection<UUID> pathIds) throws IOException {
+            List<UUID> removed = new ArrayList<>();
+            synchronized (SqliteBackend.this) {
+                Connection c = connection();
+                try {
+                    c.setAutoCommit(false);
+                    try (PreparedStatement delete = c.prepareStatement("DELETE FROM paths WHERE world = ? AND path_id = ?")) {
+                        delete.setString(1, world);
+                        for (UUID pathId : pathIds) {
+                            delete.setString(2, pathId.toString());
+                            if (delete.executeUpdate() > 0) {
+                                removed.add(pathId);
+                            }
+                        }
+                    }
+                    c.commit();
+                } catch (SQLException e) {
+                    rollback(c);
+                    throw new IOException("Path database delete failed", e);
+                } finally {
+                    restoreAutoCommit(c);
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public Map<UUID, JsonObject> readOwnedBy(Set<UUID> owners) throws IOException {
+            Map<UUID, JsonObject> records = new HashMap<>();
+            List<UUID> remaining = new ArrayList<>(owners);
+            for (int from = 0; from < remaining.size(); from += MAX_OWNERS_PER_QUERY) {
+                List<UUID> chunk = remaining.subList(from, Math.min(remaining.size(), from + MAX_OWNERS_PER_QUERY));
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                synchronized (SqliteBackend.this) {
+                    try (PreparedStatement select = connection().prepareStatement(
+                            "SELECT path_id, record FROM paths WHERE world = ? AND owner IN (" + placeholders + ")")) {
+                        select.setString(1, world);
+                        for (int i = 0; i < chunk.size(); i++) {
+                            select.setString(i + 2, chunk.get(i).toString());
+                        }
+                        try (ResultSet rows = select.executeQuery()) {
+                            while (rows.next()) {
+                                JsonObject record = parse(rows.getString(2));
+                                if (record != null) {
+                                    records.put(UUID.fromString(rows.getString(1)), record);
+                                }
+                            }
+                        }
+                    } catch (SQLException e) {
+                        throw new IOException("Path database query failed", e);
+                    }
+                }
+            }
+            return records;
+        }
+
+        @Override
+        public List<UUID> idsNamed(UUID owner, String name) throws IOException {
+            return queryIds("SELECT path_id FROM paths WHERE world = ? AND owner = ? AND name_key = ?",
+                    owner.toString(), nameKey(name));
+        }
+
+        @Override
+        public List<UUID> idsDerivedFrom(UUID originPathId) throws IOException {
+            return queryIds("SELECT path_id FROM paths WHERE world = ? AND origin_path_id = ?", originPathId.toString());
+        }
+
+        @Override
+        public void close() {
+            // The connection is shared by all worlds and closed with the backend
+        }
+
+        private List<UUID> queryIds(String sql, String... params) throws IOException {
+            List<UUID> ids = new ArrayList<>();
+            synchronized (SqliteBackend.this) {
+                try (PreparedStatement select = connection().prepareStatement(sql)) {
+                    select.setString(1, world);
+                    for (int i = 0; i < params.length; i++) {
+                        select.setString(i + 2, params[i]);
+                    }
+                    try (ResultSet rows = select.executeQuery()) {
+                        while (rows.next()) {
+                            ids.add(UUID.fromString(rows.getString(1)));
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw new IOException("Path database query failed", e);
+                }
+            }
+            return ids;
+        }
+    }
+
+    private Connection connection() throws IOException {
+        if (connection == null) {
+            throw new IOException("Path database is closed: " + databaseFile);
+        }
+        return connection;
+    }
+
+    private static void rollback(Connection c) {
+        try {
+            c.rollback();
+        } catch (SQLException ignored) {
+            // The original failure is reported
+        }
+    }
+
+    private static void restoreAutoCommit(Connection c) {
+        try {
+            c.setAutoCommit(true);
+        } catch (SQLException ignored) {
+            // Next transaction sets it again
+        }
+    }
+
+    private record Row(UUID pathId, UUID owner, String nameKey, UUID origin, String json) {}
+}
@@ -0,0 +1,86 @@
+package com.trailblazer.plugin.storage;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Where path records are kept, selected with {@code storage.engine} in the plugin config.
+ * <p>
+ * A backend opens one {@link RecordStore} per world. Point blobs always stay in the world folder, whatever the
+ * backend. When the configured backend changes, {@link com.trailblazer.plugin.PathDataManager} asks the other
+ * backends for leftover records of a world with {@link #hasRecords} and moves them over.
+ */
+public interface StorageBackend extends Closeable {
+
+    /** The value of {@code storage.engine} selecting this backend. */
+    String id();
+
+    /** Opens the store of one world; {@code worldFolder} exists and also holds the world's point blobs. */
+    RecordStore open(UUID worldUid, File worldFolder) throws IOException;
+
+    /** True if this backend holds records of the world, without opening a store when it can be avoided. */
+    boolean hasRecords(UUID worldUid, File worldFolder) throws IOException;
+
+    /** Removes what is left of a world after its records were moved to another backend and the store was closed. */
+    default void discard(UUID worldUid, File worldFolder) throws IOException {
+    }
+
+    /** Releases shared resources once every store of this backend is closed. */
+    @Override
+    default void close() throws IOException {
+    }
+
+    /** One {@code <pathId>.json} file per record; the original layout and the default. */
+    static StorageBackend files() {
+        return new StorageBackend() {
+            @Override
+            public String id() {
+                return "files";
+            }
+
+            @Override
+            public RecordStore open(UUID worldUid, File worldFolder) {
+                return new FileRecordStore(worldFolder);
+            }
+
+            @Override
+            public boolean hasRecords(UUID worldUid, File worldFolder) {
+                return FileRecordStore.hasRecords(worldFolder);
+            }
+        };
+    }
+
+    /** See {@link LogRecordStore}. */
+    static StorageBackend log(long segmentBytes, Executor compactor) {
+        return new StorageBackend() {
+            @Override
+            public String id() {
+                return "log";
+            }
+
+            @Override
+            public RecordStore open(UUID worldUid, File worldFolder) throws IOException {
+                return new LogRecordStore(worldFolder, segmentBytes, compactor);
+            }
+
+            @Override
+            public boolean hasRecords(UUID worldUid, File worldFolder) {
+                return LogRecordStore.exists(worldFolder);
+            }
+
+            @Override
+            public void discard(UUID worldUid, File worldFolder) throws IOException {
+                LogRecordStore.remove(worldFolder);
+            }
+        };
+    }
+
+    /** Normalizes a config value for comparison with {@link #id()}. */
+    static String normalize(String id) {
+        return id == null ? "" : id.trim().toLowerCase(Locale.ROOT);
+    }
+}
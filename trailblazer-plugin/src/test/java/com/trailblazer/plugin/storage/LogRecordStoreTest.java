@@ -0,0 +1,235 @@
+package com.trailblazer.plugin.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+
+public class LogRecordStoreTest {
+
+    private static final long SEGMENT_BYTES = 64L * 1024L;
+    private static final String RECORD_PADDING = "x".repeat(2000);
+
+    @TempDir
+    Path worldFolder;
+
+    @Test
+    void reopen_shouldReplayWritesAfterCrash() throws IOException {
+        LogRecordStore store = open();
+        // A crash leaves the checkpoint from before the writes behind
+        Path staleCheckpoint = saveCheckpoint();
+        UUID kept = UUID.randomUUID();
+        UUID rewritten = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        write(store, kept, 1);
+        write(store, rewritten, 1);
+        write(store, deleted, 1);
+        write(store, rewritten, 2);
+        assertTrue(store.delete(deleted));
+        store.close();
+        restoreCheckpoint(staleCheckpoint);
+
+        LogRecordStore reopened = open();
+        try {
+            assertEquals(new HashSet<>(List.of(kept, rewritten)), new HashSet<>(reopened.ids()));
+            assertEquals(1, revisionOf(reopened, kept));
+            assertEquals(2, revisionOf(reopened, rewritten));
+            assertNull(reopened.read(deleted));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void reopen_shouldCutOffTruncatedFinalRecord() throws IOException {
+        LogRecordStore store = open();
+        UUID intact = UUID.randomUUID();
+        UUID torn = UUID.randomUUID();
+        write(store, intact, 1);
+        write(store, torn, 1);
+        store.close();
+        File segment = lastSegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.setLength(file.length() - 5);
+        }
+
+        LogRecordStore reopened = open();
+        try {
+            assertEquals(List.of(intact), reopened.ids());
+            assertEquals(1, revisionOf(reopened, intact));
+            // New writes go where the torn record was
+            write(reopened, torn, 2);
+        } finally {
+            reopened.close();
+        }
+        LogRecordStore again = open();
+        try {
+            assertEquals(2, revisionOf(again, torn));
+        } finally {
+            again.close();
+        }
+    }
+
+    @Test
+    void reopen_shouldDropCorruptedFinalRecord() throws IOException {
+        LogRecordStore store = open();
+        Path staleCheckpoint = saveCheckpoint();
+        UUID intact = UUID.randomUUID();
+        UUID corrupted = UUID.randomUUID();
+        write(store, intact, 1);
+        write(store, corrupted, 1);
+        store.close();
+        restoreCheckpoint(staleCheckpoint);
+        File segment = lastSegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            // Inside the payload of the last record, so only its checksum catches it
+            long position = file.length() - 3;
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+
+        LogRecordStore reopened = open();
+        try {
+            assertEquals(List.of(intact), reopened.ids());
+            assertNull(reopened.read(corrupted));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void reopen_shouldCombineCheckpointWithTailReplay() throws IOException {
+        LogRecordStore store = open();
+        List<UUID> ids = new ArrayList<>();
+        // Enough to seal a few segments, each of which writes a checkpoint
+        for (int i = 0; i < 100; i++) {
+            UUID pathId = UUID.randomUUID();
+            ids.add(pathId);
+            write(store, pathId, 1);
+        }
+        assertTrue(segmentFiles().length > 1);
+        Path checkpoint = saveCheckpoint();
+        UUID added = UUID.randomUUID();
+        write(store, added, 1);
+        write(store, ids.get(0), 2);
+        assertTrue(store.delete(ids.get(1)));
+        store.close();
+        restoreCheckpoint(checkpoint);
+
+        LogRecordStore reopened = open();
+        try {
+            assertEquals(ids.size(), reopened.ids().size());
+            assertEquals(1, revisionOf(reopened, added));
+            assertEquals(2, revisionOf(reopened, ids.get(0)));
+            assertNull(reopened.read(ids.get(1)));
+            assertEquals(1, revisionOf(reopened, ids.get(99)));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void compaction_shouldKeepOnlyLiveRecords() throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        long written = 0L;
+        // Runs compactions inline, so they are done when the triggering write returns
+        LogRecordStore store = new LogRecordStore(worldFolder.toFile(), SEGMENT_BYTES, Runnable::run);
+        for (int revision = 1; revision <= 30; revision++) {
+            for (UUID pathId : ids) {
+                write(store, pathId, revision);
+                written += RECORD_PADDING.length();
+            }
+        }
+        for (UUID pathId : ids.subList(0, 10)) {
+            assertTrue(store.delete(pathId));
+        }
+        write(store, ids.get(20), 31);
+
+        assertEquals(40, store.ids().size());
+        assertNull(store.read(ids.get(0)));
+        assertEquals(31, revisionOf(store, ids.get(20)));
+        assertEquals(30, revisionOf(store, ids.get(49)));
+        assertTrue(logBytes() < written / 2, "dead records should have been reclaimed");
+        store.close();
+
+        LogRecordStore reopened = open();
+        try {
+            assertEquals(new HashSet<>(ids.subList(10, 50)), new HashSet<>(reopened.ids()));
+            assertEquals(31, revisionOf(reopened, ids.get(20)));
+            assertEquals(30, revisionOf(reopened, ids.get(10)));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private LogRecordStore open() throws IOException {
+        // Compactions are left to compaction_shouldKeepOnlyLiveRecords
+        return new LogRecordStore(worldFolder.toFile(), SEGMENT_BYTES, task -> { });
+    }
+
+    private static void write(LogRecordStore store, UUID pathId, int revision) throws IOException {
+        store.write(pathId, out -> out.beginObject()
+                .name("revision").value(revision)
+                .name("padding").value(RECORD_PADDING)
+                .endObject());
+    }
+
+    private static int revisionOf(LogRecordStore store, UUID pathId) throws IOException {
+        JsonObject record = store.read(pathId);
+        assertNotNull(record, "record " + pathId + " should exist");
+        return record.get("revision").getAsInt();
+    }
+
+    private Path logFolder() {
+        return worldFolder.resolve(LogRecordStore.DIRECTORY);
+    }
+
+    private Path saveCheckpoint() throws IOException {
+        Path copy = worldFolder.resolve("checkpoint.saved");
+        Files.copy(logFolder().resolve("index.ckpt"), copy, StandardCopyOption.REPLACE_EXISTING);
+        return copy;
+    }
+
+    private void restoreCheckpoint(Path copy) throws IOException {
+        Files.copy(copy, logFolder().resolve("index.ckpt"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private File[] segmentFiles() {
+        File[] segments = logFolder().toFile().listFiles((dir, name) -> name.endsWith(".seg"));
+        assertNotNull(segments);
+        Arrays.sort(segments);
+        return segments;
+    }
+
+    private File lastSegment() {
+        File[] segments = segmentFiles();
+        return segments[segments.length - 1];
+    }
+
+    private long logBytes() {
+        long total = 0L;
+        for (File segment : segmentFiles()) {
+            total += segment.length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,153 @@
+package com.trailblazer.plugin.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.trailblazer.api.PathData;
+import com.trailblazer.api.Vector3d;
+
+public class PathBodyCacheTest {
+
+    // Matches the estimate in PathBodyCache
+    private static final long ENTRY_BYTES = 512L;
+    private static final long POINT_BYTES = 48L;
+
+    private static final UUID WORLD = UUID.randomUUID();
+    private static final UUID OTHER_WORLD = UUID.randomUUID();
+
+    @Test
+    void get_shouldServeOnlyCachedVersion() {
+        PathBodyCache cache = new PathBodyCache(10_000L);
+        PathData path = path(3, 2L);
+        cache.put(WORLD, path);
+
+        assertNull(cache.get(WORLD, path.getPathId(), 1L));
+        assertNull(cache.get(OTHER_WORLD, path.getPathId(), 2L));
+        PathData cached = cache.get(WORLD, path.getPathId(), 2L);
+        assertNotNull(cached);
+        assertEquals(path.getPoints(), cached.getPoints());
+
+        // Callers get copies
+        cached.getPoints().clear();
+        assertEquals(3, cache.get(WORLD, path.getPathId(), 2L).getPoints().size());
+        assertEquals(2, cache.metrics().misses());
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedFirst() {
+        PathBodyCache cache = new PathBodyCache(3 * weight(10));
+        PathData a = put(cache, WORLD, 10);
+        PathData b = put(cache, WORLD, 10);
+        PathData c = put(cache, WORLD, 10);
+        // Touching a makes b the least recently used
+        assertNotNull(cache.get(WORLD, a.getPathId(), 1L));
+
+        PathData d = put(cache, WORLD, 10);
+
+        assertNull(cache.get(WORLD, b.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, a.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, c.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, d.getPathId(), 1L));
+        assertEquals(1, cache.metrics().evictions());
+    }
+
+    @Test
+    void put_shouldEvictByWeightNotCount() {
+        PathBodyCache cache = new PathBodyCache(weight(0) + weight(40) + weight(0) / 2);
+        PathData small = put(cache, WORLD, 0);
+        PathData other = put(cache, WORLD, 0);
+
+        // Only the eldest small body has to go to make room for the large one
+        PathData large = put(cache, WORLD, 40);
+
+        assertNull(cache.get(WORLD, small.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, other.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, large.getPathId(), 1L));
+        assertEquals(weight(0) + weight(40), cache.metrics().weightBytes());
+    }
+
+    @Test
+    void put_shouldEvictFromFilledPartitionBeforeOthers() {
+        PathBodyCache cache = new PathBodyCache(3 * weight(10));
+        PathData elsewhere = put(cache, OTHER_WORLD, 10);
+        PathData first = put(cache, WORLD, 10);
+        PathData second = put(cache, WORLD, 10);
+
+        PathData third = put(cache, WORLD, 10);
+
+        // The other world's body is older, but the world being filled pays first
+        assertNotNull(cache.get(OTHER_WORLD, elsewhere.getPathId(), 1L));
+        assertNull(cache.get(WORLD, first.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, second.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, third.getPathId(), 1L));
+    }
+
+    @Test
+    void put_shouldEvictFromOtherPartitionsWhenOwnIsExhausted() {
+        PathBodyCache cache = new PathBodyCache(weight(0) + weight(40) + weight(0) / 2);
+        PathData eldest = put(cache, OTHER_WORLD, 0);
+        PathData newer = put(cache, OTHER_WORLD, 0);
+
+        PathData large = put(cache, WORLD, 40);
+
+        assertNull(cache.get(OTHER_WORLD, eldest.getPathId(), 1L));
+        assertNotNull(cache.get(OTHER_WORLD, newer.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, large.getPathId(), 1L));
+        assertEquals(2, cache.metrics().worlds());
+    }
+
+    @Test
+    void put_shouldSkipBodyLargerThanBudget() {
+        PathBodyCache cache = new PathBodyCache(weight(10));
+        PathData kept = put(cache, WORLD, 5);
+
+        PathData tooLarge = put(cache, WORLD, 20);
+
+        assertNull(cache.get(WORLD, tooLarge.getPathId(), 1L));
+        assertNotNull(cache.get(WORLD, kept.getPathId(), 1L));
+        assertEquals(0, cache.metrics().evictions());
+    }
+
+    @Test
+    void invalidateWorld_shouldDropOnlyThatWorld() {
+        PathBodyCache cache = new PathBodyCache(10 * weight(10));
+        PathData unloaded = put(cache, WORLD, 10);
+        put(cache, WORLD, 10);
+        PathData kept = put(cache, OTHER_WORLD, 10);
+
+        cache.invalidateWorld(WORLD);
+
+        assertNull(cache.get(WORLD, unloaded.getPathId(), 1L));
+        assertNotNull(cache.get(OTHER_WORLD, kept.getPathId(), 1L));
+        PathBodyCache.Metrics metrics = cache.metrics();
+        assertEquals(1, metrics.entries());
+        assertEquals(1, metrics.worlds());
+        assertEquals(weight(10), metrics.weightBytes());
+    }
+
+    private static PathData put(PathBodyCache cache, UUID worldUid, int points) {
+        PathData path = path(points, 1L);
+        cache.put(worldUid, path);
+        return path;
+    }
+
+    private static PathData path(int pointCount, long version) {
+        List<Vector3d> points = new ArrayList<>();
+        for (int i = 0; i < pointCount; i++) {
+            points.add(new Vector3d(i, 64, i));
+        }
+        PathData path = new PathData(UUID.randomUUID(), "Path", UUID.randomUUID(), "Player",
+                System.currentTimeMillis(), "minecraft:overworld", points);
+        path.setVersion(version);
+        return path;
+    }
+
+    private static long weight(int points) {
+        return ENTRY_BYTES + POINT_BYTES * points;
+    }
+}